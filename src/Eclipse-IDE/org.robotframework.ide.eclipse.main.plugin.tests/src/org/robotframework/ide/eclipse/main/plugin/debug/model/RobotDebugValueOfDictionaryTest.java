@@ -5,13 +5,18 @@
 */
 package org.robotframework.ide.eclipse.main.plugin.debug.model;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import org.eclipse.debug.core.model.IIndexedValue;
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.VariableItemsSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
@@ -32,6 +37,35 @@ public class RobotDebugValueOfDictionaryTest {
         assertThat(dictValue.getVariables()).hasSize(2);
     }
 
+    @Test
+    public void dictionaryWithManyItemsPropertiesCheck() throws Exception {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugVariable item = mock(RobotDebugVariable.class);
+        when(parent.fetchNestedVariables(0, 1)).thenReturn(newArrayList(item));
+
+        final RobotDebugValue dictValue = RobotDebugValue.createFromValue(parent, "dict",
+                new VariableItemsSummary(true, 500, "{a: 1, ...}"));
+
+        assertThat(dictValue).isInstanceOf(RobotDebugValueOfDictionary.class).isInstanceOf(IIndexedValue.class);
+        assertThat(dictValue.getValueString()).isEqualTo("dict[500]");
+        assertThat(dictValue.getDetailedValue()).isEqualTo("{a: 1, ...}");
+        assertThat(((IIndexedValue) dictValue).getSize()).isEqualTo(500);
+        assertThat(((IIndexedValue) dictValue).getVariable(0)).isSameAs(item);
+    }
+
+    @Test
+    public void onlyFirstPageOfDictionaryWithManyItemsIsFetched_whenAskingForAllVariables() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugVariable item = mock(RobotDebugVariable.class);
+        when(parent.fetchNestedVariables(0, 100)).thenReturn(newArrayList(item));
+
+        final RobotDebugValue dictValue = RobotDebugValue.createFromValue(parent, "dict",
+                new VariableItemsSummary(true, 500, "{a: 1, ...}"));
+
+        assertThat(dictValue.getVariables()).containsExactly(item);
+        verify(parent, never()).fetchNestedVariables(0, 500);
+    }
+
     @Test
     public void visitorDoesNotVisitAnything() {
         final RobotDebugValueOfDictionary dictValue = RobotDebugValueOfDictionary.create(mock(RobotDebugVariable.class),
@@ -8,11 +8,17 @@ package org.robotframework.ide.eclipse.main.plugin.debug.model;
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import org.eclipse.debug.core.model.IIndexedValue;
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.VariableItemsSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
@@ -33,6 +39,50 @@ public class RobotDebugValueOfListTest {
         assertThat(listValue.getVariables()).hasSize(3);
     }
 
+    @Test
+    public void listWithManyItemsPropertiesCheck() throws Exception {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugVariable item = mock(RobotDebugVariable.class);
+        when(parent.fetchNestedVariables(100, 2)).thenReturn(newArrayList(item, item));
+
+        final RobotDebugValue listValue = RobotDebugValue.createFromValue(parent, "list",
+                new VariableItemsSummary(false, 1000, "[0, 1, 2, ...]"));
+
+        assertThat(listValue).isInstanceOf(RobotDebugValueOfList.class).isInstanceOf(IIndexedValue.class);
+        assertThat(listValue.getReferenceTypeName()).isEqualTo("list");
+        assertThat(listValue.getValueString()).isEqualTo("list[1000]");
+        assertThat(listValue.getDetailedValue()).isEqualTo("[0, 1, 2, ...]");
+        assertThat(listValue.hasVariables()).isTrue();
+        assertThat(((IIndexedValue) listValue).getSize()).isEqualTo(1000);
+        assertThat(((IIndexedValue) listValue).getVariables(100, 2)).containsExactly(item, item);
+    }
+
+    @Test
+    public void onlyFirstPageOfListWithManyItemsIsFetched_whenAskingForAllVariables() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugVariable item = mock(RobotDebugVariable.class);
+        when(parent.fetchNestedVariables(0, 100)).thenReturn(newArrayList(item));
+
+        final RobotDebugValue listValue = RobotDebugValue.createFromValue(parent, "list",
+                new VariableItemsSummary(false, 1000, "[0, 1, 2, ...]"));
+
+        assertThat(listValue.getVariables()).containsExactly(item);
+        verify(parent, never()).fetchNestedVariables(0, 1000);
+    }
+
+    @Test
+    public void itemsOfListWithManyItemsAreNotFetched_whenVisitingVariables() {
+        final RobotDebugVariable parent = mock(RobotDebugVariable.class);
+        final RobotDebugValue listValue = RobotDebugValue.createFromValue(parent, "list",
+                new VariableItemsSummary(false, 1000, "[0, 1, 2, ...]"));
+
+        final RobotDebugVariableVisitor visitor = mock(RobotDebugVariableVisitor.class);
+        listValue.visitAllVariables(visitor);
+
+        verifyNoInteractions(visitor);
+        verify(parent, never()).fetchNestedVariables(anyInt(), anyInt());
+    }
+
     @Test
     public void visitorDoesNotVisitAnything() {
         final RobotDebugValueOfList listValue = RobotDebugValueOfList.create(mock(RobotDebugVariable.class), "list",
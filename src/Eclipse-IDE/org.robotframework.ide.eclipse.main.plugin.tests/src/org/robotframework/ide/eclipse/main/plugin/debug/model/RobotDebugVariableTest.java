@@ -15,12 +15,16 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IValue;
 import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.event.VariableItemsSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
@@ -372,6 +376,27 @@ public class RobotDebugVariableTest {
         verify(frame).changeVariable(same(stackVar), eq(newArrayList("a=1", "b=2", "c=3")));
     }
 
+    @Test
+    public void itemsOfInnerLevelListWithManyItemsAreFetchedFromStackFrame() throws Exception {
+        final RobotStackFrame frame = mock(RobotStackFrame.class);
+
+        final StackFrameVariable stackVar = new StackFrameVariable(VariableScope.GLOBAL, false, "var", "dict",
+                ImmutableMap.of("key", new VariableTypedValue("list", new VariableItemsSummary(false, 1000, "[...]"))));
+        when(frame.getVariableItems(same(stackVar), eq(newArrayList("key")), eq(100), eq(2)))
+                .thenReturn(Optional.of(ImmutableMap.of(100, new VariableTypedValue("int", "1"), 101,
+                        new VariableTypedValue("list", new VariableItemsSummary(false, 200, "[...]")))));
+        final RobotDebugVariable topLevelDict = new RobotDebugVariable(frame, stackVar);
+        final RobotDebugVariable innerList = topLevelDict.getValue().getVariable("key");
+
+        final RobotDebugVariable[] items = (RobotDebugVariable[]) ((IIndexedValue) innerList.getValue())
+                .getVariables(100, 2);
+
+        assertThat(items).extracting(RobotDebugVariable::getName).containsExactly("[100]", "[101]");
+        assertThat(items).extracting(RobotDebugVariable::getParent).containsOnly(innerList);
+        assertThat(items[0].getValue()).isInstanceOf(RobotDebugValueOfScalar.class);
+        assertThat(items[1].getValue()).isInstanceOf(RobotDebugValueOfList.class).isInstanceOf(IIndexedValue.class);
+    }
+
     @Test
     public void innerLevelScalarCanBeEditedAndRequestIsSendToStackFrame() {
         final RobotStackFrame frame = mock(RobotStackFrame.class);
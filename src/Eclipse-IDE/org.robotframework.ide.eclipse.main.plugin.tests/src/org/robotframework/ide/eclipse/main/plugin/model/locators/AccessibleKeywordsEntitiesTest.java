@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.model.locators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+public class AccessibleKeywordsEntitiesTest {
+
+    private static final IPath SUITE_PATH = new Path("/suite.robot");
+
+    private static final IPath RESOURCE_PATH = new Path("/res.robot");
+
+    @Test
+    public void sameKeywordsAreReturnedOnce_preferringThoseExposedByFileInUse() {
+        final KeywordEntity fromResource = new Entity(null, "res", "kw", Optional.empty(), RESOURCE_PATH);
+        final KeywordEntity fromSuite = new Entity(KeywordScope.RESOURCE, "res", "kw", Optional.empty(), SUITE_PATH);
+        final KeywordEntity otherFromResource = new Entity(null, "res", "kw", Optional.empty(), RESOURCE_PATH);
+        final KeywordEntity aliased = new Entity(null, "res", "kw", Optional.of("alias"), RESOURCE_PATH);
+
+        final AccessibleKeywordsEntities entities = new AccessibleKeywordsEntities(SUITE_PATH,
+                () -> accessible(fromResource, fromSuite, otherFromResource, aliased));
+
+        final ListMultimap<KeywordScope, KeywordEntity> possibleKeywords = entities.getPossibleKeywords();
+        assertThat(possibleKeywords.get(KeywordScope.RESOURCE)).containsExactly(fromResource, aliased);
+        assertThat(possibleKeywords.get(KeywordScope.LOCAL)).isEmpty();
+    }
+
+    @Test
+    public void duplicatesAreFilteredInTheSameWayAsByComparingAllEntities() {
+        final Random random = new Random(42);
+        final IPath[] paths = { SUITE_PATH, RESOURCE_PATH, new Path("/other.robot"), new Path("/res.robot") };
+        final KeywordScope[] scopes = { null, KeywordScope.RESOURCE, KeywordScope.REF_LIBRARY,
+                KeywordScope.STD_LIBRARY };
+
+        for (int run = 0; run < 20; run++) {
+            final List<KeywordEntity> keywords = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                final Optional<String> alias = random.nextInt(5) == 0 ? Optional.of("alias" + random.nextInt(2))
+                        : Optional.empty();
+                keywords.add(new Entity(scopes[random.nextInt(scopes.length)], "source" + random.nextInt(3),
+                        "keyword " + random.nextInt(10), alias, paths[random.nextInt(paths.length)]));
+            }
+            final Map<String, Collection<KeywordEntity>> accessible = accessible(
+                    keywords.toArray(new KeywordEntity[0]));
+
+            final AccessibleKeywordsEntities entities = new AccessibleKeywordsEntities(SUITE_PATH, () -> accessible);
+            final ListMultimap<KeywordScope, KeywordEntity> expected = ArrayListMultimap.create();
+            for (final Collection<KeywordEntity> sameNamed : accessible.values()) {
+                for (final KeywordEntity entity : filterDuplicatesByComparingAll(sameNamed)) {
+                    expected.put(entity.getScope(SUITE_PATH), entity);
+                }
+            }
+
+            final ListMultimap<KeywordScope, KeywordEntity> actual = entities.getPossibleKeywords();
+            assertThat(actual.keySet()).isEqualTo(expected.keySet());
+            for (final KeywordScope scope : expected.keySet()) {
+                assertThat(actual.get(scope)).usingElementComparator((e1, e2) -> e1 == e2 ? 0 : 1)
+                        .containsExactlyElementsOf(expected.get(scope));
+            }
+        }
+    }
+
+    // filters duplicates in the same way as AccessibleKeywordsEntities did before same entities were hashed
+    private static Collection<KeywordEntity> filterDuplicatesByComparingAll(final Collection<KeywordEntity> candidates) {
+        final LinkedHashSet<KeywordEntity> entities = new LinkedHashSet<>();
+        for (final KeywordEntity entity : candidates) {
+            KeywordEntity onListEntity = null;
+            for (final KeywordEntity e : entities) {
+                if (e == entity || e.isSameAs(entity, SUITE_PATH)) {
+                    onListEntity = e;
+                    break;
+                }
+            }
+            if (onListEntity == null) {
+                entities.add(entity);
+            } else if (!onListEntity.getExposingFilepath().equals(SUITE_PATH)
+                    && entity.getExposingFilepath().equals(SUITE_PATH)) {
+                entities.remove(onListEntity);
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    private static Map<String, Collection<KeywordEntity>> accessible(final KeywordEntity... keywords) {
+        final Map<String, Collection<KeywordEntity>> accessible = new LinkedHashMap<>();
+        for (final KeywordEntity keyword : keywords) {
+            accessible.computeIfAbsent(keyword.getKeywordName(), name -> new ArrayList<>()).add(keyword);
+        }
+        return accessible;
+    }
+
+    private static class Entity extends KeywordEntity {
+
+        Entity(final KeywordScope scope, final String sourceName, final String keywordName,
+                final Optional<String> alias, final IPath exposingFilepath) {
+            super(scope, sourceName, keywordName, alias, false, null, exposingFilepath);
+        }
+    }
+}
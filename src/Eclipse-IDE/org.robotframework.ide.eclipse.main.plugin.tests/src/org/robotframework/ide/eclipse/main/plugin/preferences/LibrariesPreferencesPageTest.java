@@ -48,7 +48,7 @@ public class LibrariesPreferencesPageTest {
         page.createControl(shell);
 
         final List<FieldEditor> editors = FieldEditorPreferencePageHelper.getEditors(page);
-        assertThat(editors).hasSize(5);
+        assertThat(editors).hasSize(7);
 
         final Map<Class<?>, List<String>> namesGroupedByType = editors.stream()
                 .collect(groupingBy(FieldEditor::getClass, mapping(FieldEditor::getPreferenceName, toList())));
@@ -59,6 +59,7 @@ public class LibrariesPreferencesPageTest {
                         RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED,
                         RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED));
         assertThat(namesGroupedByType).hasEntrySatisfying(IntegerFieldEditor.class,
-                names -> assertThat(names).containsOnly(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT));
+                names -> assertThat(names).containsOnly(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT,
+                        RedPreferences.LIBDOCS_GENERATION_SERVERS, RedPreferences.LIBDOCS_GENERATION_TIMEOUT));
     }
 }
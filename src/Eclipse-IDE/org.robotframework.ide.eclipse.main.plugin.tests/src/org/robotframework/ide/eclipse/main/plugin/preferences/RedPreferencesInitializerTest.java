@@ -179,6 +179,9 @@ public class RedPreferencesInitializerTest {
                 true);
         verify(preferences).putInt(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT, 30);
         verify(preferences).putBoolean(RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, true);
+        verify(preferences).putInt(RedPreferences.LIBDOCS_GENERATION_SERVERS,
+                RedPreferencesInitializer.defaultLibdocGenerationServers());
+        verify(preferences).putInt(RedPreferences.LIBDOCS_GENERATION_TIMEOUT, 120);
     }
 
     @Test
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.Test;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph.FileExports;
+
+import com.google.common.hash.HashCode;
+
+public class ImportsDependencyGraphTest {
+
+    private static final IPath SUITE = new Path("/project/suite.robot");
+
+    private static final IPath RESOURCE = new Path("/project/res.robot");
+
+    private static final IPath NESTED_RESOURCE = new Path("/project/nested.robot");
+
+    private static final IPath VARIABLES = new Path("/project/vars.py");
+
+    @Test
+    public void transitiveDependentsAreReturned_whenSignatureOfImportedFileChanges() {
+        final ImportsDependencyGraph graph = createGraph();
+
+        assertThat(graph.update(VARIABLES, exports(42))).containsOnly(NESTED_RESOURCE, RESOURCE, SUITE);
+        assertThat(graph.update(NESTED_RESOURCE, exports(42, VARIABLES))).containsOnly(RESOURCE, SUITE);
+        assertThat(graph.update(SUITE, exports(42, RESOURCE))).isEmpty();
+    }
+
+    @Test
+    public void nothingIsReturned_whenSignatureOfImportedFileIsNotChanged() {
+        final ImportsDependencyGraph graph = createGraph();
+
+        assertThat(graph.update(VARIABLES, exports(1))).isEmpty();
+        assertThat(graph.update(NESTED_RESOURCE, exports(2, VARIABLES))).isEmpty();
+    }
+
+    @Test
+    public void dependenciesAreUpdated_whenImportsOfFileChange() {
+        final ImportsDependencyGraph graph = createGraph();
+
+        graph.update(RESOURCE, exports(3));
+
+        assertThat(graph.getTransitiveDependents(VARIABLES)).containsOnly(NESTED_RESOURCE);
+        assertThat(graph.getTransitiveDependents(NESTED_RESOURCE)).isEmpty();
+        assertThat(graph.getTransitiveDependents(RESOURCE)).containsOnly(SUITE);
+    }
+
+    @Test
+    public void filesWithUnresolvedImportsAreReturned_whenNewFileIsAdded() {
+        final ImportsDependencyGraph graph = createGraph();
+        final IPath otherSuite = new Path("/project/other.robot");
+        graph.update(otherSuite, new FileExports(Arrays.asList(), true, HashCode.fromInt(5)));
+
+        assertThat(graph.update(new Path("/project/new.robot"), exports(6))).containsOnly(otherSuite);
+        assertThat(graph.update(new Path("/project/new.robot"), exports(6))).isEmpty();
+    }
+
+    @Test
+    public void dependentsAreReturned_whenFileIsRemoved() {
+        final ImportsDependencyGraph graph = createGraph();
+
+        assertThat(graph.remove(NESTED_RESOURCE)).containsOnly(RESOURCE, SUITE);
+        assertThat(graph.contains(NESTED_RESOURCE)).isFalse();
+        assertThat(graph.getTransitiveDependents(VARIABLES)).isEmpty();
+    }
+
+    @Test
+    public void searchingForDependentsTerminates_whenImportsAreCyclic() {
+        final ImportsDependencyGraph graph = createGraph();
+        graph.update(NESTED_RESOURCE, exports(2, VARIABLES, RESOURCE));
+
+        assertThat(graph.update(RESOURCE, exports(7, NESTED_RESOURCE))).containsOnly(NESTED_RESOURCE, SUITE);
+    }
+
+    @Test
+    public void graphIsNotInitialized_untilAllExportsAreGiven() {
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        assertThat(graph.isInitialized()).isFalse();
+
+        graph.initialize(new HashMap<>());
+        assertThat(graph.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void graphOfProjectIsDropped_whenProjectIsRemoved() {
+        final IProject project = mock(IProject.class);
+        final ImportsDependencyGraph graph = ImportsDependencyGraph.forProject(project);
+        graph.initialize(new HashMap<>());
+        assertThat(ImportsDependencyGraph.forProject(project)).isSameAs(graph);
+
+        ImportsDependencyGraph.removeProject(project);
+
+        assertThat(ImportsDependencyGraph.forProject(project)).isNotSameAs(graph);
+        assertThat(ImportsDependencyGraph.forProject(project).isInitialized()).isFalse();
+        ImportsDependencyGraph.removeProject(project);
+    }
+
+    private static ImportsDependencyGraph createGraph() {
+        final Map<IPath, FileExports> allExports = new HashMap<>();
+        allExports.put(SUITE, exports(4, RESOURCE));
+        allExports.put(RESOURCE, exports(3, NESTED_RESOURCE));
+        allExports.put(NESTED_RESOURCE, exports(2, VARIABLES));
+        allExports.put(VARIABLES, exports(1));
+
+        final ImportsDependencyGraph graph = new ImportsDependencyGraph();
+        graph.initialize(allExports);
+        return graph;
+    }
+
+    private static FileExports exports(final int signature, final IPath... imports) {
+        return new FileExports(Arrays.asList(imports), false, HashCode.fromInt(signature));
+    }
+}
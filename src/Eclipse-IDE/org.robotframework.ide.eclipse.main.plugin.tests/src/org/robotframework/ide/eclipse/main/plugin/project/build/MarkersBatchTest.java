@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.validation.ProblemPosition;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotTask.Priority;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.SuiteFileProblem;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class MarkersBatchTest {
+
+    @Project(files = "file.robot")
+    static IProject project;
+
+    @AfterEach
+    public void afterTest() throws CoreException {
+        getFile(project, "file.robot").deleteMarkers(null, true, IResource.DEPTH_ZERO);
+    }
+
+    @Test
+    public void markersAreNotCreated_untilBatchIsClosed() throws CoreException {
+        final IFile file = getFile(project, "file.robot");
+
+        final MarkersBatch batch = MarkersBatch.open(file);
+        ValidationReportingStrategy.reportOnly().handleProblem(problem("a"), file, new ProblemPosition(1));
+        ValidationReportingStrategy.reportOnly().handleTask(new RobotTask(Priority.HIGH, "task", 2), file);
+
+        assertThat(MarkersBatch.getOpened(file)).containsSame(batch);
+        assertThat(messages(file, RobotProblem.TYPE_ID)).isEmpty();
+        assertThat(messages(file, RobotTask.TYPE_ID)).isEmpty();
+
+        batch.close();
+
+        assertThat(MarkersBatch.getOpened(file)).isEmpty();
+        assertThat(messages(file, RobotProblem.TYPE_ID)).containsExactly("a");
+        assertThat(messages(file, RobotTask.TYPE_ID)).containsExactly("task");
+    }
+
+    @Test
+    public void unchangedMarkersAreKept_outdatedAreRemovedAndNewAreCreated() throws CoreException {
+        final IFile file = getFile(project, "file.robot");
+        problem("kept").createMarker(file, new ProblemPosition(1), new HashMap<>());
+        problem("outdated").createMarker(file, new ProblemPosition(2), new HashMap<>());
+        final IMarker keptMarker = Stream.of(file.findMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO))
+                .filter(marker -> marker.getAttribute(IMarker.MESSAGE, "").equals("kept"))
+                .findFirst()
+                .get();
+
+        final MarkersBatch batch = MarkersBatch.open(file);
+        batch.add(RobotProblem.TYPE_ID, problem("kept").createMarkerAttributes(new ProblemPosition(1),
+                new HashMap<>()));
+        batch.add(RobotProblem.TYPE_ID, problem("new").createMarkerAttributes(new ProblemPosition(3),
+                new HashMap<>()));
+        batch.close();
+
+        final IMarker[] markers = file.findMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO);
+        assertThat(markers).hasSize(2);
+        assertThat(Stream.of(markers).map(IMarker::getId)).contains(keptMarker.getId());
+        assertThat(messages(file, RobotProblem.TYPE_ID)).containsOnly("kept", "new");
+    }
+
+    @Test
+    public void duplicatedMarkersAreKept_asManyTimesAsReported() throws CoreException {
+        final IFile file = getFile(project, "file.robot");
+        problem("dup").createMarker(file, new ProblemPosition(1), new HashMap<>());
+        problem("dup").createMarker(file, new ProblemPosition(1), new HashMap<>());
+
+        final MarkersBatch batch = MarkersBatch.open(file);
+        batch.add(RobotProblem.TYPE_ID, problem("dup").createMarkerAttributes(new ProblemPosition(1),
+                new HashMap<>()));
+        batch.close();
+
+        assertThat(messages(file, RobotProblem.TYPE_ID)).containsExactly("dup");
+    }
+
+    private static RobotProblem problem(final String message) {
+        return RobotProblem.causedBy(SuiteFileProblem.BUILD_ERROR_MESSAGE).formatMessageWith(message);
+    }
+
+    private static List<String> messages(final IFile file, final String type) throws CoreException {
+        return Stream.of(file.findMarkers(type, true, IResource.DEPTH_ZERO))
+                .map(marker -> marker.getAttribute(IMarker.MESSAGE, ""))
+                .collect(toList());
+    }
+}
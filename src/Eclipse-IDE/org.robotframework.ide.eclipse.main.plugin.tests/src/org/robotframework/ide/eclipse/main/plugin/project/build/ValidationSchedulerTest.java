@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidator;
+
+public class ValidationSchedulerTest {
+
+    @TempDir
+    public static File tempFolder;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void afterTest() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void costOfFile_isEstimatedUsingItsSize() throws Exception {
+        assertThat(ValidationScheduler.estimateCost(file("empty.robot"))).isZero();
+        assertThat(ValidationScheduler.estimateCost(file("lines.robot", "*** Test Cases ***", "case")))
+                .isEqualTo(23);
+
+        final IFile notExisting = mock(IFile.class);
+        when(notExisting.getLocation()).thenReturn(new Path(tempFolder.getPath()).append("missing.robot"));
+        assertThat(ValidationScheduler.estimateCost(notExisting)).isZero();
+        assertThat(ValidationScheduler.estimateCost(mock(IFile.class))).isZero();
+    }
+
+    @Test
+    public void mostExpensiveUnitsAreValidatedFirst() throws Exception {
+        final List<String> validated = Collections.synchronizedList(new ArrayList<>());
+        final ModelUnitValidator small = validator(validated, file("small.robot", "a"));
+        final ModelUnitValidator medium = validator(validated, file("medium.robot", "a", "  b"));
+        final ModelUnitValidator big = validator(validated, file("big.robot", "Resource  r.robot", "  b"));
+        final ModelUnitValidator noFile = validator(validated, null);
+
+        new ValidationScheduler(executor, 1, new BuildLogger()).validate(Arrays.asList(small, noFile, big, medium),
+                new NullProgressMonitor());
+
+        assertThat(validated).containsExactly("big.robot", "medium.robot", "small.robot", "none");
+    }
+
+    @Test
+    public void timingsOfValidatedFilesAreLogged() throws Exception {
+        final BuildLogger logger = mock(BuildLogger.class);
+        final ModelUnitValidator validator = validator(new ArrayList<>(), file("suite.robot", "a"));
+
+        new ValidationScheduler(executor, 1, logger).validate(Arrays.asList(validator), new NullProgressMonitor());
+
+        verify(logger).log("VALIDATING: 1 threads will be used");
+        verify(logger).log(matches("VALIDATING: done \\(1/1\\) /project/suite.robot in \\d+ ms"));
+    }
+
+    @Test
+    public void otherUnitsAreValidated_whenOneOfThemFails() throws Exception {
+        final BuildLogger logger = mock(BuildLogger.class);
+        final List<String> validated = Collections.synchronizedList(new ArrayList<>());
+        final ModelUnitValidator failing = validator(validated, file("failing.robot", "a", "b"));
+        doThrow(new IllegalStateException("failure")).when(failing).validate(any(IProgressMonitor.class));
+        final ModelUnitValidator other = validator(validated, file("other.robot", "a"));
+
+        new ValidationScheduler(executor, 1, logger).validate(Arrays.asList(failing, other),
+                new NullProgressMonitor());
+
+        assertThat(validated).containsExactly("other.robot");
+        verify(logger).logError(eq("VALIDATING: error\nfailure"), any(IllegalStateException.class));
+    }
+
+    @Test
+    public void nothingIsValidated_whenMonitorIsCanceled() throws Exception {
+        final List<String> validated = Collections.synchronizedList(new ArrayList<>());
+        final ModelUnitValidator validator = validator(validated, file("suite.robot", "a"));
+        final IProgressMonitor monitor = mock(IProgressMonitor.class);
+        when(monitor.isCanceled()).thenReturn(true);
+
+        new ValidationScheduler(executor, 1, new BuildLogger()).validate(Arrays.asList(validator), monitor);
+
+        assertThat(validated).isEmpty();
+        verify(validator, never()).validate(any(IProgressMonitor.class));
+    }
+
+    @Test
+    public void runningUnitsAreAwaited_whenMonitorGetsCanceled() throws Exception {
+        final List<String> validated = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean canceled = new AtomicBoolean(false);
+        final IProgressMonitor monitor = mock(IProgressMonitor.class);
+        when(monitor.isCanceled()).thenAnswer(invocation -> canceled.get());
+
+        final ModelUnitValidator running = validator(validated, file("running.robot", "a", "b"));
+        doAnswer(invocation -> {
+            canceled.set(true);
+            Thread.sleep(200);
+            validated.add("running.robot");
+            return null;
+        }).when(running).validate(any(IProgressMonitor.class));
+        final ModelUnitValidator pending = validator(validated, file("pending.robot", "a"));
+
+        new ValidationScheduler(executor, 1, new BuildLogger()).validate(Arrays.asList(running, pending), monitor);
+
+        assertThat(validated).containsExactly("running.robot");
+        verify(pending, never()).validate(any(IProgressMonitor.class));
+    }
+
+    private static ModelUnitValidator validator(final List<String> validated, final IFile file) throws Exception {
+        final ModelUnitValidator validator = mock(ModelUnitValidator.class);
+        when(validator.getValidatedFile()).thenReturn(Optional.ofNullable(file));
+        doAnswer(invocation -> {
+            validated.add(file == null ? "none" : file.getName());
+            return null;
+        }).when(validator).validate(any(IProgressMonitor.class));
+        return validator;
+    }
+
+    private static IFile file(final String name, final String... lines) throws Exception {
+        final IFile file = mock(IFile.class);
+        when(file.exists()).thenReturn(true);
+        when(file.getName()).thenReturn(name);
+        when(file.getFullPath()).thenReturn(new Path("/project/" + name));
+        final File location = new File(tempFolder, name);
+        Files.write(location.toPath(), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        when(file.getLocation()).thenReturn(new Path(location.getPath()));
+        return file;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibdocGenerationScheduler.LibdocGenerationTask;
+
+public class LibdocGenerationSchedulerTest {
+
+    private final IRuntimeEnvironment environment = mock(IRuntimeEnvironment.class);
+
+    private final IProgressMonitor monitor = mock(IProgressMonitor.class);
+
+    @Test
+    public void allLibdocsAreGenerated_sequentially() {
+        final List<ILibdocGenerator> generators = generators(3);
+
+        new LibdocGenerationScheduler(1).generate(tasks(generators), monitor, (task, e) -> {});
+
+        for (final ILibdocGenerator generator : generators) {
+            verify(generator).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        }
+        verify(monitor, times(3)).worked(1);
+    }
+
+    @Test
+    public void allLibdocsAreGenerated_concurrently() {
+        final List<ILibdocGenerator> generators = generators(3);
+        final CountDownLatch allStarted = new CountDownLatch(3);
+        for (final ILibdocGenerator generator : generators) {
+            doAnswer(invocation -> {
+                allStarted.countDown();
+                // would wait until timeout if generators were not executed concurrently
+                assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+                return null;
+            }).when(generator).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        }
+
+        final Map<LibdocGenerationTask, Throwable> problems = new HashMap<>();
+        new LibdocGenerationScheduler(3).generate(tasks(generators), monitor, problems::put);
+
+        assertThat(problems).isEmpty();
+        assertThat(allStarted.getCount()).isZero();
+        verify(monitor, times(3)).worked(1);
+    }
+
+    @Test
+    public void problemsAreHandledForFailingGenerators_inCallingThread() {
+        final List<ILibdocGenerator> generators = generators(4);
+        final RuntimeEnvironmentException exception = new RuntimeEnvironmentException("error");
+        doThrow(exception).when(generators.get(2))
+                .generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+
+        final Thread callingThread = Thread.currentThread();
+        final Map<ILibdocGenerator, Throwable> problems = new HashMap<>();
+        new LibdocGenerationScheduler(2).generate(tasks(generators), monitor, (task, e) -> {
+            assertThat(Thread.currentThread()).isSameAs(callingThread);
+            problems.put(task.getGenerator(), e);
+        });
+
+        assertThat(problems).containsOnlyKeys(generators.get(2)).containsValue(exception);
+        verify(monitor, times(4)).worked(1);
+    }
+
+    @Test
+    public void nothingIsGenerated_whenMonitorIsCanceled() {
+        final List<ILibdocGenerator> generators = generators(3);
+        when(monitor.isCanceled()).thenReturn(true);
+
+        new LibdocGenerationScheduler(1).generate(tasks(generators), monitor, (task, e) -> {});
+
+        for (final ILibdocGenerator generator : generators) {
+            verify(generator, never()).generateLibdoc(any(IRuntimeEnvironment.class),
+                    any(EnvironmentSearchPaths.class));
+        }
+        verify(monitor, never()).worked(1);
+    }
+
+    @Test
+    public void remainingLibdocsAreNotGenerated_whenMonitorIsCanceledDuringConcurrentGeneration() {
+        final List<ILibdocGenerator> generators = generators(4);
+        final AtomicBoolean canceled = new AtomicBoolean(false);
+        when(monitor.isCanceled()).thenAnswer(invocation -> canceled.get());
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        for (final ILibdocGenerator generator : generators.subList(0, 2)) {
+            doAnswer(invocation -> {
+                bothStarted.countDown();
+                assertThat(bothStarted.await(10, TimeUnit.SECONDS)).isTrue();
+                canceled.set(true);
+                return null;
+            }).when(generator).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        }
+
+        new LibdocGenerationScheduler(2).generate(tasks(generators), monitor, (task, e) -> {});
+
+        for (final ILibdocGenerator generator : generators.subList(2, 4)) {
+            verify(generator, never()).generateLibdoc(any(IRuntimeEnvironment.class),
+                    any(EnvironmentSearchPaths.class));
+        }
+        verify(monitor, never()).worked(1);
+    }
+
+    private static List<ILibdocGenerator> generators(final int count) {
+        final List<ILibdocGenerator> generators = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final ILibdocGenerator generator = mock(ILibdocGenerator.class);
+            when(generator.getMessage()).thenReturn("generating libdoc " + i);
+            generators.add(generator);
+        }
+        return generators;
+    }
+
+    private List<LibdocGenerationTask> tasks(final List<ILibdocGenerator> generators) {
+        final IProject project = mock(IProject.class);
+        final List<LibdocGenerationTask> tasks = new ArrayList<>();
+        for (final ILibdocGenerator generator : generators) {
+            tasks.add(new LibdocGenerationTask(project, generator, environment, new EnvironmentSearchPaths()));
+        }
+        return tasks;
+    }
+}
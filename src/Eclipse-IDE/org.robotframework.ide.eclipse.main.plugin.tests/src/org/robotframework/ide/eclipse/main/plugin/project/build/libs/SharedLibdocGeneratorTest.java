@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.SuiteExecutor;
+import org.rf.ide.core.libraries.SharedLibspecsStore;
+
+public class SharedLibdocGeneratorTest {
+
+    @TempDir
+    File tempDir;
+
+    private SharedLibspecsStore store;
+
+    private IRuntimeEnvironment environment;
+
+    @BeforeEach
+    public void beforeTest() {
+        store = new SharedLibspecsStore(new File(tempDir, "store").toPath());
+        environment = mock(IRuntimeEnvironment.class);
+        when(environment.getInterpreter()).thenReturn(SuiteExecutor.Python);
+        when(environment.getFile()).thenReturn(new File("/python"));
+        when(environment.getVersion()).thenReturn("Robot Framework 3.2 (Python 3.7 on win32)");
+    }
+
+    @Test
+    public void libspecIsGeneratedOnlyOnce_forTheSameLibraryInDifferentProjects() throws Exception {
+        final File source = write("lib/Lib.py", "def kw(): pass");
+        final ILibdocGenerator generator1 = generatorWritingLibspec(new File(tempDir, "p1/Lib.libspec"));
+        final ILibdocGenerator generator2 = generatorWritingLibspec(new File(tempDir, "p2/Lib.libspec"));
+
+        new SharedLibdocGenerator(generator1, store, "p1", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+        new SharedLibdocGenerator(generator2, store, "p2", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+
+        verify(generator1).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        verify(generator2, never()).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        assertThat(new File(tempDir, "p2/Lib.libspec")).hasContent("<keywordspec name=\"Lib.libspec\"/>");
+    }
+
+    @Test
+    public void libspecIsGeneratedAgain_whenLibrarySourceChanges() throws Exception {
+        final File source = write("lib/Lib.py", "def kw(): pass");
+        final ILibdocGenerator generator1 = generatorWritingLibspec(new File(tempDir, "p1/Lib.libspec"));
+        final ILibdocGenerator generator2 = generatorWritingLibspec(new File(tempDir, "p2/Lib.libspec"));
+
+        new SharedLibdocGenerator(generator1, store, "p1", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+        write("lib/Lib.py", "def other_kw(): pass");
+        new SharedLibdocGenerator(generator2, store, "p2", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+
+        verify(generator1).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        verify(generator2).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+    }
+
+    @Test
+    public void libspecIsGenerated_whenLibrarySourceDoesNotExist() throws Exception {
+        final File source = new File(tempDir, "lib/Missing.py");
+        final ILibdocGenerator generator1 = generatorWritingLibspec(new File(tempDir, "p1/Lib.libspec"));
+        final ILibdocGenerator generator2 = generatorWritingLibspec(new File(tempDir, "p2/Lib.libspec"));
+
+        new SharedLibdocGenerator(generator1, store, "p1", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+        new SharedLibdocGenerator(generator2, store, "p2", "Lib", new ArrayList<>(), sources(source))
+                .generateLibdoc(environment, new EnvironmentSearchPaths());
+
+        verify(generator1).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        verify(generator2).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+    }
+
+    private static ILibdocGenerator generatorWritingLibspec(final File target) {
+        final IFile targetFile = mock(IFile.class);
+        when(targetFile.getLocation()).thenReturn(new Path(target.getAbsolutePath()));
+
+        final ILibdocGenerator generator = mock(ILibdocGenerator.class);
+        when(generator.getTargetFile()).thenReturn(targetFile);
+        doAnswer(invocation -> {
+            target.getParentFile().mkdirs();
+            Files.write(target.toPath(),
+                    ("<keywordspec name=\"" + target.getName() + "\"/>").getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(generator).generateLibdoc(any(IRuntimeEnvironment.class), any(EnvironmentSearchPaths.class));
+        return generator;
+    }
+
+    private File write(final String path, final String content) throws Exception {
+        final File file = new File(tempDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<File> sources(final File... sources) {
+        final List<File> result = new ArrayList<>();
+        for (final File source : sources) {
+            result.add(source);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class ResourceExportsCacheTest {
+
+    @Project
+    IProject project;
+
+    private RobotModel robotModel;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        robotModel = RedPlugin.getModelManager().getModel();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        RedPlugin.getModelManager().dispose();
+    }
+
+    @Test
+    public void keywordsFromFileAndNestedResourcesAreCollected() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Keywords ***", "kw 1");
+        createFile(project, "res2.robot", "*** Keywords ***", "kw 2", "*** Settings ***", "Resource  res1.robot");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res1.robot",
+                "*** Keywords ***", "kw 1", "kw 3");
+
+        final Map<String, Collection<KeywordEntity>> keywords = new ResourceExportsCache(robotModel)
+                .collectAccessibleKeywords(suite);
+
+        assertThat(keywords).containsOnlyKeys("kw1", "kw2", "kw3");
+        assertThat(exposingPaths(keywords.get("kw1"))).containsExactly(suite.getFullPath(),
+                project.getFile("res1.robot").getFullPath());
+        assertThat(exposingPaths(keywords.get("kw2"))).containsExactly(project.getFile("res2.robot").getFullPath());
+        assertThat(exposingPaths(keywords.get("kw3"))).containsExactly(suite.getFullPath());
+    }
+
+    @Test
+    public void variablesFromFileAndNestedResourcesAreCollected() throws Exception {
+        createFile(project, "var_res1.robot", "*** Settings ***", "Resource  var_res2.robot", "*** Variables ***",
+                "${a}  1");
+        createFile(project, "var_res2.robot", "*** Variables ***", "@{B}  1  2");
+        final IFile suite = createFile(project, "var_suite.robot", "*** Settings ***", "Resource  var_res1.robot",
+                "*** Variables ***", "&{c}  k=v");
+
+        final ResourceExportsCache cache = new ResourceExportsCache(robotModel);
+
+        assertThat(cache.collectAccessibleVariables(suite)).contains("${a}", "@{b}", "&{c}");
+    }
+
+    @Test
+    public void exportsOfImportedResourceAreReadOnlyOnce_whenImportedByManyFiles() throws Exception {
+        final IFile resource = createFile(project, "common.robot", "*** Keywords ***", "common kw");
+        final IFile suite1 = createFile(project, "suite1.robot", "*** Settings ***", "Resource  common.robot");
+        final IFile suite2 = createFile(project, "suite2.robot", "*** Settings ***", "Resource  common.robot");
+
+        final ResourceExportsCache cache = new ResourceExportsCache(robotModel);
+        final Map<String, Collection<KeywordEntity>> keywords1 = cache.collectAccessibleKeywords(suite1);
+        final Map<String, Collection<KeywordEntity>> keywords2 = cache.collectAccessibleKeywords(suite2);
+
+        assertThat(cache.getExports(resource)).isSameAs(cache.getExports(resource));
+        assertThat(keywords1).containsOnlyKeys("commonkw");
+        assertThat(keywords2).containsOnlyKeys("commonkw");
+        assertThat(keywords1.get("commonkw")).containsExactlyElementsOf(keywords2.get("commonkw"));
+    }
+
+    private static List<IPath> exposingPaths(final Collection<KeywordEntity> keywords) {
+        return keywords.stream().map(KeywordEntity::getExposingFilepath).collect(toList());
+    }
+}
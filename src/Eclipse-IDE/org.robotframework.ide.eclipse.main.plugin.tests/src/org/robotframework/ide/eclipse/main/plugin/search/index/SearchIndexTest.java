@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.index;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+
+import java.util.EnumSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class SearchIndexTest {
+
+    @Project
+    static IProject project;
+
+    private RobotModel model;
+
+    @BeforeEach
+    public void beforeTest() {
+        model = new RobotModel();
+    }
+
+    @AfterEach
+    public void afterTest() {
+        model.dispose();
+    }
+
+    @Test
+    public void termsOfAllCategoriesAreIndexed() throws Exception {
+        final IFile file = createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "case",
+                "  Log  ${var}",
+                "*** Keywords ***",
+                "kw",
+                "  [Documentation]  doc",
+                "  Call");
+
+        final FileIndex fileIndex = new SearchIndex().index(model.createSuiteFile(file));
+
+        assertThat(fileIndex.getOccurrences())
+                .extracting(IndexedOccurrence::getCategory, IndexedOccurrence::getTerm, IndexedOccurrence::getOffset)
+                .containsOnly(
+                        tuple(Category.TEST_CASE, "case", 19),
+                        tuple(Category.KEYWORD_CALL, "Log", 26),
+                        tuple(Category.VARIABLE, "${var}", 31),
+                        tuple(Category.KEYWORD_DEFINITION, "kw", 55),
+                        tuple(Category.DOCUMENTATION, "doc", 77),
+                        tuple(Category.KEYWORD_CALL, "Call", 83));
+    }
+
+    @Test
+    public void indexIsUpToDate_untilFileIsModified() throws Exception {
+        final IFile file = createFile(project, "modified.robot", "*** Test Cases ***", "case");
+
+        final SearchIndex index = new SearchIndex();
+        assertThat(index.getUpToDateIndex(file)).isEmpty();
+
+        index.index(model.createSuiteFile(file));
+        assertThat(index.getUpToDateIndex(file)).isPresent();
+
+        createFile(project, "modified.robot", "*** Test Cases ***", "other case");
+        assertThat(index.getUpToDateIndex(file)).isEmpty();
+    }
+
+    @Test
+    public void occurrencesOfMatchingTermsAreFound_onlyInGivenCategoriesAndFiles() throws Exception {
+        final IFile file1 = createFile(project, "file1.robot",
+                "*** Test Cases ***",
+                "case",
+                "  Keyword 1",
+                "*** Keywords ***",
+                "Keyword 1",
+                "  Log  1");
+        final IFile file2 = createFile(project, "file2.robot",
+                "*** Keywords ***",
+                "Keyword 2",
+                "  Keyword 1");
+        final IFile file3 = createFile(project, "file3.robot",
+                "*** Keywords ***",
+                "Keyword 3",
+                "  Keyword 1");
+
+        final SearchIndex index = new SearchIndex();
+        index.index(model.createSuiteFile(file1));
+        index.index(model.createSuiteFile(file2));
+        index.index(model.createSuiteFile(file3));
+
+        assertThat(index.find(EnumSet.of(Category.KEYWORD_CALL), Pattern.compile("Key"), newHashSet(file1, file2)))
+                .extracting(IndexedOccurrence::getFile, IndexedOccurrence::getTerm)
+                .containsOnly(tuple(file1, "Keyword 1"), tuple(file2, "Keyword 1"));
+        assertThat(index.find(EnumSet.of(Category.KEYWORD_DEFINITION), Pattern.compile("word"),
+                newHashSet(file1, file2, file3)))
+                        .extracting(IndexedOccurrence::getFile, IndexedOccurrence::getTerm)
+                        .containsOnly(tuple(file1, "Keyword 1"), tuple(file2, "Keyword 2"),
+                                tuple(file3, "Keyword 3"));
+        assertThat(index.find(EnumSet.allOf(Category.class), Pattern.compile("unknown"),
+                newHashSet(file1, file2, file3))).isEmpty();
+    }
+
+    @Test
+    public void termsOfRemovedFileAreNoLongerFound() throws Exception {
+        final IFile file = createFile(project, "removed.robot", "*** Test Cases ***", "case");
+
+        final SearchIndex index = new SearchIndex();
+        index.index(model.createSuiteFile(file));
+        index.remove(file);
+
+        assertThat(index.getUpToDateIndex(file)).isEmpty();
+        assertThat(index.find(EnumSet.allOf(Category.class), Pattern.compile("case"), newHashSet(file))).isEmpty();
+    }
+
+    @Test
+    public void modelParsedFromEditorContent_isIndexedButNotStored() throws Exception {
+        final IFile file = createFile(project, "edited.robot", "*** Test Cases ***", "case");
+
+        final SearchIndex index = new SearchIndex();
+        index.index(model.createSuiteFile(file));
+
+        final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+        suiteFile.reparseEverything("*** Test Cases ***\nunsaved case");
+        final FileIndex fileIndex = index.index(suiteFile);
+
+        assertThat(fileIndex.getOccurrences()).extracting(IndexedOccurrence::getTerm).containsOnly("unsaved case");
+        assertThat(index.getUpToDateIndex(file)).isPresent();
+        assertThat(index.find(EnumSet.allOf(Category.class), Pattern.compile("unsaved"), newHashSet(file)))
+                .isEmpty();
+        assertThat(index.find(EnumSet.allOf(Category.class), Pattern.compile("case"), newHashSet(file)))
+                .extracting(IndexedOccurrence::getTerm)
+                .containsOnly("case");
+    }
+
+    @Test
+    public void fileIsIndexedIfOutdated_onlyWhenNotIndexedWithCurrentStampOrModelIsNotFromEditor() throws Exception {
+        final IFile file = createFile(project, "outdated.robot", "*** Test Cases ***", "case");
+
+        final SearchIndex index = new SearchIndex();
+        index.indexIfOutdated(model.createSuiteFile(file));
+        final FileIndex fileIndex = index.getUpToDateIndex(file).get();
+
+        index.indexIfOutdated(model.createSuiteFile(file));
+        assertThat(index.getUpToDateIndex(file)).containsSame(fileIndex);
+
+        final RobotSuiteFile editedFile = model.createSuiteFile(file);
+        editedFile.reparseEverything("*** Test Cases ***\nunsaved case");
+        index.indexIfOutdated(editedFile);
+        assertThat(index.getUpToDateIndex(file)).containsSame(fileIndex);
+
+        createFile(project, "outdated.robot", "*** Test Cases ***", "other case");
+        final RobotModel otherModel = new RobotModel();
+        index.indexIfOutdated(otherModel.createSuiteFile(file));
+        otherModel.dispose();
+        assertThat(index.getUpToDateIndex(file).get().getOccurrences()).extracting(IndexedOccurrence::getTerm)
+                .containsOnly("other case");
+    }
+
+    @Test
+    public void termsOfFilesFromRemovedProjectAreNoLongerFound() throws Exception {
+        final IFile file = createFile(project, "closed.robot", "*** Test Cases ***", "case");
+
+        final SearchIndex index = new SearchIndex();
+        index.index(model.createSuiteFile(file));
+        index.removeProject(project);
+
+        assertThat(index.getUpToDateIndex(file)).isEmpty();
+        assertThat(index.find(EnumSet.allOf(Category.class), Pattern.compile("case"), newHashSet(file))).isEmpty();
+    }
+}
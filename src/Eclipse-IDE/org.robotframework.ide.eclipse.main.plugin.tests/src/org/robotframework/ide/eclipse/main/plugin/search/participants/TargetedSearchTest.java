@@ -9,12 +9,15 @@ import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
 import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -28,8 +31,11 @@ import org.rf.ide.core.libraries.LibrarySpecification;
 import org.robotframework.ide.eclipse.main.plugin.mockeclipse.ProgressMonitorMock;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.search.RobotFileMatch;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
 import org.robotframework.red.junit.jupiter.Project;
 import org.robotframework.red.junit.jupiter.ProjectExtension;
 
@@ -76,6 +82,34 @@ public class TargetedSearchTest {
                 .isThrownBy(() -> targetedSearch.run(monitor, LinkedHashMultimap.create(), files));
     }
 
+    @Test
+    public void whenFilesAreIndexed_matchesAreFoundInIndexWithoutParsingFiles() throws Exception {
+        final IFile file = createFile(project, "indexed.robot", "*** Test Cases ***", "first doc case",
+                "second case");
+        final RobotModel model = new RobotModel();
+        SearchIndex.getInstance().index(model.createSuiteFile(file));
+
+        try {
+            final ProgressMonitorMock monitor = new ProgressMonitorMock();
+            final SearchResult result = new SearchResult(null);
+            final TargetedSearch targetedSearch = createTargetedSearch(new SearchPattern("doc"), result);
+            doReturn(EnumSet.of(Category.TEST_CASE)).when(targetedSearch).getIndexedCategories();
+
+            targetedSearch.run(monitor, LinkedHashMultimap.create(), newHashSet(file));
+
+            assertThat(monitor.getWorkDone()).isEqualTo(1);
+            assertThat(result.getMatches(file)).hasSize(1).allSatisfy(match -> {
+                assertThat(match).isInstanceOf(RobotFileMatch.class);
+                assertThat(match.getOffset()).isEqualTo(25);
+                assertThat(match.getLength()).isEqualTo(3);
+            });
+            verify(targetedSearch, never()).locateMatchesInRobotFile(any(RobotSuiteFile.class));
+        } finally {
+            SearchIndex.getInstance().remove(file);
+            model.dispose();
+        }
+    }
+
     @Test
     public void whenTargetSearchIsRunWithLibraries_properMethodForLocatingMatchesIsCalled() {
         final SearchPattern pattern = new SearchPattern("doc");
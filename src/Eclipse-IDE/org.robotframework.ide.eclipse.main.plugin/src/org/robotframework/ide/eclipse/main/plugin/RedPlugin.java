@@ -5,19 +5,27 @@
  */
 package org.robotframework.ide.eclipse.main.plugin;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
 import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.RobotRuntimeEnvironment;
+import org.rf.ide.core.libraries.SharedLibspecsStore;
 import org.rf.ide.core.rflint.RfLintRules;
+import org.rf.ide.core.testdata.ParsedFilesCache;
 import org.rf.ide.core.watcher.RedFileWatcher;
 import org.robotframework.ide.eclipse.main.plugin.console.RedSessionProcessListener;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService;
@@ -35,8 +43,21 @@ public class RedPlugin extends AbstractUIPlugin {
 
     public static final String PLUGIN_ID = "org.robotframework.ide.eclipse.main.plugin";
 
+    private static final int MAX_PARSED_FILES_CACHE_ENTRIES = 20_000;
+
     private static RedPlugin plugin;
 
+    private ParsedFilesCache parsedFilesCache;
+
+    private SharedLibspecsStore sharedLibspecsStore;
+
+    private final IPropertyChangeListener libdocGenerationPreferencesListener = event -> {
+        if (RedPreferences.LIBDOCS_GENERATION_SERVERS.equals(event.getProperty())
+                || RedPreferences.LIBDOCS_GENERATION_TIMEOUT.equals(event.getProperty())) {
+            configureLibdocGeneration();
+        }
+    };
+
     public static RedPlugin getDefault() {
         return plugin;
     }
@@ -62,6 +83,8 @@ public class RedPlugin extends AbstractUIPlugin {
             }
             RedPreferencesFixer.updateModifiedPreferencesIfNeeded(getPreferenceStore());
             RedXmlVersionUpdater.init();
+            configureLibdocGeneration();
+            getPreferenceStore().addPropertyChangeListener(libdocGenerationPreferencesListener);
         } catch (final Exception e) {
             throw new IllegalStateException("Unable to start RED plugin", e);
         }
@@ -69,8 +92,15 @@ public class RedPlugin extends AbstractUIPlugin {
         logInfo("RED plugin started, version: " + getDefault().getBundle().getVersion().toString());
     }
 
+    private void configureLibdocGeneration() {
+        final RedPreferences preferences = getPreferences();
+        RobotRuntimeEnvironment.configureLibdocGeneration(preferences.getLibdocGenerationServers(),
+                preferences.getLibdocGenerationTimeout());
+    }
+
     @Override
     public void stop(final BundleContext context) {
+        getPreferenceStore().removePropertyChangeListener(libdocGenerationPreferencesListener);
         try {
             super.stop(context);
         } catch (final Exception e) {
@@ -90,6 +120,28 @@ public class RedPlugin extends AbstractUIPlugin {
         return new RedPreferences(getPreferenceStore());
     }
 
+    public synchronized ParsedFilesCache getParsedFilesCache() {
+        if (parsedFilesCache == null) {
+            // entries are dropped whenever the plugin is updated, since recognizers may change between versions
+            parsedFilesCache = new ParsedFilesCache(getStateLocation().append("parsed").toFile().toPath(),
+                    getBundle().getVersion().toString(), MAX_PARSED_FILES_CACHE_ENTRIES,
+                    e -> logWarning("Unable to access parsed files cache", e));
+        }
+        return parsedFilesCache;
+    }
+
+    public synchronized SharedLibspecsStore getSharedLibspecsStore() {
+        if (sharedLibspecsStore == null) {
+            sharedLibspecsStore = new SharedLibspecsStore(getStateLocation().append("libspecs").toFile().toPath());
+            // references are released when projects are closed, so only open projects may still use entries
+            sharedLibspecsStore.retainGroups(Stream.of(ResourcesPlugin.getWorkspace().getRoot().getProjects())
+                    .filter(IProject::isOpen)
+                    .map(IProject::getName)
+                    .collect(toList()));
+        }
+        return sharedLibspecsStore;
+    }
+
     public IRuntimeEnvironment getActiveRobotInstallation() {
         return InstalledRobotEnvironments.getActiveInstallation(getPreferences());
     }
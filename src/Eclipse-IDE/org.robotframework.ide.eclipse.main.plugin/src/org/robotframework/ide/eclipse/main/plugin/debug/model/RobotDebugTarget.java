@@ -7,6 +7,8 @@ package org.robotframework.ide.eclipse.main.plugin.debug.model;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.eclipse.core.resources.IMarkerDelta;
@@ -18,6 +20,7 @@ import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IThread;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.RobotBreakpoint;
 import org.rf.ide.core.execution.debug.StackFrame;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
@@ -190,6 +193,11 @@ public class RobotDebugTarget extends RobotDebugElement implements IDebugTarget
         userController.changeVariableInnerValue(frame, variable, path, arguments);
     }
 
+    Optional<Map<Object, VariableTypedValue>> getVariableItems(final StackFrame frame,
+            final StackFrameVariable variable, final List<Object> path, final int offset, final int count) {
+        return userController.getVariableItems(frame, variable, path, offset, count);
+    }
+
     public void evaluate(final int exprId, final ExpressionType type, final String expression) {
         if (type == ExpressionType.ROBOT) {
             final String[] splitted = expression.split("  +");
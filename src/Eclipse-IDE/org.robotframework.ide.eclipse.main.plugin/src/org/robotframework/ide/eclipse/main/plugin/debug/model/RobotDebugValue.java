@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.debug.core.model.IValue;
+import org.rf.ide.core.execution.agent.event.VariableItemsSummary;
 import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
 /**
@@ -36,6 +37,12 @@ public abstract class RobotDebugValue extends RobotDebugElement implements IValu
         } else if (value instanceof Map<?, ?>) {
             return RobotDebugValueOfDictionary.create(parent, type, (Map<?, ?>) value);
 
+        } else if (value instanceof VariableItemsSummary && ((VariableItemsSummary) value).isDictionary()) {
+            return RobotDebugValueOfDictionary.createFetchedOnDemand(parent, type, (VariableItemsSummary) value);
+
+        } else if (value instanceof VariableItemsSummary) {
+            return RobotDebugValueOfList.createFetchedOnDemand(parent, type, (VariableItemsSummary) value);
+
         } else {
             return RobotDebugValueOfScalar.create(parent, type, value == null ? null : value.toString());
         }
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.eclipse.debug.core.model.IIndexedValue;
+import org.rf.ide.core.execution.agent.event.VariableItemsSummary;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
+import org.robotframework.ide.eclipse.main.plugin.debug.model.RobotDebugVariable.RobotDebugVariableVisitor;
 
 public class RobotDebugValueOfList extends RobotDebugValue {
 
@@ -26,6 +29,11 @@ public class RobotDebugValueOfList extends RobotDebugValue {
         return new RobotDebugValueOfList(parent.getDebugTarget(), type, val, nestedVariables);
     }
 
+    static RobotDebugValueOfList createFetchedOnDemand(final RobotDebugVariable parent, final String type,
+            final VariableItemsSummary summary) {
+        return new FetchedOnDemand(parent, type, type + "[" + summary.getLength() + "]", summary);
+    }
+
     
     private final List<RobotDebugVariable> nestedVariables;
 
@@ -51,4 +59,67 @@ public class RobotDebugValueOfList extends RobotDebugValue {
     public RobotDebugVariable[] getVariables() {
         return nestedVariables.toArray(new RobotDebugVariable[0]);
     }
+
+    /**
+     * Value having too many items to be sent by agent together with the variable. Its nested
+     * variables are fetched on demand, as debug views divide indexed values into partitions and
+     * ask only for variables of expanded partitions.
+     */
+    private static final class FetchedOnDemand extends RobotDebugValueOfList implements IIndexedValue {
+
+        // views which do not use partitions should not fetch all the items at once
+        private static final int FIRST_PAGE_SIZE = 100;
+
+        private final RobotDebugVariable parent;
+
+        private final VariableItemsSummary summary;
+
+        private FetchedOnDemand(final RobotDebugVariable parent, final String type, final String value,
+                final VariableItemsSummary summary) {
+            super(parent.getDebugTarget(), type, value, new ArrayList<>());
+            this.parent = parent;
+            this.summary = summary;
+        }
+
+        @Override
+        public String getDetailedValue() {
+            return summary.getPreview();
+        }
+
+        @Override
+        public boolean hasVariables() {
+            return summary.getLength() > 0;
+        }
+
+        @Override
+        public RobotDebugVariable[] getVariables() {
+            return getVariables(0, Math.min(summary.getLength(), FIRST_PAGE_SIZE));
+        }
+
+        @Override
+        public RobotDebugVariable[] getVariables(final int offset, final int length) {
+            return parent.fetchNestedVariables(offset, length).toArray(new RobotDebugVariable[0]);
+        }
+
+        @Override
+        public RobotDebugVariable getVariable(final int offset) {
+            final RobotDebugVariable[] variables = getVariables(offset, 1);
+            return variables.length == 0 ? null : variables[0];
+        }
+
+        @Override
+        public int getSize() {
+            return summary.getLength();
+        }
+
+        @Override
+        public int getInitialOffset() {
+            return 0;
+        }
+
+        @Override
+        public void visitAllVariables(final RobotDebugVariableVisitor visitor) {
+            // nested variables are not fetched from agent only to be visited
+        }
+    }
 }
\ No newline at end of file
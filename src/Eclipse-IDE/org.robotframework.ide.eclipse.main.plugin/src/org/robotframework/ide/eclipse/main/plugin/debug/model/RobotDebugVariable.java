@@ -8,6 +8,7 @@ package org.robotframework.ide.eclipse.main.plugin.debug.model;
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -195,6 +196,37 @@ public class RobotDebugVariable extends RobotDebugElement implements IVariable {
         throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
     }
 
+    /**
+     * Fetches given range of nested variables of list or dictionary value, which were not sent by
+     * agent together with the variable itself.
+     *
+     * @param offset
+     * @param count
+     * @return
+     */
+    List<RobotDebugVariable> fetchNestedVariables(final int offset, final int count) {
+        final List<Object> path = new ArrayList<>();
+        RobotDebugVariable current = this;
+        while (current != null) {
+            if (current.stackVariable != null) {
+                return frame.getVariableItems(current.stackVariable, path, offset, count)
+                        .map(items -> items.entrySet()
+                                .stream()
+                                .map(item -> new RobotDebugVariable(this, nameOfItem(item.getKey()),
+                                        item.getValue().getType(), item.getValue().getValue()))
+                                .collect(toList()))
+                        .orElseGet(ArrayList::new);
+            }
+            path.add(0, extractIndexOrKey(current.name));
+            current = current.parent;
+        }
+        throw new IllegalStateException("Every non-artificial IVariable has to have real variable in some predecessor");
+    }
+
+    private static String nameOfItem(final Object indexOrKey) {
+        return indexOrKey instanceof Integer ? "[" + indexOrKey + "]" : indexOrKey.toString();
+    }
+
     private static String typeIdentifierOf(final RobotDebugVariable variable) {
         if (variable.value instanceof RobotDebugValueOfDictionary) {
             return "dict";
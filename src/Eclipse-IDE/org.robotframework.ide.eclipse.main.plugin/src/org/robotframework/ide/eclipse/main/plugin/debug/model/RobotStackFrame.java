@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.model.IRegisterGroup;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrame;
 import org.rf.ide.core.execution.debug.StackFrameVariable;
 import org.rf.ide.core.execution.debug.StackFrameVariables;
@@ -247,6 +248,11 @@ public class RobotStackFrame extends RobotDebugElement implements IStackFrame {
         getDebugTarget().changeVariableInnerValue(frame, variable, path, arguments);
     }
 
+    Optional<Map<Object, VariableTypedValue>> getVariableItems(final StackFrameVariable variable,
+            final List<Object> path, final int offset, final int count) {
+        return getDebugTarget().getVariableItems(frame, variable, path, offset, count);
+    }
+
     @Override
     public int getLineNumber() {
         return frame.getFileRegion().map(FileRegion::getStart).map(FilePosition::getLine).orElse(-1);
@@ -11,6 +11,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -256,6 +257,11 @@ abstract class HyperlinksToKeywordsDetector {
                     && super.isSameAs(other, useplaceFilepath);
         }
 
+        @Override
+        public Object getSameEntityKey(final IPath useplaceFilepath) {
+            return Arrays.asList(super.getSameEntityKey(useplaceFilepath), destinationPosition);
+        }
+
         @Override
         public boolean equals(final Object obj) {
             return super.equals(obj)
@@ -24,6 +24,9 @@ import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionServi
 
 public abstract class AbstractRobotLaunchConfigurationDelegate extends LaunchConfigurationDelegate {
 
+    // keyword events are only needed for debugging, so in run mode agent sends suites and tests events only
+    protected static final int KEYWORD_EVENTS_PER_SECOND_IN_RUN_MODE = 0;
+
     private final RobotTestExecutionService executionService;
 
     public AbstractRobotLaunchConfigurationDelegate() {
@@ -35,11 +35,13 @@ public class AgentConnectionServerJob extends Job {
 
     private final List<RobotAgentEventListener> agentEventListeners;
 
+    private final boolean asynchronousEventsDispatch;
+
     private AgentConnectionServer agentServer;
 
     private AgentConnectionServerJob(final String host, final int port, final int timeout, final TimeUnit timeoutUnit,
             final List<AgentServerStatusListener> serverStatusListeners,
-            final List<RobotAgentEventListener> agentEventListeners) {
+            final List<RobotAgentEventListener> agentEventListeners, final boolean asynchronousEventsDispatch) {
         super("Agent connection server");
         setSystem(true);
 
@@ -49,6 +51,7 @@ public class AgentConnectionServerJob extends Job {
         this.timeoutUnit = timeoutUnit;
         this.serverListeners = serverStatusListeners;
         this.agentEventListeners = agentEventListeners;
+        this.asynchronousEventsDispatch = asynchronousEventsDispatch;
     }
 
     public static AgentConnectionServerJobBuilder setupServerAt(final String host, final int port) {
@@ -59,6 +62,7 @@ public class AgentConnectionServerJob extends Job {
     protected IStatus run(final IProgressMonitor monitor) {
         try {
             agentServer = new AgentConnectionServer(host, port, timeout, timeoutUnit);
+            agentServer.setAsynchronousEventsDispatch(asynchronousEventsDispatch);
             for (final AgentServerStatusListener serverStatusListener : serverListeners) {
                 agentServer.addStatusListener(serverStatusListener);
             }
@@ -105,6 +109,8 @@ public class AgentConnectionServerJob extends Job {
 
         private final List<RobotAgentEventListener> agentEventListeners = new ArrayList<>();
 
+        private boolean asynchronousEventsDispatch = false;
+
         public AgentConnectionServerJobBuilder(final String host, final int port) {
             this.host = host;
             this.port = port;
@@ -138,8 +144,20 @@ public class AgentConnectionServerJob extends Job {
             return this;
         }
 
+        /**
+         * Listeners which are not marked as synchronous ones are notified about agent events on
+         * their own threads, so that handling of events does not hold reading of further events.
+         *
+         * @return
+         */
+        public AgentConnectionServerJobBuilder agentEventsDispatchedAsynchronously() {
+            this.asynchronousEventsDispatch = true;
+            return this;
+        }
+
         public AgentConnectionServerJob createJob() {
-            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners);
+            return new AgentConnectionServerJob(host, port, timeout, timeoutUnit, serverListeners, agentEventListeners,
+                    asynchronousEventsDispatch);
         }
 
         public AgentConnectionServerJob start() {
@@ -11,11 +11,13 @@ import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 
 
-public class RobotEvaluationErrorsHandler extends RobotDefaultAgentEventListener {
+public class RobotEvaluationErrorsHandler extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener {
 
     @Override
     public void handleConditionEvaluated(final ConditionEvaluatedEvent event) {
@@ -70,7 +70,8 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
 
         try {
             final UserProcessController userController;
-            final AgentServerTestsStarter testsStarter = new AgentServerTestsStarter(testsMode, getMaxValueLenght());
+            final AgentServerTestsStarter testsStarter = new AgentServerTestsStarter(testsMode, getMaxValueLenght(),
+                    KEYWORD_EVENTS_PER_SECOND_IN_RUN_MODE);
 
             final LaunchExecution launchExecution;
             if (testsMode == TestsMode.RUN) {
@@ -146,6 +147,7 @@ public class RobotLaunchConfigurationDelegate extends AbstractRobotLaunchConfigu
                 .agentEventsListenedBy(new ExecutionStatusTracker(testsLaunchContext))
                 .agentEventsListenedBy(new ExpressionEvaluationTracker(testsLaunchContext))
                 .agentEventsListenedBy(new AgentServerKeepAlive())
+                .agentEventsDispatchedAsynchronously()
                 .start()
                 .waitForServer();
 
@@ -13,6 +13,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 import org.rf.ide.core.execution.server.AgentServerStatusListener;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
@@ -20,7 +21,8 @@ import org.robotframework.ide.eclipse.main.plugin.launch.RobotConsoleFacade;
 
 import com.google.common.base.Splitter;
 
-class RemoteConnectionStatusTracker extends RobotDefaultAgentEventListener implements AgentServerStatusListener {
+class RemoteConnectionStatusTracker extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener, AgentServerStatusListener {
 
     private static final String POISON_PILL = "POISON_PILL";
 
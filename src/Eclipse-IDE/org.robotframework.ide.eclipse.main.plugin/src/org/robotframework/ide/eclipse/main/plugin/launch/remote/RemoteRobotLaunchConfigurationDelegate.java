@@ -62,7 +62,8 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
 
         try {
             final UserProcessController userController;
-            final AgentServerTestsStarter testsStarter = new AgentServerTestsStarter(testsMode, getMaxValueLenght());
+            final AgentServerTestsStarter testsStarter = new AgentServerTestsStarter(testsMode, getMaxValueLenght(),
+                    KEYWORD_EVENTS_PER_SECOND_IN_RUN_MODE);
 
             final LaunchExecution launchExecution;
             if (testsMode == TestsMode.RUN) {
@@ -132,6 +133,7 @@ public class RemoteRobotLaunchConfigurationDelegate extends AbstractRobotLaunchC
                 .agentEventsListenedBy(new ExecutionStatusTracker(testsLaunchContext))
                 .agentEventsListenedBy(new ExpressionEvaluationTracker(testsLaunchContext))
                 .agentEventsListenedBy(new AgentServerKeepAlive())
+                .agentEventsDispatchedAsynchronously()
                 .start()
                 .waitForServer();
 
@@ -15,6 +15,9 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex;
 
 public class RobotModel implements RobotElement {
 
@@ -100,6 +103,13 @@ public class RobotModel implements RobotElement {
             }
         }
         projects.removeAll(toRemove);
+        ImportsDependencyGraph.removeProject(project);
+        SearchIndex.getInstance().removeProject(project);
+
+        final RedPlugin redPlugin = RedPlugin.getDefault();
+        if (redPlugin != null) {
+            redPlugin.getSharedLibspecsStore().releaseAll(project.getName());
+        }
         return changes;
     }
 
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -214,7 +215,11 @@ public class RobotProject extends RobotContainer {
             final String fileName = descriptor.generateLibspecFileName();
             fileToRead = RedWorkspace.getLocalFile(libspecsFolder.getXmlSpecFile(fileName));
         }
-        return fileToRead.flatMap(LibrarySpecificationReader::readSpecification).map(spec -> {
+        final RedPlugin redPlugin = RedPlugin.getDefault();
+        final Function<File, Optional<LibrarySpecification>> reader = redPlugin == null
+                ? LibrarySpecificationReader::readSpecification
+                : redPlugin.getSharedLibspecsStore()::readSpecification;
+        return fileToRead.flatMap(reader).map(spec -> {
             spec.setDescriptor(descriptor);
             return spec;
         }).orElse(null);
@@ -48,6 +48,7 @@ import org.rf.ide.core.testdata.model.presenter.DocumentationServiceHandler;
 import org.rf.ide.core.testdata.model.table.setting.SuiteDocumentation;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 import org.robotframework.ide.eclipse.main.plugin.RedImages;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
 
 import com.google.common.base.Charsets;
@@ -68,6 +69,8 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
     private List<RobotSuiteFileSection> sections;
 
+    private volatile boolean parsedFromEditorContent;
+
     public RobotSuiteFile(final RobotElement parent, final IFile file) {
         super(parent);
         this.file = file;
@@ -123,7 +126,7 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
     public synchronized List<RobotSuiteFileSection> getSections(final ParsingStrategy parsingStrategy) {
         if (sections == null) {
-            link(parsingStrategy.parse());
+            linkOutput(parsingStrategy.parse());
         }
         return sections == null ? new ArrayList<>() : sections;
     }
@@ -132,7 +135,17 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
         getSections(); // this will parse the file if needed
     }
 
+    /**
+     * Links output parsed from content of editor, which may differ from content saved in file.
+     *
+     * @param fileOutput
+     */
     public void link(final RobotFileOutput fileOutput) {
+        parsedFromEditorContent = true;
+        linkOutput(fileOutput);
+    }
+
+    private void linkOutput(final RobotFileOutput fileOutput) {
         this.fileOutput = fileOutput;
         if (this.fileOutput != null) {
             link(fileOutput.getFileModel());
@@ -179,12 +192,14 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
         contentTypeId = null;
         sections = null;
         fileOutput = null;
+        parsedFromEditorContent = false;
     }
 
     public synchronized void reparseEverything(final String newContent) {
         contentTypeId = null;
         sections = null;
         fileOutput = null;
+        parsedFromEditorContent = true;
 
         getSections(createReparsingStrategy(newContent));
     }
@@ -193,9 +208,20 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
         contentTypeId = null;
         sections = null;
         fileOutput = null;
+        parsedFromEditorContent = false;
         getSections();
     }
 
+    /**
+     * Returns true if the model was parsed from content given by editor instead of content saved
+     * in file, so it may not describe the file as it is on disk.
+     *
+     * @return
+     */
+    public boolean isParsedFromEditorContent() {
+        return parsedFromEditorContent;
+    }
+
     List<RobotElementChange> synchronizeChanges(final IResourceDelta delta) {
         if (delta.getFlags() != IResourceDelta.MARKERS) {
             refreshOnFileChange();
@@ -328,7 +354,9 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
     public RobotParser createRobotParser() {
         final RobotProject robotProject = getRobotProject();
-        return new RobotParser(robotProject.getRobotProjectHolder(), robotProject.getRobotParserComplianceVersion());
+        final RedPlugin redPlugin = RedPlugin.getDefault();
+        return new RobotParser(robotProject.getRobotProjectHolder(), robotProject.getRobotParserComplianceVersion(),
+                redPlugin == null ? null : redPlugin.getParsedFilesCache());
     }
 
     public RobotVersion getRobotParserComplianceVersion() {
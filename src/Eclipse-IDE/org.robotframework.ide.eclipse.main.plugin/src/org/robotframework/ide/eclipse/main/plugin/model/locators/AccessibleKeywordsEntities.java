@@ -7,12 +7,14 @@ package org.robotframework.ide.eclipse.main.plugin.model.locators;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.IPath;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordIndex;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher;
 import org.rf.ide.core.testdata.model.table.keywords.names.GherkinStyleSupport;
@@ -34,6 +36,10 @@ public class AccessibleKeywordsEntities {
 
     private Map<String, Collection<KeywordEntity>> accessibleKeywords;
 
+    private KeywordIndex<KeywordEntity> deduplicatedKeywordsIndex;
+
+    private KeywordIndex<KeywordEntity> scopedKeywordsIndex;
+
     public AccessibleKeywordsEntities(final IPath filepath, final AccessibleKeywordsCollector collector) {
         this.filepath = filepath;
         this.collector = collector;
@@ -67,10 +73,11 @@ public class AccessibleKeywordsEntities {
 
     public ListMultimap<String, KeywordEntity> findPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
-        final Collection<KeywordEntity> filterAgainstDuplications = getAccessibleKeywordsDeduplicated();
-
-        return keywordSearcher.findKeywords(getAccessibleKeywords(), filterAgainstDuplications,
-                keywordName, stopIfOneWasMatching);
+        if (deduplicatedKeywordsIndex == null) {
+            deduplicatedKeywordsIndex = new KeywordIndex<>(getAccessibleKeywordsDeduplicated());
+        }
+        return keywordSearcher.findKeywords(getAccessibleKeywords(), deduplicatedKeywordsIndex, keywordName,
+                stopIfOneWasMatching);
     }
 
     protected Collection<KeywordEntity> getAccessibleKeywordsDeduplicated() {
@@ -110,40 +117,40 @@ public class AccessibleKeywordsEntities {
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
 
-        final List<KeywordEntity> hereKeywords = new ArrayList<>();
-        hereKeywords.addAll(getPossibleKeywords().values());
-
+        if (scopedKeywordsIndex == null) {
+            final List<KeywordEntity> hereKeywords = new ArrayList<>();
+            hereKeywords.addAll(getPossibleKeywords().values());
+            scopedKeywordsIndex = new KeywordIndex<>(filterDuplicates(hereKeywords));
+        }
         final ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterDuplicates(hereKeywords), keywordName, stopIfOneWasMatching);
+                scopedKeywordsIndex, keywordName, stopIfOneWasMatching);
 
         return getPossibleKeywords(foundKeywords, keywordName);
     }
 
     private Collection<KeywordEntity> filterDuplicates(final Collection<? extends KeywordEntity> candidates) {
         final LinkedHashSet<KeywordEntity> entities = new LinkedHashSet<>();
+        // entities already added to the set, by key of same entities
+        final Map<Object, KeywordEntity> sameEntities = new HashMap<>();
         for (final KeywordEntity entity : candidates) {
-            final KeywordEntity onListEntity = getSameEntity(entities, entity);
+            final Object key = entity.getSameEntityKey(getFilepath());
+            final KeywordEntity onListEntity = sameEntities.get(key);
             if (onListEntity == null) {
-                entities.add(entity);
+                if (entities.add(entity)) {
+                    sameEntities.put(key, entity);
+                }
             } else if (!onListEntity.getExposingFilepath().equals(getFilepath())
                     && entity.getExposingFilepath().equals(getFilepath())) {
                 entities.remove(onListEntity);
-                entities.add(entity);
+                sameEntities.remove(key);
+                if (entities.add(entity)) {
+                    sameEntities.put(key, entity);
+                }
             }
         }
         return entities;
     }
 
-    private KeywordEntity getSameEntity(final LinkedHashSet<KeywordEntity> entities,
-            final KeywordEntity candidateEntity) {
-        for (final KeywordEntity entity : entities) {
-            if (entity == candidateEntity || entity.isSameAs(candidateEntity, getFilepath())) {
-                return entity;
-            }
-        }
-        return null;
-    }
-
     public interface AccessibleKeywordsCollector {
 
         Map<String, Collection<KeywordEntity>> collect();
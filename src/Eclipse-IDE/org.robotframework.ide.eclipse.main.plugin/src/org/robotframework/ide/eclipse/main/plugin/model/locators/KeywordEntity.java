@@ -5,6 +5,7 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.model.locators;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.IPath;
@@ -91,6 +92,18 @@ public abstract class KeywordEntity implements SearchableKeyword {
                 && Objects.equal(this.sourceAlias, that.sourceAlias);
     }
 
+    /**
+     * Returns key which is equal for two entities exactly when those are the same according to
+     * {@link #isSameAs(KeywordEntity, IPath)}, so that same entities can be found by hashing.
+     * Has to be overridden together with isSameAs method.
+     *
+     * @param useplaceFilepath
+     * @return
+     */
+    public Object getSameEntityKey(final IPath useplaceFilepath) {
+        return Arrays.asList(getSourceNameInUse(), keywordName, getScope(useplaceFilepath), sourceAlias);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -111,6 +111,22 @@ public class LibrariesPreferencesPage extends RedFieldEditorPreferencePage {
         libdocGenerationTimeoutEnablementUpdater = value -> libdocGenerationTimeoutEditor.setEnabled(value, libGroup);
         libdocGenerationTimeoutEnablementUpdater.accept(getPreferenceStore()
                 .getBoolean(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED));
+
+        final IntegerFieldEditor libdocServersEditor = new IntegerFieldEditor(RedPreferences.LIBDOCS_GENERATION_SERVERS,
+                "Number of session servers generating libdocs in parallel", libGroup, 2);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(libdocServersEditor.getLabelControl(libGroup));
+        libdocServersEditor.setValidRange(1, 16);
+        addField(libdocServersEditor);
+
+        final IntegerFieldEditor libdocServerTimeoutEditor = new IntegerFieldEditor(
+                RedPreferences.LIBDOCS_GENERATION_TIMEOUT, "Single library libdoc generation timeout (seconds)",
+                libGroup, 4);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(libdocServerTimeoutEditor.getLabelControl(libGroup));
+        libdocServerTimeoutEditor.getLabelControl(libGroup)
+                .setToolTipText("Session server is killed when libdoc of single library is not generated in time, "
+                        + "also when libdoc is not generated in separate process. 0 means no timeout");
+        libdocServerTimeoutEditor.setValidRange(0, 3_600);
+        addField(libdocServerTimeoutEditor);
     }
 
     @Override
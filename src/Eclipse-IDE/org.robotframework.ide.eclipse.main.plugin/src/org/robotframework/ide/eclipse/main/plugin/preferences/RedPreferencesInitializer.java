@@ -150,6 +150,13 @@ public class RedPreferencesInitializer extends AbstractPreferenceInitializer {
         preferences.putBoolean(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED, true);
         preferences.putInt(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT, 30);
         preferences.putBoolean(RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, true);
+        preferences.putInt(RedPreferences.LIBDOCS_GENERATION_SERVERS, defaultLibdocGenerationServers());
+        preferences.putInt(RedPreferences.LIBDOCS_GENERATION_TIMEOUT, 120);
+    }
+
+    static int defaultLibdocGenerationServers() {
+        // each server is separate python process, so not all cores are used by default
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
     }
 
     private void initializeProblemSeverityPreferences(final IEclipsePreferences preferences) {
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.rf.ide.core.project.ImportPath;
+import org.rf.ide.core.testdata.model.RobotExpressions;
+import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordCall;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProjectPathsProvider;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSetting;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSetting.SettingsGroup;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSettingsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariablesSection;
+import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph.FileExports;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Reads {@link FileExports} of files for {@link ImportsDependencyGraph}. Signature of robot file
+ * covers everything which is visible for importing files: keywords with their arguments,
+ * variables and imports; body of keywords is not a part of signature. Signature of other files
+ * (e.g. python variable files) is a hash of the whole content.
+ */
+class FileExportsReader {
+
+    private static final HashFunction HASHING = Hashing.murmur3_128();
+
+    private final RobotModel model;
+
+    FileExportsReader(final RobotModel model) {
+        this.model = model;
+    }
+
+    static boolean isRobotFile(final IFile file) {
+        return ASuiteFileDescriber.isSuiteFile(file) || ASuiteFileDescriber.isRpaSuiteFile(file)
+                || ASuiteFileDescriber.isResourceFile(file) || ASuiteFileDescriber.isInitializationFile(file);
+    }
+
+    FileExports read(final IFile file) {
+        return isRobotFile(file) ? readRobotFile(model.createSuiteFile(file)) : readOtherFile(file);
+    }
+
+    private FileExports readRobotFile(final RobotSuiteFile suiteFile) {
+        final Hasher hasher = HASHING.newHasher();
+        final List<IResource> imports = new ArrayList<>();
+        boolean hasUnresolvedImports = false;
+
+        final Optional<RobotSettingsSection> settings = suiteFile.findSection(RobotSettingsSection.class);
+        if (settings.isPresent()) {
+            for (final RobotSetting setting : settings.get().getImportSettings()) {
+                putCall(hasher, setting);
+
+                if (setting.isResourceImport() || isVariablesImport(setting)) {
+                    final Optional<IResource> imported = resolveImport(suiteFile, setting);
+                    if (imported.isPresent()) {
+                        imports.add(imported.get());
+                    } else {
+                        hasUnresolvedImports = true;
+                    }
+                }
+            }
+        }
+
+        final Optional<RobotKeywordsSection> keywords = suiteFile.findSection(RobotKeywordsSection.class);
+        if (keywords.isPresent()) {
+            for (final RobotKeywordDefinition keyword : keywords.get().getChildren()) {
+                putString(hasher, keyword.getName());
+                hasher.putBoolean(keyword.isDeprecated());
+                final RobotKeywordCall arguments = keyword.getArgumentsSetting();
+                if (arguments != null) {
+                    putCall(hasher, arguments);
+                }
+            }
+        }
+
+        final Optional<RobotVariablesSection> variables = suiteFile.findSection(RobotVariablesSection.class);
+        if (variables.isPresent()) {
+            for (final RobotVariable variable : variables.get().getChildren()) {
+                putString(hasher, variable.getActualName());
+            }
+        }
+
+        return new FileExports(imports.stream().map(IResource::getFullPath).collect(toList()), hasUnresolvedImports,
+                hasher.hash());
+    }
+
+    private static boolean isVariablesImport(final RobotSetting setting) {
+        return setting.getGroup() == SettingsGroup.VARIABLES;
+    }
+
+    private static Optional<IResource> resolveImport(final RobotSuiteFile suiteFile, final RobotSetting setting) {
+        if (setting.isResourceImport()) {
+            return setting.getImportedResource();
+        }
+        final List<String> args = setting.getArguments();
+        if (args.isEmpty()) {
+            return Optional.empty();
+        }
+        final String path = RobotExpressions.unescapeSpaces(args.get(0));
+        final Optional<URI> possiblePath = new RobotProjectPathsProvider(suiteFile.getRobotProject())
+                .tryToFindAbsoluteUri(suiteFile.getFile(), ImportPath.from(path));
+        return possiblePath.map(uri -> new RedWorkspace(suiteFile.getFile().getWorkspace().getRoot()).forUri(uri));
+    }
+
+    private static FileExports readOtherFile(final IFile file) {
+        final Hasher hasher = HASHING.newHasher();
+        try (InputStream content = file.getContents(true)) {
+            hasher.putBytes(ByteStreams.toByteArray(content));
+        } catch (final IOException | CoreException e) {
+            // file cannot be read, so signature is always different
+            hasher.putLong(System.nanoTime());
+        }
+        return new FileExports(new ArrayList<>(), false, hasher.hash());
+    }
+
+    private static void putCall(final Hasher hasher, final RobotKeywordCall call) {
+        putString(hasher, call.getName());
+        final List<String> arguments = call.getArguments();
+        hasher.putInt(arguments.size());
+        arguments.forEach(argument -> putString(hasher, argument));
+    }
+
+    private static void putString(final Hasher hasher, final String string) {
+        hasher.putInt(string.length());
+        hasher.putString(string, StandardCharsets.UTF_8);
+    }
+}
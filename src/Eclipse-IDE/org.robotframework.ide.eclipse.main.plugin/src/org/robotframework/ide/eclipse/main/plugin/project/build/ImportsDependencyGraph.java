@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * Graph of files imports (resources and variable files) inside of single project. Each file
+ * is described by {@link FileExports}: files imported by it and signature of everything it
+ * exports to importing files. The graph is updated incrementally by builder and allows to find
+ * all files which transitively depend on changed file, so that only those are revalidated and
+ * only when exported signature of changed file is really different.
+ */
+public class ImportsDependencyGraph {
+
+    private static final Map<IProject, ImportsDependencyGraph> GRAPHS = new ConcurrentHashMap<>();
+
+    static ImportsDependencyGraph forProject(final IProject project) {
+        return GRAPHS.computeIfAbsent(project, p -> new ImportsDependencyGraph());
+    }
+
+    /**
+     * Drops the graph of given project, so that it is built from scratch if the project gets
+     * opened or recreated again.
+     *
+     * @param project
+     */
+    public static void removeProject(final IProject project) {
+        GRAPHS.remove(project);
+    }
+
+    private final Map<IPath, FileExports> exports = new HashMap<>();
+
+    // imported file -> files importing it
+    private final Map<IPath, Set<IPath>> dependents = new HashMap<>();
+
+    private boolean initialized = false;
+
+    synchronized boolean isInitialized() {
+        return initialized;
+    }
+
+    synchronized void initialize(final Map<IPath, FileExports> allExports) {
+        exports.clear();
+        dependents.clear();
+        allExports.forEach(this::put);
+        initialized = true;
+    }
+
+    /**
+     * Stores new exports of given file.
+     *
+     * @param file
+     * @param newExports
+     * @return files which have to be revalidated, because they depend on exports of given file
+     *         which have changed, or because they have unresolved imports which may now be
+     *         resolved to given file when it was added
+     */
+    synchronized Set<IPath> update(final IPath file, final FileExports newExports) {
+        final FileExports oldExports = put(file, newExports);
+
+        final Set<IPath> toRevalidate = new LinkedHashSet<>();
+        if (oldExports == null) {
+            exports.forEach((path, fileExports) -> {
+                if (fileExports.hasUnresolvedImports && !path.equals(file)) {
+                    toRevalidate.add(path);
+                }
+            });
+        }
+        if (oldExports == null || !Objects.equals(oldExports.signature, newExports.signature)) {
+            toRevalidate.addAll(getTransitiveDependents(file));
+        }
+        return toRevalidate;
+    }
+
+    /**
+     * Removes given file from the graph.
+     *
+     * @param file
+     * @return files which have to be revalidated, because they depend on removed file
+     */
+    synchronized Set<IPath> remove(final IPath file) {
+        final Set<IPath> toRevalidate = getTransitiveDependents(file);
+        final FileExports oldExports = exports.remove(file);
+        if (oldExports != null) {
+            removeDependencies(file, oldExports);
+        }
+        return toRevalidate;
+    }
+
+    synchronized Set<IPath> getTransitiveDependents(final IPath file) {
+        final Set<IPath> result = new LinkedHashSet<>();
+        final Queue<IPath> toVisit = new ArrayDeque<>();
+        toVisit.add(file);
+        while (!toVisit.isEmpty()) {
+            for (final IPath dependent : dependents.getOrDefault(toVisit.poll(), Collections.emptySet())) {
+                if (!dependent.equals(file) && result.add(dependent)) {
+                    toVisit.add(dependent);
+                }
+            }
+        }
+        return result;
+    }
+
+    synchronized boolean contains(final IPath file) {
+        return exports.containsKey(file);
+    }
+
+    private FileExports put(final IPath file, final FileExports newExports) {
+        final FileExports oldExports = exports.put(file, newExports);
+        if (oldExports != null) {
+            removeDependencies(file, oldExports);
+        }
+        for (final IPath imported : newExports.imports) {
+            dependents.computeIfAbsent(imported, path -> new HashSet<>()).add(file);
+        }
+        return oldExports;
+    }
+
+    private void removeDependencies(final IPath file, final FileExports oldExports) {
+        for (final IPath imported : oldExports.imports) {
+            final Set<IPath> importing = dependents.get(imported);
+            if (importing != null) {
+                importing.remove(file);
+                if (importing.isEmpty()) {
+                    dependents.remove(imported);
+                }
+            }
+        }
+    }
+
+    static class FileExports {
+
+        private final List<IPath> imports;
+
+        private final boolean hasUnresolvedImports;
+
+        private final HashCode signature;
+
+        FileExports(final Collection<IPath> imports, final boolean hasUnresolvedImports,
+                final HashCode signature) {
+            this.imports = new ArrayList<>(imports);
+            this.hasUnresolvedImports = hasUnresolvedImports;
+            this.signature = signature;
+        }
+
+        List<IPath> getImports() {
+            return imports;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Collects problems and tasks reported for single file during its validation. When validation
+ * is finished the collected markers are applied in single workspace operation: markers which
+ * were already present are kept untouched, outdated ones are removed and only new ones are
+ * created, so the number of marker changes and resource change notifications is minimal.
+ */
+class MarkersBatch {
+
+    private static final List<String> MARKER_TYPES = Arrays.asList(RobotProblem.TYPE_ID, RobotTask.TYPE_ID);
+
+    private static final Map<IFile, MarkersBatch> OPENED_BATCHES = new ConcurrentHashMap<>();
+
+    static MarkersBatch open(final IFile file) {
+        final MarkersBatch batch = new MarkersBatch(file);
+        OPENED_BATCHES.put(file, batch);
+        return batch;
+    }
+
+    static Optional<MarkersBatch> getOpened(final IFile file) {
+        return Optional.ofNullable(OPENED_BATCHES.get(file));
+    }
+
+    private final IFile file;
+
+    private final List<MarkerDescription> markers = new ArrayList<>();
+
+    private MarkersBatch(final IFile file) {
+        this.file = file;
+    }
+
+    synchronized void add(final String type, final Map<String, Object> attributes) {
+        markers.add(new MarkerDescription(type, attributes));
+    }
+
+    void close() throws CoreException {
+        OPENED_BATCHES.remove(file, this);
+        if (!file.exists()) {
+            return;
+        }
+        final List<MarkerDescription> toApply;
+        synchronized (this) {
+            toApply = new ArrayList<>(markers);
+        }
+        final IWorkspace workspace = file.getWorkspace();
+        final IWorkspaceRunnable runnable = monitor -> apply(toApply);
+        workspace.run(runnable, workspace.getRuleFactory().markerRule(file), IWorkspace.AVOID_UPDATE, null);
+    }
+
+    private void apply(final List<MarkerDescription> newMarkers) throws CoreException {
+        final Map<MarkerDescription, Deque<IMarker>> existingMarkers = new HashMap<>();
+        for (final String type : MARKER_TYPES) {
+            for (final IMarker marker : file.findMarkers(type, true, IResource.DEPTH_ZERO)) {
+                existingMarkers
+                        .computeIfAbsent(new MarkerDescription(marker.getType(), marker.getAttributes()),
+                                description -> new ArrayDeque<>())
+                        .add(marker);
+            }
+        }
+
+        for (final MarkerDescription description : newMarkers) {
+            final Deque<IMarker> sameMarkers = existingMarkers.get(description);
+            if (sameMarkers != null && !sameMarkers.isEmpty()) {
+                sameMarkers.poll();
+            } else {
+                file.createMarker(description.type).setAttributes(description.attributes);
+            }
+        }
+        for (final Deque<IMarker> outdatedMarkers : existingMarkers.values()) {
+            for (final IMarker marker : outdatedMarkers) {
+                marker.delete();
+            }
+        }
+    }
+
+    private static final class MarkerDescription {
+
+        private final String type;
+
+        private final Map<String, Object> attributes;
+
+        MarkerDescription(final String type, final Map<String, Object> attributes) {
+            this.type = type;
+            this.attributes = attributes == null ? new HashMap<>() : attributes;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == MarkerDescription.class) {
+                final MarkerDescription that = (MarkerDescription) obj;
+                return this.type.equals(that.type) && this.attributes.equals(that.attributes);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode() * 31 + attributes.hashCode();
+        }
+    }
+}
@@ -6,18 +6,24 @@
 package org.robotframework.ide.eclipse.main.plugin.project.build;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toList;
 
+import java.io.File;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
+import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -25,24 +31,28 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.rf.ide.core.project.RobotProjectConfig;
+import org.rf.ide.core.testdata.RobotParser;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
 import org.robotframework.ide.eclipse.main.plugin.project.ExcludedResources;
 import org.robotframework.ide.eclipse.main.plugin.project.RobotProjectNature;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ImportsDependencyGraph.FileExports;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotInitFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotProjectConfigFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotResourceFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotRpaSuiteFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.RobotSuiteFileValidator;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex;
 
 public class RobotArtifactsValidator {
 
@@ -104,12 +114,26 @@ public class RobotArtifactsValidator {
 
         return new ModelUnitValidator() {
 
+            @Override
+            public Optional<IFile> getValidatedFile() {
+                return validator.getValidatedFile();
+            }
+
             @Override
             public void validate(final IProgressMonitor monitor) throws CoreException {
                 synchronized (getLock(resource)) {
-                    resource.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ONE);
-                    resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ONE);
-                    validator.validate(monitor);
+                    if (resource.getType() == IResource.FILE) {
+                        final MarkersBatch batch = MarkersBatch.open((IFile) resource);
+                        try {
+                            validator.validate(monitor);
+                        } finally {
+                            batch.close();
+                        }
+                    } else {
+                        resource.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ONE);
+                        resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ONE);
+                        validator.validate(monitor);
+                    }
                     VALIDATION_LOCKS.remove(resource);
                 }
             }
@@ -160,7 +184,7 @@ public class RobotArtifactsValidator {
                     logger);
             final List<ModelUnitValidator> validators = validatorConfig.createValidators(context);
 
-            validateModelUnits(monitor, new ArrayDeque<>(validators));
+            new ValidationScheduler(logger).validate(validators, monitor);
 
             return Status.OK_STATUS;
         } catch (final CoreException | InterruptedException e) {
@@ -171,52 +195,20 @@ public class RobotArtifactsValidator {
         }
     }
 
-    private void validateModelUnits(final IProgressMonitor monitor, final Queue<ModelUnitValidator> validators)
-            throws InterruptedException {
-        final SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
-        subMonitor.beginTask("Validating files", 100);
-
-        final SubMonitor validationSubMonitor = subMonitor.newChild(100);
-        validationSubMonitor.setWorkRemaining(validators.size());
-
-        final int threadPoolSize = Runtime.getRuntime().availableProcessors();
-        logger.log("VALIDATING: " + threadPoolSize + " threads will be used");
-        final ExecutorService threadPool = Executors.newFixedThreadPool(threadPoolSize);
-
-        int current = 1;
-        final int total = validators.size();
-        while (!validators.isEmpty()) {
-            final ModelUnitValidator validator = validators.poll();
-            threadPool.submit(createValidationRunnable(monitor, validationSubMonitor, current, total, validator));
-            current++;
-        }
-        threadPool.shutdown();
-        threadPool.awaitTermination(1, TimeUnit.HOURS);
-    }
-
-    private Runnable createValidationRunnable(final IProgressMonitor monitor, final SubMonitor validationSubMonitor,
-            final int id, final int total, final ModelUnitValidator validator) {
-        return () -> {
-            try {
-                if (monitor.isCanceled()) {
-                    logger.log("VALIDATING: cancelled (" + id + "/" + total + ")");
-                    return;
-                }
-                validator.validate(monitor);
-                logger.log("VALIDATING: done (" + id + "/" + total + ")");
-            } catch (final Exception e) {
-                logger.log("VALIDATING: error (" + id + "/" + total + ")");
-                logger.logError("VALIDATING: error\n" + e.getMessage(), e);
-            } finally {
-                validationSubMonitor.worked(1);
-            }
-        };
-    }
-
     public interface ModelUnitValidator {
 
         public void validate(IProgressMonitor monitor) throws CoreException;
 
+        /**
+         * Returns the file validated by this unit. It is used for estimating the cost of validation
+         * and for reporting validation times.
+         *
+         * @return
+         */
+        public default Optional<IFile> getValidatedFile() {
+            return Optional.empty();
+        }
+
         public default void validate() {
             try {
                 validate(new NullProgressMonitor());
@@ -243,7 +235,7 @@ public class RobotArtifactsValidator {
             if (delta == null || kind == IncrementalProjectBuilder.FULL_BUILD) {
                 return createForWholeProject(project, reporter);
             } else {
-                return createForChangedFiles(delta, reporter);
+                return createForChangedFiles(project, delta, reporter);
             }
         }
 
@@ -270,50 +262,167 @@ public class RobotArtifactsValidator {
                 final ValidationReportingStrategy reporter) {
             return context -> {
                 final List<ModelUnitValidator> validators = new ArrayList<>();
+                final List<IFile> robotFiles = new ArrayList<>();
                 project.accept(resource -> {
                     final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
                             reporter, false);
                     if (validator.isPresent()) {
-                        validators.add(validator.get());
+                        if (FileExportsReader.isRobotFile((IFile) resource)) {
+                            // markers of robot files are updated in batch after validation
+                            validators.add(createSynchronizedValidator(resource, validator.get()));
+                            robotFiles.add((IFile) resource);
+                        } else {
+                            validators.add(validator.get());
+                        }
                     }
                     return true;
                 });
+                parseInParallel(context.getModel().createRobotProject(project), robotFiles);
+                initializeImportsGraph(project, new FileExportsReader(context.getModel()), robotFiles);
 
                 // those file could have markers reported by prior build job
                 final Collection<IResource> filesToOmit = newHashSet(project.getFile(".project"),
                         project.getFile(RobotProjectConfig.FILENAME));
+                final Set<IResource> batchedFiles = new HashSet<>(robotFiles);
 
-                for (final IResource child : project.members()) {
-                    if (!filesToOmit.contains(child)) {
-                        child.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_INFINITE);
+                project.accept(resource -> {
+                    if (!batchedFiles.contains(resource)) {
+                        if (resource != project && !filesToOmit.contains(resource)) {
+                            resource.deleteMarkers(RobotProblem.TYPE_ID, true, IResource.DEPTH_ZERO);
+                        }
+                        resource.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_ZERO);
                     }
-                }
-                project.deleteMarkers(RobotTask.TYPE_ID, true, IResource.DEPTH_INFINITE);
+                    return true;
+                }, IResource.DEPTH_INFINITE, IContainer.INCLUDE_HIDDEN);
                 return validators;
             };
         }
 
-        private static ModelUnitValidatorConfig createForChangedFiles(final IResourceDelta delta,
-                final ValidationReportingStrategy reporter) {
+        private static ModelUnitValidatorConfig createForChangedFiles(final IProject project,
+                final IResourceDelta delta, final ValidationReportingStrategy reporter) {
             return context -> {
+                final ImportsDependencyGraph graph = ImportsDependencyGraph.forProject(project);
+                final FileExportsReader reader = new FileExportsReader(context.getModel());
+                final boolean graphWasInitialized = graph.isInitialized();
+                if (!graphWasInitialized) {
+                    initializeImportsGraph(project, reader, collectRobotFiles(project, context));
+                }
+
                 final List<ModelUnitValidator> validators = new ArrayList<>();
+                final Set<IResource> changedFiles = new HashSet<>();
+                final Set<IPath> dependentFiles = new LinkedHashSet<>();
                 delta.accept(d -> {
+                    final IResource resource = d.getResource();
                     if (d.getKind() != IResourceDelta.REMOVED && (d.getFlags() & IResourceDelta.CONTENT) != 0) {
                         context.setIsValidatingChangedFiles(true);
 
-                        final IResource resource = d.getResource();
                         final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
                                 reporter, false);
                         if (validator.isPresent()) {
                             validators.add(createSynchronizedValidator(resource, validator.get()));
+                            changedFiles.add(resource);
+                        }
+                    }
+                    if (resource.getType() == IResource.FILE) {
+                        dependentFiles.addAll(findDependentFiles(graph, reader, d, graphWasInitialized));
+                        if (d.getKind() == IResourceDelta.REMOVED) {
+                            SearchIndex.getInstance().remove((IFile) resource);
                         }
                     }
                     return true;
                 });
+
+                for (final IPath path : dependentFiles) {
+                    final IFile file = project.getWorkspace().getRoot().getFile(path);
+                    if (file.exists() && !changedFiles.contains(file)) {
+                        context.setIsValidatingChangedFiles(true);
+
+                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, file,
+                                reporter, false);
+                        if (validator.isPresent()) {
+                            validators.add(createSynchronizedValidator(file, validator.get()));
+                        }
+                    }
+                }
                 return validators;
             };
         }
 
+        private static Set<IPath> findDependentFiles(final ImportsDependencyGraph graph,
+                final FileExportsReader reader, final IResourceDelta delta, final boolean graphWasInitialized) {
+            final IFile file = (IFile) delta.getResource();
+            final IPath path = file.getFullPath();
+
+            if (delta.getKind() == IResourceDelta.REMOVED) {
+                return graph.remove(path);
+
+            } else if (!graphWasInitialized) {
+                // graph was just built from current files, so it is unknown what have changed
+                return graph.getTransitiveDependents(path);
+
+            } else if (delta.getKind() == IResourceDelta.ADDED) {
+                return graph.update(path, reader.read(file));
+
+            } else if ((delta.getFlags() & IResourceDelta.CONTENT) != 0
+                    && (graph.contains(path) || FileExportsReader.isRobotFile(file))) {
+                return graph.update(path, reader.read(file));
+            }
+            return new HashSet<>();
+        }
+
+        private static List<IFile> collectRobotFiles(final IProject project, final ValidationContext context)
+                throws CoreException {
+            final List<IFile> robotFiles = new ArrayList<>();
+            project.accept(resource -> {
+                if (shouldValidate(context.getProjectConfiguration(), resource, false)
+                        && FileExportsReader.isRobotFile((IFile) resource)) {
+                    robotFiles.add((IFile) resource);
+                }
+                return true;
+            });
+            return robotFiles;
+        }
+
+        /**
+         * Parses given files into project holder on validation pool, so that reading exports and
+         * validating the files does not parse them one by one again.
+         */
+        private static void parseInParallel(final RobotProject robotProject, final List<IFile> robotFiles) {
+            final RedPlugin redPlugin = RedPlugin.getDefault();
+            final RobotParser parser = new RobotParser(robotProject.getRobotProjectHolder(),
+                    robotProject.getRobotParserComplianceVersion(),
+                    redPlugin == null ? null : redPlugin.getParsedFilesCache());
+            final List<File> files = robotFiles.stream()
+                    .map(IFile::getLocation)
+                    .filter(Objects::nonNull)
+                    .map(IPath::toFile)
+                    .collect(toList());
+            parser.parse(files, ValidationScheduler.getSharedPool());
+        }
+
+        private static void initializeImportsGraph(final IProject project, final FileExportsReader reader,
+                final List<IFile> robotFiles) {
+            final Map<IPath, FileExports> allExports = new HashMap<>();
+            final Queue<IFile> toRead = new ArrayDeque<>(robotFiles);
+            while (!toRead.isEmpty()) {
+                final IFile file = toRead.poll();
+                if (!allExports.containsKey(file.getFullPath())) {
+                    final FileExports exports = reader.read(file);
+                    allExports.put(file.getFullPath(), exports);
+
+                    // imported files (e.g. python variable files) are not validated, but their changes
+                    // affect importing files
+                    for (final IPath imported : exports.getImports()) {
+                        final IFile importedFile = project.getWorkspace().getRoot().getFile(imported);
+                        if (importedFile.exists()) {
+                            toRead.add(importedFile);
+                        }
+                    }
+                }
+            }
+            ImportsDependencyGraph.forProject(project).initialize(allExports);
+        }
+
         private static Optional<? extends ModelUnitValidator> createValidator(final ValidationContext context,
                 final IResource resource, final ValidationReportingStrategy reporter, final boolean isRevalidating)
                 throws CoreException {
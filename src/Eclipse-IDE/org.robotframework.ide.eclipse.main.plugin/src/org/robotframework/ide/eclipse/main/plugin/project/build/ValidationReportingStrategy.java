@@ -7,6 +7,7 @@ package org.robotframework.ide.eclipse.main.plugin.project.build;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.ui.PlatformUI;
@@ -32,8 +33,23 @@ public class ValidationReportingStrategy {
         this.shouldPanic = shouldPanic;
     }
 
+    /**
+     * Tells whether validation using this strategy runs through the whole file, so that its
+     * results (e.g. search index of the file) are worth being kept.
+     *
+     * @return
+     */
+    public boolean isReportingOnly() {
+        return !shouldPanic;
+    }
+
     public void handleTask(final RobotTask task, final IFile file) {
-        task.createMarker(file);
+        final Optional<MarkersBatch> batch = MarkersBatch.getOpened(file);
+        if (batch.isPresent()) {
+            batch.get().add(RobotTask.TYPE_ID, task.createMarkerAttributes());
+        } else {
+            task.createMarker(file);
+        }
     }
 
     public void handleProblem(final RobotProblem problem, final IFile file, final int line) throws ReportingInterruptedException {
@@ -81,7 +97,12 @@ public class ValidationReportingStrategy {
 
     protected void reportProblem(final RobotProblem problem, final IFile file, final ProblemPosition filePosition,
             final Map<String, Object> additionalAttributes) {
-        problem.createMarker(file, filePosition, additionalAttributes);
+        final Optional<MarkersBatch> batch = MarkersBatch.getOpened(file);
+        if (batch.isPresent()) {
+            batch.get().add(RobotProblem.TYPE_ID, problem.createMarkerAttributes(filePosition, additionalAttributes));
+        } else {
+            problem.createMarker(file, filePosition, additionalAttributes);
+        }
     }
 
     public static class ReportingInterruptedException extends RuntimeException {
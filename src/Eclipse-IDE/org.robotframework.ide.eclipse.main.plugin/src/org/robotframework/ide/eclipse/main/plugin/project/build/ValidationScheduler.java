@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsValidator.ModelUnitValidator;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Runs model unit validators on shared work-stealing pool. Units are started in order of their
+ * estimated cost, so that huge files do not end up being validated alone at the end of a build.
+ * Progress is reported in calling thread as units finish; when monitor gets canceled no further
+ * unit is started, but units which are already running are awaited, so that no validator is
+ * still reporting problems once validation returns.
+ */
+public class ValidationScheduler {
+
+    private static final AtomicInteger THREADS_COUNTER = new AtomicInteger(0);
+
+    private static ForkJoinPool sharedPool;
+
+    public static synchronized ForkJoinPool getSharedPool() {
+        if (sharedPool == null) {
+            sharedPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("RED validation " + THREADS_COUNTER.incrementAndGet());
+                return thread;
+            }, null, true);
+        }
+        return sharedPool;
+    }
+
+    private final ExecutorService executor;
+
+    private final int parallelism;
+
+    private final BuildLogger logger;
+
+    ValidationScheduler(final BuildLogger logger) {
+        this(getSharedPool(), getSharedPool().getParallelism(), logger);
+    }
+
+    @VisibleForTesting
+    ValidationScheduler(final ExecutorService executor, final int parallelism, final BuildLogger logger) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.logger = logger;
+    }
+
+    void validate(final List<ModelUnitValidator> validators, final IProgressMonitor monitor)
+            throws InterruptedException {
+        final SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
+        subMonitor.beginTask("Validating files", 100);
+
+        final SubMonitor validationSubMonitor = subMonitor.newChild(100);
+        validationSubMonitor.setWorkRemaining(validators.size());
+
+        logger.log("VALIDATING: " + parallelism + " threads will be used");
+
+        final List<ValidationUnit> units = orderByCost(validators);
+        final CompletionService<ValidationUnit> completionService = new ExecutorCompletionService<>(executor);
+        for (final ValidationUnit unit : units) {
+            completionService.submit(() -> unit.validate(monitor, units.size()), unit);
+        }
+
+        // units which were not started before cancellation finish immediately
+        for (int i = 0; i < units.size(); i++) {
+            completionService.take();
+            validationSubMonitor.worked(1);
+        }
+        if (monitor.isCanceled()) {
+            logger.log("VALIDATING: cancelled");
+        }
+    }
+
+    private List<ValidationUnit> orderByCost(final List<ModelUnitValidator> validators) {
+        final List<ValidationUnit> units = validators.stream()
+                .map(ValidationUnit::new)
+                .sorted(Comparator.comparingLong((final ValidationUnit unit) -> unit.cost).reversed())
+                .collect(toList());
+        for (int i = 0; i < units.size(); i++) {
+            units.get(i).id = i + 1;
+        }
+        return units;
+    }
+
+    /**
+     * Estimates cost of validating given file by its size, which is known without reading the
+     * file.
+     *
+     * @param file
+     * @return
+     */
+    @VisibleForTesting
+    static long estimateCost(final IFile file) {
+        final IPath location = file.getLocation();
+        return location == null ? 0 : location.toFile().length();
+    }
+
+    private class ValidationUnit {
+
+        private final ModelUnitValidator validator;
+
+        private final Optional<IFile> file;
+
+        private final long cost;
+
+        private int id;
+
+        ValidationUnit(final ModelUnitValidator validator) {
+            this.validator = validator;
+            this.file = validator.getValidatedFile();
+            this.cost = file.map(ValidationScheduler::estimateCost).orElse(0L);
+        }
+
+        void validate(final IProgressMonitor monitor, final int total) {
+            final String unitName = file.map(f -> f.getFullPath().toString())
+                    .orElseGet(() -> validator.getClass().getSimpleName());
+            try {
+                if (monitor.isCanceled()) {
+                    logger.log("VALIDATING: cancelled (" + id + "/" + total + ")");
+                    return;
+                }
+                final long start = System.nanoTime();
+                validator.validate(monitor);
+                final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                logger.log("VALIDATING: done (" + id + "/" + total + ") " + unitName + " in " + duration + " ms");
+            } catch (final Exception e) {
+                logger.log("VALIDATING: error (" + id + "/" + total + ") " + unitName);
+                logger.logError("VALIDATING: error\n" + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+
+import com.google.common.base.Throwables;
+
+/**
+ * Runs libdoc generators concurrently using given number of threads. Session servers generating
+ * libdocs are pooled per interpreter, so generation scales with the size of the pool. Progress is
+ * reported and problems are handled in calling thread only, as generators finish. Generators which
+ * did not start yet are skipped once the monitor is canceled.
+ */
+class LibdocGenerationScheduler {
+
+    private static final AtomicInteger THREADS_COUNTER = new AtomicInteger(0);
+
+    private static final int TERMINATION_TIMEOUT_IN_SECONDS = 10;
+
+    private final int parallelism;
+
+    LibdocGenerationScheduler(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    void generate(final List<LibdocGenerationTask> tasks, final IProgressMonitor monitor,
+            final BiConsumer<LibdocGenerationTask, RuntimeEnvironmentException> problemHandler) {
+        if (parallelism <= 1 || tasks.size() <= 1) {
+            generateSequentially(tasks, monitor, problemHandler);
+        } else {
+            generateConcurrently(tasks, monitor, problemHandler);
+        }
+    }
+
+    private void generateSequentially(final List<LibdocGenerationTask> tasks, final IProgressMonitor monitor,
+            final BiConsumer<LibdocGenerationTask, RuntimeEnvironmentException> problemHandler) {
+        for (final LibdocGenerationTask task : tasks) {
+            if (monitor.isCanceled()) {
+                return;
+            }
+            monitor.subTask(task.getGenerator().getMessage());
+            task.generate().ifPresent(e -> problemHandler.accept(task, e));
+            monitor.worked(1);
+        }
+    }
+
+    private void generateConcurrently(final List<LibdocGenerationTask> tasks, final IProgressMonitor monitor,
+            final BiConsumer<LibdocGenerationTask, RuntimeEnvironmentException> problemHandler) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()),
+                runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "RED libdoc generator " + THREADS_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final CompletionService<LibdocGenerationTask> completionService = new ExecutorCompletionService<>(
+                    executor);
+            for (final LibdocGenerationTask task : tasks) {
+                completionService.submit(() -> {
+                    // tasks waiting in the queue are skipped once generation is canceled
+                    if (!monitor.isCanceled()) {
+                        task.problem = task.generate();
+                    }
+                    return task;
+                });
+            }
+
+            for (int remaining = tasks.size(); remaining > 0; remaining--) {
+                final LibdocGenerationTask task = getFinishedTask(completionService.take());
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                monitor.subTask(task.getGenerator().getMessage());
+                task.problem.ifPresent(e -> problemHandler.accept(task, e));
+                monitor.worked(1);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    private static void shutdown(final ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            // generators are killed by session servers pool after timeout, so threads which are still
+            // running after this time are left as they are daemons
+            executor.awaitTermination(TERMINATION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LibdocGenerationTask getFinishedTask(final Future<LibdocGenerationTask> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    static class LibdocGenerationTask {
+
+        private final IProject project;
+
+        private final ILibdocGenerator generator;
+
+        private final IRuntimeEnvironment environment;
+
+        private final EnvironmentSearchPaths additionalPaths;
+
+        private Optional<RuntimeEnvironmentException> problem = Optional.empty();
+
+        LibdocGenerationTask(final IProject project, final ILibdocGenerator generator,
+                final IRuntimeEnvironment environment, final EnvironmentSearchPaths additionalPaths) {
+            this.project = project;
+            this.generator = generator;
+            this.environment = environment;
+            this.additionalPaths = additionalPaths;
+        }
+
+        IProject getProject() {
+            return project;
+        }
+
+        ILibdocGenerator getGenerator() {
+            return generator;
+        }
+
+        private Optional<RuntimeEnvironmentException> generate() {
+            try {
+                generator.generateLibdoc(environment, additionalPaths);
+                return Optional.empty();
+            } catch (final RuntimeEnvironmentException e) {
+                return Optional.of(e);
+            }
+        }
+    }
+}
@@ -8,7 +8,9 @@ package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,7 +27,6 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.ui.statushandlers.StatusManager;
 import org.rf.ide.core.environment.EnvironmentSearchPaths;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
-import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
 import org.rf.ide.core.environment.SuiteExecutor;
 import org.rf.ide.core.libraries.LibraryDescriptor;
 import org.rf.ide.core.libraries.LibrarySpecification;
@@ -43,6 +44,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibdocGenerationScheduler.LibdocGenerationTask;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
@@ -126,53 +128,59 @@ public class LibrariesBuilder {
         });
 
         monitor.setWorkRemaining(groupedGenerators.size());
+
+        // libraries of all projects are generated together, so that all pooled servers are busy
+        final List<LibdocGenerationTask> tasks = new ArrayList<>();
         for (final IProject project : groupedGenerators.keySet()) {
-            if (monitor.isCanceled()) {
-                return;
+            if (!project.exists()) {
+                monitor.worked(groupedGenerators.get(project).size());
+                continue;
             }
-
             final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
             final IRuntimeEnvironment runtimeEnvironment = robotProject.getRuntimeEnvironment();
 
-            MultiStatus multiStatus = null;
             for (final ILibdocGenerator generator : groupedGenerators.get(project)) {
-                if (monitor.isCanceled()) {
-                    return;
-                }
-                monitor.subTask(generator.getMessage());
-
-                try {
-                    if (project.exists()) {
-                        generator.generateLibdoc(runtimeEnvironment,
-                                new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
-                                        .createAdditionalEnvironmentSearchPaths());
-                    }
-                } catch (final RuntimeEnvironmentException e) {
-                    final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
-                            "\nProblem occurred during " + generator.getMessage() + ".", e);
-                    if (multiStatus == null) {
-                        multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[] { status },
-                                "Library specification generation problem", null);
-                    } else {
-                        multiStatus.add(status);
-                    }
-
-                    try {
-                        generator.getTargetFile().delete(true, new NullProgressMonitor());
-                    } catch (final CoreException e1) {
-                        multiStatus.add(e1.getStatus());
-                    }
-                }
-                monitor.worked(1);
+                tasks.add(new LibdocGenerationTask(project, generator, runtimeEnvironment,
+                        new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
+                                .createAdditionalEnvironmentSearchPaths()));
             }
+        }
 
-            if (multiStatus != null) {
-                StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
+        final Map<IProject, MultiStatus> multiStatuses = new LinkedHashMap<>();
+        createScheduler().generate(tasks, monitor, (task, e) -> {
+            final ILibdocGenerator generator = task.getGenerator();
+            final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
+                    "\nProblem occurred during " + generator.getMessage() + ".", e);
+            final MultiStatus multiStatus = multiStatuses.computeIfAbsent(task.getProject(),
+                    project -> new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[0],
+                            "Library specification generation problem", null));
+            multiStatus.add(status);
+
+            try {
+                generator.getTargetFile().delete(true, new NullProgressMonitor());
+            } catch (final CoreException e1) {
+                multiStatus.add(e1.getStatus());
             }
+        });
+        if (monitor.isCanceled()) {
+            return;
+        }
+
+        for (final MultiStatus multiStatus : multiStatuses.values()) {
+            StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
         }
         monitor.done();
     }
 
+    private static LibdocGenerationScheduler createScheduler() {
+        final RedPlugin redPlugin = RedPlugin.getDefault();
+        if (redPlugin == null) {
+            return new LibdocGenerationScheduler(1);
+        }
+        // session servers pools are configured by the plugin whenever preferences change
+        return new LibdocGenerationScheduler(redPlugin.getPreferences().getLibdocGenerationServers());
+    }
+
     private ILibdocGenerator provideGenerator(final LibraryDescriptor libraryDescriptor, final IFile targetFile,
             final Map<String, String> varsMapping, final LibdocFormat format) {
 
@@ -213,40 +221,40 @@ public class LibrariesBuilder {
 
         final List<ILibdocGenerator> libdocGenerators = new ArrayList<>();
 
+        final String projectName = robotProject.getProject().getName();
         final LibspecsFolder libspecsFolder = LibspecsFolder.get(robotProject.getProject());
-        libdocGenerators.addAll(getStandardLibrariesToRecreate(environment, libspecsFolder));
+        libdocGenerators.addAll(getStandardLibrariesToRecreate(environment, libspecsFolder, projectName));
         libdocGenerators.addAll(getStandardRemoteLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
         libdocGenerators.addAll(getReferencedVirtualLibrariesToRecreate(configuration, libspecsFolder));
-        libdocGenerators.addAll(getReferencedPythonLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
+        libdocGenerators.addAll(
+                getReferencedPythonLibrariesToRecreate(configuration, libspecsFolder, varsMapping, projectName));
         if (environment.getInterpreter() == SuiteExecutor.Jython) {
-            libdocGenerators.addAll(getReferencedJavaLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
+            libdocGenerators.addAll(
+                    getReferencedJavaLibrariesToRecreate(configuration, libspecsFolder, varsMapping, projectName));
         }
 
         monitor.setWorkRemaining(libdocGenerators.size());
 
+        final List<LibdocGenerationTask> tasks = new ArrayList<>();
         for (final ILibdocGenerator generator : libdocGenerators) {
-            if (monitor.isCanceled()) {
-                return;
-            }
-
             logger.log("BUILDING: " + generator.getMessage());
-            monitor.subTask(generator.getMessage());
-            try {
-                final EnvironmentSearchPaths additionalSearchPaths = new RedEclipseProjectConfig(
-                        robotProject.getProject(), configuration).createAdditionalEnvironmentSearchPaths();
-                generator.generateLibdoc(environment, additionalSearchPaths);
-
-            } catch (final RuntimeEnvironmentException e) {
-                // the libraries with missing libspec are reported in validation phase
-            }
-            monitor.worked(1);
+            final EnvironmentSearchPaths additionalSearchPaths = new RedEclipseProjectConfig(robotProject.getProject(),
+                    configuration).createAdditionalEnvironmentSearchPaths();
+            tasks.add(new LibdocGenerationTask(robotProject.getProject(), generator, environment,
+                    additionalSearchPaths));
+        }
+        createScheduler().generate(tasks, monitor, (task, e) -> {
+            // the libraries with missing libspec are reported in validation phase
+        });
+        if (monitor.isCanceled()) {
+            return;
         }
 
         monitor.done();
     }
 
     private List<ILibdocGenerator> getStandardLibrariesToRecreate(final IRuntimeEnvironment environment,
-            final LibspecsFolder libspecsFolder) {
+            final LibspecsFolder libspecsFolder, final String projectName) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
         for (final String stdLib : environment.getStandardLibrariesNames()) {
@@ -256,8 +264,9 @@ public class LibrariesBuilder {
             if (!fileExist(xmlSpecFile) || !hasSameVersion(xmlSpecFile, environment.getVersion())) {
                 // we always want to regenerate standard libraries when RF version have changed
                 // or libdoc does not exist
-                generators.add(
-                        new StandardLibraryLibdocGenerator(stdLib, new ArrayList<>(), xmlSpecFile, LibdocFormat.XML));
+                final ILibdocGenerator generator = new StandardLibraryLibdocGenerator(stdLib, new ArrayList<>(),
+                        xmlSpecFile, LibdocFormat.XML);
+                generators.add(shared(generator, projectName, stdLib, new ArrayList<>(), new ArrayList<>()));
             }
         }
         return generators;
@@ -314,7 +323,7 @@ public class LibrariesBuilder {
     }
 
     private List<ILibdocGenerator> getReferencedPythonLibrariesToRecreate(final RobotProjectConfig configuration,
-            final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping) {
+            final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping, final String projectName) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
         configuration.getReferencedLibraries()
@@ -330,8 +339,11 @@ public class LibrariesBuilder {
                             final List<String> resolvedArguments = argsVariant.getArgsStream()
                                     .map(val -> RobotExpressions.resolve(varsMapping, val))
                                     .collect(toList());
-                            generators.add(new PythonLibraryLibdocGenerator(lib.getName(), resolvedArguments,
-                                    toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
+                            final String path = toAbsolute(lib.getPath());
+                            final ILibdocGenerator generator = new PythonLibraryLibdocGenerator(lib.getName(),
+                                    resolvedArguments, path, xmlSpecFile, LibdocFormat.XML);
+                            generators.add(shared(generator, projectName, lib.getName(), resolvedArguments,
+                                    newArrayList(pythonLibrarySource(path))));
                         }
                     });
                 });
@@ -339,7 +351,7 @@ public class LibrariesBuilder {
     }
 
     private List<ILibdocGenerator> getReferencedJavaLibrariesToRecreate(final RobotProjectConfig configuration,
-            final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping) {
+            final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping, final String projectName) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
         configuration.getReferencedLibraries()
@@ -355,14 +367,31 @@ public class LibrariesBuilder {
                             final List<String> resolvedArguments = argsVariant.getArgsStream()
                                     .map(val -> RobotExpressions.resolve(varsMapping, val))
                                     .collect(toList());
-                            generators.add(new JavaLibraryLibdocGenerator(lib.getName(), resolvedArguments,
-                                    toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
+                            final String path = toAbsolute(lib.getPath());
+                            final ILibdocGenerator generator = new JavaLibraryLibdocGenerator(lib.getName(),
+                                    resolvedArguments, path, xmlSpecFile, LibdocFormat.XML);
+                            generators.add(shared(generator, projectName, lib.getName(), resolvedArguments,
+                                    newArrayList(new File(path))));
                         }
                     });
                 });
         return generators;
     }
 
+    private static ILibdocGenerator shared(final ILibdocGenerator generator, final String projectName,
+            final String libName, final List<String> arguments, final List<File> sources) {
+        final RedPlugin redPlugin = RedPlugin.getDefault();
+        return redPlugin == null ? generator
+                : new SharedLibdocGenerator(generator, redPlugin.getSharedLibspecsStore(), projectName, libName,
+                        arguments, sources);
+    }
+
+    private static File pythonLibrarySource(final String path) {
+        // whole package is used as source of library defined in __init__.py
+        final File source = new File(path);
+        return source.getName().equals("__init__.py") ? source.getParentFile() : source;
+    }
+
     private static boolean fileExist(final IFile file) {
         return file.exists() && file.getLocation().toFile().exists();
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.libraries.SharedLibspecsStore;
+
+/**
+ * Takes libspec from {@link SharedLibspecsStore} when it was already generated for the same
+ * library by any project, otherwise generates it using wrapped generator and puts into the store.
+ */
+class SharedLibdocGenerator implements ILibdocGenerator {
+
+    private final ILibdocGenerator generator;
+
+    private final SharedLibspecsStore store;
+
+    private final String projectName;
+
+    private final String libName;
+
+    private final List<String> arguments;
+
+    private final List<File> sources;
+
+    SharedLibdocGenerator(final ILibdocGenerator generator, final SharedLibspecsStore store, final String projectName,
+            final String libName, final List<String> arguments, final List<File> sources) {
+        this.generator = generator;
+        this.store = store;
+        this.projectName = projectName;
+        this.libName = libName;
+        this.arguments = arguments;
+        this.sources = sources;
+    }
+
+    @Override
+    public void generateLibdoc(final IRuntimeEnvironment environment, final EnvironmentSearchPaths additionalPaths) {
+        final File targetFile = getTargetFile().getLocation().toFile();
+        final Optional<String> key = createKey(environment, additionalPaths);
+
+        if (!key.isPresent() || !store.restore(key.get(), targetFile)) {
+            generator.generateLibdoc(environment, additionalPaths);
+            key.ifPresent(k -> store.store(k, targetFile));
+        }
+        key.ifPresent(k -> store.acquire(k, projectName, targetFile.getName()));
+    }
+
+    private Optional<String> createKey(final IRuntimeEnvironment environment,
+            final EnvironmentSearchPaths additionalPaths) {
+        final String interpreter = environment.getInterpreter() + ":" + environment.getFile();
+        try {
+            return Optional.of(SharedLibspecsStore.createKey(interpreter, environment.getVersion(), libName, arguments,
+                    additionalPaths, sources));
+        } catch (final IOException e) {
+            // library sources cannot be read, so libspec is not shared
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return generator.getMessage();
+    }
+
+    @Override
+    public IFile getTargetFile() {
+        return generator.getTargetFile();
+    }
+}
@@ -12,6 +12,7 @@ package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 
 import static com.google.common.base.Predicates.not;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -198,6 +199,11 @@ public class FileValidationContext extends AccessibleKeywordsEntities {
             return position == ((ValidationKeywordEntity) other).position && super.isSameAs(other, useplaceFilepath);
         }
 
+        @Override
+        public Object getSameEntityKey(final IPath useplaceFilepath) {
+            return Arrays.asList(super.getSameEntityKey(useplaceFilepath), position);
+        }
+
         @Override
         public boolean equals(final Object obj) {
             return super.equals(obj) || position == ((ValidationKeywordEntity) obj).position;
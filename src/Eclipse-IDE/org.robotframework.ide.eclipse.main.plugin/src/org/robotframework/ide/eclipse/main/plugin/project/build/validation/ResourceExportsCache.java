@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
+
+import static com.google.common.collect.Sets.newHashSet;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
+import org.rf.ide.core.testdata.importer.AVariableImported;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
+import org.rf.ide.core.testdata.model.GlobalVariable;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+import org.rf.ide.core.testdata.model.table.variables.descs.VariablesAnalyzer;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordsSection;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotVariablesSection;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.io.Files;
+
+/**
+ * Thread-safe memo of keywords and variables exported by files, living as long as single
+ * {@link ValidationContext}. Keywords and variables accessible in validated file are assembled
+ * from cached pieces of all files in its imports tree, so that resources imported by many suites
+ * are analyzed only once per build. Files are visited in the same order as
+ * {@link org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator} and
+ * {@link org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator} do.
+ */
+class ResourceExportsCache {
+
+    private final RobotModel model;
+
+    private final Map<IFile, FileExports> filesExports = new ConcurrentHashMap<>();
+
+    private final Map<IProject, Set<String>> projectsVariables = new ConcurrentHashMap<>();
+
+    ResourceExportsCache(final RobotModel model) {
+        this.model = model;
+    }
+
+    Map<String, Collection<KeywordEntity>> collectAccessibleKeywords(final IFile file) {
+        final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
+
+        final FileExports startingExports = getExports(file);
+        addAll(accessibleKeywords, startingExports.keywords);
+        addResourcesKeywords(accessibleKeywords, startingExports.resources, newHashSet(file));
+        addAll(accessibleKeywords, startingExports.librariesKeywords);
+        return accessibleKeywords;
+    }
+
+    private void addResourcesKeywords(final Map<String, Collection<KeywordEntity>> accessibleKeywords,
+            final List<IResource> resources, final Set<IFile> alreadyVisited) {
+        for (final IResource resource : resources) {
+            if (isNotVisitedFile(resource, alreadyVisited)) {
+                final FileExports exports = getExports((IFile) resource);
+                addResourcesKeywords(accessibleKeywords, exports.resources, alreadyVisited);
+                addAll(accessibleKeywords, exports.librariesKeywords);
+                addAll(accessibleKeywords, exports.keywords);
+            }
+        }
+    }
+
+    private static void addAll(final Map<String, Collection<KeywordEntity>> accessibleKeywords,
+            final ListMultimap<String, KeywordEntity> keywords) {
+        for (final Entry<String, Collection<KeywordEntity>> entry : keywords.asMap().entrySet()) {
+            accessibleKeywords.computeIfAbsent(entry.getKey(), name -> new LinkedHashSet<>())
+                    .addAll(entry.getValue());
+        }
+    }
+
+    Set<String> collectAccessibleVariables(final IFile file) {
+        final Set<String> variables = new HashSet<>();
+
+        final FileExports startingExports = getExports(file);
+        variables.addAll(startingExports.variables);
+        addResourcesVariables(variables, startingExports.resources, newHashSet(file));
+        variables.addAll(getProjectVariables(file.getProject()));
+        return variables;
+    }
+
+    private void addResourcesVariables(final Set<String> variables, final List<IResource> resources,
+            final Set<IFile> alreadyVisited) {
+        for (final IResource resource : resources) {
+            if (isNotVisitedFile(resource, alreadyVisited)) {
+                final FileExports exports = getExports((IFile) resource);
+                addResourcesVariables(variables, exports.resources, alreadyVisited);
+                variables.addAll(exports.variables);
+            }
+        }
+    }
+
+    private static boolean isNotVisitedFile(final IResource resource, final Set<IFile> alreadyVisited) {
+        return resource.exists() && resource.getType() == IResource.FILE && alreadyVisited.add((IFile) resource);
+    }
+
+    @VisibleForTesting
+    FileExports getExports(final IFile file) {
+        return filesExports.computeIfAbsent(file, f -> new FileExports(model.createSuiteFile(f)));
+    }
+
+    private Set<String> getProjectVariables(final IProject project) {
+        return projectsVariables.computeIfAbsent(project, p -> collectProjectVariables(model.createRobotProject(p)));
+    }
+
+    private static Set<String> collectProjectVariables(final RobotProject robotProject) {
+        final Set<String> variables = new HashSet<>();
+        for (final ReferencedVariableFile variableFile : robotProject.getVariablesFromReferencedFiles()) {
+            for (final String name : variableFile.getVariablesWithProperPrefixes().keySet()) {
+                variables.add(VariablesAnalyzer.normalizeName(name));
+            }
+        }
+        for (final GlobalVariable<?> variable : robotProject.getRobotProjectHolder().getGlobalVariables()) {
+            variables.add(VariablesAnalyzer.normalizeName(variable.getName()));
+        }
+        return variables;
+    }
+
+    static class FileExports {
+
+        private final List<IResource> resources;
+
+        // unified keyword name -> keywords defined in file
+        private final ListMultimap<String, KeywordEntity> keywords = ArrayListMultimap.create();
+
+        // unified keyword name -> keywords of libraries imported by file
+        private final ListMultimap<String, KeywordEntity> librariesKeywords = ArrayListMultimap.create();
+
+        private final Set<String> variables = new HashSet<>();
+
+        private FileExports(final RobotSuiteFile suiteFile) {
+            this.resources = suiteFile.getImportedResources();
+            collectKeywords(suiteFile);
+            collectLibrariesKeywords(suiteFile);
+            collectVariables(suiteFile);
+        }
+
+        private void collectKeywords(final RobotSuiteFile suiteFile) {
+            final Optional<RobotKeywordsSection> section = suiteFile.findSection(RobotKeywordsSection.class);
+            if (section.isPresent()) {
+                for (final RobotKeywordDefinition kwDefinition : section.get().getChildren()) {
+                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
+                            Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(),
+                            Optional.empty(), kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
+                            kwDefinition.getDefinitionPosition().getOffset(),
+                            kwDefinition.createArgumentsDescriptor());
+                    keywords.put(QualifiedKeywordName.unifyDefinition(kwDefinition.getName()), keyword);
+                }
+            }
+        }
+
+        private void collectLibrariesKeywords(final RobotSuiteFile suiteFile) {
+            final Multimap<LibrarySpecification, Optional<String>> importedLibs = suiteFile.getImportedLibraries();
+            for (final LibrarySpecification libSpec : importedLibs.keySet()) {
+                final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+                for (final KeywordSpecification kwSpec : libSpec.getKeywords()) {
+                    for (final Optional<String> libraryAlias : importedLibs.get(libSpec)) {
+                        final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope,
+                                libSpec.getName(), kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(),
+                                suiteFile.getFile().getFullPath(), 0, kwSpec.createArgumentsDescriptor());
+                        librariesKeywords.put(QualifiedKeywordName.unifyDefinition(kwSpec.getName()), keyword);
+                    }
+                }
+            }
+        }
+
+        private void collectVariables(final RobotSuiteFile suiteFile) {
+            final Optional<RobotVariablesSection> section = suiteFile.findSection(RobotVariablesSection.class);
+            if (section.isPresent()) {
+                for (final RobotVariable variable : section.get().getChildren()) {
+                    if (!variable.getName().isEmpty()) {
+                        variables.add(VariablesAnalyzer.normalizeName(variable.getActualName()));
+                    }
+                }
+            }
+            for (final VariablesFileImportReference reference : suiteFile.getVariablesFromLocalReferencedFiles()) {
+                for (final AVariableImported<?> variable : reference.getVariables()) {
+                    variables.add(VariablesAnalyzer.normalizeName(variable.getRobotRepresentation()));
+                }
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 
+import java.util.Optional;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -23,6 +25,7 @@ import org.robotframework.ide.eclipse.main.plugin.project.build.RobotArtifactsVa
 import org.robotframework.ide.eclipse.main.plugin.project.build.RobotProblem;
 import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationReportingStrategy;
 import org.robotframework.ide.eclipse.main.plugin.project.build.causes.SuiteFileProblem;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex;
 
 public abstract class RobotFileValidator implements ModelUnitValidator {
 
@@ -39,10 +42,18 @@ public abstract class RobotFileValidator implements ModelUnitValidator {
         this.reporter = reporter;
     }
 
+    @Override
+    public Optional<IFile> getValidatedFile() {
+        return Optional.of(file);
+    }
+
     @Override
     public final void validate(final IProgressMonitor monitor) throws CoreException {
         final RobotSuiteFile suiteFile = context.getModel().createSuiteFile(file);
         validate(suiteFile, monitor);
+        if (reporter.isReportingOnly()) {
+            SearchIndex.getInstance().indexIfOutdated(suiteFile);
+        }
     }
 
     public final void validate(final RobotSuiteFile suiteFile, final IProgressMonitor monitor) throws CoreException {
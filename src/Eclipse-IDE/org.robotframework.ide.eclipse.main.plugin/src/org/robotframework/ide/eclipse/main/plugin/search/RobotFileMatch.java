@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search;
+
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.search.ui.text.Match;
+import org.robotframework.ide.eclipse.main.plugin.search.index.IndexedOccurrence;
+
+public class RobotFileMatch extends Match implements DocumentationMatch {
+
+    private final IndexedOccurrence occurrence;
+
+    public RobotFileMatch(final IndexedOccurrence occurrence, final int offsetInTerm, final int length) {
+        super(occurrence.getFile(), UNIT_CHARACTER, occurrence.getOffset() + offsetInTerm, length);
+        this.occurrence = occurrence;
+    }
+
+    public IndexedOccurrence getOccurrence() {
+        return occurrence;
+    }
+
+    @Override
+    public StyledString getStyledLabel() {
+        return new MatchLabelCreator().create(occurrence.getTerm(),
+                new Position(getOffset() - occurrence.getOffset(), getLength()));
+    }
+}
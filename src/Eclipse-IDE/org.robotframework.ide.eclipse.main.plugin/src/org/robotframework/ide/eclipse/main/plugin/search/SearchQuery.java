@@ -51,6 +51,7 @@ public class SearchQuery implements ISearchQuery {
     @Override
     public IStatus run(final IProgressMonitor monitor) throws OperationCanceledException {
         monitor.setTaskName("Searching for '" + settings.getSearchPattern().getPattern() + "'");
+        result.removeAll();
         
         monitor.subTask("Collecting search targets");
         final SearchQueryTargets queryTargets = new SearchQueryTargets(model);
@@ -91,9 +92,7 @@ public class SearchQuery implements ISearchQuery {
 
     @Override
     public boolean canRerun() {
-        // TODO : this should be implemented properly; currently changing to true and running search
-        // again will cause multiplying same results
-        return false;
+        return true;
     }
 
     @Override
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.index;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
+
+/**
+ * Searchable terms found in single file, valid as long as the file has the same modification
+ * stamp as at the time it was indexed.
+ */
+public final class FileIndex {
+
+    private final IFile file;
+
+    private final long modificationStamp;
+
+    private final List<IndexedOccurrence> occurrences;
+
+    FileIndex(final IFile file, final long modificationStamp, final List<IndexedOccurrence> occurrences) {
+        this.file = file;
+        this.modificationStamp = modificationStamp;
+        this.occurrences = occurrences;
+    }
+
+    public IFile getFile() {
+        return file;
+    }
+
+    long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    public List<IndexedOccurrence> getOccurrences() {
+        return occurrences;
+    }
+
+    public List<IndexedOccurrence> getOccurrences(final Collection<Category> categories) {
+        return occurrences.stream()
+                .filter(occurrence -> categories.contains(occurrence.getCategory()))
+                .collect(toList());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.LocalSetting;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor.RowType;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.setting.SuiteDocumentation;
+import org.rf.ide.core.testdata.model.table.tasks.Task;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.model.table.variables.AVariable;
+import org.rf.ide.core.testdata.model.table.variables.descs.VariableUse;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
+
+/**
+ * Collects searchable terms of parsed file: names of test cases, tasks and keywords, called
+ * keywords, used and defined variables and documentation texts.
+ */
+class FileIndexBuilder {
+
+    private final IFile file;
+
+    private final List<IndexedOccurrence> occurrences = new ArrayList<>();
+
+    private FileIndexBuilder(final IFile file) {
+        this.file = file;
+    }
+
+    static FileIndex build(final RobotSuiteFile suiteFile, final long modificationStamp) {
+        final FileIndexBuilder builder = new FileIndexBuilder(suiteFile.getFile());
+        builder.collect(suiteFile.getLinkedElement());
+        return new FileIndex(suiteFile.getFile(), modificationStamp, builder.occurrences);
+    }
+
+    private void collect(final RobotFile model) {
+        for (final SuiteDocumentation documentation : model.getSettingTable().getDocumentation()) {
+            addAll(Category.DOCUMENTATION, documentation.getDocumentationText());
+        }
+        for (final AVariable variable : model.getVariableTable().getVariables()) {
+            add(Category.VARIABLE, variable.getDeclaration());
+        }
+        for (final TestCase test : model.getTestCaseTable().getTestCases()) {
+            add(Category.TEST_CASE, test.getName());
+            collectDocumentation(test.getDocumentation());
+            collectExecutables(test.getExecutionContext());
+        }
+        for (final Task task : model.getTasksTable().getTasks()) {
+            add(Category.TEST_CASE, task.getName());
+            collectDocumentation(task.getDocumentation());
+            collectExecutables(task.getExecutionContext());
+        }
+        for (final UserKeyword keyword : model.getKeywordTable().getKeywords()) {
+            add(Category.KEYWORD_DEFINITION, keyword.getName());
+            collectDocumentation(keyword.getDocumentation());
+            collectExecutables(keyword.getExecutionContext());
+        }
+    }
+
+    private void collectDocumentation(final List<? extends LocalSetting<?>> documentations) {
+        for (final LocalSetting<?> documentation : documentations) {
+            addAll(Category.DOCUMENTATION, documentation.getTokensWithoutDeclaration());
+        }
+    }
+
+    private void collectExecutables(final List<? extends RobotExecutableRow<?>> rows) {
+        for (final RobotExecutableRow<?> row : rows) {
+            final IExecutableRowDescriptor<?> description = row.buildLineDescription();
+            if (description.getRowType() == RowType.SIMPLE || description.getRowType() == RowType.FOR_CONTINUE) {
+                add(Category.KEYWORD_CALL, description.getKeywordAction());
+            }
+            for (final VariableUse variable : description.getCreatedVariables()) {
+                add(Category.VARIABLE, variable.asToken());
+            }
+            for (final VariableUse variable : description.getUsedVariables()) {
+                add(Category.VARIABLE, variable.asToken());
+            }
+        }
+    }
+
+    private void addAll(final Category category, final List<RobotToken> tokens) {
+        tokens.forEach(token -> add(category, token));
+    }
+
+    private void add(final Category category, final RobotToken token) {
+        if (token != null && !token.getText().isEmpty() && token.getStartOffset() >= 0) {
+            occurrences.add(new IndexedOccurrence(file, category, token.getText(), token.getStartOffset()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.index;
+
+import java.util.Objects;
+
+import org.eclipse.core.resources.IFile;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
+
+public final class IndexedOccurrence {
+
+    private final IFile file;
+
+    private final Category category;
+
+    private final String term;
+
+    private final int offset;
+
+    IndexedOccurrence(final IFile file, final Category category, final String term, final int offset) {
+        this.file = file;
+        this.category = category;
+        this.term = term;
+        this.offset = offset;
+    }
+
+    public IFile getFile() {
+        return file;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == IndexedOccurrence.class) {
+            final IndexedOccurrence that = (IndexedOccurrence) obj;
+            return this.file.equals(that.file) && this.category == that.category && this.term.equals(that.term)
+                    && this.offset == that.offset;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(file, category, term, offset);
+    }
+
+    @Override
+    public String toString() {
+        return category + " '" + term + "' at " + offset + " in " + file.getFullPath();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Inverted index of searchable terms of robot files in workspace. Files are indexed by the
+ * builder after being validated and by searches which had to scan files not indexed yet; index
+ * of file is used only as long as the file was not modified since then. Models parsed from editor
+ * content are indexed without being stored, as they may not describe the saved file, and index
+ * stamped with older modification is never stored over newer one. Queries first match the
+ * pattern against distinct terms and then visit only the files containing matching terms.
+ */
+public class SearchIndex {
+
+    private static class InstanceHolder {
+
+        private static final SearchIndex INSTANCE = new SearchIndex();
+    }
+
+    public static SearchIndex getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private final Map<IFile, FileIndex> filesIndexes = new HashMap<>();
+
+    // category -> term -> files containing the term
+    private final Map<Category, Map<String, Set<IFile>>> terms = new EnumMap<>(Category.class);
+
+    @VisibleForTesting
+    SearchIndex() {
+        for (final Category category : Category.values()) {
+            terms.put(category, new HashMap<>());
+        }
+    }
+
+    public FileIndex index(final RobotSuiteFile suiteFile) {
+        final IFile file = suiteFile.getFile();
+        final long modificationStamp = suiteFile.isParsedFromEditorContent() ? IResource.NULL_STAMP
+                : file.getModificationStamp();
+        final FileIndex fileIndex = FileIndexBuilder.build(suiteFile, modificationStamp);
+        if (modificationStamp == IResource.NULL_STAMP) {
+            return fileIndex;
+        }
+        synchronized (this) {
+            final FileIndex currentIndex = filesIndexes.get(file);
+            if (currentIndex != null && currentIndex.getModificationStamp() > modificationStamp) {
+                // file was indexed concurrently after being modified once again
+                return fileIndex;
+            }
+            removeTerms(file);
+            filesIndexes.put(file, fileIndex);
+            for (final IndexedOccurrence occurrence : fileIndex.getOccurrences()) {
+                terms.get(occurrence.getCategory())
+                        .computeIfAbsent(occurrence.getTerm(), term -> new HashSet<>())
+                        .add(file);
+            }
+        }
+        return fileIndex;
+    }
+
+    /**
+     * Indexes given file and stores its index, unless the model was parsed from editor content
+     * or the file is already indexed with current modification stamp. Those are checked before
+     * the index is built, so that validation does not build indexes which would be dropped.
+     *
+     * @param suiteFile
+     */
+    public void indexIfOutdated(final RobotSuiteFile suiteFile) {
+        if (suiteFile.isParsedFromEditorContent()) {
+            return;
+        }
+        final IFile file = suiteFile.getFile();
+        synchronized (this) {
+            final FileIndex currentIndex = filesIndexes.get(file);
+            if (currentIndex != null && currentIndex.getModificationStamp() >= file.getModificationStamp()) {
+                return;
+            }
+        }
+        index(suiteFile);
+    }
+
+    public synchronized void remove(final IFile file) {
+        removeTerms(file);
+        filesIndexes.remove(file);
+    }
+
+    public synchronized void removeProject(final IProject project) {
+        final List<IFile> files = new ArrayList<>();
+        for (final IFile file : filesIndexes.keySet()) {
+            if (project.equals(file.getProject())) {
+                files.add(file);
+            }
+        }
+        files.forEach(this::remove);
+    }
+
+    public synchronized void clear() {
+        filesIndexes.clear();
+        terms.values().forEach(Map::clear);
+    }
+
+    private void removeTerms(final IFile file) {
+        final FileIndex oldIndex = filesIndexes.get(file);
+        if (oldIndex != null) {
+            for (final IndexedOccurrence occurrence : oldIndex.getOccurrences()) {
+                final Map<String, Set<IFile>> categoryTerms = terms.get(occurrence.getCategory());
+                final Set<IFile> files = categoryTerms.get(occurrence.getTerm());
+                if (files != null) {
+                    files.remove(file);
+                    if (files.isEmpty()) {
+                        categoryTerms.remove(occurrence.getTerm());
+                    }
+                }
+            }
+        }
+    }
+
+    public synchronized Optional<FileIndex> getUpToDateIndex(final IFile file) {
+        final FileIndex fileIndex = filesIndexes.get(file);
+        if (fileIndex != null && file.exists() && fileIndex.getModificationStamp() == file.getModificationStamp()) {
+            return Optional.of(fileIndex);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds occurrences of terms from given categories which contain given pattern, limiting the
+     * search to given files. The files are expected to have up-to-date indexes.
+     *
+     * @param categories
+     * @param pattern
+     * @param files
+     * @return
+     */
+    public synchronized List<IndexedOccurrence> find(final Collection<Category> categories, final Pattern pattern,
+            final Set<IFile> files) {
+        final List<IndexedOccurrence> found = new ArrayList<>();
+        for (final Category category : categories) {
+            final Set<String> matchingTerms = new HashSet<>();
+            final Set<IFile> matchingFiles = new HashSet<>();
+            for (final Entry<String, Set<IFile>> entry : terms.get(category).entrySet()) {
+                if (pattern.matcher(entry.getKey()).find()) {
+                    matchingTerms.add(entry.getKey());
+                    entry.getValue().stream().filter(files::contains).forEach(matchingFiles::add);
+                }
+            }
+            for (final IFile file : matchingFiles) {
+                for (final IndexedOccurrence occurrence : filesIndexes.get(file).getOccurrences()) {
+                    if (occurrence.getCategory() == category && matchingTerms.contains(occurrence.getTerm())) {
+                        found.add(occurrence);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    public enum Category {
+        KEYWORD_DEFINITION,
+        KEYWORD_CALL,
+        VARIABLE,
+        TEST_CASE,
+        DOCUMENTATION
+    }
+}
@@ -5,6 +5,8 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.search.participants;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,6 +19,7 @@ import org.robotframework.ide.eclipse.main.plugin.search.KeywordDocumentationMat
 import org.robotframework.ide.eclipse.main.plugin.search.LibraryDocumentationMatch;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
 
 /**
  * @author Michal Anglart
@@ -28,6 +31,11 @@ public class DocumentationSearch extends TargetedSearch {
         super(searchPattern, model, result);
     }
 
+    @Override
+    protected Set<Category> getIndexedCategories() {
+        return EnumSet.of(Category.DOCUMENTATION);
+    }
+
     @Override
     protected void locateMatchesInLibrarySpecification(final IProject project,
             final LibrarySpecification librarySpecification) {
@@ -54,15 +62,6 @@ public class DocumentationSearch extends TargetedSearch {
 
     @Override
     protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // final Optional<RobotKeywordsSection> kwSection =
-        // robotSuiteFile.findSection(RobotKeywordsSection.class);
-        // if (kwSection.isPresent()) {
-        // for (final RobotKeywordDefinition keywordDefinition : kwSection.get().getChildren()) {
-        // final RobotDefinitionSetting docSetting = keywordDefinition.getDocumentationSetting();
-        // if (docSetting != null) {
-        // result.addMatch(new FileMatch(robotSuiteFile.getFile()));
-        // }
-        // }
-        // }
+        locateMatchesUsingIndex(robotSuiteFile);
     }
 }
@@ -5,6 +5,9 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.search.participants;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
@@ -12,6 +15,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
 
 /**
  * @author Michal Anglart
@@ -23,6 +27,11 @@ public class KeywordSearch extends TargetedSearch {
         super(searchPattern, model, result);
     }
 
+    @Override
+    protected Set<Category> getIndexedCategories() {
+        return EnumSet.of(Category.KEYWORD_DEFINITION, Category.KEYWORD_CALL);
+    }
+
     @Override
     protected void locateMatchesInLibrarySpecification(final IProject project,
             final LibrarySpecification librarySpecification) {
@@ -37,6 +46,6 @@ public class KeywordSearch extends TargetedSearch {
 
     @Override
     protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // TODO : implement
+        locateMatchesUsingIndex(robotSuiteFile);
     }
 }
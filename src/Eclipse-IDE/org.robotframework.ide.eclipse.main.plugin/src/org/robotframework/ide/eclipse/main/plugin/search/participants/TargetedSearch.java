@@ -5,7 +5,15 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.search.participants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -15,9 +23,16 @@ import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationScheduler;
+import org.robotframework.ide.eclipse.main.plugin.search.RobotFileMatch;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+import org.robotframework.ide.eclipse.main.plugin.search.index.FileIndex;
+import org.robotframework.ide.eclipse.main.plugin.search.index.IndexedOccurrence;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex;
+import org.robotframework.ide.eclipse.main.plugin.search.index.SearchIndex.Category;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Multimap;
 
 /**
@@ -32,10 +47,19 @@ public abstract class TargetedSearch {
 
     protected final SearchPattern searchPattern;
 
+    protected final SearchIndex index;
+
     TargetedSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result) {
+        this(searchPattern, model, result, SearchIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    TargetedSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final SearchIndex index) {
         this.searchPattern = searchPattern;
         this.model = model;
         this.result = result;
+        this.index = index;
     }
 
     public final void run(final IProgressMonitor monitor, final Multimap<IProject, LibrarySpecification> libraries,
@@ -62,12 +86,68 @@ public abstract class TargetedSearch {
             }
         }
 
+        final Set<Category> categories = getIndexedCategories();
+        final Set<IFile> indexedFiles = new HashSet<>();
+        final List<IFile> notIndexedFiles = new ArrayList<>();
         for (final IFile file : files) {
             if (monitor.isCanceled()) {
                 throw new OperationCanceledException();
             }
-            locateMatchesInRobotFile(model.createSuiteFile(file));
-            monitor.worked(1);
+            if (!categories.isEmpty() && index.getUpToDateIndex(file).isPresent()) {
+                indexedFiles.add(file);
+            } else {
+                notIndexedFiles.add(file);
+            }
+        }
+
+        if (!indexedFiles.isEmpty()) {
+            monitor.subTask("locating matches in indexed files");
+            locateMatches(index.find(categories, searchPattern.buildPattern(), indexedFiles));
+            monitor.worked(indexedFiles.size());
+        }
+
+        // files which were not indexed by the builder yet have to be parsed; parallel stream
+        // started inside of validation pool task runs in that pool instead of the common one
+        ValidationScheduler.getSharedPool().invoke(ForkJoinTask.adapt(() -> notIndexedFiles.parallelStream()
+                .forEach(file -> {
+                    if (monitor.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                    locateMatchesInRobotFile(model.createSuiteFile(file));
+                    synchronized (monitor) {
+                        monitor.worked(1);
+                    }
+                })));
+    }
+
+    /**
+     * Categories of indexed terms in which this search looks for the pattern. When no categories
+     * are given then all the files are always parsed and passed to
+     * {@link #locateMatchesInRobotFile(RobotSuiteFile)}.
+     *
+     * @return
+     */
+    protected Set<Category> getIndexedCategories() {
+        return EnumSet.noneOf(Category.class);
+    }
+
+    /**
+     * Indexes given file and reports matches of indexed terms from categories of this search.
+     *
+     * @param robotSuiteFile
+     */
+    protected final void locateMatchesUsingIndex(final RobotSuiteFile robotSuiteFile) {
+        final FileIndex fileIndex = index.index(robotSuiteFile);
+        locateMatches(fileIndex.getOccurrences(getIndexedCategories()));
+    }
+
+    private void locateMatches(final Collection<IndexedOccurrence> occurrences) {
+        final Pattern pattern = searchPattern.buildPattern();
+        for (final IndexedOccurrence occurrence : occurrences) {
+            final Matcher matcher = pattern.matcher(occurrence.getTerm());
+            while (matcher.find()) {
+                result.addMatch(new RobotFileMatch(occurrence, matcher.start(), matcher.end() - matcher.start()));
+            }
         }
     }
 
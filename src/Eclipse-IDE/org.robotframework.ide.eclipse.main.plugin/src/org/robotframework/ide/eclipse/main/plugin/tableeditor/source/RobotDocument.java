@@ -47,6 +47,8 @@ public class RobotDocument extends Document {
 
     private RobotFileOutput output;
 
+    private String parsedContent;
+
     private final List<IRobotDocumentParsingListener> parseListeners = new ArrayList<>();
     private ScheduledFuture<?> scheduledOperation;
 
@@ -125,13 +127,35 @@ public class RobotDocument extends Document {
     }
 
     private synchronized void reparse() {
-        output = parser.parseEditorContent(get(), file);
+        final String content = get();
+        // outputs are parsed with all their lines kept, so that next edits are reparsed incrementally
+        output = output == null || parsedContent == null
+                ? parser.parseEditorContent(null, content, file, 0, 0, content.length())
+                : reparseChangedRegion(content);
+        parsedContent = content;
         for (final IRobotDocumentParsingListener listener : parseListeners) {
             listener.reparsingFinished(output);
         }
         hasNewestVersion.set(true);
     }
 
+    private RobotFileOutput reparseChangedRegion(final String content) {
+        // the region is computed from contents, so edits coalesced by delayed reparsing are handled too
+        final int maxPrefix = Math.min(parsedContent.length(), content.length());
+        int prefix = 0;
+        while (prefix < maxPrefix && parsedContent.charAt(prefix) == content.charAt(prefix)) {
+            prefix++;
+        }
+        final int maxSuffix = maxPrefix - prefix;
+        int suffix = 0;
+        while (suffix < maxSuffix && parsedContent.charAt(parsedContent.length() - 1 - suffix) == content
+                .charAt(content.length() - 1 - suffix)) {
+            suffix++;
+        }
+        return parser.parseEditorContent(output, content, file, prefix, parsedContent.length() - prefix - suffix,
+                content.length() - prefix - suffix);
+    }
+
     private void reparseInSeparateThread() {
         if (scheduledOperation != null) {
             scheduledOperation.cancel(true);
@@ -6,11 +6,13 @@
 package org.robotframework.ide.eclipse.main.plugin.views.debugshell;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.ExpressionEvaluatedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent;
 import org.robotframework.ide.eclipse.main.plugin.launch.RobotTestExecutionService.RobotTestsLaunch;
 
-public class ExpressionEvaluationTracker extends RobotDefaultAgentEventListener {
+public class ExpressionEvaluationTracker extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener {
 
     private final RobotTestsLaunch testsLaunchContext;
 
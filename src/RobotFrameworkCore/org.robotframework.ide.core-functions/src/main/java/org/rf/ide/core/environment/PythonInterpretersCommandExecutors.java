@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
@@ -32,6 +33,12 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
 
     private final Map<String, RobotCommandRpcExecutor> executors = new HashMap<>();
 
+    private final Map<String, RobotCommandExecutorsPool> libdocExecutorsPools = new HashMap<>();
+
+    private int libdocExecutorsPoolSize = 1;
+
+    private int libdocTimeoutInSeconds = 0;
+
     private final List<PythonProcessListener> processListeners = new ArrayList<>();
 
     private PythonInterpretersCommandExecutors() {
@@ -51,10 +58,20 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         processListeners.remove(listener);
     }
 
+    synchronized void configureLibdocExecutors(final int poolSize, final int timeoutInSeconds) {
+        libdocExecutorsPoolSize = poolSize;
+        libdocTimeoutInSeconds = timeoutInSeconds;
+        libdocExecutorsPools.values().forEach(pool -> pool.configure(poolSize, timeoutInSeconds));
+    }
+
     @Override
     public synchronized void resetExecutorFor(final PythonInstallationDirectory location) {
         final String interpreterPath = location.getInterpreterPath();
         final RobotCommandRpcExecutor executor = executors.remove(interpreterPath);
+        final RobotCommandExecutorsPool pool = libdocExecutorsPools.remove(interpreterPath);
+        if (pool != null) {
+            pool.shutdown();
+        }
         if (executor != null) {
             executor.kill();
         }
@@ -74,6 +91,19 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         return executor;
     }
 
+    @Override
+    public void executeLibdocCommand(final PythonInstallationDirectory location,
+            final Consumer<RobotCommandExecutor> command) {
+        // pool is not used under lock, since commands are executed concurrently
+        getLibdocExecutorsPool(location).execute(command);
+    }
+
+    private synchronized RobotCommandExecutorsPool getLibdocExecutorsPool(final PythonInstallationDirectory location) {
+        return libdocExecutorsPools.computeIfAbsent(location.getInterpreterPath(),
+                path -> new RobotCommandExecutorsPool(() -> createExecutor(location), libdocExecutorsPoolSize,
+                        libdocTimeoutInSeconds));
+    }
+
     private RobotCommandRpcExecutor createExecutor(final PythonInstallationDirectory location) {
         if (RedSystemProperties.shouldConnectToRunningServer()) {
             return new ExternalRobotCommandRpcExecutor(location.getInterpreter(),
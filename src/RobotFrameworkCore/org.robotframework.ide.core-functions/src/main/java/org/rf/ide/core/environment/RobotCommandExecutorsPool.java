@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.environment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Pool of session servers of single interpreter. Each command is executed by separate server
+ * taken from the pool, so at most {@code size} commands are executed concurrently; other commands
+ * wait until some server is given back. Servers executing commands for longer than configured
+ * timeout are killed and replaced by new ones when needed. Servers which were not used for
+ * longer than idle timeout are killed too, so that the pool does not keep interpreter processes
+ * running after libraries were generated.
+ */
+class RobotCommandExecutorsPool {
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "RED session servers watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final long IDLE_TIMEOUT_IN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Supplier<RobotCommandRpcExecutor> executorsFactory;
+
+    private final Deque<RobotCommandRpcExecutor> idleExecutors = new ArrayDeque<>();
+
+    private final Set<RobotCommandRpcExecutor> busyExecutors = new HashSet<>();
+
+    // idle executor -> time in nanoseconds since when it is idle
+    private final Map<RobotCommandRpcExecutor, Long> idleSince = new HashMap<>();
+
+    private final long idleTimeoutInMillis;
+
+    private ScheduledFuture<?> idleExecutorsCheck;
+
+    private int startingExecutors = 0;
+
+    private int size;
+
+    private int timeoutInSeconds;
+
+    RobotCommandExecutorsPool(final Supplier<RobotCommandRpcExecutor> executorsFactory, final int size,
+            final int timeoutInSeconds) {
+        this(executorsFactory, size, timeoutInSeconds, IDLE_TIMEOUT_IN_MILLIS);
+    }
+
+    @VisibleForTesting
+    RobotCommandExecutorsPool(final Supplier<RobotCommandRpcExecutor> executorsFactory, final int size,
+            final int timeoutInSeconds, final long idleTimeoutInMillis) {
+        this.executorsFactory = executorsFactory;
+        this.size = Math.max(1, size);
+        this.timeoutInSeconds = timeoutInSeconds;
+        this.idleTimeoutInMillis = idleTimeoutInMillis;
+    }
+
+    /**
+     * Changes size of the pool and timeout of commands executed afterwards. Idle servers exceeding
+     * new size are killed immediately, busy ones are killed when given back.
+     *
+     * @param size
+     * @param timeoutInSeconds
+     *            maximal time of single command execution, 0 means no timeout
+     */
+    synchronized void configure(final int size, final int timeoutInSeconds) {
+        this.size = Math.max(1, size);
+        this.timeoutInSeconds = timeoutInSeconds;
+        while (countExecutors() > this.size && !idleExecutors.isEmpty()) {
+            killIdle(idleExecutors.pollLast());
+        }
+        notifyAll();
+    }
+
+    void execute(final Consumer<RobotCommandExecutor> command) {
+        final RobotCommandRpcExecutor executor = borrowExecutor();
+        final int timeout = getTimeout();
+        final AtomicBoolean timedOut = new AtomicBoolean(false);
+        final ScheduledFuture<?> watchdog = timeout > 0 ? WATCHDOG.schedule(() -> {
+            timedOut.set(true);
+            killQuietly(executor);
+        }, timeout, TimeUnit.SECONDS) : null;
+
+        try {
+            command.accept(executor);
+        } catch (final RuntimeException e) {
+            if (timedOut.get()) {
+                throw new RuntimeEnvironmentException(
+                        "Session server was killed, because command was not finished in " + timeout + " seconds", e);
+            }
+            throw e;
+        } finally {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+            }
+            giveBack(executor);
+        }
+    }
+
+    private synchronized int getTimeout() {
+        return timeoutInSeconds;
+    }
+
+    private RobotCommandRpcExecutor borrowExecutor() {
+        final RobotCommandRpcExecutor idleExecutor = takeIdleOrReserve();
+        if (idleExecutor != null) {
+            idleExecutor.initialize();
+            return idleExecutor;
+        }
+
+        RobotCommandRpcExecutor startedExecutor = null;
+        try {
+            final RobotCommandRpcExecutor executor = executorsFactory.get();
+            executor.initialize();
+            executor.establishConnection();
+            startedExecutor = executor;
+            return executor;
+        } finally {
+            started(startedExecutor);
+        }
+    }
+
+    private synchronized RobotCommandRpcExecutor takeIdleOrReserve() {
+        while (true) {
+            while (!idleExecutors.isEmpty()) {
+                final RobotCommandRpcExecutor executor = idleExecutors.pollFirst();
+                idleSince.remove(executor);
+                if (executor.isAlive()) {
+                    busyExecutors.add(executor);
+                    return executor;
+                }
+            }
+            if (countExecutors() < size) {
+                startingExecutors++;
+                return null;
+            }
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeEnvironmentException("Interrupted while waiting for session server", e);
+            }
+        }
+    }
+
+    private synchronized void started(final RobotCommandRpcExecutor executor) {
+        startingExecutors--;
+        if (executor != null) {
+            busyExecutors.add(executor);
+        }
+        notifyAll();
+    }
+
+    private synchronized void giveBack(final RobotCommandRpcExecutor executor) {
+        if (busyExecutors.remove(executor)) {
+            if (executor.isAlive() && countExecutors() < size) {
+                idleExecutors.addFirst(executor);
+                idleSince.put(executor, System.nanoTime());
+                scheduleIdleExecutorsCheck();
+            } else {
+                killQuietly(executor);
+            }
+        }
+        notifyAll();
+    }
+
+    private void scheduleIdleExecutorsCheck() {
+        if (idleExecutorsCheck == null && !idleExecutors.isEmpty()) {
+            // executors are taken from the head, so the one idle for the longest time is the last
+            final long idleForMillis = TimeUnit.NANOSECONDS
+                    .toMillis(System.nanoTime() - idleSince.get(idleExecutors.peekLast()));
+            idleExecutorsCheck = WATCHDOG.schedule(this::killIdleExecutors,
+                    Math.max(0, idleTimeoutInMillis - idleForMillis), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void killIdleExecutors() {
+        idleExecutorsCheck = null;
+        final long now = System.nanoTime();
+        while (!idleExecutors.isEmpty() && TimeUnit.NANOSECONDS
+                .toMillis(now - idleSince.get(idleExecutors.peekLast())) >= idleTimeoutInMillis) {
+            killIdle(idleExecutors.pollLast());
+        }
+        scheduleIdleExecutorsCheck();
+    }
+
+    private void killIdle(final RobotCommandRpcExecutor executor) {
+        idleSince.remove(executor);
+        killQuietly(executor);
+    }
+
+    /**
+     * Kills all servers of this pool, including those executing commands currently.
+     */
+    synchronized void shutdown() {
+        final List<RobotCommandRpcExecutor> executors = new ArrayList<>(idleExecutors);
+        executors.addAll(busyExecutors);
+        idleExecutors.clear();
+        idleSince.clear();
+        busyExecutors.clear();
+        if (idleExecutorsCheck != null) {
+            idleExecutorsCheck.cancel(false);
+            idleExecutorsCheck = null;
+        }
+        executors.forEach(RobotCommandExecutorsPool::killQuietly);
+        notifyAll();
+    }
+
+    @VisibleForTesting
+    synchronized int countExecutors() {
+        return idleExecutors.size() + busyExecutors.size() + startingExecutors;
+    }
+
+    private static void killQuietly(final RobotCommandRpcExecutor executor) {
+        try {
+            executor.kill();
+        } catch (final RuntimeException e) {
+            // nothing to do, the server is not used anymore
+        }
+    }
+}
@@ -47,6 +47,7 @@ import org.rf.ide.core.rflint.RfLintViolationSeverity;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
@@ -61,7 +62,9 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
 
     private final int timeoutInMillis;
 
-    private XmlRpcClient client;
+    private volatile XmlRpcClient client;
+
+    private volatile boolean connected = false;
 
     RobotCommandRpcExecutor(final SuiteExecutor interpreterType) {
         this(interpreterType, 30, TimeUnit.SECONDS);
@@ -80,6 +83,14 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
 
     abstract void kill();
 
+    /**
+     * Tells whether the server is able to write files into local file system, so that libdocs
+     * can be written directly into output files instead of being transferred in responses.
+     *
+     * @return
+     */
+    abstract boolean sharesLocalFileSystem();
+
     SuiteExecutor getType() {
         return interpreterType;
     }
@@ -93,6 +104,18 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
         waitForConnectionToServer(interpreterPath);
     }
 
+    boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Drops connection to the server, so that following calls fail instead of being sent to it.
+     */
+    void disconnect() {
+        connected = false;
+        client = null;
+    }
+
     private XmlRpcClient createClient(final URL serverUrl) {
         final XmlRpcClientConfigImpl config = new XmlRpcClientConfigImpl();
         config.setServerURL(serverUrl);
@@ -112,6 +135,7 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
         while (true) {
             try {
                 callRpcFunction("checkServerAvailability", interpreterPath);
+                connected = true;
                 break;
             } catch (final XmlRpcException e) {
                 try {
@@ -213,6 +237,13 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
     public void createLibdoc(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) {
         try {
+            if (sharesLocalFileSystem()) {
+                final Object writtenSize = callRpcFunction("createLibdoc", libName, format.name().toLowerCase(),
+                        additionalPaths.getExtendedPythonPaths(interpreterType), additionalPaths.getClassPaths(),
+                        outputFile.getAbsolutePath());
+                verifyWrittenLibdoc(outputFile, writtenSize);
+                return;
+            }
             final String base64EncodedLibFileContent = (String) callRpcFunction("createLibdoc", libName,
                     format.name().toLowerCase(), additionalPaths.getExtendedPythonPaths(interpreterType),
                     additionalPaths.getClassPaths());
@@ -229,6 +260,13 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
     public void createLibdocInSeparateProcess(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths, final int timeout) {
         try {
+            if (sharesLocalFileSystem()) {
+                final Object writtenSize = callRpcFunction("createLibdocInSeparateProcess", libName,
+                        format.name().toLowerCase(), additionalPaths.getExtendedPythonPaths(interpreterType),
+                        additionalPaths.getClassPaths(), timeout, outputFile.getAbsolutePath());
+                verifyWrittenLibdoc(outputFile, writtenSize);
+                return;
+            }
             final String base64EncodedLibFileContent = (String) callRpcFunction("createLibdocInSeparateProcess",
                     libName, format.name().toLowerCase(), additionalPaths.getExtendedPythonPaths(interpreterType),
                     additionalPaths.getClassPaths(), timeout);
@@ -243,6 +281,24 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
         }
     }
 
+    @VisibleForTesting
+    static void verifyWrittenLibdoc(final File outputFile, final Object writtenSize) throws IOException {
+        // server reports the size of file it has written
+        final long expectedSize;
+        try {
+            expectedSize = Long.parseLong(String.valueOf(writtenSize).trim());
+        } catch (final NumberFormatException e) {
+            throw new IOException("Unexpected size of library specification file: '" + writtenSize + "'", e);
+        }
+        if (!outputFile.isFile()) {
+            throw new IOException(
+                    "Library specification file '" + outputFile.getAbsolutePath() + "' was not written");
+        } else if (outputFile.length() != expectedSize) {
+            throw new IOException("Library specification file '" + outputFile.getAbsolutePath()
+                    + "' has size different than written (" + outputFile.length() + " != " + expectedSize + ")");
+        }
+    }
+
     private static void writeBase64EncodedLibdoc(final File outputFile, final String encodedFileContent)
             throws IOException {
         final File libspecFolder = outputFile.getParentFile();
@@ -409,7 +465,11 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
     }
 
     private Object callRpcFunction(final String functionName, final Object... arguments) throws XmlRpcException {
-        final Object rpcResult = client.execute(functionName, arguments);
+        final XmlRpcClient currentClient = client;
+        if (currentClient == null) {
+            throw new XmlRpcException("Connection to XML-RPC server is closed");
+        }
+        final Object rpcResult = currentClient.execute(functionName, arguments);
         return resultOrException(rpcResult);
     }
 
@@ -492,6 +552,11 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
             return server.isAlive();
         }
 
+        @Override
+        boolean sharesLocalFileSystem() {
+            return true;
+        }
+
         @Override
         void kill() {
             if (isAlive()) {
@@ -672,14 +737,20 @@ abstract class RobotCommandRpcExecutor implements RobotCommandExecutor {
 
         @Override
         boolean isAlive() {
-            return true;
+            return isConnected();
         }
 
         @Override
-        void kill() {
-            // nothing to do
+        boolean sharesLocalFileSystem() {
+            // server started outside of RED may be running on other machine
+            return false;
         }
 
+        @Override
+        void kill() {
+            // server started outside of RED is not stopped, only this executor stops using it
+            disconnect();
+        }
     }
 
     private static class XmlRpcTypeFactoryWithNil extends TypeFactoryImpl {
@@ -5,6 +5,8 @@
 */
 package org.rf.ide.core.environment;
 
+import java.util.function.Consumer;
+
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
 
 public interface RobotCommandsExecutors {
@@ -13,4 +15,6 @@ public interface RobotCommandsExecutors {
 
     void resetExecutorFor(PythonInstallationDirectory location);
 
+    void executeLibdocCommand(PythonInstallationDirectory location, Consumer<RobotCommandExecutor> command);
+
 }
@@ -38,6 +38,20 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
         PythonInterpretersCommandExecutors.getInstance().removeProcessListener(listener);
     }
 
+    /**
+     * Configures pools of session servers used for libdoc generation. Each interpreter has its
+     * own pool, so libdocs of different libraries can be generated concurrently.
+     *
+     * @param poolSize
+     *            maximal number of session servers generating libdocs for single interpreter
+     * @param timeoutInSeconds
+     *            time after which session server generating libdoc of single library is killed, 0
+     *            means no timeout
+     */
+    public static void configureLibdocGeneration(final int poolSize, final int timeoutInSeconds) {
+        PythonInterpretersCommandExecutors.getInstance().configureLibdocExecutors(poolSize, timeoutInSeconds);
+    }
+
     public RobotRuntimeEnvironment(final PythonInstallationDirectory location, final String version) {
         this(PythonInterpretersCommandExecutors.getInstance(), location, version);
     }
@@ -113,15 +127,15 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
     @Override
     public void createLibdoc(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdoc(libName, outputFile, format, additionalPaths);
+        executors.executeLibdocCommand(location,
+                executor -> executor.createLibdoc(libName, outputFile, format, additionalPaths));
     }
 
     @Override
     public void createLibdocInSeparateProcess(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths, final int timeout) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdocInSeparateProcess(libName, outputFile, format, additionalPaths, timeout);
+        executors.executeLibdocCommand(location, executor -> executor.createLibdocInSeparateProcess(libName,
+                outputFile, format, additionalPaths, timeout));
     }
 
     @Override
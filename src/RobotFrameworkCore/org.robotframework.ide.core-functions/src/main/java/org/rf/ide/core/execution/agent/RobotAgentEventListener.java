@@ -21,6 +21,7 @@ import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
 import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
 import org.rf.ide.core.execution.agent.event.TestEndedEvent;
 import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
@@ -70,6 +71,8 @@ public interface RobotAgentEventListener {
 
     void handleExpressionEvaluated(ExpressionEvaluatedEvent event);
 
+    void handleVariableItems(VariableItemsEvent event);
+
     void handlePaused(PausedEvent event);
 
     void handleResumed();
@@ -21,6 +21,7 @@ import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
 import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
 import org.rf.ide.core.execution.agent.event.TestEndedEvent;
 import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
@@ -136,6 +137,11 @@ public abstract class RobotDefaultAgentEventListener implements RobotAgentEventL
         // implement in subclasses
     }
 
+    @Override
+    public void handleVariableItems(final VariableItemsEvent event) {
+        // implement in subclasses
+    }
+
     @Override
     public void handlePaused(final PausedEvent event) {
         // implement in subclasses
@@ -0,0 +1,15 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent;
+
+/**
+ * Marks listeners which have to be notified on the thread reading agent events even when
+ * events are dispatched asynchronously: listeners responding to the agent, controlling
+ * pause/resume of execution or deciding whether events should still be processed.
+ */
+public interface SynchronousAgentEventListener extends RobotAgentEventListener {
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.google.common.base.Objects;
+
+public final class VariableItemsEvent {
+
+    public static VariableItemsEvent from(final Map<String, Object> eventMap) {
+        final List<?> arguments = (List<?>) eventMap.get("variable_items");
+        final Map<String, Object> result = Events.ensureOrderedMapOfStringsToObjects((Map<?, ?>) arguments.get(0));
+        final String name = (String) result.get("name");
+        final Integer level = (Integer) result.get("level");
+        final List<?> path = (List<?>) result.get("path");
+        final Integer offset = (Integer) result.get("offset");
+        final Number length = (Number) result.get("length");
+        final List<?> items = (List<?>) result.get("items");
+        final String error = (String) result.get("error");
+
+        if (name == null || level == null || path == null || offset == null || length == null
+                || items == null && error == null) {
+            throw new IllegalArgumentException("Variable items event should have variable name, frame level, path, "
+                    + "offset and length and either the items or error message");
+        }
+        return new VariableItemsEvent(name, level.intValue(), new ArrayList<>(path), offset.intValue(),
+                length.intValue(), items == null ? null : extractItems(items), error);
+    }
+
+    // items are sent as [index or key, [type, value]] pairs
+    private static Map<Object, VariableTypedValue> extractItems(final List<?> items) {
+        final Map<Object, VariableTypedValue> typedItems = new LinkedHashMap<>();
+        for (final Object item : items) {
+            final List<?> indexAndValue = (List<?>) item;
+            typedItems.put(indexAndValue.get(0),
+                    VariablesEvent.reconstructTypesAndValues((List<?>) indexAndValue.get(1)));
+        }
+        return typedItems;
+    }
+
+    private final String variableName;
+
+    private final int frameLevel;
+
+    private final List<Object> path;
+
+    private final int offset;
+
+    private final int length;
+
+    private final Map<Object, VariableTypedValue> items;
+
+    private final String error;
+
+    public VariableItemsEvent(final String variableName, final int frameLevel, final List<Object> path,
+            final int offset, final int length, final Map<Object, VariableTypedValue> items, final String error) {
+        this.variableName = variableName;
+        this.frameLevel = frameLevel;
+        this.path = path;
+        this.offset = offset;
+        this.length = length;
+        this.items = items;
+        this.error = error;
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    public int getFrameLevel() {
+        return frameLevel;
+    }
+
+    public List<Object> getPath() {
+        return path;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public Optional<Map<Object, VariableTypedValue>> getItems() {
+        return Optional.ofNullable(items);
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == VariableItemsEvent.class) {
+            final VariableItemsEvent that = (VariableItemsEvent) obj;
+            return this.variableName.equals(that.variableName) && this.frameLevel == that.frameLevel
+                    && this.path.equals(that.path) && this.offset == that.offset && this.length == that.length
+                    && Objects.equal(this.items, that.items) && Objects.equal(this.error, that.error);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(variableName, frameLevel, path, offset, length, items, error);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent.event;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.google.common.base.Objects;
+
+/**
+ * Value of list, tuple or dictionary which has too many items to be sent by agent together with
+ * variables. Only the number of items and preview of first few of them are sent, while the
+ * items themselves have to be requested in pages.
+ */
+public final class VariableItemsSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static VariableItemsSummary from(final Map<?, ?> itemsInfo, final String preview) {
+        final Number length = (Number) itemsInfo.get("length");
+        final String kind = (String) itemsInfo.get("kind");
+
+        if (length == null || kind == null) {
+            throw new IllegalArgumentException("Summary of variable value should have number and kind of items");
+        }
+        return new VariableItemsSummary("dict".equals(kind), length.intValue(), preview);
+    }
+
+    private final boolean isDictionary;
+
+    private final int length;
+
+    private final String preview;
+
+    public VariableItemsSummary(final boolean isDictionary, final int length, final String preview) {
+        this.isDictionary = isDictionary;
+        this.length = length;
+        this.preview = preview;
+    }
+
+    public boolean isDictionary() {
+        return isDictionary;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public String getPreview() {
+        return preview;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj != null && obj.getClass() == VariableItemsSummary.class) {
+            final VariableItemsSummary that = (VariableItemsSummary) obj;
+            return this.isDictionary == that.isDictionary && this.length == that.length
+                    && Objects.equal(this.preview, that.preview);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(isDictionary, length, preview);
+    }
+
+    @Override
+    public String toString() {
+        return preview;
+    }
+}
@@ -6,11 +6,15 @@
 package org.rf.ide.core.execution.agent.event;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableScope;
 
@@ -19,38 +23,101 @@ import com.google.common.base.Objects;
 public final class VariablesEvent {
 
     public static VariablesEvent from(final Map<String, Object> eventMap) {
+        return from(eventMap, new ArrayList<>());
+    }
+
+    /**
+     * Creates event from the message which may contain only changes of scopes since previous
+     * variables event. Such scopes are reconstructed from given variables of previous event, which
+     * are aligned with current ones starting from global scope. Unchanged variables share the
+     * values with previous event.
+     *
+     * @param eventMap
+     * @param previousVariables
+     * @return
+     */
+    public static VariablesEvent from(final Map<String, Object> eventMap,
+            final List<Map<Variable, VariableTypedValue>> previousVariables) {
         final Map<?, ?> arguments = (Map<?, ?>) ((List<?>) eventMap.get("variables")).get(0);
         final List<?> varScopes = (List<?>) arguments.get("var_scopes");
+        final List<?> removedVars = (List<?>) arguments.get("removed_vars");
         final String error = (String) arguments.get("error");
 
         if (varScopes == null) {
             throw new IllegalArgumentException("Variables events should have scopes provided");
         }
-        return new VariablesEvent(extractVariableScopes(varScopes), error);
+        if (removedVars != null && removedVars.size() != varScopes.size()) {
+            throw new IllegalArgumentException(
+                    "Variables events should have removed variables provided for each scope");
+        }
+        return new VariablesEvent(extractVariableScopes(varScopes, removedVars, previousVariables), error);
     }
 
-    private static List<Map<Variable, VariableTypedValue>> extractVariableScopes(final List<?> arguments) {
+    private static List<Map<Variable, VariableTypedValue>> extractVariableScopes(final List<?> arguments,
+            final List<?> removedVars, final List<Map<Variable, VariableTypedValue>> previousVariables) {
         final List<Map<String, Object>> vars = Events.ensureListOfOrderedMapOfStringsToObjects(arguments);
 
         final List<Map<Variable, VariableTypedValue>> typedVars = new ArrayList<>();
-        for (final Map<String, Object> frame : vars) {
-            final Map<Variable, VariableTypedValue> typedScope = new LinkedHashMap<>();
+        for (int i = 0; i < vars.size(); i++) {
+            final Map<String, Object> frame = vars.get(i);
+            final Map<Variable, VariableTypedValue> changedScope = new LinkedHashMap<>();
             for (final String name : frame.keySet()) {
                 final List<?> typeValScope = (List<?>) frame.get(name);
                 final VariableScope scope = VariableScope.fromSimpleName((String) typeValScope.get(2));
 
-                typedScope.put(new Variable(name, scope), reconstructTypesAndValues(typeValScope));
+                changedScope.put(new Variable(name, scope), reconstructTypesAndValues(typeValScope));
+            }
+
+            final List<?> removed = removedVars == null ? null : (List<?>) removedVars.get(i);
+            if (removed == null) {
+                typedVars.add(changedScope);
+            } else {
+                // scopes are sent starting from the innermost one, so they are aligned from the end
+                final int previousIndex = previousVariables.size() - vars.size() + i;
+                typedVars.add(applyChanges(getScope(previousVariables, previousIndex), changedScope, removed));
             }
-            typedVars.add(typedScope);
         }
         return typedVars;
     }
 
-    private static VariableTypedValue reconstructTypesAndValues(final List<?> typeAndVal) {
+    private static Map<Variable, VariableTypedValue> getScope(final List<Map<Variable, VariableTypedValue>> scopes,
+            final int index) {
+        return 0 <= index && index < scopes.size() ? scopes.get(index) : Collections.emptyMap();
+    }
+
+    private static Map<Variable, VariableTypedValue> applyChanges(final Map<Variable, VariableTypedValue> previousScope,
+            final Map<Variable, VariableTypedValue> changedScope, final List<?> removed) {
+        final Set<Variable> removedVariables = new HashSet<>();
+        removed.forEach(name -> removedVariables.add(new Variable((String) name)));
+
+        // changed variables are put in place of previous ones together with their keys, as the
+        // scope of variable could change
+        final Map<Variable, Variable> changedVariables = new HashMap<>();
+        changedScope.keySet().forEach(variable -> changedVariables.put(variable, variable));
+
+        final Map<Variable, VariableTypedValue> typedScope = new LinkedHashMap<>();
+        previousScope.forEach((variable, value) -> {
+            final Variable changedVariable = changedVariables.get(variable);
+            if (changedVariable != null) {
+                typedScope.put(changedVariable, changedScope.get(changedVariable));
+            } else if (!removedVariables.contains(variable)) {
+                typedScope.put(variable, value);
+            }
+        });
+        changedScope.forEach(typedScope::putIfAbsent);
+        return typedScope;
+    }
+
+    static VariableTypedValue reconstructTypesAndValues(final List<?> typeAndVal) {
         final String type = (String) typeAndVal.get(0);
         final Object value = typeAndVal.get(1);
+        final Object itemsInfo = typeAndVal.get(typeAndVal.size() - 1);
+
+        if (typeAndVal.size() > 2 && itemsInfo instanceof Map<?, ?>) {
+            // value with many items is sent as summary followed by number and kind of items
+            return new VariableTypedValue(type, VariableItemsSummary.from((Map<?, ?>) itemsInfo, (String) value));
 
-        if (value instanceof List<?>) {
+        } else if (value instanceof List<?>) {
             final List<Object> newValue = new ArrayList<>();
             for (final Object elem : ((List<?>) value)) {
                 if (elem instanceof List<?>) {
@@ -7,11 +7,13 @@ package org.rf.ide.core.execution.debug;
 
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.Status;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent;
 import org.rf.ide.core.execution.agent.event.ShouldContinueEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.server.response.ContinueExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
@@ -19,7 +21,8 @@ import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
 import com.google.common.annotations.VisibleForTesting;
 
-public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListener {
+public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener {
 
     private final UserProcessController controller;
 
@@ -69,8 +72,18 @@ public class ExecutionPauseContinueListener extends RobotDefaultAgentEventListen
         event.responder().respondAsynchronously(controller.takeFutureResponse(), new ResumeExecution());
     }
 
+    @Override
+    public void handleResumed() {
+        controller.executionResumed();
+    }
+
     @Override
     public void handleConditionEvaluated(final ConditionEvaluatedEvent event) {
         controller.conditionEvaluated(event);
     }
+
+    @Override
+    public void handleVariableItems(final VariableItemsEvent event) {
+        controller.variableItemsReceived(event);
+    }
 }
@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
 import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
 import org.rf.ide.core.execution.agent.event.ResourceImportEvent;
@@ -30,7 +31,8 @@ import org.rf.ide.core.execution.debug.contexts.KeywordContext;
 import org.rf.ide.core.execution.debug.contexts.SuiteContext;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
-public class StacktraceBuilder extends RobotDefaultAgentEventListener {
+public class StacktraceBuilder extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener {
 
     private final Stacktrace stacktrace;
 
@@ -12,6 +12,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.server.response.DisconnectExecution;
 import org.rf.ide.core.execution.server.response.InterruptExecution;
 import org.rf.ide.core.execution.server.response.PauseExecution;
@@ -29,10 +30,18 @@ public class UserProcessController {
         // nothing to do, override if needed
     }
 
+    public void executionResumed() {
+        // nothing to do, override if needed
+    }
+
     public void conditionEvaluated(@SuppressWarnings("unused") final ConditionEvaluatedEvent event) {
         // nothing to do, override if needed
     }
 
+    public void variableItemsReceived(@SuppressWarnings("unused") final VariableItemsEvent event) {
+        // nothing to do, override if needed
+    }
+
     @SuppressWarnings("unused")
     public Optional<ServerResponse> takeCurrentResponse(final PausingPoint pausingPoint,
             final QualifiedKeywordName currentlyFailedKeyword) {
@@ -8,24 +8,37 @@ package org.rf.ide.core.execution.debug;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
 import org.rf.ide.core.execution.server.response.EvaluateExpression;
+import org.rf.ide.core.execution.server.response.GetVariableItems;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
 
 public class UserProcessDebugController extends UserProcessController {
 
+    private static final int VARIABLE_ITEMS_TIMEOUT_IN_SECONDS = 10;
+
     private final DebuggerPreferences preferences;
     private final Stacktrace stacktrace;
 
@@ -34,6 +47,16 @@ public class UserProcessDebugController extends UserProcessController {
     private PausingPoint lastPausingPoint;
     private SuspensionData suspensionData = null;
 
+    // items of variables fetched during current pause
+    private final Map<VariableItemsPage, VariableItemsEvent> variableItemsPages = new ConcurrentHashMap<>();
+
+    private volatile VariableItemsRequest awaitedVariableItems = null;
+
+    // pauses which agent reports again after answering variable items requests
+    private final AtomicInteger variableItemsPauses = new AtomicInteger(0);
+
+    private volatile boolean suspended = false;
+
     public UserProcessDebugController(final Stacktrace stacktrace, final DebuggerPreferences preferences) {
         this.stacktrace = stacktrace;
         this.preferences = preferences;
@@ -71,9 +94,29 @@ public class UserProcessDebugController extends UserProcessController {
         }
     }
 
+    @Override
+    public void variableItemsReceived(final VariableItemsEvent event) {
+        final VariableItemsRequest request = awaitedVariableItems;
+        // replies to requests which were given up are dropped
+        if (request != null && request.page.isAnsweredBy(event)) {
+            request.items.complete(event);
+        }
+    }
+
     @Override
     public void executionPaused() {
-        if (suspensionData.reason == SuspendReason.BREAKPOINT) {
+        suspended = true;
+        if (variableItemsPauses.getAndUpdate(pauses -> Math.max(pauses - 1, 0)) > 0) {
+            // agent paused again after answering variable items request, so nothing has changed
+            return;
+        }
+        // execution could have changed the variables since items were fetched
+        variableItemsPages.clear();
+
+        if (suspensionData == null) {
+            // nothing to notify about
+
+        } else if (suspensionData.reason == SuspendReason.BREAKPOINT) {
             final RobotBreakpoint breakpoint = (RobotBreakpoint) suspensionData.data[0];
             pauseListeners.stream().forEach(listener -> listener.pausedOnBreakpoint(breakpoint));
 
@@ -97,16 +140,36 @@ public class UserProcessDebugController extends UserProcessController {
         frames().forEach(frame -> frame.unmark(StackFrameMarker.STEPPING));
     }
 
+    @Override
+    public void executionResumed() {
+        suspended = false;
+    }
+
     @Override
     public Optional<ServerResponse> takeCurrentResponse(final PausingPoint pausingPoint,
             final QualifiedKeywordName currentlyFailedKeyword) {
         this.lastPausingPoint = pausingPoint;
-        return super.takeCurrentResponse(pausingPoint, currentlyFailedKeyword).map(Optional::of)
+        return super.takeCurrentResponse(pausingPoint, currentlyFailedKeyword)
+                .filter(this::isNotVariableItemsRequest).map(Optional::of)
                 .orElseGet(() -> pauseOnErrorResponse(pausingPoint)).map(Optional::of)
                 .orElseGet(() -> breakpointHitResponse(pausingPoint, currentlyFailedKeyword)).map(Optional::of)
                 .orElseGet(() -> userSteppingResponse(pausingPoint));
     }
 
+    private boolean isNotVariableItemsRequest(final ServerResponse response) {
+        if (response instanceof GetVariableItems) {
+            // items can only be provided by paused agent, so the request queued after resuming is dropped
+            // and agent will not pause again after answering it
+            variableItemsPauses.decrementAndGet();
+            final VariableItemsRequest request = awaitedVariableItems;
+            if (request != null) {
+                request.items.completeExceptionally(new IllegalStateException("Execution is not suspended"));
+            }
+            return false;
+        }
+        return true;
+    }
+
     private Optional<ServerResponse> pauseOnErrorResponse(final PausingPoint pausingPoint) {
         if ((pausingPoint == PausingPoint.PRE_START_KEYWORD || pausingPoint == PausingPoint.START_KEYWORD)
                 && frames().map(StackFrame::getContext).anyMatch(StackFrameContext::isErroneous)
@@ -298,6 +361,113 @@ public class UserProcessDebugController extends UserProcessController {
         offer(new ResponseWithCallback(evalResponse, () -> {}));
     }
 
+    /**
+     * Returns items of list or dictionary which is a value of given variable or is nested inside
+     * this value at given path. The items are requested from paused agent unless they were already
+     * fetched during current pause. Empty result is returned when execution is not suspended, when
+     * agent is unable to provide the items or does not respond in time.
+     *
+     * @param frame
+     * @param variable
+     * @param path
+     * @param offset
+     * @param count
+     * @return
+     */
+    public synchronized Optional<Map<Object, VariableTypedValue>> getVariableItems(final StackFrame frame,
+            final StackFrameVariable variable, final List<Object> path, final int offset, final int count) {
+        if (!suspended) {
+            return Optional.empty();
+        }
+        final VariableItemsPage page = new VariableItemsPage(variable.getName(), frame.getLevel(), path, offset,
+                count);
+        VariableItemsEvent items = variableItemsPages.get(page);
+        if (items == null) {
+            items = requestVariableItems(page).orElse(null);
+            if (items == null) {
+                return Optional.empty();
+            }
+            variableItemsPages.put(page, items);
+        }
+        return items.getItems();
+    }
+
+    private Optional<VariableItemsEvent> requestVariableItems(final VariableItemsPage page) {
+        final VariableItemsRequest request = new VariableItemsRequest(page);
+        awaitedVariableItems = request;
+
+        final GetVariableItems itemsResponse = new GetVariableItems(page.variableName, page.frameLevel, page.path,
+                page.offset, page.count);
+        final ResponseWithCallback response = new ResponseWithCallback(itemsResponse,
+                variableItemsPauses::incrementAndGet);
+        if (manualUserResponse.offer(response)) {
+            try {
+                return Optional.of(request.items.get(VARIABLE_ITEMS_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException | TimeoutException e) {
+                // the request is withdrawn below
+            }
+            // agent should not get the request once it was given up
+            manualUserResponse.remove(response);
+        }
+        awaitedVariableItems = null;
+        return Optional.empty();
+    }
+
+    private static final class VariableItemsRequest {
+
+        private final VariableItemsPage page;
+
+        private final CompletableFuture<VariableItemsEvent> items = new CompletableFuture<>();
+
+        private VariableItemsRequest(final VariableItemsPage page) {
+            this.page = page;
+        }
+    }
+
+    private static final class VariableItemsPage {
+
+        private final String variableName;
+
+        private final int frameLevel;
+
+        private final List<Object> path;
+
+        private final int offset;
+
+        private final int count;
+
+        private VariableItemsPage(final String variableName, final int frameLevel, final List<Object> path,
+                final int offset, final int count) {
+            this.variableName = variableName;
+            this.frameLevel = frameLevel;
+            this.path = new ArrayList<>(path);
+            this.offset = offset;
+            this.count = count;
+        }
+
+        private boolean isAnsweredBy(final VariableItemsEvent event) {
+            return variableName.equals(event.getVariableName()) && frameLevel == event.getFrameLevel()
+                    && path.equals(event.getPath()) && offset == event.getOffset();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == VariableItemsPage.class) {
+                final VariableItemsPage that = (VariableItemsPage) obj;
+                return this.variableName.equals(that.variableName) && this.frameLevel == that.frameLevel
+                        && this.path.equals(that.path) && this.offset == that.offset && this.count == that.count;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(variableName, frameLevel, path, offset, count);
+        }
+    }
+
     public static interface PauseReasonListener {
 
         public void pausedOnBreakpoint(RobotBreakpoint breakpoint);
@@ -27,7 +27,7 @@ import com.google.common.base.Charsets;
 
 public class AgentConnectionServer {
 
-    public static final int RED_AGENT_PROTOCOL_VERSION = 4;
+    public static final int RED_AGENT_PROTOCOL_VERSION = 6;
 
     public static final String DEFAULT_CONNECTION_HOST = "127.0.0.1";
 
@@ -63,6 +63,8 @@ public class AgentConnectionServer {
 
     private ServerSocket serverSocket;
 
+    private boolean asynchronousEventsDispatch = false;
+
     public AgentConnectionServer(final String host, final int port) {
         this(host, port, DEFAULT_CONNECTION_TIMEOUT, TimeUnit.SECONDS);
     }
@@ -73,6 +75,10 @@ public class AgentConnectionServer {
         this.timeoutInMillis = (int) timeoutUnit.toMillis(timeout);
     }
 
+    public void setAsynchronousEventsDispatch(final boolean asynchronousEventsDispatch) {
+        this.asynchronousEventsDispatch = asynchronousEventsDispatch;
+    }
+
     public void addStatusListener(final AgentServerStatusListener listener) {
         listeners.add(listener);
     }
@@ -101,8 +107,8 @@ public class AgentConnectionServer {
                         new OutputStreamWriter(clientSocket.getOutputStream(), Charsets.UTF_8));
 
                 client = new AgentClient(clientId, new PrintWriter(eventsWriter));
-                final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(
-                        client, eventsListeners);
+                final RobotAgentEventDispatcher eventsDispatcher = new RobotAgentEventDispatcher(client,
+                        asynchronousEventsDispatch, eventsListeners);
 
                 listeners.forEach(listener -> listener.clientConnected(clientId));
                 eventsDispatcher.runEventsLoop(eventsReader);
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.rf.ide.core.execution.agent.LogLevel;
+import org.rf.ide.core.execution.agent.Status;
+import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.MessageEvent;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Decodes events sent by agent, one JSON object per line, with a streaming parser. Keyword and
+ * message events, which are by far the most frequent ones, are built directly from parser
+ * tokens. Names of keywords, libraries and keyword types are interned, so that events kept by
+ * listeners share the strings. Remaining events are bound into maps as they are rare.
+ * <p>
+ * Usage: {@link #startEvent(String)} has to be called for each line and then exactly one of
+ * decoding methods, chosen by returned event type.
+ */
+class AgentEventDecoder {
+
+    private final ObjectMapper mapper;
+
+    private final JsonFactory factory;
+
+    private final Interner<String> names = Interners.newStrongInterner();
+
+    private JsonParser parser;
+
+    private String eventType;
+
+    AgentEventDecoder() {
+        this.mapper = new ObjectMapper();
+        this.factory = mapper.getFactory();
+    }
+
+    /**
+     * Starts decoding of given event and returns its type or null if the line does not contain
+     * any event.
+     *
+     * @param event
+     * @return
+     * @throws IOException
+     */
+    String startEvent(final String event) throws IOException {
+        closeParser();
+        eventType = null;
+
+        parser = factory.createParser(event);
+        if (parser.nextToken() == JsonToken.START_OBJECT && parser.nextToken() == JsonToken.FIELD_NAME) {
+            eventType = parser.getCurrentName();
+            parser.nextToken();
+        }
+        return eventType;
+    }
+
+    Map<String, Object> decodeEventMap() throws IOException {
+        final Object arguments = mapper.readValue(parser, Object.class);
+        return Collections.singletonMap(eventType, arguments);
+    }
+
+    KeywordStartedEvent decodeKeywordStarted() throws IOException {
+        final KeywordAttributes attributes = readKeywordAttributes();
+        if (attributes.name == null || attributes.type == null || attributes.libraryName == null) {
+            throw new IllegalArgumentException(
+                    "Keyword started event should have name of keyword, its type and library name");
+        }
+        return new KeywordStartedEvent(attributes.name, attributes.type, attributes.libraryName);
+    }
+
+    KeywordEndedEvent decodeKeywordEnded() throws IOException {
+        final KeywordAttributes attributes = readKeywordAttributes();
+        if (attributes.libraryName == null || attributes.name == null || attributes.type == null
+                || attributes.status == null) {
+            throw new IllegalArgumentException(
+                    "Keyword ended event should have name of keyword and library, keyword type and status");
+        }
+        return new KeywordEndedEvent(attributes.libraryName, attributes.name, attributes.type, attributes.status);
+    }
+
+    // arguments of message events are sent as [{attributes}]
+    MessageEvent decodeMessage() throws IOException {
+        expect(JsonToken.START_ARRAY);
+        parser.nextToken();
+        expect(JsonToken.START_OBJECT);
+
+        String message = null;
+        String timestamp = null;
+        String level = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_STRING) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "message":
+                    message = parser.getText();
+                    break;
+                case "timestamp":
+                    timestamp = parser.getText();
+                    break;
+                case "level":
+                    level = parser.getText();
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (message == null || timestamp == null || level == null) {
+            throw new IllegalArgumentException("Message event has to have the content, timestamp and level");
+        }
+        return new MessageEvent(message, LogLevel.valueOf(level.toUpperCase()), timestamp);
+    }
+
+    // arguments of keyword events are sent as [name, {attributes}]
+    private KeywordAttributes readKeywordAttributes() throws IOException {
+        expect(JsonToken.START_ARRAY);
+        parser.nextToken();
+        parser.skipChildren();
+        parser.nextToken();
+        expect(JsonToken.START_OBJECT);
+
+        final KeywordAttributes attributes = new KeywordAttributes();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_STRING) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "kwname":
+                    attributes.name = names.intern(parser.getText());
+                    break;
+                case "libname":
+                    attributes.libraryName = names.intern(parser.getText());
+                    break;
+                case "type":
+                    attributes.type = names.intern(parser.getText());
+                    break;
+                case "status":
+                    attributes.status = Status.valueOf(parser.getText());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return attributes;
+    }
+
+    private void expect(final JsonToken token) throws JsonParseException {
+        if (parser.currentToken() != token) {
+            throw new JsonParseException(parser,
+                    "Expected " + token + " in '" + eventType + "' event but found " + parser.currentToken());
+        }
+    }
+
+    void close() throws IOException {
+        closeParser();
+    }
+
+    private void closeParser() throws IOException {
+        if (parser != null) {
+            parser.close();
+            parser = null;
+        }
+    }
+
+    private static final class KeywordAttributes {
+
+        private String name;
+
+        private String libraryName;
+
+        private String type;
+
+        private Status status;
+    }
+}
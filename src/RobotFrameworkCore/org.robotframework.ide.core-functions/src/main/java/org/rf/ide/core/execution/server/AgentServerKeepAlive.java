@@ -6,6 +6,7 @@
 package org.rf.ide.core.execution.server;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 
 /**
  * Objects of this class can be used to keep server alive: this can be
@@ -14,9 +15,9 @@ import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
  * 
  * @author anglart
  */
-public class AgentServerKeepAlive extends RobotDefaultAgentEventListener {
+public class AgentServerKeepAlive extends RobotDefaultAgentEventListener implements SynchronousAgentEventListener {
 
-    private boolean isHandlingEvents = true;
+    private volatile boolean isHandlingEvents = true;
 
     @Override
     public boolean isHandlingEvents() {
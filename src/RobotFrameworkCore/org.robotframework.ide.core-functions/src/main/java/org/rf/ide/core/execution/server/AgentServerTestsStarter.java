@@ -8,13 +8,14 @@ package org.rf.ide.core.execution.server;
 import java.util.concurrent.Semaphore;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.TestsMode;
 import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
 import org.rf.ide.core.execution.agent.event.ReadyToStartEvent;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
 
 
-public class AgentServerTestsStarter extends RobotDefaultAgentEventListener {
+public class AgentServerTestsStarter extends RobotDefaultAgentEventListener implements SynchronousAgentEventListener {
 
     private final Semaphore startSemaphore = new Semaphore(0);
 
@@ -22,19 +23,35 @@ public class AgentServerTestsStarter extends RobotDefaultAgentEventListener {
 
     private final int maxValueLenght;
 
+    private final int keywordEventsPerSecond;
+
     public AgentServerTestsStarter(final TestsMode mode) {
         this(mode, -1);
     }
 
     public AgentServerTestsStarter(final TestsMode mode, final int maxValueLenght) {
+        this(mode, maxValueLenght, -1);
+    }
+
+    /**
+     * Creates starter which asks agent to limit keyword events sent in run mode: none of them is
+     * sent for zero limit and at most given number of keyword starts per second for positive
+     * limit. All the events are sent for negative limit and in debug mode.
+     *
+     * @param mode
+     * @param maxValueLenght
+     * @param keywordEventsPerSecond
+     */
+    public AgentServerTestsStarter(final TestsMode mode, final int maxValueLenght, final int keywordEventsPerSecond) {
         this.mode = mode;
         this.maxValueLenght = maxValueLenght;
+        this.keywordEventsPerSecond = keywordEventsPerSecond;
     }
 
     @Override
     public void handleAgentInitializing(final AgentInitializingEvent event) {
         try {
-            event.responder().initialize(mode, true, maxValueLenght);
+            event.responder().initialize(mode, true, maxValueLenght, keywordEventsPerSecond);
         } catch (final ResponseException e) {
             throw new RobotAgentEventsListenerException("Unable to send response to client", e);
         }
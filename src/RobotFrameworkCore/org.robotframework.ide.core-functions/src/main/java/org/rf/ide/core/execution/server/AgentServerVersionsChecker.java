@@ -9,11 +9,13 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
 
 
-public class AgentServerVersionsChecker extends RobotDefaultAgentEventListener {
+public class AgentServerVersionsChecker extends RobotDefaultAgentEventListener
+        implements SynchronousAgentEventListener {
 
     @Override
     public void handleVersions(final VersionsEvent event) {
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.rf.ide.core.execution.agent.RobotAgentEventListener;
+import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
+import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
+import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
+import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.ExpressionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.LibraryImportEvent;
+import org.rf.ide.core.execution.agent.event.MessageEvent;
+import org.rf.ide.core.execution.agent.event.OutputFileEvent;
+import org.rf.ide.core.execution.agent.event.PausedEvent;
+import org.rf.ide.core.execution.agent.event.ReadyToStartEvent;
+import org.rf.ide.core.execution.agent.event.ResourceImportEvent;
+import org.rf.ide.core.execution.agent.event.ShouldContinueEvent;
+import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
+import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
+import org.rf.ide.core.execution.agent.event.TestEndedEvent;
+import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
+import org.rf.ide.core.execution.agent.event.VariablesEvent;
+import org.rf.ide.core.execution.agent.event.VersionsEvent;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Notifies wrapped listener on its own worker thread. Events are put into bounded buffer by the
+ * thread reading agent events, which blocks only when the buffer is full, and are taken by the
+ * worker in batches. Events which the listener does not handle (it inherits no-op handler from
+ * {@link RobotDefaultAgentEventListener}) are skipped without being buffered, so bursts of keyword
+ * events do not wake up listeners interested only in tests or messages. Handled events are never
+ * merged: the listener gets each of them in the order they were read.
+ * <p>
+ * In particular bursts of keyword events are not coalesced. Listeners handling them build the
+ * stacktrace or decide about pausing, so they need every event and are notified synchronously
+ * (see {@link SynchronousAgentEventListener}); for all the others keyword events are skipped.
+ * <p>
+ * Result of {@link #isHandlingEvents()} is taken from the listener on the worker thread after each
+ * notification and published to the reading thread, so listener state is never read concurrently.
+ * <p>
+ * Exception thrown by the listener stops its notifications and is rethrown on the reading thread
+ * with the next event, so the events processing ends as when the listener is called directly.
+ * When events processing finishes the reading thread waits until the listener handles all
+ * buffered events.
+ */
+class AsyncAgentEventListener implements RobotAgentEventListener {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final int BATCH_SIZE = 256;
+
+    private static final Consumer<RobotAgentEventListener> STOP = listener -> {};
+
+    private static final Map<Class<?>, Set<String>> HANDLED_EVENTS = new ConcurrentHashMap<>();
+
+    private final RobotAgentEventListener listener;
+
+    private final Set<String> handledEvents;
+
+    private final BlockingQueue<Consumer<RobotAgentEventListener>> buffer;
+
+    private final Thread worker;
+
+    private volatile RuntimeException failure;
+
+    private volatile boolean handlingEvents;
+
+    AsyncAgentEventListener(final RobotAgentEventListener listener) {
+        this(listener, BUFFER_SIZE);
+    }
+
+    @VisibleForTesting
+    AsyncAgentEventListener(final RobotAgentEventListener listener, final int bufferSize) {
+        this.listener = listener;
+        this.handledEvents = HANDLED_EVENTS.computeIfAbsent(listener.getClass(),
+                AsyncAgentEventListener::findHandledEvents);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.worker = new Thread(this::processEvents, "RED agent events: " + listener.getClass().getSimpleName());
+        this.worker.setDaemon(true);
+        this.handlingEvents = listener.isHandlingEvents();
+    }
+
+    private static Set<String> findHandledEvents(final Class<?> listenerClass) {
+        final Set<String> handled = new HashSet<>();
+        for (final Method method : RobotAgentEventListener.class.getMethods()) {
+            if (method.getName().startsWith("handle")) {
+                try {
+                    final Method implementation = listenerClass.getMethod(method.getName(),
+                            method.getParameterTypes());
+                    if (implementation.getDeclaringClass() != RobotDefaultAgentEventListener.class) {
+                        handled.add(method.getName());
+                    }
+                } catch (final NoSuchMethodException e) {
+                    handled.add(method.getName());
+                }
+            }
+        }
+        return handled;
+    }
+
+    @VisibleForTesting
+    RobotAgentEventListener getListener() {
+        return listener;
+    }
+
+    private void processEvents() {
+        final List<Consumer<RobotAgentEventListener>> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+                for (final Consumer<RobotAgentEventListener> notification : batch) {
+                    if (notification == STOP) {
+                        return;
+                    } else if (failure == null) {
+                        try {
+                            notification.accept(listener);
+                            handlingEvents = listener.isHandlingEvents();
+                        } catch (final RuntimeException e) {
+                            failure = e;
+                        }
+                    }
+                }
+                batch.clear();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void notify(final String handlerName, final Consumer<RobotAgentEventListener> notification) {
+        if (handledEvents.contains(handlerName)) {
+            put(notification);
+        }
+    }
+
+    private void put(final Consumer<RobotAgentEventListener> notification) {
+        rethrowFailure();
+        try {
+            buffer.put(notification);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RobotAgentEventsListenerException("Interrupted when passing event to listener", e);
+        }
+    }
+
+    private void rethrowFailure() {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void eventsProcessingAboutToStart() {
+        worker.start();
+        put(RobotAgentEventListener::eventsProcessingAboutToStart);
+    }
+
+    @Override
+    public boolean isHandlingEvents() {
+        return handlingEvents;
+    }
+
+    @Override
+    public void handleAgentInitializing(final AgentInitializingEvent event) {
+        notify("handleAgentInitializing", l -> l.handleAgentInitializing(event));
+    }
+
+    @Override
+    public void handleAgentIsReadyToStart(final ReadyToStartEvent event) {
+        notify("handleAgentIsReadyToStart", l -> l.handleAgentIsReadyToStart(event));
+    }
+
+    @Override
+    public void handleVersions(final VersionsEvent event) {
+        notify("handleVersions", l -> l.handleVersions(event));
+    }
+
+    @Override
+    public void handleSuiteStarted(final SuiteStartedEvent event) {
+        notify("handleSuiteStarted", l -> l.handleSuiteStarted(event));
+    }
+
+    @Override
+    public void handleSuiteEnded(final SuiteEndedEvent event) {
+        notify("handleSuiteEnded", l -> l.handleSuiteEnded(event));
+    }
+
+    @Override
+    public void handleTestStarted(final TestStartedEvent event) {
+        notify("handleTestStarted", l -> l.handleTestStarted(event));
+    }
+
+    @Override
+    public void handleTestEnded(final TestEndedEvent event) {
+        notify("handleTestEnded", l -> l.handleTestEnded(event));
+    }
+
+    @Override
+    public void handleKeywordAboutToStart(final KeywordStartedEvent event) {
+        notify("handleKeywordAboutToStart", l -> l.handleKeywordAboutToStart(event));
+    }
+
+    @Override
+    public void handleKeywordStarted(final KeywordStartedEvent event) {
+        notify("handleKeywordStarted", l -> l.handleKeywordStarted(event));
+    }
+
+    @Override
+    public void handleKeywordAboutToEnd(final KeywordEndedEvent event) {
+        notify("handleKeywordAboutToEnd", l -> l.handleKeywordAboutToEnd(event));
+    }
+
+    @Override
+    public void handleKeywordEnded(final KeywordEndedEvent event) {
+        notify("handleKeywordEnded", l -> l.handleKeywordEnded(event));
+    }
+
+    @Override
+    public void handleResourceImport(final ResourceImportEvent event) {
+        notify("handleResourceImport", l -> l.handleResourceImport(event));
+    }
+
+    @Override
+    public void handleLibraryImport(final LibraryImportEvent event) {
+        notify("handleLibraryImport", l -> l.handleLibraryImport(event));
+    }
+
+    @Override
+    public void handleVariables(final VariablesEvent event) {
+        notify("handleVariables", l -> l.handleVariables(event));
+    }
+
+    @Override
+    public void handleLogMessage(final MessageEvent event) {
+        notify("handleLogMessage", l -> l.handleLogMessage(event));
+    }
+
+    @Override
+    public void handleMessage(final MessageEvent event) {
+        notify("handleMessage", l -> l.handleMessage(event));
+    }
+
+    @Override
+    public void handleOutputFile(final OutputFileEvent event) {
+        notify("handleOutputFile", l -> l.handleOutputFile(event));
+    }
+
+    @Override
+    public void handleShouldContinue(final ShouldContinueEvent event) {
+        notify("handleShouldContinue", l -> l.handleShouldContinue(event));
+    }
+
+    @Override
+    public void handleConditionEvaluated(final ConditionEvaluatedEvent event) {
+        notify("handleConditionEvaluated", l -> l.handleConditionEvaluated(event));
+    }
+
+    @Override
+    public void handleExpressionEvaluated(final ExpressionEvaluatedEvent event) {
+        notify("handleExpressionEvaluated", l -> l.handleExpressionEvaluated(event));
+    }
+
+    @Override
+    public void handleVariableItems(final VariableItemsEvent event) {
+        notify("handleVariableItems", l -> l.handleVariableItems(event));
+    }
+
+    @Override
+    public void handlePaused(final PausedEvent event) {
+        notify("handlePaused", l -> l.handlePaused(event));
+    }
+
+    @Override
+    public void handleResumed() {
+        notify("handleResumed", RobotAgentEventListener::handleResumed);
+    }
+
+    @Override
+    public void handleClosed() {
+        notify("handleClosed", RobotAgentEventListener::handleClosed);
+    }
+
+    @Override
+    public void eventsProcessingFinished() {
+        if (!worker.isAlive()) {
+            return;
+        }
+        try {
+            buffer.put(RobotAgentEventListener::eventsProcessingFinished);
+            buffer.put(STOP);
+            worker.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RobotAgentEventsListenerException("Interrupted when waiting for listener to handle events", e);
+        }
+        rethrowFailure();
+    }
+}
@@ -10,11 +10,13 @@ import static java.util.Collections.synchronizedList;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.rf.ide.core.execution.agent.RobotAgentEventListener;
 import org.rf.ide.core.execution.agent.RobotAgentEventListener.RobotAgentEventsListenerException;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.AgentInitializingEvent;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
 import org.rf.ide.core.execution.agent.event.ExpressionEvaluatedEvent;
@@ -31,12 +33,13 @@ import org.rf.ide.core.execution.agent.event.SuiteEndedEvent;
 import org.rf.ide.core.execution.agent.event.SuiteStartedEvent;
 import org.rf.ide.core.execution.agent.event.TestEndedEvent;
 import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.agent.event.Variable;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Iterables;
+import com.google.common.annotations.VisibleForTesting;
 
 class RobotAgentEventDispatcher {
 
@@ -44,9 +47,37 @@ class RobotAgentEventDispatcher {
 
     private final AgentClient client;
 
+    // agent sends only changes of already sent variables scopes, so the last variables are needed
+    // to reconstruct next ones
+    private List<Map<Variable, VariableTypedValue>> lastVariables = new ArrayList<>();
+
     RobotAgentEventDispatcher(final AgentClient client, final RobotAgentEventListener... eventsListeners) {
+        this(client, false, eventsListeners);
+    }
+
+    /**
+     * Creates dispatcher which, when asynchronous dispatch is requested, notifies each listener
+     * not marked as {@link SynchronousAgentEventListener} on its own worker thread, so that slow
+     * listeners do not hold reading of further events.
+     *
+     * @param client
+     * @param asynchronousDispatch
+     * @param eventsListeners
+     */
+    RobotAgentEventDispatcher(final AgentClient client, final boolean asynchronousDispatch,
+            final RobotAgentEventListener... eventsListeners) {
         this.client = client;
-        this.eventsListeners = synchronizedList(newArrayList(eventsListeners));
+        this.eventsListeners = synchronizedList(newArrayList());
+        for (final RobotAgentEventListener listener : eventsListeners) {
+            this.eventsListeners.add(asynchronousDispatch && !(listener instanceof SynchronousAgentEventListener)
+                    ? new AsyncAgentEventListener(listener)
+                    : listener);
+        }
+    }
+
+    @VisibleForTesting
+    List<RobotAgentEventListener> getEventsListeners() {
+        return eventsListeners;
     }
 
     void runEventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
@@ -63,94 +94,101 @@ class RobotAgentEventDispatcher {
     }
 
     private void eventsLoop(final BufferedReader eventReader) throws IOException, RobotAgentEventsListenerException {
-        final ObjectMapper mapper = new ObjectMapper();
-        final TypeReference<Map<String, Object>> stringToObjectMapType = new TypeReference<Map<String, Object>>() {
-        };
-
-        String event = eventReader.readLine();
-        while (event != null && anyListenerIsHandlingEvents()) {
-            final Map<String, Object> eventMap = mapper.readValue(event, stringToObjectMapType);
-            final String eventType = getEventType(eventMap);
-            if (eventType == null) {
-                event = eventReader.readLine();
-                continue;
-            }
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+        try {
+            String event = eventReader.readLine();
+            while (event != null && anyListenerIsHandlingEvents()) {
+                final String eventType = decoder.startEvent(event);
+                if (eventType == null) {
+                    event = eventReader.readLine();
+                    continue;
+                }
+                dispatch(decoder, eventType);
 
-            switch (eventType) {
-                case "agent_initializing":
-                    handleAgentInitializing();
-                    break;
-                case "version":
-                    handleVersion(eventMap);
-                    break;
-                case "ready_to_start":
-                    handleReadyToStart();
-                    break;
-                case "resource_import":
-                    handleResourceImport(eventMap);
-                    break;
-                case "library_import":
-                    handleLibraryImport(eventMap);
-                    break;
-                case "start_suite":
-                    handleStartSuite(eventMap);
-                    break;
-                case "end_suite":
-                    handleEndSuite(eventMap);
-                    break;
-                case "start_test":
-                    handleStartTest(eventMap);
-                    break;
-                case "end_test":
-                    handleEndTest(eventMap);
-                    break;
-                case "pre_start_keyword":
-                    handlePreStartKeyword(eventMap);
-                    break;
-                case "start_keyword":
-                    handleStartKeyword(eventMap);
-                    break;
-                case "pre_end_keyword":
-                    handlePreEndKeyword(eventMap);
-                    break;
-                case "end_keyword":
-                    handleEndKeyword(eventMap);
-                    break;
-                case "variables":
-                    handleVariables(eventMap);
-                    break;
-                case "should_continue":
-                    handleShouldContinue(eventMap);
-                    break;
-                case "condition_result":
-                    handleConditionResult(eventMap);
-                    break;
-                case "expression_result":
-                    handleExpressionResult(eventMap);
-                    break;
-                case "paused":
-                    handlePause();
-                    break;
-                case "resumed":
-                    handleResumed();
-                    break;
-                case "log_message":
-                    handleLogMessage(eventMap);
-                    break;
-                case "message":
-                    handleMessage(eventMap);
-                    break;
-                case "output_file":
-                    handleOutputFile(eventMap);
-                    break;
-                case "close":
-                    handleClose();
-                    break;
-                default:
-                    break;
+                event = eventReader.readLine();
             }
+        } finally {
+            decoder.close();
+        }
+    }
 
-            event = eventReader.readLine();
+    private void dispatch(final AgentEventDecoder decoder, final String eventType)
+            throws IOException, RobotAgentEventsListenerException {
+        switch (eventType) {
+            case "agent_initializing":
+                handleAgentInitializing();
+                break;
+            case "version":
+                handleVersion(decoder.decodeEventMap());
+                break;
+            case "ready_to_start":
+                handleReadyToStart();
+                break;
+            case "resource_import":
+                handleResourceImport(decoder.decodeEventMap());
+                break;
+            case "library_import":
+                handleLibraryImport(decoder.decodeEventMap());
+                break;
+            case "start_suite":
+                handleStartSuite(decoder.decodeEventMap());
+                break;
+            case "end_suite":
+                handleEndSuite(decoder.decodeEventMap());
+                break;
+            case "start_test":
+                handleStartTest(decoder.decodeEventMap());
+                break;
+            case "end_test":
+                handleEndTest(decoder.decodeEventMap());
+                break;
+            case "pre_start_keyword":
+                handlePreStartKeyword(decoder.decodeKeywordStarted());
+                break;
+            case "start_keyword":
+                handleStartKeyword(decoder.decodeKeywordStarted());
+                break;
+            case "pre_end_keyword":
+                handlePreEndKeyword(decoder.decodeKeywordEnded());
+                break;
+            case "end_keyword":
+                handleEndKeyword(decoder.decodeKeywordEnded());
+                break;
+            case "variables":
+                handleVariables(decoder.decodeEventMap());
+                break;
+            case "should_continue":
+                handleShouldContinue(decoder.decodeEventMap());
+                break;
+            case "condition_result":
+                handleConditionResult(decoder.decodeEventMap());
+                break;
+            case "expression_result":
+                handleExpressionResult(decoder.decodeEventMap());
+                break;
+            case "variable_items":
+                handleVariableItems(decoder.decodeEventMap());
+                break;
+            case "paused":
+                handlePause();
+                break;
+            case "resumed":
+                handleResumed();
+                break;
+            case "log_message":
+                handleLogMessage(decoder.decodeMessage());
+                break;
+            case "message":
+                handleMessage(decoder.decodeMessage());
+                break;
+            case "output_file":
+                handleOutputFile(decoder.decodeEventMap());
+                break;
+            case "close":
+                handleClose();
+                break;
+            default:
+                break;
         }
     }
 
@@ -207,36 +245,33 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handlePreStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.fromPre(eventMap);
+    private void handlePreStartKeyword(final KeywordStartedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToStart(event);
         }
     }
 
-    private void handleStartKeyword(final Map<String, Object> eventMap) {
-        final KeywordStartedEvent event = KeywordStartedEvent.from(eventMap);
+    private void handleStartKeyword(final KeywordStartedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordStarted(event);
         }
     }
 
-    private void handlePreEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.fromPre(eventMap);
+    private void handlePreEndKeyword(final KeywordEndedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordAboutToEnd(event);
         }
     }
 
-    private void handleEndKeyword(final Map<String, Object> eventMap) {
-        final KeywordEndedEvent event = KeywordEndedEvent.from(eventMap);
+    private void handleEndKeyword(final KeywordEndedEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleKeywordEnded(event);
         }
     }
 
     private void handleVariables(final Map<String, Object> eventMap) {
-        final VariablesEvent event = VariablesEvent.from(eventMap);
+        final VariablesEvent event = VariablesEvent.from(eventMap, lastVariables);
+        lastVariables = event.getVariables();
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleVariables(event);
         }
@@ -263,6 +298,13 @@ class RobotAgentEventDispatcher {
         }
     }
 
+    private void handleVariableItems(final Map<String, Object> eventMap) {
+        final VariableItemsEvent event = VariableItemsEvent.from(eventMap);
+        for (final RobotAgentEventListener listener : eventsListeners) {
+            listener.handleVariableItems(event);
+        }
+    }
+
     private void handlePause() {
         final PausedEvent event = PausedEvent.from(client);
         for (final RobotAgentEventListener listener : eventsListeners) {
@@ -296,27 +338,18 @@ class RobotAgentEventDispatcher {
         }
     }
 
-    private void handleLogMessage(final Map<String, Object> eventMap) {
-        final MessageEvent event = MessageEvent.fromLogMessage(eventMap);
+    private void handleLogMessage(final MessageEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleLogMessage(event);
         }
     }
 
-    private void handleMessage(final Map<String, Object> eventMap) {
-        final MessageEvent event = MessageEvent.fromMessage(eventMap);
+    private void handleMessage(final MessageEvent event) {
         for (final RobotAgentEventListener listener : eventsListeners) {
             listener.handleMessage(event);
         }
     }
 
-    private String getEventType(final Map<String, ?> eventMap) {
-        if (eventMap == null) {
-            return null;
-        }
-        return Iterables.getFirst(eventMap.keySet(), null);
-    }
-
     private boolean anyListenerIsHandlingEvents() {
         for (final RobotAgentEventListener listener : eventsListeners) {
             if (listener.isHandlingEvents()) {
@@ -8,9 +8,10 @@ package org.rf.ide.core.execution.server;
 import java.util.Optional;
 
 import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
 
-public class TestsPidReader extends RobotDefaultAgentEventListener {
+public class TestsPidReader extends RobotDefaultAgentEventListener implements SynchronousAgentEventListener {
 
     private Optional<Long> pid = Optional.empty();
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+public final class GetVariableItems implements ServerResponse {
+
+    private final ObjectMapper mapper;
+
+    private final String variableName;
+
+    private final int frameLevel;
+
+    private final List<Object> path;
+
+    private final int offset;
+
+    private final int count;
+
+    public GetVariableItems(final String varName, final int frameLevel, final List<Object> path, final int offset,
+            final int count) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, varName, frameLevel, path, offset, count);
+    }
+
+    @VisibleForTesting
+    GetVariableItems(final ObjectMapper mapper, final String varName, final int frameLevel, final List<Object> path,
+            final int offset, final int count) {
+        this.mapper = mapper;
+        this.variableName = varName;
+        this.frameLevel = frameLevel;
+        this.path = path;
+        this.offset = offset;
+        this.count = count;
+    }
+
+    @Override
+    public String toMessage() throws ResponseException {
+        try {
+            final Map<String, Object> arguments = new LinkedHashMap<>();
+            arguments.put("name", variableName);
+            arguments.put("level", frameLevel);
+            arguments.put("path", path);
+            arguments.put("offset", offset);
+            arguments.put("count", count);
+
+            final Map<String, Object> value = ImmutableMap.of("get_variable_items", arguments);
+
+            return mapper.writeValueAsString(value);
+        } catch (final IOException e) {
+            throw new ResponseException("Unable to serialize get variable items response arguments to json", e);
+        }
+    }
+}
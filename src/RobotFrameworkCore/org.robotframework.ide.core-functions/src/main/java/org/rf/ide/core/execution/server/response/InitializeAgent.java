@@ -25,17 +25,36 @@ public final class InitializeAgent implements ServerResponse {
 
     private final int maxValueLenght;
 
+    private final int keywordEventsPerSecond;
+
     public InitializeAgent(final TestsMode mode, final boolean agentShouldWaitForSignal, final int maxValueLenght) {
-        this(ResponseObjectsMapper.OBJECT_MAPPER, mode, agentShouldWaitForSignal, maxValueLenght);
+        this(mode, agentShouldWaitForSignal, maxValueLenght, -1);
+    }
+
+    /**
+     * Creates response which additionally limits keyword events sent by agent in run mode: none of
+     * them is sent for zero limit, at most given number of keyword starts per second is sent for
+     * positive limit and all are sent for negative one. Agent ignores the limit in debug mode.
+     *
+     * @param mode
+     * @param agentShouldWaitForSignal
+     * @param maxValueLenght
+     * @param keywordEventsPerSecond
+     */
+    public InitializeAgent(final TestsMode mode, final boolean agentShouldWaitForSignal, final int maxValueLenght,
+            final int keywordEventsPerSecond) {
+        this(ResponseObjectsMapper.OBJECT_MAPPER, mode, agentShouldWaitForSignal, maxValueLenght,
+                keywordEventsPerSecond);
     }
 
     @VisibleForTesting
     InitializeAgent(final ObjectMapper mapper, final TestsMode mode, final boolean agentShouldWaitForSignal,
-            final int maxValueLenght) {
+            final int maxValueLenght, final int keywordEventsPerSecond) {
         this.mapper = mapper;
         this.mode = mode;
         this.agentShouldWaitForSignal = agentShouldWaitForSignal;
         this.maxValueLenght = maxValueLenght;
+        this.keywordEventsPerSecond = keywordEventsPerSecond;
     }
 
     @Override
@@ -47,6 +66,9 @@ public final class InitializeAgent implements ServerResponse {
             if (maxValueLenght >= 0) {
                 argsBuilder.put("max_lenght", maxValueLenght);
             }
+            if (keywordEventsPerSecond >= 0) {
+                argsBuilder.put("keyword_events_per_second", keywordEventsPerSecond);
+            }
             final Map<String, Object> value = ImmutableMap.of("operating_mode", argsBuilder.build());
 
             return mapper.writeValueAsString(value);
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Text kept in compressed form, used for documentation of library keywords which is only needed
+ * when it is displayed. Instances are interned, so the same documentation read from libspecs of
+ * many projects is kept only once.
+ */
+final class CompressedText {
+
+    private static final Interner<CompressedText> INTERNER = Interners.newWeakInterner();
+
+    // compression of short texts does not pay off
+    private static final int MIN_BYTES_TO_COMPRESS = 128;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal
+            .withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+
+    static CompressedText of(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final CompressedText compressedText = bytes.length < MIN_BYTES_TO_COMPRESS
+                ? new CompressedText(bytes, -1)
+                : new CompressedText(compress(bytes), bytes.length);
+        return INTERNER.intern(compressedText);
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 2);
+        final byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            final int length = deflater.deflate(buffer);
+            output.write(buffer, 0, length);
+        }
+        return output.toByteArray();
+    }
+
+    private final byte[] bytes;
+
+    private final int uncompressedLength; // negative when bytes are not compressed
+
+    private final int hash;
+
+    private CompressedText(final byte[] bytes, final int uncompressedLength) {
+        this.bytes = bytes;
+        this.uncompressedLength = uncompressedLength;
+        this.hash = 31 * Arrays.hashCode(bytes) + uncompressedLength;
+    }
+
+    String getText() {
+        if (uncompressedLength < 0) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        final Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes);
+            final byte[] uncompressed = new byte[uncompressedLength];
+            int offset = 0;
+            while (offset < uncompressedLength && !inflater.finished()) {
+                offset += inflater.inflate(uncompressed, offset, uncompressedLength - offset);
+            }
+            return new String(uncompressed, StandardCharsets.UTF_8);
+
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Unable to decompress text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == null) {
+            return false;
+        } else if (obj.getClass() == getClass()) {
+            final CompressedText that = (CompressedText) obj;
+            return this.uncompressedLength == that.uncompressedLength && Arrays.equals(this.bytes, that.bytes);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -18,6 +18,10 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import com.google.common.base.Objects;
 
+/**
+ * Specification of library keyword. Documentation is kept compressed and shared between equal
+ * specifications, since it is only needed when displayed to the user.
+ */
 @XmlRootElement(name = "kw")
 public class KeywordSpecification {
 
@@ -31,7 +35,7 @@ public class KeywordSpecification {
     }
 
     private String name;
-    private String documentation;
+    private CompressedText documentation;
 
     private List<String> arguments = new ArrayList<>();
 
@@ -50,12 +54,12 @@ public class KeywordSpecification {
     }
 
     public String getDocumentation() {
-        return documentation;
+        return documentation == null ? null : documentation.getText();
     }
 
     @XmlElement(name = "doc")
     public void setDocumentation(final String documentation) {
-        this.documentation = documentation;
+        this.documentation = documentation == null ? null : CompressedText.of(documentation);
     }
 
     public List<String> getArguments() {
@@ -83,6 +87,7 @@ public class KeywordSpecification {
 
     public boolean isDeprecated() {
         if (isDeprecated == null) {
+            final String documentation = getDocumentation();
             isDeprecated = Boolean.valueOf(documentation != null
                     && Pattern.compile("^\\*deprecated[^\\n\\r]*\\*.*").matcher(documentation.toLowerCase()).find());
         }
@@ -111,6 +116,23 @@ public class KeywordSpecification {
         return lineNumber;
     }
 
+    /**
+     * Creates independent copy of this specification. Compressed documentation is immutable, so it
+     * is shared with the copy.
+     *
+     * @return
+     */
+    public KeywordSpecification copy() {
+        final KeywordSpecification copy = new KeywordSpecification();
+        copy.name = name;
+        copy.documentation = documentation;
+        copy.arguments = arguments == null ? null : new ArrayList<>(arguments);
+        copy.isDeprecated = isDeprecated;
+        copy.sourcePath = sourcePath;
+        copy.lineNumber = lineNumber;
+        return copy;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj == null) {
@@ -89,4 +89,13 @@ public class LibraryConstructor {
     public Integer getLineNumber() {
         return lineNumber;
     }
+
+    public LibraryConstructor copy() {
+        final LibraryConstructor copy = new LibraryConstructor();
+        copy.documentation = documentation;
+        copy.arguments = arguments == null ? null : newArrayList(arguments);
+        copy.sourcePath = sourcePath;
+        copy.lineNumber = lineNumber;
+        return copy;
+    }
 }
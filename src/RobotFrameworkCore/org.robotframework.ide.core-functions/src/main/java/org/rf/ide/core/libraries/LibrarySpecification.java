@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.libraries;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.File;
@@ -205,6 +206,30 @@ public class LibrarySpecification {
         this.isModified = isModified;
     }
 
+    /**
+     * Creates specification with the same content as this one. Keywords and constructor are copied,
+     * so that changes of returned specification are not visible in this one. Descriptor and
+     * modification flag are not copied.
+     *
+     * @return
+     */
+    public LibrarySpecification copy() {
+        final LibrarySpecification copy = new LibrarySpecification();
+        copy.specVersion = specVersion;
+        copy.name = name;
+        copy.scopeElem = scopeElem;
+        copy.scopeAttr = scopeAttr;
+        copy.format = format;
+        copy.version = version;
+        copy.sourcePath = sourcePath;
+        copy.lineNumber = lineNumber;
+        copy.constructor = constructor == null ? null : constructor.copy();
+        copy.documentation = documentation;
+        copy.keywords = keywords == null ? null
+                : keywords.stream().map(KeywordSpecification::copy).collect(toList());
+        return copy;
+    }
+
     public ArgumentsDescriptor createArgumentsDescriptor() {
         return constructor == null ? ArgumentsDescriptor.createDescriptor() : constructor.createArgumentsDescriptor();
     }
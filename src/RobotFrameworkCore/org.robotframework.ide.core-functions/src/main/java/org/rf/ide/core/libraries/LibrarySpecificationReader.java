@@ -5,32 +5,221 @@
  */
 package org.rf.ide.core.libraries;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+/**
+ * Reads libspec files using streaming parser. The structure of libspec is simple, so it is read
+ * directly into {@link LibrarySpecification} instead of creating JAXB context which is costly and
+ * was repeated for each library. Elements and attributes which are not known are skipped, in the
+ * same way as when libspecs were unmarshalled using JAXB annotations of specification classes.
+ */
 public class LibrarySpecificationReader {
 
+    private static final XMLInputFactory XML_FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
     public static Optional<LibrarySpecification> readSpecification(final File file) {
         if (file == null || !file.isFile() || !file.exists()) {
             return Optional.empty();
         }
-        try {
-            final JAXBContext jaxbContext = JAXBContext.newInstance(LibrarySpecification.class);
-            final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            final LibrarySpecification spec = (LibrarySpecification) jaxbUnmarshaller.unmarshal(file);
-            if (spec.getSpecificationVersion() >= 2) {
-                // if there is no attribute then the keyword is not deprecated
-                spec.getKeywordsStream()
-                        .filter(kwSpec -> kwSpec.getDeprecatedState() == null)
-                        .forEach(kwSpec -> kwSpec.setDeprecated(false));
-            }
-            return Optional.ofNullable(spec);
-        } catch (final JAXBException e) {
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            final XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(stream);
+            try {
+                final LibrarySpecification spec = readSpecification(reader);
+                if (spec.getSpecificationVersion() >= 2) {
+                    // if there is no attribute then the keyword is not deprecated
+                    spec.getKeywordsStream()
+                            .filter(kwSpec -> kwSpec.getDeprecatedState() == null)
+                            .forEach(kwSpec -> kwSpec.setDeprecated(false));
+                }
+                return Optional.of(spec);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException | IOException e) {
             return Optional.empty();
         }
     }
+
+    private static LibrarySpecification readSpecification(final XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!"keywordspec".equals(reader.getLocalName()) || !isEmpty(reader.getNamespaceURI())) {
+            throw new XMLStreamException("Unexpected root element '" + reader.getLocalName() + "'",
+                    reader.getLocation());
+        }
+        final LibrarySpecification spec = new LibrarySpecification();
+        spec.setName(reader.getAttributeValue(null, "name"));
+        spec.setFormat(reader.getAttributeValue(null, "format"));
+        spec.setScopeAttr(reader.getAttributeValue(null, "scope"));
+        spec.setSpecVersion(intAttribute(reader, "specversion"));
+        spec.setSourcePath(reader.getAttributeValue(null, "source"));
+        spec.setLineNumber(intAttribute(reader, "lineno"));
+
+        final List<KeywordSpecification> keywords = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+                case "version":
+                    spec.setVersion(readText(reader));
+                    break;
+                case "scope":
+                    spec.setScopeElem(readText(reader));
+                    break;
+                case "doc":
+                    spec.setDocumentation(readText(reader));
+                    break;
+                case "init":
+                    spec.setConstructor(readConstructor(reader));
+                    break;
+                case "kw":
+                    keywords.add(readKeyword(reader));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        spec.setKeywords(keywords);
+        return spec;
+    }
+
+    private static LibraryConstructor readConstructor(final XMLStreamReader reader) throws XMLStreamException {
+        final LibraryConstructor constructor = new LibraryConstructor();
+        constructor.setSourcePath(reader.getAttributeValue(null, "source"));
+        constructor.setLineNumber(intAttribute(reader, "lineno"));
+
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+                case "doc":
+                    constructor.setDocumentation(readText(reader));
+                    break;
+                case "arguments":
+                    constructor.setArguments(readArguments(reader));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return constructor;
+    }
+
+    private static KeywordSpecification readKeyword(final XMLStreamReader reader) throws XMLStreamException {
+        final KeywordSpecification keyword = new KeywordSpecification();
+        keyword.setName(reader.getAttributeValue(null, "name"));
+        final String deprecated = reader.getAttributeValue(null, "deprecated");
+        if (deprecated != null) {
+            keyword.setDeprecated("true".equals(deprecated.trim()) || "1".equals(deprecated.trim()));
+        }
+        keyword.setSourcePath(reader.getAttributeValue(null, "source"));
+        keyword.setLineNumber(intAttribute(reader, "lineno"));
+
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+                case "doc":
+                    keyword.setDocumentation(readText(reader));
+                    break;
+                case "arguments":
+                    keyword.setArguments(readArguments(reader));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return keyword;
+    }
+
+    private static List<String> readArguments(final XMLStreamReader reader) throws XMLStreamException {
+        final List<String> arguments = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if ("arg".equals(reader.getLocalName())) {
+                arguments.add(readText(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Moves reader to next child element of current element. Returns false when end of current
+     * element is reached instead.
+     */
+    private static boolean nextChildElement(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads text of current element, skipping text of nested elements, and moves reader to the end
+     * of current element.
+     */
+    private static String readText(final XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder text = new StringBuilder();
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        return text.toString();
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Integer intAttribute(final XMLStreamReader reader, final String name) {
+        final String value = reader.getAttributeValue(null, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isEmpty(final String namespace) {
+        return namespace == null || namespace.isEmpty();
+    }
 }
@@ -0,0 +1,531 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Content-addressed store of libspecs shared by all projects of workspace. Libspecs are stored
+ * under keys created out of everything which affects generated libspec (see
+ * {@link #createKey(String, String, String, List, EnvironmentSearchPaths, List)}), so projects using
+ * the same library on the same environment can take libspec generated for another project instead
+ * of generating it again.
+ * <p>
+ * Projects acquire entries they use; entry file is removed when no project references it any
+ * longer. References are persisted in the store directory, so that they survive restarts, and
+ * {@link #retainGroups(Collection)} is used on startup to release references of projects which
+ * are gone and remove entries not referenced at all. Additionally specifications read from
+ * libspecs are cached by content, so projects using the same libspec do not have to read it again.
+ */
+public class SharedLibspecsStore {
+
+    private static final HashFunction HASHING = Hashing.murmur3_128();
+
+    private static final String EXTENSION = ".libspec";
+
+    private static final String REFERENCES_FILE = "references";
+
+    private static final int MAX_IMPORTED_MODULES = 500;
+
+    private static final Pattern IMPORT = Pattern.compile("^\\s*import\\s+(.+)$");
+
+    private static final Pattern FROM_IMPORT = Pattern.compile("^\\s*from\\s+(\\.*)([\\w.]*)\\s+import\\s+(.+)$");
+
+    private final Path directory;
+
+    // owners group (e.g. project) -> owner (e.g. libspec of project) -> acquired key
+    private final Map<String, Map<String, String>> references = new HashMap<>();
+
+    private final Cache<HashCode, LibrarySpecification> specifications = CacheBuilder.newBuilder()
+            .maximumSize(500)
+            .build();
+
+    private final Cache<LibspecFileState, HashCode> libspecsDigests = CacheBuilder.newBuilder()
+            .maximumSize(5000)
+            .build();
+
+    public SharedLibspecsStore(final Path directory) {
+        this.directory = directory;
+        readReferences();
+    }
+
+    /**
+     * Creates key of libspec generated for given library.
+     *
+     * @param interpreter
+     *            path or name of interpreter used to generate libspec
+     * @param robotVersion
+     *            version of Robot Framework used to generate libspec
+     * @param libraryName
+     *            name of the library
+     * @param arguments
+     *            resolved arguments of the library
+     * @param searchPaths
+     *            additional paths used to generate libspec
+     * @param sourceFiles
+     *            files or directories containing library sources; contents of those and of python
+     *            modules imported by them (when found in source directories or python paths) are
+     *            hashed, compiled python files are skipped
+     * @return
+     * @throws IOException
+     *             when some source file cannot be read
+     */
+    public static String createKey(final String interpreter, final String robotVersion, final String libraryName,
+            final List<String> arguments, final EnvironmentSearchPaths searchPaths, final List<File> sourceFiles)
+            throws IOException {
+        final Hasher hasher = HASHING.newHasher();
+        putString(hasher, interpreter);
+        putString(hasher, robotVersion);
+        putString(hasher, libraryName);
+        putStrings(hasher, arguments);
+        putStrings(hasher, searchPaths.getClassPaths());
+        putStrings(hasher, searchPaths.getPythonPaths());
+        hasher.putInt(sourceFiles.size());
+        final Set<Path> hashedFiles = new HashSet<>();
+        final List<Path> modulesRoots = new ArrayList<>();
+        for (final File source : sourceFiles) {
+            putString(hasher, source.getAbsolutePath());
+            for (final Path file : regularFiles(source.toPath())) {
+                putString(hasher, source.toPath().relativize(file).toString());
+                putContent(hasher, file);
+                hashedFiles.add(file.toAbsolutePath().normalize());
+            }
+            final Path parent = source.getAbsoluteFile().toPath().getParent();
+            if (parent != null) {
+                modulesRoots.add(parent);
+            }
+        }
+        searchPaths.getPythonPaths().stream().filter(Objects::nonNull).map(path -> new File(path).toPath())
+                .forEach(modulesRoots::add);
+
+        final Set<Path> importedModules = importedModules(hashedFiles, modulesRoots);
+        hasher.putInt(importedModules.size());
+        for (final Path module : importedModules) {
+            putString(hasher, module.toString());
+            putContent(hasher, module);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putContent(final Hasher hasher, final Path file) throws IOException {
+        hasher.putBytes(com.google.common.io.Files.asByteSource(file.toFile()).hash(HASHING).asBytes());
+    }
+
+    private static void putStrings(final Hasher hasher, final List<String> strings) {
+        hasher.putInt(strings.size());
+        strings.forEach(string -> putString(hasher, string));
+    }
+
+    private static void putString(final Hasher hasher, final String string) {
+        final String value = string == null ? "" : string;
+        hasher.putInt(value.length());
+        hasher.putString(value, StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> regularFiles(final Path source) throws IOException {
+        if (Files.isRegularFile(source)) {
+            final List<Path> files = new ArrayList<>();
+            files.add(source);
+            return files;
+        } else if (Files.isDirectory(source)) {
+            try (Stream<Path> paths = Files.walk(source)) {
+                final List<Path> files = new ArrayList<>();
+                paths.filter(Files::isRegularFile)
+                        .filter(path -> !isCompiledPythonFile(source.relativize(path)))
+                        .sorted()
+                        .forEach(files::add);
+                return files;
+            }
+        }
+        throw new IOException("Library source '" + source + "' does not exist");
+    }
+
+    private static boolean isCompiledPythonFile(final Path relativePath) {
+        final String fileName = relativePath.getFileName().toString();
+        if (fileName.endsWith(".pyc") || fileName.endsWith(".pyo")) {
+            return true;
+        }
+        for (final Path segment : relativePath) {
+            if (segment.toString().equals("__pycache__")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds python modules imported directly or transitively by given files, which are not the
+     * files themselves. Modules are looked up in directory of importing file (relative and implicit
+     * imports) and in given roots; modules which cannot be found there (e.g. standard or installed
+     * ones) are skipped. The search is bounded, so that libraries importing huge amount of modules
+     * do not slow down key creation.
+     */
+    private static Set<Path> importedModules(final Set<Path> files, final List<Path> roots) throws IOException {
+        final Set<Path> visited = new HashSet<>(files);
+        final Set<Path> modules = new TreeSet<>();
+        final Deque<Path> toScan = new ArrayDeque<>(new TreeSet<>(files));
+        while (!toScan.isEmpty() && modules.size() < MAX_IMPORTED_MODULES) {
+            final Path file = toScan.poll();
+            if (!file.getFileName().toString().endsWith(".py")) {
+                continue;
+            }
+            for (final Path module : findImportedModules(file, roots)) {
+                if (visited.add(module) && modules.size() < MAX_IMPORTED_MODULES) {
+                    modules.add(module);
+                    toScan.add(module);
+                }
+            }
+        }
+        return modules;
+    }
+
+    private static Set<Path> findImportedModules(final Path file, final List<Path> roots) throws IOException {
+        final Set<Path> modules = new LinkedHashSet<>();
+        final Path directory = file.getParent();
+        for (final String line : Files.readAllLines(file, StandardCharsets.ISO_8859_1)) {
+            final Matcher fromMatcher = FROM_IMPORT.matcher(line);
+            final Matcher importMatcher = IMPORT.matcher(line);
+            if (fromMatcher.matches()) {
+                final int level = fromMatcher.group(1).length();
+                final String moduleName = fromMatcher.group(2);
+                final List<Path> searchedDirs = new ArrayList<>();
+                if (level > 0) {
+                    Path base = directory;
+                    for (int i = 1; i < level && base != null; i++) {
+                        base = base.getParent();
+                    }
+                    if (base != null) {
+                        searchedDirs.add(base);
+                    }
+                } else {
+                    searchedDirs.add(directory);
+                    searchedDirs.addAll(roots);
+                }
+                for (final Path dir : searchedDirs) {
+                    if (!moduleName.isEmpty()) {
+                        findModule(dir, moduleName).ifPresent(modules::add);
+                    }
+                    // imported names may be submodules of the package
+                    for (final String name : importedNames(fromMatcher.group(3))) {
+                        final String submodule = moduleName.isEmpty() ? name : moduleName + "." + name;
+                        findModule(dir, submodule).ifPresent(modules::add);
+                    }
+                }
+            } else if (importMatcher.matches()) {
+                for (final String name : importedNames(importMatcher.group(1))) {
+                    findModule(directory, name).ifPresent(modules::add);
+                    for (final Path root : roots) {
+                        findModule(root, name).ifPresent(modules::add);
+                    }
+                }
+            }
+        }
+        return modules;
+    }
+
+    private static List<String> importedNames(final String importedPart) {
+        final List<String> names = new ArrayList<>();
+        final String withoutComment = importedPart.replaceAll("#.*$", "").replaceAll("[()\\\\]", " ");
+        for (final String imported : withoutComment.split(",")) {
+            final String[] parts = imported.trim().split("\\s+");
+            if (!parts[0].isEmpty() && !parts[0].equals("*")) {
+                names.add(parts[0]);
+            }
+        }
+        return names;
+    }
+
+    private static Optional<Path> findModule(final Path directory, final String moduleName) {
+        final Path modulePath = directory.resolve(moduleName.replace('.', File.separatorChar));
+        final Path moduleFile = modulePath.resolveSibling(modulePath.getFileName() + ".py");
+        final Path packageFile = modulePath.resolve("__init__.py");
+        if (Files.isRegularFile(moduleFile)) {
+            return Optional.of(moduleFile.toAbsolutePath().normalize());
+        } else if (Files.isRegularFile(packageFile)) {
+            return Optional.of(packageFile.toAbsolutePath().normalize());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Copies libspec stored under given key to target file.
+     *
+     * @param key
+     * @param target
+     * @return true if libspec was stored under given key and it was copied
+     */
+    public boolean restore(final String key, final File target) {
+        final Path entry = entryPath(key);
+        if (!Files.isRegularFile(entry)) {
+            return false;
+        }
+        try {
+            Files.createDirectories(target.toPath().toAbsolutePath().getParent());
+            Files.copy(entry, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (final IOException e) {
+            // libspec will be generated
+            return false;
+        }
+    }
+
+    /**
+     * Stores copy of given generated libspec under given key.
+     *
+     * @param key
+     * @param libspec
+     */
+    public void store(final String key, final File libspec) {
+        if (!libspec.isFile() || libspec.length() == 0) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            final Path tmpEntry = Files.createTempFile(directory, key, ".tmp");
+            try {
+                Files.copy(libspec.toPath(), tmpEntry, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmpEntry, entryPath(key), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpEntry);
+            }
+        } catch (final IOException e) {
+            // libspec will be generated again by other projects
+        }
+    }
+
+    /**
+     * Marks entry under given key as used by given owner. Entry previously acquired by the same
+     * owner is released.
+     *
+     * @param key
+     * @param ownersGroup
+     * @param owner
+     */
+    public synchronized void acquire(final String key, final String ownersGroup, final String owner) {
+        final String previousKey = references.computeIfAbsent(ownersGroup, group -> new HashMap<>()).put(owner, key);
+        if (!key.equals(previousKey)) {
+            writeReferences();
+        }
+        if (previousKey != null && !previousKey.equals(key)) {
+            removeIfUnreferenced(previousKey);
+        }
+    }
+
+    /**
+     * Releases all entries acquired by owners of given group and removes those entries which are
+     * not used by any other owner.
+     *
+     * @param ownersGroup
+     */
+    public synchronized void releaseAll(final String ownersGroup) {
+        final Map<String, String> released = references.remove(ownersGroup);
+        if (released != null) {
+            writeReferences();
+            released.values().stream().distinct().forEach(this::removeIfUnreferenced);
+        }
+    }
+
+    /**
+     * Releases all entries acquired by owners of groups other than given ones (e.g. projects
+     * removed while the store was not running) and removes all entries which are not used by
+     * any owner.
+     *
+     * @param ownersGroups
+     */
+    public synchronized void retainGroups(final Collection<String> ownersGroups) {
+        if (references.keySet().retainAll(ownersGroups)) {
+            writeReferences();
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final Set<String> referencedKeys = new HashSet<>();
+        references.values().forEach(owners -> referencedKeys.addAll(owners.values()));
+        try (Stream<Path> paths = Files.list(directory)) {
+            final List<Path> unreferenced = new ArrayList<>();
+            paths.filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                    .filter(path -> !referencedKeys.contains(keyOf(path)))
+                    .forEach(unreferenced::add);
+            for (final Path entry : unreferenced) {
+                Files.deleteIfExists(entry);
+            }
+        } catch (final IOException e) {
+            // remaining entries will be removed on next startup
+        }
+    }
+
+    private static String keyOf(final Path entry) {
+        final String fileName = entry.getFileName().toString();
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+
+    private void readReferences() {
+        final Path referencesFile = directory.resolve(REFERENCES_FILE);
+        if (!Files.isRegularFile(referencesFile)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(referencesFile)))) {
+            final int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                final String ownersGroup = input.readUTF();
+                final String owner = input.readUTF();
+                final String key = input.readUTF();
+                references.computeIfAbsent(ownersGroup, group -> new HashMap<>()).put(owner, key);
+            }
+        } catch (final IOException e) {
+            // unreadable references are dropped, projects will acquire their entries again
+            references.clear();
+        }
+    }
+
+    private void writeReferences() {
+        try {
+            Files.createDirectories(directory);
+            final Path tmpReferences = Files.createTempFile(directory, REFERENCES_FILE, ".tmp");
+            try {
+                try (DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tmpReferences)))) {
+                    output.writeInt(references.values().stream().mapToInt(Map::size).sum());
+                    for (final Map.Entry<String, Map<String, String>> group : references.entrySet()) {
+                        for (final Map.Entry<String, String> reference : group.getValue().entrySet()) {
+                            output.writeUTF(group.getKey());
+                            output.writeUTF(reference.getKey());
+                            output.writeUTF(reference.getValue());
+                        }
+                    }
+                }
+                Files.move(tmpReferences, directory.resolve(REFERENCES_FILE), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpReferences);
+            }
+        } catch (final IOException e) {
+            // references will be written again with next change
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int countReferences(final String key) {
+        return (int) references.values().stream().flatMap(owners -> owners.values().stream()).filter(key::equals)
+                .count();
+    }
+
+    private void removeIfUnreferenced(final String key) {
+        if (countReferences(key) == 0) {
+            try {
+                Files.deleteIfExists(entryPath(key));
+            } catch (final IOException e) {
+                // will be overwritten when stored again
+            }
+        }
+    }
+
+    /**
+     * Reads specification from given libspec file. When the same content was already read,
+     * returned specification is a copy of previously read one. Content digest of libspec file is
+     * remembered as long as the file is not modified, so it is not hashed on each read.
+     *
+     * @param libspec
+     * @return
+     */
+    public Optional<LibrarySpecification> readSpecification(final File libspec) {
+        final HashCode contentHash;
+        try {
+            contentHash = digest(libspec);
+        } catch (final IOException e) {
+            return LibrarySpecificationReader.readSpecification(libspec);
+        }
+        final LibrarySpecification cached = specifications.getIfPresent(contentHash);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        final Optional<LibrarySpecification> spec = LibrarySpecificationReader.readSpecification(libspec);
+        spec.ifPresent(s -> specifications.put(contentHash, s.copy()));
+        return spec;
+    }
+
+    private HashCode digest(final File libspec) throws IOException {
+        final LibspecFileState state = new LibspecFileState(libspec);
+        final HashCode digest = libspecsDigests.getIfPresent(state);
+        if (digest != null) {
+            return digest;
+        }
+        final HashCode contentHash = com.google.common.io.Files.asByteSource(libspec).hash(HASHING);
+        libspecsDigests.put(state, contentHash);
+        return contentHash;
+    }
+
+    private Path entryPath(final String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private static final class LibspecFileState {
+
+        private final String path;
+
+        private final long modificationTime;
+
+        private final long size;
+
+        LibspecFileState(final File libspec) {
+            this.path = libspec.getAbsolutePath();
+            this.modificationTime = libspec.lastModified();
+            this.size = libspec.length();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj != null && obj.getClass() == LibspecFileState.class) {
+                final LibspecFileState that = (LibspecFileState) obj;
+                return this.path.equals(that.path) && this.modificationTime == that.modificationTime
+                        && this.size == that.size;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, modificationTime, size);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.KeywordTable;
+import org.rf.ide.core.testdata.model.table.LocalSetting;
+import org.rf.ide.core.testdata.model.table.SettingTable;
+import org.rf.ide.core.testdata.model.table.TaskTable;
+import org.rf.ide.core.testdata.model.table.TestCaseTable;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.tasks.Task;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+import org.rf.ide.core.testdata.text.read.LineReader.Constant;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.read.separators.Separator;
+
+/**
+ * Parses again the table section of editor content which contains an edit together with all
+ * sections following it. Those sections are parsed as a separate content (preceded by settings
+ * section in case they contain test cases or tasks, because templates declared there change types
+ * of arguments) into a fresh output and positions of its lines are moved to their place in the
+ * file. Copies of lines preceding the edited section are put before them; those lines share their
+ * elements with previous output and tables declared there are shared by both models, while
+ * keeping previous model as their parent. Previous output is not modified, so that it can still be
+ * read by others. Nothing is done when edit touches table headers, so that the content has to be
+ * parsed as a whole.
+ */
+class EditedSectionReparser {
+
+    private static final Set<RobotTokenType> REPARSABLE_TABLES = EnumSet.of(RobotTokenType.VARIABLES_TABLE_HEADER,
+            RobotTokenType.TEST_CASES_TABLE_HEADER, RobotTokenType.TASKS_TABLE_HEADER,
+            RobotTokenType.KEYWORDS_TABLE_HEADER);
+
+    private static final Set<RobotTokenType> TABLES = EnumSet.of(RobotTokenType.SETTINGS_TABLE_HEADER,
+            RobotTokenType.VARIABLES_TABLE_HEADER, RobotTokenType.TEST_CASES_TABLE_HEADER,
+            RobotTokenType.TASKS_TABLE_HEADER, RobotTokenType.KEYWORDS_TABLE_HEADER);
+
+    private final Function<String, RobotFileOutput> contentParser;
+
+    EditedSectionReparser(final Function<String, RobotFileOutput> contentParser) {
+        this.contentParser = contentParser;
+    }
+
+    /**
+     * Reparses section of previous output which was edited.
+     *
+     * @param previousOutput
+     *            Output of parsing the content before edit, which is not modified
+     * @param fileContent
+     *            Content after edit
+     * @param editOffset
+     *            Offset at which the edit starts
+     * @param removedLength
+     *            Length of text removed by the edit
+     * @param insertedLength
+     *            Length of text inserted by the edit
+     * @return New output or empty optional when whole content has to be parsed again
+     */
+    Optional<RobotFileOutput> reparse(final RobotFileOutput previousOutput, final String fileContent,
+            final int editOffset, final int removedLength, final int insertedLength) {
+        final RobotFile model = previousOutput.getFileModel();
+        final List<RobotLine> lines = model.getFileContent();
+        if (previousOutput.getStatus() != Status.PASSED || !previousOutput.getBuildingMessages().isEmpty()
+                || lines.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final int[] lineStarts = lineStartOffsets(lines);
+        final int delta = insertedLength - removedLength;
+        if (lineStarts == null || editOffset < 0 || removedLength < 0 || insertedLength < 0
+                || editOffset + removedLength > endOffset(lines.get(lines.size() - 1))
+                || fileContent.length() != endOffset(lines.get(lines.size() - 1)) + delta) {
+            return Optional.empty();
+        }
+
+        final List<Integer> headers = findHeaderLines(lines);
+        final List<RobotTokenType> headerTypes = headers.stream()
+                .map(line -> headerType(lines.get(line)))
+                .collect(toList());
+        final int firstEditedLine = lineIndexOf(lineStarts, editOffset);
+        final int lastEditedLine = lineIndexOf(lineStarts, editOffset + removedLength);
+        final int section = findSection(headers, firstEditedLine);
+        final List<RobotTokenType> tableTypes = headerTypes.stream().filter(TABLES::contains).collect(toList());
+        if (section < 0 || new HashSet<>(tableTypes).size() != tableTypes.size()) {
+            return Optional.empty();
+        }
+        final int sectionStart = headers.get(section);
+        final int sectionEnd = section + 1 < headers.size() ? headers.get(section + 1) : lines.size();
+        final RobotTokenType tableType = headerTypes.get(section);
+        if (firstEditedLine == sectionStart
+                || lastEditedLine >= sectionEnd
+                        && !endsRightBeforeHeader(fileContent, lineStarts, sectionEnd, editOffset + removedLength, delta)
+                || !REPARSABLE_TABLES.contains(tableType)) {
+            return Optional.empty();
+        }
+
+        final int settingsHeader = headerTypes.indexOf(RobotTokenType.SETTINGS_TABLE_HEADER);
+        final List<RobotTokenType> reparsedTypes = headerTypes.subList(section, headerTypes.size());
+        final boolean settingsRequired = settingsHeader >= 0 && settingsHeader < section
+                && (reparsedTypes.contains(RobotTokenType.TEST_CASES_TABLE_HEADER)
+                        || reparsedTypes.contains(RobotTokenType.TASKS_TABLE_HEADER));
+
+        final String prefix = settingsRequired ? settingsSection(fileContent, lineStarts, headers, settingsHeader)
+                : "";
+        final int sectionStartOffset = lineStarts[sectionStart];
+        final RobotFileOutput output = contentParser.apply(prefix + fileContent.substring(sectionStartOffset));
+        final RobotFile newModel = output.getFileModel();
+
+        final List<RobotLine> parsedLines = newModel.getFileContent();
+        final List<Integer> parsedHeaders = findHeaderLines(parsedLines);
+        final int prefixHeaders = settingsRequired ? 1 : 0;
+        final List<RobotTokenType> parsedHeaderTypes = parsedHeaders.stream()
+                .map(line -> headerType(parsedLines.get(line)))
+                .collect(toList());
+        if (output.getStatus() != Status.PASSED || !output.getBuildingMessages().isEmpty()
+                || !parsedHeaderTypes.subList(prefixHeaders, parsedHeaderTypes.size()).equals(reparsedTypes)) {
+            return Optional.empty();
+        }
+
+        final int newSectionStart = parsedHeaders.get(prefixHeaders);
+        final List<RobotLine> newLines = new ArrayList<>();
+        for (final RobotLine line : lines.subList(0, sectionStart)) {
+            newLines.add(copy(newModel, line));
+        }
+        final int lineShift = sectionStart + 1 - parsedLines.get(newSectionStart).getLineNumber();
+        final int offsetShift = newSectionStart == 0 ? sectionStartOffset
+                : sectionStartOffset - endOffset(parsedLines.get(newSectionStart - 1));
+        for (final RobotLine line : parsedLines.subList(newSectionStart, parsedLines.size())) {
+            newLines.add(shift(newModel, line, lineShift, offsetShift));
+        }
+        newModel.replaceLines(0, parsedLines.size(), newLines);
+
+        for (int i = 0; i < section; i++) {
+            final RobotTokenType type = headerTypes.get(i);
+            if (!TABLES.contains(type)) {
+                continue;
+            }
+            // tables preceding the edited one are not reparsed, so they are shared with previous model
+            final ARobotSectionTable newTable = table(newModel, type);
+            if (newTable.isPresent()) {
+                documentations(newTable).forEach(output.getDocumentationCacher()::unregister);
+            }
+            final ARobotSectionTable oldTable = table(model, type);
+            newModel.shareTable(oldTable);
+            documentations(oldTable).forEach(output.getDocumentationCacher()::register);
+        }
+        return Optional.of(output);
+    }
+
+    private static boolean endsRightBeforeHeader(final String fileContent, final int[] lineStarts,
+            final int headerLine, final int editEnd, final int delta) {
+        // header line is not changed when edit ends at its beginning, unless it is glued to edited text
+        if (headerLine < lineStarts.length && editEnd == lineStarts[headerLine]) {
+            final char lastEditedChar = fileContent.charAt(editEnd + delta - 1);
+            return lastEditedChar == '\n' || lastEditedChar == '\r';
+        }
+        return false;
+    }
+
+    private static String settingsSection(final String fileContent, final int[] lineStarts,
+            final List<Integer> headers, final int settingsHeader) {
+        // settings precede the edited section, so their offsets are not changed
+        final int startOffset = lineStarts[headers.get(settingsHeader)];
+        final int endOffset = lineStarts[headers.get(settingsHeader + 1)];
+        final String settings = fileContent.substring(startOffset, endOffset);
+        return settings.endsWith("\n") || settings.endsWith("\r") ? settings : settings + "\n";
+    }
+
+    private static RobotLine copy(final RobotFile model, final RobotLine line) {
+        // elements of lines preceding the edit are reused as they are, only lines get new parent
+        final RobotLine copiedLine = new RobotLine(line.getLineNumber(), model);
+        line.getSeparatorForLine().ifPresent(copiedLine::setSeparatorType);
+        line.getLineElements().forEach(copiedLine::addLineElement);
+        final IRobotLineElement eol = line.getEndOfLine();
+        copiedLine.setEndOfLine(Constant.get(eol), eol.getStartOffset(), eol.getStartColumn());
+        return copiedLine;
+    }
+
+    private static RobotLine shift(final RobotFile model, final RobotLine line, final int lineShift,
+            final int offsetShift) {
+        // only freshly parsed lines are shifted, so their elements can be moved in place
+        final RobotLine shiftedLine = new RobotLine(line.getLineNumber() + lineShift, model);
+        line.getSeparatorForLine().ifPresent(shiftedLine::setSeparatorType);
+        for (final IRobotLineElement element : line.getLineElements()) {
+            if (element instanceof RobotToken) {
+                final RobotToken token = (RobotToken) element;
+                token.setLineNumber(token.getLineNumber() + lineShift);
+                token.setStartOffset(token.getStartOffset() + offsetShift);
+            } else if (element instanceof Separator) {
+                final Separator separator = (Separator) element;
+                separator.setLineNumber(separator.getLineNumber() + lineShift);
+                separator.setStartOffset(separator.getStartOffset() + offsetShift);
+            }
+            shiftedLine.addLineElement(element);
+        }
+        final IRobotLineElement eol = line.getEndOfLine();
+        shiftedLine.setEndOfLine(Constant.get(eol), eol.getStartOffset() + offsetShift, eol.getStartColumn());
+        return shiftedLine;
+    }
+
+    private static int[] lineStartOffsets(final List<RobotLine> lines) {
+        final int[] starts = new int[lines.size()];
+        for (int i = 1; i < lines.size(); i++) {
+            final int start = endOffset(lines.get(i - 1));
+            if (start < starts[i - 1]) {
+                return null;
+            }
+            starts[i] = start;
+        }
+        return starts;
+    }
+
+    private static int endOffset(final RobotLine line) {
+        final IRobotLineElement eol = line.getEndOfLine();
+        return eol.getStartOffset() + eol.getText().length();
+    }
+
+    private static int lineIndexOf(final int[] lineStarts, final int offset) {
+        int index = 0;
+        while (index + 1 < lineStarts.length && lineStarts[index + 1] <= offset) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int findSection(final List<Integer> headers, final int line) {
+        int section = -1;
+        while (section + 1 < headers.size() && headers.get(section + 1) <= line) {
+            section++;
+        }
+        return section;
+    }
+
+    private static List<Integer> findHeaderLines(final List<RobotLine> lines) {
+        final List<Integer> headers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (headerType(lines.get(i)) != null) {
+                headers.add(i);
+            }
+        }
+        return headers;
+    }
+
+    private static RobotTokenType headerType(final RobotLine line) {
+        for (final RobotToken token : line.getLineTokens()) {
+            for (final IRobotTokenType type : token.getTypes()) {
+                if (RobotTokenType.isTableHeader(type)) {
+                    return (RobotTokenType) type;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ARobotSectionTable table(final RobotFile model, final RobotTokenType headerType) {
+        switch (headerType) {
+            case SETTINGS_TABLE_HEADER:
+                return model.getSettingTable();
+            case VARIABLES_TABLE_HEADER:
+                return model.getVariableTable();
+            case TEST_CASES_TABLE_HEADER:
+                return model.getTestCaseTable();
+            case TASKS_TABLE_HEADER:
+                return model.getTasksTable();
+            case KEYWORDS_TABLE_HEADER:
+                return model.getKeywordTable();
+            default:
+                throw new IllegalStateException("Unable to reparse table of type " + headerType);
+        }
+    }
+
+    private static List<IDocumentationHolder> documentations(final ARobotSectionTable table) {
+        final List<LocalSetting<?>> docSettings = new ArrayList<>();
+        if (table instanceof TestCaseTable) {
+            for (final TestCase test : ((TestCaseTable) table).getTestCases()) {
+                docSettings.addAll(test.getDocumentation());
+            }
+        } else if (table instanceof TaskTable) {
+            for (final Task task : ((TaskTable) table).getTasks()) {
+                docSettings.addAll(task.getDocumentation());
+            }
+        } else if (table instanceof KeywordTable) {
+            for (final UserKeyword keyword : ((KeywordTable) table).getKeywords()) {
+                docSettings.addAll(keyword.getDocumentation());
+            }
+        }
+        final List<IDocumentationHolder> docs = new ArrayList<>();
+        if (table instanceof SettingTable) {
+            docs.addAll(((SettingTable) table).getDocumentation());
+        }
+        for (final LocalSetting<?> docSetting : docSettings) {
+            docs.add(docSetting.adaptTo(IDocumentationHolder.class));
+        }
+        return docs;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.text.read.RecognizedTokens;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Stores tokens recognized in parsed files in binary entries inside of given directory, so that
+ * files which were not changed can be parsed again without matching their content against
+ * recognizers, e.g. after restart. Entry is used only when path, modification time, size and hash
+ * of file content as well as Robot version used for parsing and version of the cache format (which
+ * should be changed whenever recognizers may change, e.g. version of the bundle) are the same as
+ * when it was stored. Since the hash is computed from the content which is going to be parsed,
+ * entries recorded for different content are rejected before replaying them; entries are
+ * additionally verified during parsing (see {@link RecognizedTokens}). When the number of entries
+ * exceeds given limit, the least recently used ones are removed; time of last use is tracked with
+ * one hour resolution, so that entries are not written on every load. Problems with entries are
+ * passed to given handler, while affected files are simply parsed from scratch.
+ */
+public class ParsedFilesCache {
+
+    private static final int MAGIC = 0x52454455;
+
+    private static final String ENTRY_EXTENSION = ".tokens";
+
+    private static final HashFunction HASHING = Hashing.murmur3_128();
+
+    private static final long LAST_USE_RESOLUTION_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Path directory;
+
+    private final String formatVersion;
+
+    private final int maxEntries;
+
+    private final Consumer<IOException> problemsHandler;
+
+    private final AtomicInteger entriesCount = new AtomicInteger(-1);
+
+    public ParsedFilesCache(final Path directory, final String formatVersion, final int maxEntries,
+            final Consumer<IOException> problemsHandler) {
+        this.directory = directory;
+        this.formatVersion = formatVersion;
+        this.maxEntries = maxEntries;
+        this.problemsHandler = problemsHandler;
+    }
+
+    public Optional<RecognizedTokens> load(final File file, final RobotVersion version, final byte[] content) {
+        final Path entry = entryPath(file);
+        if (entry == null || !Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try {
+            final Optional<RecognizedTokens> tokens = read(entry, file, version, hash(content));
+            if (tokens.isPresent()) {
+                markAsUsed(entry);
+            }
+            return tokens;
+
+        } catch (final NoSuchFileException e) {
+            // entry was removed in the meantime, so the file will be parsed from scratch
+            return Optional.empty();
+        } catch (final IOException e) {
+            problemsHandler.accept(e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<RecognizedTokens> read(final Path entry, final File file, final RobotVersion version,
+            final long fileHash) throws IOException {
+        final long entrySize = Files.size(entry);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (input.readInt() != MAGIC || !input.readUTF().equals(formatVersion)
+                    || !input.readUTF().equals(version.asString()) || !input.readUTF().equals(path(file))
+                    || input.readLong() != file.lastModified() || input.readLong() != file.length()
+                    || input.readLong() != fileHash) {
+                return Optional.empty();
+            }
+            final long contentHash = input.readLong();
+
+            final int[] typesMapping = new int[readCount(input, entrySize)];
+            for (int i = 0; i < typesMapping.length; i++) {
+                typesMapping[i] = ordinalOf(input.readUTF());
+            }
+            final int[] entries = new int[readCount(input, entrySize / Integer.BYTES)];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = input.readInt();
+            }
+            return mapTypes(entries, typesMapping) ? Optional.of(new RecognizedTokens(entries, contentHash))
+                    : Optional.empty();
+        }
+    }
+
+    private static void markAsUsed(final Path entry) throws IOException {
+        // modification time of entry is used to find least recently used entries
+        final long currentTime = System.currentTimeMillis();
+        if (Files.getLastModifiedTime(entry).toMillis() < currentTime - LAST_USE_RESOLUTION_MILLIS) {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(currentTime));
+        }
+    }
+
+    private static int readCount(final DataInputStream input, final long limit) throws IOException {
+        final int count = input.readInt();
+        if (count < 0 || count > limit) {
+            throw new IOException("Broken entry of parsed files cache");
+        }
+        return count;
+    }
+
+    public void store(final File file, final RobotVersion version, final byte[] content,
+            final RecognizedTokens recognizedTokens) {
+        final Path entry = entryPath(file);
+        if (entry == null || !recognizedTokens.isValid() || recognizedTokens.isReplaying()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            final boolean isNewEntry = !Files.exists(entry);
+            final Path tmpEntry = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try {
+                write(tmpEntry, file, version, hash(content), recognizedTokens);
+                Files.move(tmpEntry, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpEntry);
+            }
+
+            if (isNewEntry) {
+                removeLeastRecentlyUsedEntriesIfNeeded();
+            }
+
+        } catch (final IOException e) {
+            problemsHandler.accept(e);
+        }
+    }
+
+    private void write(final Path entry, final File file, final RobotVersion version, final long fileHash,
+            final RecognizedTokens recognizedTokens) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(entry)))) {
+            output.writeInt(MAGIC);
+            output.writeUTF(formatVersion);
+            output.writeUTF(version.asString());
+            output.writeUTF(path(file));
+            output.writeLong(file.lastModified());
+            output.writeLong(file.length());
+            output.writeLong(fileHash);
+            output.writeLong(recognizedTokens.getContentHash());
+
+            final RobotTokenType[] types = RobotTokenType.values();
+            output.writeInt(types.length);
+            for (final RobotTokenType type : types) {
+                output.writeUTF(type.name());
+            }
+            final int[] entries = recognizedTokens.getEntries();
+            output.writeInt(entries.length);
+            for (final int value : entries) {
+                output.writeInt(value);
+            }
+        }
+    }
+
+    public void remove(final File file) {
+        final Path entry = entryPath(file);
+        if (entry != null) {
+            try {
+                if (Files.deleteIfExists(entry)) {
+                    entriesCount.updateAndGet(count -> count > 0 ? count - 1 : count);
+                }
+            } catch (final IOException e) {
+                problemsHandler.accept(e);
+            }
+        }
+    }
+
+    private void removeLeastRecentlyUsedEntriesIfNeeded() throws IOException {
+        // entries are counted in memory, so that the directory is listed only once in a while
+        if (entriesCount.get() >= 0 && entriesCount.incrementAndGet() <= maxEntries) {
+            return;
+        }
+        synchronized (entriesCount) {
+            final List<Path> entries = listEntries();
+            // removing a bit more than needed, so that the directory is not listed on every store
+            final int entriesToRemove = entries.size() > maxEntries ? entries.size() - (maxEntries * 9 / 10) : 0;
+            for (int i = 0; i < entriesToRemove; i++) {
+                Files.deleteIfExists(entries.get(i));
+            }
+            entriesCount.set(entries.size() - entriesToRemove);
+        }
+    }
+
+    private List<Path> listEntries() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(ENTRY_EXTENSION))
+                    .sorted(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                    .collect(toList());
+        }
+    }
+
+    private Path entryPath(final File file) {
+        try {
+            final String name = HASHING.hashString(path(file), StandardCharsets.UTF_8).toString();
+            return directory.resolve(name + ENTRY_EXTENSION);
+        } catch (final InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static long hash(final byte[] content) {
+        return HASHING.hashBytes(content).asLong();
+    }
+
+    private static String path(final File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private static int ordinalOf(final String typeName) {
+        try {
+            return RobotTokenType.valueOf(typeName).ordinal();
+        } catch (final IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static boolean mapTypes(final int[] entries, final int[] typesMapping) {
+        int i = 0;
+        while (i < entries.length) {
+            final int count = entries[i];
+            for (int j = 0; j < count; j++) {
+                final int typeIndex = i + 1 + 3 * j;
+                if (typeIndex >= entries.length || entries[typeIndex] < 0 || entries[typeIndex] >= typesMapping.length
+                        || typesMapping[entries[typeIndex]] < 0) {
+                    return false;
+                }
+                entries[typeIndex] = typesMapping[entries[typeIndex]];
+            }
+            i += 1 + 3 * count;
+        }
+        return i == entries.length;
+    }
+}
@@ -5,13 +5,21 @@
  */
 package org.rf.ide.core.testdata;
 
+import static java.util.stream.Collectors.toList;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.rf.ide.core.environment.RobotVersion;
 import org.rf.ide.core.testdata.model.FileFormat;
@@ -20,6 +28,7 @@ import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
 import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.text.read.RecognizedTokens;
 import org.rf.ide.core.testdata.text.read.TextualRobotFileParser;
 
 public class RobotParser {
@@ -32,9 +41,25 @@ public class RobotParser {
 
     private final RobotVersion version;
 
+    private final ParsedFilesCache cache;
+
     public RobotParser(final RobotProjectHolder robotProject, final RobotVersion version) {
+        this(robotProject, version, null);
+    }
+
+    /**
+     * Creates parser which reuses tokens recognized in files parsed earlier, which are kept in given
+     * cache, when files were not changed since then.
+     *
+     * @param robotProject
+     * @param version
+     * @param cache
+     */
+    public RobotParser(final RobotProjectHolder robotProject, final RobotVersion version,
+            final ParsedFilesCache cache) {
         this.robotProject = robotProject;
         this.version = version;
+        this.cache = cache;
     }
 
     /**
@@ -46,22 +71,69 @@ public class RobotParser {
      * @return
      */
     public RobotFileOutput parseEditorContent(final String fileContent, final File fileOrDir) {
-        final RobotFileOutput robotFile = new RobotFileOutput(version);
-
         final TextualRobotFileParser parser = createParser(fileOrDir, true);
 
         if (parser != null) {
-            final InputStream inputStream = fileContent == null || fileContent.isEmpty()
-                    ? new ByteArrayInputStream(new byte[0])
-                    : new ByteArrayInputStream(fileContent.getBytes(Charset.forName("UTF-8")));
-
-            parser.parse(robotFile, inputStream, fileOrDir);
-
+            final RobotFileOutput robotFile = parseContent(parser, fileContent, fileOrDir);
             clearIfNeeded(robotFile);
+            return robotFile;
         } else {
+            final RobotFileOutput robotFile = new RobotFileOutput(version);
             robotFile.addBuildMessage(BuildMessage.createErrorMessage("No parser found for given file"));
             robotFile.setStatus(Status.FAILED);
+            return robotFile;
         }
+    }
+
+    /**
+     * Should be used for unsaved editor content which was changed by single edit since previous
+     * output was parsed. Only the table section containing the edit and sections following it are
+     * parsed again, while preceding sections of previous output are reused in new output; previous
+     * output itself is not modified. Whole content is parsed instead when this is not possible, e.g.
+     * when table headers were edited. Lines of returned output are kept regardless of content size,
+     * so that it can be passed as previous output for the next edit.
+     *
+     * @param previousOutput
+     *            output for the content before edit or null when whole content should be parsed
+     * @param fileContent
+     *            content after edit
+     * @param fileOrDir
+     * @param editOffset
+     *            offset at which edit starts
+     * @param removedLength
+     *            length of removed text
+     * @param insertedLength
+     *            length of inserted text
+     * @return
+     */
+    public RobotFileOutput parseEditorContent(final RobotFileOutput previousOutput, final String fileContent,
+            final File fileOrDir, final int editOffset, final int removedLength, final int insertedLength) {
+        final TextualRobotFileParser parser = createParser(fileOrDir, true);
+
+        if (parser == null || fileContent == null) {
+            return parseEditorContent(fileContent, fileOrDir);
+        }
+        if (previousOutput != null && version.equals(previousOutput.getRobotVersion())) {
+            final EditedSectionReparser reparser = new EditedSectionReparser(
+                    content -> parseContent(parser, content, fileOrDir));
+            final Optional<RobotFileOutput> output = reparser.reparse(previousOutput, fileContent, editOffset,
+                    removedLength, insertedLength);
+            if (output.isPresent()) {
+                return output.get();
+            }
+        }
+        return parseContent(parser, fileContent, fileOrDir);
+    }
+
+    private RobotFileOutput parseContent(final TextualRobotFileParser parser, final String fileContent,
+            final File file) {
+        final RobotFileOutput robotFile = new RobotFileOutput(version);
+
+        final InputStream inputStream = fileContent == null || fileContent.isEmpty()
+                ? new ByteArrayInputStream(new byte[0])
+                : new ByteArrayInputStream(fileContent.getBytes(Charset.forName("UTF-8")));
+
+        parser.parse(robotFile, inputStream, file);
         return robotFile;
     }
 
@@ -71,6 +143,30 @@ public class RobotParser {
         return output;
     }
 
+    /**
+     * Parses given file or whole directory tree using given pool. Directories are split into
+     * separate tasks for each child, however outputs are returned in the same order as they
+     * would be returned by {@link #parse(File)}.
+     *
+     * @param fileOrDir
+     * @param pool
+     * @return
+     */
+    public List<RobotFileOutput> parse(final File fileOrDir, final ForkJoinPool pool) {
+        return pool.invoke(new ParsingTask(fileOrDir == null ? new File[0] : new File[] { fileOrDir }));
+    }
+
+    /**
+     * Parses given files using given pool. Outputs are returned in the order of given files.
+     *
+     * @param files
+     * @param pool
+     * @return
+     */
+    public List<RobotFileOutput> parse(final List<File> files, final ForkJoinPool pool) {
+        return pool.invoke(new ParsingTask(files.toArray(new File[0])));
+    }
+
     private void parse(final File fileOrDir, final List<RobotFileOutput> output) {
         if (fileOrDir != null) {
             if (fileOrDir.isDirectory()) {
@@ -80,27 +176,67 @@ public class RobotParser {
                         parse(file, output);
                     }
                 }
-            } else if (robotProject.shouldBeParsed(fileOrDir)) {
-                final TextualRobotFileParser parser = createParser(fileOrDir, false);
-
-                if (parser != null) {
-                    final RobotFileOutput robotFile = new RobotFileOutput(version);
-                    output.add(robotFile);
+            } else {
+                parseFile(fileOrDir).ifPresent(output::add);
+            }
+        }
+    }
 
-                    parser.parse(robotFile, fileOrDir);
-                    robotProject.addParsedFile(robotFile);
+    private Optional<RobotFileOutput> parseFile(final File file) {
+        if (robotProject.shouldBeParsed(file)) {
+            final TextualRobotFileParser parser = createParser(file, false);
 
-                    clearIfNeeded(robotFile);
-                }
-            } else {
-                final RobotFileOutput robotFile = robotProject.findParsedFileByPath(fileOrDir);
-                if (robotFile != null) {
-                    output.add(robotFile);
+            if (parser != null) {
+                // time is taken before reading the file, so that output of file changed meanwhile
+                // is parsed again next time
+                final long modificationTime = file.lastModified();
+                final RobotFileOutput robotFile;
+                if (cache == null) {
+                    robotFile = new RobotFileOutput(version);
+                    parser.parse(robotFile, file);
+                } else {
+                    robotFile = parseUsingCache(parser, file);
                 }
+                robotFile.setLastModificationEpochTime(modificationTime);
+                robotProject.addParsedFile(robotFile);
+
+                clearIfNeeded(robotFile);
+                return Optional.of(robotFile);
             }
+            return Optional.empty();
+        } else {
+            return Optional.ofNullable(robotProject.findParsedFileByPath(file));
         }
     }
 
+    private RobotFileOutput parseUsingCache(final TextualRobotFileParser parser, final File file) {
+        final RobotFileOutput robotFile = new RobotFileOutput(version);
+        final byte[] content;
+        try {
+            // content is read once, both for verifying cache entry and for parsing
+            content = Files.readAllBytes(file.toPath());
+        } catch (final IOException | InvalidPathException e) {
+            parser.parse(robotFile, file);
+            return robotFile;
+        }
+
+        final Optional<RecognizedTokens> loadedTokens = cache.load(file, version, content);
+        final RecognizedTokens tokens = loadedTokens.orElseGet(RecognizedTokens::new);
+        parser.parse(robotFile, new ByteArrayInputStream(content), file, tokens);
+        if (!loadedTokens.isPresent() && tokens.isValid() && robotFile.getStatus() == Status.PASSED) {
+            cache.store(file, version, content, tokens);
+
+        } else if (loadedTokens.isPresent() && !tokens.isValid()) {
+            // entry was recorded for the same content, so this may only happen when recognizers
+            // were changed without changing cache format version
+            cache.remove(file);
+            final RobotFileOutput reparsedFile = new RobotFileOutput(version);
+            parser.parse(reparsedFile, new ByteArrayInputStream(content), file);
+            return reparsedFile;
+        }
+        return robotFile;
+    }
+
     private TextualRobotFileParser createParser(final File fileOrDir, final boolean isFromStringContent) {
         if (fileOrDir == null || !fileOrDir.isFile() && !isFromStringContent) {
             return null;
@@ -118,4 +254,33 @@ public class RobotParser {
             fileModel.removeLines();
         }
     }
+
+    private class ParsingTask extends RecursiveTask<List<RobotFileOutput>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File[] filesOrDirs;
+
+        ParsingTask(final File[] filesOrDirs) {
+            this.filesOrDirs = filesOrDirs;
+        }
+
+        @Override
+        protected List<RobotFileOutput> compute() {
+            final List<RobotFileOutput> output = new ArrayList<>();
+            if (filesOrDirs.length == 1 && !filesOrDirs[0].isDirectory()) {
+                parseFile(filesOrDirs[0]).ifPresent(output::add);
+
+            } else {
+                final List<ParsingTask> subtasks = Arrays.stream(filesOrDirs)
+                        .map(fileOrDir -> fileOrDir.isDirectory() ? fileOrDir.listFiles() : new File[] { fileOrDir })
+                        .filter(files -> files != null)
+                        .map(ParsingTask::new)
+                        .collect(toList());
+                invokeAll(subtasks);
+                subtasks.forEach(task -> output.addAll(task.join()));
+            }
+            return output;
+        }
+    }
 }
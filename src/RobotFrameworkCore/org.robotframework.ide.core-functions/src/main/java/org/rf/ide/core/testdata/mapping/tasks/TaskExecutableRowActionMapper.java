@@ -38,7 +38,6 @@ public class TaskExecutableRowActionMapper implements IParsingMapper {
 
     @Override
     public final boolean isApplicableFor(final RobotVersion robotVersion) {
-        specialTokensRecognizer.initializeFor(robotVersion);
         return robotVersion.isNewerOrEqualTo(new RobotVersion(3, 1));
     }
 
@@ -73,7 +72,8 @@ public class TaskExecutableRowActionMapper implements IParsingMapper {
         types.add(0, RobotTokenType.TASK_ACTION_NAME);
         types.remove(RobotTokenType.UNKNOWN);
 
-        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(fp, text);
+        final List<RobotToken> specialTokens = specialTokensRecognizer
+                .recognize(robotFileOutput.getRobotVersion(), fp, text);
         for (final RobotToken token : specialTokens) {
             types.addAll(token.getTypes());
         }
@@ -43,12 +43,6 @@ public class TestCaseExecutableRowActionMapper implements IParsingMapper {
         this.specialTokensRecognizer = new RobotSpecialTokens();
     }
 
-    @Override
-    public boolean isApplicableFor(final RobotVersion robotVersion) {
-        specialTokensRecognizer.initializeFor(robotVersion);
-        return IParsingMapper.super.isApplicableFor(robotVersion);
-    }
-
     @Override
     public boolean checkIfCanBeMapped(final RobotFileOutput robotFileOutput, final RobotLine currentLine,
             final RobotToken rt, final String text, final Stack<ParsingState> processingState) {
@@ -79,7 +73,8 @@ public class TestCaseExecutableRowActionMapper implements IParsingMapper {
         types.add(0, RobotTokenType.TEST_CASE_ACTION_NAME);
         types.remove(RobotTokenType.UNKNOWN);
 
-        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(fp, text);
+        final List<RobotToken> specialTokens = specialTokensRecognizer
+                .recognize(robotFileOutput.getRobotVersion(), fp, text);
         for (final RobotToken token : specialTokens) {
             types.addAll(token.getTypes());
         }
@@ -64,6 +64,12 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         this.fileContent.add(line);
     }
 
+    public void replaceLines(final int fromIndex, final int toIndex, final List<RobotLine> lines) {
+        final List<RobotLine> replacedLines = fileContent.subList(fromIndex, toIndex);
+        replacedLines.clear();
+        replacedLines.addAll(lines);
+    }
+
     public Optional<RobotLine> getRobotLineBy(final int offset) {
         return getRobotLineIndexBy(offset).map(fileContent::get);
     }
@@ -114,6 +120,17 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         }
     }
 
+    /**
+     * Puts table of other model into this one. Parent of the table is not changed, so it stays
+     * unmodified in the other model.
+     *
+     * @param table
+     */
+    public void shareTable(final ARobotSectionTable table) {
+        final RobotTokenType headerType = (RobotTokenType) table.getHeaders().get(0).getTableHeader().getTypes().get(0);
+        tables.put(headerType, table);
+    }
+
     public void excludeTable(final RobotTokenType headerType) {
         final ARobotSectionTable table;
         switch (headerType) {
@@ -6,20 +6,22 @@
 package org.rf.ide.core.testdata.model;
 
 import java.io.File;
+import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.NullRuntimeEnvironment;
 import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.RobotProjectConfig;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
 
 public class RobotProjectHolder {
 
@@ -34,7 +36,16 @@ public class RobotProjectHolder {
     private final List<File> modulesSearchPaths = new ArrayList<>();
 
     // files may be parsed in several threads
-    private final Set<RobotFileOutput> parsedModelFiles = Collections.synchronizedSet(new HashSet<>());
+    private final Map<String, RobotFileOutput> parsedModelFiles = new ConcurrentHashMap<>();
+
+    private final Set<RobotFileOutput> filesWithUnindexedVariablesImports = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Set<RobotFileOutput>> variablesFilesImporters = new ConcurrentHashMap<>();
+
+    private final Object variablesImportsIndexingLock = new Object();
+
+    // guarded by variablesImportsIndexingLock
+    private final Set<RobotFileOutput> filesBeingIndexed = new HashSet<>();
 
     public RobotProjectHolder() {
         this(new NullRuntimeEnvironment());
@@ -110,17 +121,20 @@ public class RobotProjectHolder {
     }
 
     public void addParsedFile(final RobotFileOutput robotFile) {
-        if (robotFile != null) {
-            final File processedFile = robotFile.getProcessedFile();
-            if (processedFile != null) {
-                parsedModelFiles.remove(findParsedFileByPath(processedFile));
+        if (robotFile != null && robotFile.getProcessedFile() != null) {
+            final String path = normalizedPath(robotFile.getProcessedFile());
+            final RobotFileOutput previous = parsedModelFiles.put(path, robotFile);
+            if (previous != null) {
+                filesWithUnindexedVariablesImports.remove(previous);
             }
-            parsedModelFiles.add(robotFile);
+            filesWithUnindexedVariablesImports.add(robotFile);
         }
     }
 
     public void clearParsedFiles() {
         parsedModelFiles.clear();
+        filesWithUnindexedVariablesImports.clear();
+        variablesFilesImporters.clear();
     }
 
     public boolean shouldBeParsed(final File file) {
@@ -130,29 +144,79 @@ public class RobotProjectHolder {
 
     public RobotFileOutput findParsedFileWithImportedVariableFile(final PathsProvider pathsProvider,
             final File variableFile) {
-        // files may be parsed in several threads
-        synchronized (parsedModelFiles) {
-            for (final RobotFileOutput robotFile : parsedModelFiles) {
-                if (robotFile.getVariablesImportReferences(this, pathsProvider)
-                        .stream()
-                        .anyMatch(r -> r.getVariablesFile().getAbsolutePath().equals(variableFile.getAbsolutePath()))) {
-                    return robotFile;
+        final String variableFilePath = normalizedPath(variableFile);
+
+        final RobotFileOutput indexedImporter = findIndexedImporter(variableFilePath);
+        if (indexedImporter != null || filesWithUnindexedVariablesImports.isEmpty()) {
+            return indexedImporter;
+        }
+
+        // imports of files added since last lookup are resolved lazily, exactly once per parsed file; the lock is
+        // reentrant, because resolving imports of one file may search for importers of its variables files
+        synchronized (variablesImportsIndexingLock) {
+            for (final RobotFileOutput robotFile : filesWithUnindexedVariablesImports) {
+                if (!isRegistered(robotFile)) {
+                    filesWithUnindexedVariablesImports.remove(robotFile);
+
+                } else if (filesBeingIndexed.add(robotFile)) {
+                    try {
+                        if (indexVariablesImports(pathsProvider, robotFile).contains(variableFilePath)) {
+                            return robotFile;
+                        }
+                    } finally {
+                        // file leaves unindexed set only when its imports are visible in the index, so that
+                        // other threads never miss the importer which is just being indexed
+                        filesWithUnindexedVariablesImports.remove(robotFile);
+                        filesBeingIndexed.remove(robotFile);
+                    }
                 }
             }
         }
-        return null;
+        return findIndexedImporter(variableFilePath);
+    }
+
+    private Set<String> indexVariablesImports(final PathsProvider pathsProvider, final RobotFileOutput robotFile) {
+        final Set<String> importedPaths = new HashSet<>();
+        for (final VariablesFileImportReference reference : robotFile.getVariablesImportReferences(this,
+                pathsProvider)) {
+            final String importedPath = normalizedPath(reference.getVariablesFile());
+            importedPaths.add(importedPath);
+            variablesFilesImporters.compute(importedPath, (path, importers) -> {
+                final Set<RobotFileOutput> newImporters = importers == null ? ConcurrentHashMap.newKeySet()
+                        : importers;
+                newImporters.add(robotFile);
+                return newImporters;
+            });
+        }
+        return importedPaths;
     }
 
-    public RobotFileOutput findParsedFileByPath(final File file) {
-        // files may be parsed in several threads
-        synchronized (parsedModelFiles) {
-            for (final RobotFileOutput robotFile : parsedModelFiles) {
-                if (robotFile.getProcessedFile() != null
-                        && robotFile.getProcessedFile().getAbsolutePath().equals(file.getAbsolutePath())) {
-                    return robotFile;
+    private RobotFileOutput findIndexedImporter(final String variableFilePath) {
+        final Set<RobotFileOutput> importers = variablesFilesImporters.get(variableFilePath);
+        if (importers != null) {
+            for (final RobotFileOutput importer : importers) {
+                if (isRegistered(importer)) {
+                    return importer;
                 }
+                importers.remove(importer);
             }
         }
         return null;
     }
+
+    private boolean isRegistered(final RobotFileOutput robotFile) {
+        return parsedModelFiles.get(normalizedPath(robotFile.getProcessedFile())) == robotFile;
+    }
+
+    public RobotFileOutput findParsedFileByPath(final File file) {
+        return parsedModelFiles.get(normalizedPath(file));
+    }
+
+    private static String normalizedPath(final File file) {
+        try {
+            return file.getAbsoluteFile().toPath().normalize().toString();
+        } catch (final InvalidPathException e) {
+            return file.getAbsolutePath();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * Index of keywords used by {@link KeywordSearcher} in order to find keywords which may match given
+ * usage without checking all of them. Keywords are indexed by unified name, with and without source
+ * name prefix, while keywords with embedded arguments are kept aside as those have to be matched
+ * one by one. The index can be reused for many searches as long as keywords are not changing.
+ *
+ * @param <T>
+ */
+public class KeywordIndex<T extends SearchableKeyword> {
+
+    private final List<IndexedKeyword<T>> keywords = new ArrayList<>();
+
+    private final ListMultimap<String, Integer> byName = ArrayListMultimap.create();
+
+    private final List<Integer> matchedOneByOne = new ArrayList<>();
+
+    public KeywordIndex(final Collection<T> keywords) {
+        for (final T keyword : keywords) {
+            final int index = this.keywords.size();
+            final IndexedKeyword<T> indexedKeyword = new IndexedKeyword<>(keyword);
+            this.keywords.add(indexedKeyword);
+
+            final String sourceName = keyword.getSourceNameInUse();
+            final String qualifiedName = sourceName == null ? null
+                    : indexedKeyword.getQualifiedName(sourceName.toLowerCase());
+
+            // names with '$' are matched by regex, not by equality, so they cannot be looked up
+            if (indexedKeyword.isEmbedded() || indexedKeyword.getName().indexOf('$') != -1
+                    || qualifiedName != null && qualifiedName.indexOf('$') != -1) {
+                matchedOneByOne.add(index);
+            } else {
+                byName.put(caseInsensitiveKey(indexedKeyword.getName()), index);
+                if (qualifiedName != null) {
+                    byName.put(caseInsensitiveKey(qualifiedName), index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns keywords which may match any of given unified names, in the order in which they
+     * were indexed.
+     */
+    List<IndexedKeyword<T>> findCandidates(final Collection<String> unifiedNames) {
+        final TreeSet<Integer> candidates = new TreeSet<>(matchedOneByOne);
+        for (final String name : unifiedNames) {
+            candidates.addAll(byName.get(caseInsensitiveKey(name)));
+        }
+
+        final List<IndexedKeyword<T>> result = new ArrayList<>(candidates.size());
+        for (final Integer index : candidates) {
+            result.add(keywords.get(index));
+        }
+        return result;
+    }
+
+    // two strings are equal ignoring case exactly when their keys are equal
+    private static String caseInsensitiveKey(final String name) {
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    static class IndexedKeyword<T extends SearchableKeyword> {
+
+        private final T keyword;
+
+        private final String name;
+
+        private final boolean isEmbedded;
+
+        private IndexedKeyword(final T keyword) {
+            this.keyword = keyword;
+            this.name = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
+            this.isEmbedded = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(name);
+        }
+
+        T getKeyword() {
+            return keyword;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isEmbedded() {
+            return isEmbedded;
+        }
+
+        String getQualifiedName(final String lowerCasedSourceName) {
+            final String qualifiedName = lowerCasedSourceName + "." + name;
+            return isEmbedded ? qualifiedName : QualifiedKeywordName.unifyDefinition(qualifiedName);
+        }
+    }
+}
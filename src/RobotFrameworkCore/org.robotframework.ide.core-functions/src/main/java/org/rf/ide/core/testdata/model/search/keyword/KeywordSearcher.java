@@ -19,10 +19,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import org.rf.ide.core.testdata.model.search.keyword.KeywordIndex.IndexedKeyword;
 import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
 import org.rf.ide.core.testdata.model.table.keywords.names.GherkinStyleSupport;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 
@@ -64,6 +66,24 @@ public class KeywordSearcher {
     public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
             final Map<String, Collection<T>> accessibleKeywords, final Collection<T> keywords, final String usageName,
             final boolean stopIfOneWasMatching) {
+        return findKeywords(accessibleKeywords, new KeywordIndex<>(keywords), usageName, stopIfOneWasMatching);
+    }
+
+    /**
+     * Finds keywords matching given usage name like
+     * {@link #findKeywords(Map, Collection, String, boolean)} does, but only keywords returned by
+     * given index as possibly matching are checked. The index should be reused between searches
+     * done over the same keywords.
+     *
+     * @param accessibleKeywords
+     * @param keywordsIndex
+     * @param usageName
+     * @param stopIfOneWasMatching
+     * @return
+     */
+    public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
+            final Map<String, Collection<T>> accessibleKeywords, final KeywordIndex<T> keywordsIndex,
+            final String usageName, final boolean stopIfOneWasMatching) {
         final ListMultimap<String, T> foundByMatch = ArrayListMultimap.create();
 
         if (stopIfOneWasMatching) {
@@ -76,13 +96,16 @@ public class KeywordSearcher {
         }
 
         final List<String> possibleNameCombinations = getNamesToCheck(usageName);
-        for (final T keyword : keywords) {
-            final String keywordName = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
-            final boolean isEmbeddedKeywordName = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(keywordName);
+        final List<String> possibleUnifiedNameCombinations = possibleNameCombinations.stream()
+                .map(QualifiedKeywordName::unifyDefinition)
+                .collect(toList());
+        for (final IndexedKeyword<T> indexedKeyword : keywordsIndex.findCandidates(possibleUnifiedNameCombinations)) {
+            final T keyword = indexedKeyword.getKeyword();
+            final String keywordName = indexedKeyword.getName();
+            final boolean isEmbeddedKeywordName = indexedKeyword.isEmbedded();
 
-            final List<String> unifiedNameCombinations = isEmbeddedKeywordName
-                    ? possibleNameCombinations
-                    : possibleNameCombinations.stream().map(QualifiedKeywordName::unifyDefinition).collect(toList());
+            final List<String> unifiedNameCombinations = isEmbeddedKeywordName ? possibleNameCombinations
+                    : possibleUnifiedNameCombinations;
 
             for (final String nameCombination : unifiedNameCombinations) {
                 final Predicate<String> matcher = qualifier -> matchNameDirectlyOrAsEmbeddedName(keywordName, qualifier,
@@ -113,7 +136,8 @@ public class KeywordSearcher {
         return EmbeddedKeywordNamesSupport.matchesIgnoreCase(prefixedKeywordName, nameCombination);
     }
 
-    private List<String> getNamesToCheck(final String usageName) {
+    @VisibleForTesting
+    List<String> getNamesToCheck(final String usageName) {
         return possibleNameCombination(usageName).stream()
                 .sorted(Comparator.comparingInt(String::length).reversed())
                 .collect(toList());
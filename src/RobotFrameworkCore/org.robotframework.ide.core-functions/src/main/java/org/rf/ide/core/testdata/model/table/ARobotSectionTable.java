@@ -16,7 +16,7 @@ import org.rf.ide.core.testdata.model.RobotFile;
 
 public abstract class ARobotSectionTable implements IOptional, IChildElement<RobotFile> {
 
-    private final RobotFile parent;
+    private RobotFile parent;
 
     private final List<TableHeader<? extends ARobotSectionTable>> headers = new ArrayList<>();
 
@@ -29,6 +29,10 @@ public abstract class ARobotSectionTable implements IOptional, IChildElement<Rob
         return parent;
     }
 
+    public void setParent(final RobotFile parent) {
+        this.parent = parent;
+    }
+
     @SuppressWarnings("unchecked")
     public void addHeader(@SuppressWarnings("rawtypes") final TableHeader header) {
         header.setParent(this);
@@ -11,6 +11,9 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
 import com.google.common.collect.TreeRangeSet;
@@ -20,6 +23,12 @@ import com.google.common.collect.TreeRangeSet;
  */
 public class EmbeddedKeywordNamesSupport {
 
+    // the same definitions are matched against all the keyword calls during validation,
+    // so their regexes are compiled once
+    private static final LoadingCache<String, EmbeddedNameMatcher> MATCHERS = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .build(CacheLoader.from(EmbeddedNameMatcher::new));
+
     public static boolean hasVariablesUsed(final String occurrenceName) {
         return !findEmbeddedArgumentsRanges(occurrenceName).isEmpty();
     }
@@ -52,8 +61,10 @@ public class EmbeddedKeywordNamesSupport {
                     return Optional.empty();
                 }
 
+                // matchers of shortened definitions are not cached, as those are rarely matched again
                 final String shortenedDefinition = definitionName.substring(lowerIndex, upperIndex);
-                if (matchesIgnoreCase(shortenedDefinition, occurrenceName)) {
+                if (shortenedDefinition.equalsIgnoreCase(occurrenceName) || shortenedDefinition.indexOf('$') != -1
+                        && new EmbeddedNameMatcher(shortenedDefinition).matches(occurrenceName)) {
                     return Optional.of(Range.closedOpen(lowerIndex, upperIndex));
                 }
 
@@ -75,26 +86,7 @@ public class EmbeddedKeywordNamesSupport {
         } else if (definitionName.indexOf('$') == -1) {
             return false;
         }
-
-        try {
-            if (hasVariablesUsed(occurrenceName)) {
-                // There is a variable used in occurrence - we'll change all variables to ordinary
-                // dots and try if they matches regex with variables replaced by .+ regex
-                final String occurrenceNameWithoutVariables = substituteVariablesWithRegex(occurrenceName, s -> s,
-                        (n, r) -> ".");
-                final String regex = "(?iu)^"
-                        + substituteVariablesWithRegex(definitionName, Pattern::quote, (n, r) -> ".+") + "$";
-                return Pattern.matches(regex, occurrenceNameWithoutVariables);
-
-            } else {
-                final String regex = "(?iu)^" + substituteVariablesWithRegex(definitionName, Pattern::quote,
-                        EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex) + "$";
-                return Pattern.matches(regex, occurrenceName);
-            }
-
-        } catch (final PatternSyntaxException e) {
-            return false;
-        }
+        return MATCHERS.getUnchecked(definitionName).matches(occurrenceName);
     }
 
     private static String substituteVariablesWithRegex(final String definitionName,
@@ -204,6 +196,82 @@ public class EmbeddedKeywordNamesSupport {
         return variable.indexOf(':') != -1 ? variable.substring(0, variable.indexOf(':')) + "}" : variable;
     }
 
+    /**
+     * Matches occurrences against single definition name with embedded arguments. Literal parts of
+     * definition before first and after last argument are compared with occurrence before any regex
+     * is used, as most of the occurrences differ from definition there.
+     */
+    private static class EmbeddedNameMatcher {
+
+        private final String definitionName;
+
+        private final String literalPrefix;
+
+        private final String literalSuffix;
+
+        private final Pattern pattern;
+
+        private volatile Pattern patternForOccurrenceWithVariables;
+
+        EmbeddedNameMatcher(final String definitionName) {
+            this.definitionName = definitionName;
+
+            final RangeSet<Integer> varRanges = findEmbeddedArgumentsRanges(definitionName);
+            if (varRanges.isEmpty()) {
+                this.literalPrefix = definitionName;
+                this.literalSuffix = "";
+            } else {
+                this.literalPrefix = definitionName.substring(0, varRanges.span().lowerEndpoint());
+                this.literalSuffix = definitionName.substring(varRanges.span().upperEndpoint() + 1);
+            }
+            this.pattern = compile(substituteVariablesWithRegex(definitionName, Pattern::quote,
+                    EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex));
+        }
+
+        boolean matches(final String occurrenceName) {
+            if (occurrenceName.indexOf("${") != -1 && hasVariablesUsed(occurrenceName)) {
+                // There is a variable used in occurrence - we'll change all variables to ordinary
+                // dots and try if they matches regex with variables replaced by .+ regex
+                final String occurrenceNameWithoutVariables = substituteVariablesWithRegex(occurrenceName, s -> s,
+                        (n, r) -> ".");
+                if (!hasLiteralPrefixAndSuffix(occurrenceNameWithoutVariables)) {
+                    return false;
+                }
+                final Pattern patternWithVariables = getPatternForOccurrenceWithVariables();
+                return patternWithVariables != null
+                        && patternWithVariables.matcher(occurrenceNameWithoutVariables).matches();
+
+            } else {
+                return pattern != null && hasLiteralPrefixAndSuffix(occurrenceName)
+                        && pattern.matcher(occurrenceName).matches();
+            }
+        }
+
+        private boolean hasLiteralPrefixAndSuffix(final String occurrenceName) {
+            return occurrenceName.length() >= literalPrefix.length() + literalSuffix.length()
+                    && occurrenceName.regionMatches(true, 0, literalPrefix, 0, literalPrefix.length())
+                    && occurrenceName.regionMatches(true, occurrenceName.length() - literalSuffix.length(),
+                            literalSuffix, 0, literalSuffix.length());
+        }
+
+        private Pattern getPatternForOccurrenceWithVariables() {
+            Pattern result = patternForOccurrenceWithVariables;
+            if (result == null) {
+                result = compile(substituteVariablesWithRegex(definitionName, Pattern::quote, (n, r) -> ".+"));
+                patternForOccurrenceWithVariables = result;
+            }
+            return result;
+        }
+
+        private static Pattern compile(final String regex) {
+            try {
+                return Pattern.compile("(?iu)^" + regex + "$");
+            } catch (final PatternSyntaxException e) {
+                return null;
+            }
+        }
+    }
+
     private enum KeywordDfaState {
         START_STATE,
         VAR_DOLLAR_DETECTED,
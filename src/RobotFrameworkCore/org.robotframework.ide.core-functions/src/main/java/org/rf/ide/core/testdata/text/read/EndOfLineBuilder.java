@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata.text.read;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -156,8 +157,7 @@ public class EndOfLineBuilder {
             this.lineNumber = lineNumber;
             this.startColumn = startColumn;
             this.startOffset = startOffset;
-            this.types = new ArrayList<>(0);
-            this.types.add(type);
+            this.types = type.asTypes();
         }
 
         @Override
@@ -279,6 +279,8 @@ public class EndOfLineBuilder {
 
         private final List<VersionAvailabilityInfo> representation = new ArrayList<>(0);
 
+        private final List<IRobotTokenType> asTypes = Collections.singletonList(this);
+
         private EndOfLineTypes(final VersionAvailabilityInfo... representations) {
             for (final VersionAvailabilityInfo vInfo : representations) {
                 representation.add(vInfo);
@@ -291,6 +293,15 @@ public class EndOfLineBuilder {
             return text;
         }
 
+        /**
+         * End of line elements are immutable, so all of them having this type share the same list.
+         *
+         * @return
+         */
+        List<IRobotTokenType> asTypes() {
+            return asTypes;
+        }
+
         @Override
         public List<VersionAvailabilityInfo> getVersionAvailabilityInfos() {
             return representation;
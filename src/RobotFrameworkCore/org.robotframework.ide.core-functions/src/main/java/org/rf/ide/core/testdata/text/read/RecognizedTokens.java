@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+/**
+ * Tokens found by recognizers in cells of a single file, in order in which the cells were parsed.
+ * A new instance records them during parsing, so that they can be stored and replayed when exactly
+ * the same content is parsed again, instead of matching each cell against recognizers patterns.
+ * For each cell the number of tokens is kept, followed by type, start column inside of the cell
+ * and length of every token. Additionally the hash of texts and positions of all the parsed cells is
+ * computed, so that replaying tokens recorded for different content can be detected without reading
+ * the file once again.
+ */
+public class RecognizedTokens {
+
+    private static final RobotTokenType[] TYPES = RobotTokenType.values();
+
+    private int[] entries;
+
+    private int size;
+
+    private int cursor;
+
+    private final boolean replaying;
+
+    private final long expectedContentHash;
+
+    private long contentHash = 1;
+
+    private boolean valid = true;
+
+    public RecognizedTokens() {
+        this.entries = new int[256];
+        this.replaying = false;
+        this.expectedContentHash = 0;
+    }
+
+    public RecognizedTokens(final int[] entries, final long contentHash) {
+        this.entries = entries;
+        this.size = entries.length;
+        this.replaying = true;
+        this.expectedContentHash = contentHash;
+    }
+
+    public boolean isReplaying() {
+        return replaying;
+    }
+
+    /**
+     * Checked after parsing. Returns false if replayed tokens did not fit the parsed content or were
+     * recorded for different content.
+     *
+     * @return
+     */
+    public boolean isValid() {
+        return valid && (!replaying || cursor == size && contentHash == expectedContentHash);
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public int[] getEntries() {
+        return Arrays.copyOf(entries, size);
+    }
+
+    void record(final FilePosition fp, final String text, final List<RobotToken> tokens) {
+        if (replaying || !valid) {
+            return;
+        }
+        updateContentHash(fp, text);
+        final int cellColumn = fp.getColumn();
+        ensureCapacity(1 + 3 * tokens.size());
+        entries[size++] = tokens.size();
+        for (final RobotToken token : tokens) {
+            entries[size++] = ((RobotTokenType) token.getTypes().get(0)).ordinal();
+            entries[size++] = token.getStartColumn() - cellColumn;
+            entries[size++] = token.getText().length();
+        }
+    }
+
+    Optional<List<RobotToken>> replay(final FilePosition fp, final String text) {
+        if (!replaying || !valid) {
+            return Optional.empty();
+        }
+        if (cursor >= size || cursor + 1 + 3 * entries[cursor] > size) {
+            valid = false;
+            return Optional.empty();
+        }
+        updateContentHash(fp, text);
+        final int count = entries[cursor];
+        final List<RobotToken> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int base = cursor + 1 + 3 * i;
+            final int type = entries[base];
+            final int start = entries[base + 1];
+            final int end = start + entries[base + 2];
+            if (type < 0 || type >= TYPES.length || start < 0 || end > text.length()) {
+                valid = false;
+                return Optional.empty();
+            }
+            tokens.add(RobotToken.create(text.substring(start, end), fp.getLine(), fp.getColumn() + start,
+                    TYPES[type]));
+        }
+        cursor += 1 + 3 * count;
+        return Optional.of(tokens);
+    }
+
+    private void updateContentHash(final FilePosition fp, final String text) {
+        contentHash = 31 * (31 * (31 * contentHash + fp.getLine()) + fp.getColumn()) + text.hashCode();
+    }
+
+    private void ensureCapacity(final int required) {
+        if (size + required > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(2 * entries.length, size + required));
+        }
+    }
+}
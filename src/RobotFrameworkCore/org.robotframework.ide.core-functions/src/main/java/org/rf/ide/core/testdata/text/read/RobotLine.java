@@ -20,6 +20,14 @@ import org.rf.ide.core.testdata.text.read.separators.Separator.SeparatorType;
 
 public class RobotLine implements IChildElement<RobotFile> {
 
+    // end of line elements are immutable, so lines without one declared may share single instance
+    private static final IRobotLineElement NOT_SET_EOL = EndOfLineBuilder.newInstance()
+            .setEndOfLines(null)
+            .setLineNumber(IRobotLineElement.NOT_SET)
+            .setStartColumn(IRobotLineElement.NOT_SET)
+            .setStartOffset(IRobotLineElement.NOT_SET)
+            .buildEOL();
+
     public static RobotLine create(final IRobotLineElement... lineElements) {
         final RobotLine line = new RobotLine(-1, null);
         for (final IRobotLineElement elem : lineElements) {
@@ -34,14 +42,9 @@ public class RobotLine implements IChildElement<RobotFile> {
 
     private List<IRobotLineElement> lineElements = new ArrayList<>(0);
 
-    private Optional<SeparatorType> separatorForLine = Optional.empty();
+    private SeparatorType separatorForLine;
 
-    private IRobotLineElement eol = EndOfLineBuilder.newInstance()
-            .setEndOfLines(null)
-            .setLineNumber(IRobotLineElement.NOT_SET)
-            .setStartColumn(IRobotLineElement.NOT_SET)
-            .setStartOffset(IRobotLineElement.NOT_SET)
-            .buildEOL();
+    private IRobotLineElement eol = NOT_SET_EOL;
 
     public RobotLine(final int lineNumber, final RobotFile parent) {
         this.lineNumber = lineNumber;
@@ -49,11 +52,11 @@ public class RobotLine implements IChildElement<RobotFile> {
     }
 
     public void setSeparatorType(final SeparatorType separatorForLine) {
-        this.separatorForLine = Optional.ofNullable(separatorForLine);
+        this.separatorForLine = separatorForLine;
     }
 
     public Optional<SeparatorType> getSeparatorForLine() {
-        return separatorForLine;
+        return Optional.ofNullable(separatorForLine);
     }
 
     @Override
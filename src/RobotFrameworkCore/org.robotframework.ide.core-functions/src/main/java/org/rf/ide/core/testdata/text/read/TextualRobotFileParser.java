@@ -17,8 +17,12 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rf.ide.core.environment.RobotVersion;
 import org.rf.ide.core.testdata.mapping.PreviousLineHandler;
@@ -57,6 +61,7 @@ import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider
 import org.rf.ide.core.testdata.text.read.recognizer.TableHeadersRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.recognizer.TaskRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersClassifier;
 import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
@@ -67,8 +72,14 @@ import com.google.common.annotations.VisibleForTesting;
 
 public class TextualRobotFileParser {
 
+    private static final Map<RobotVersion, VersionDependentElements> ELEMENTS_PER_VERSION = new ConcurrentHashMap<>();
+
     private final List<ATokenRecognizer> recognizers = new ArrayList<>();
 
+    private TokenRecognizersClassifier recognizersClassifier;
+
+    private RecognizedTokens recognizedTokens;
+
     private final List<IParsingMapper> mappers = new ArrayList<>();
 
     private final List<IParsingMapper> unknownTableElementsMapper = new ArrayList<>();
@@ -146,25 +157,41 @@ public class TextualRobotFileParser {
         }
     }
 
+    /**
+     * Parses given content of file recording tokens found by recognizers into given object, or
+     * replaying them from it if it was recorded earlier for exactly the same content.
+     *
+     * @param parsingOutput
+     * @param inputStream
+     * @param robotFile
+     * @param recognizedTokens
+     */
+    public void parse(final RobotFileOutput parsingOutput, final InputStream inputStream, final File robotFile,
+            final RecognizedTokens recognizedTokens) {
+        this.recognizedTokens = recognizedTokens;
+        try {
+            parse(parsingOutput, inputStream, robotFile);
+        } finally {
+            this.recognizedTokens = null;
+        }
+    }
+
     private void initializeRecognizersAndMappers(final RobotVersion robotVersion) {
+        final VersionDependentElements elements = ELEMENTS_PER_VERSION.computeIfAbsent(robotVersion,
+                VersionDependentElements::new);
+
+        // recognizers are keeping matching state, so each parsing uses fresh instances
         recognizers.clear();
-        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
-        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+        for (final ATokenRecognizer recognizer : elements.recognizers) {
+            recognizers.add(recognizer.newInstance());
+        }
+        recognizersClassifier = elements.recognizersClassifier;
 
         mappers.clear();
-        mappers.addAll(new SettingsMapperProvider().getMappers(robotVersion));
-        mappers.addAll(new VariablesDeclarationMapperProvider().getMappers());
-        mappers.addAll(new TestCaseMapperProvider().getMappers());
-        mappers.addAll(new TaskMapperProvider().getMappers(robotVersion));
-        mappers.addAll(new UserKeywordMapperProvider().getMappers());
-        mappers.addAll(new CommentsMapperProvider().getMappers(robotVersion));
+        mappers.addAll(elements.mappers);
 
         unknownTableElementsMapper.clear();
-        unknownTableElementsMapper.addAll(new UnknownTableElementsMapper().getMappers(robotVersion));
+        unknownTableElementsMapper.addAll(elements.unknownTableElementsMappers);
     }
 
     private RobotFileOutput parse(final RobotFileOutput parsingOutput, final File robotFile, final Reader reader) {
@@ -526,19 +553,66 @@ public class TextualRobotFileParser {
     private List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
 
-        for (final ATokenRecognizer rec : recognizers) {
-            if (rec.hasNext(text, fp.getLine(), fp.getColumn())) {
-                final RobotToken token = rec.next();
-                token.setStartColumn(token.getStartColumn() + fp.getColumn());
-                possibleRobotTokens.add(token);
-                if (!rec.shouldContinueWithOtherRecognizers()) {
-                    break;
+        final Optional<List<RobotToken>> replayedTokens = recognizedTokens == null ? Optional.empty()
+                : recognizedTokens.replay(fp, text);
+        if (replayedTokens.isPresent()) {
+            possibleRobotTokens.addAll(replayedTokens.get());
+
+        } else {
+            // only recognizers which are able to find something in given text are checked
+            final BitSet candidates = recognizersClassifier.classify(text);
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                final ATokenRecognizer rec = recognizers.get(i);
+                if (rec.hasNext(text, fp.getLine(), fp.getColumn())) {
+                    final RobotToken token = rec.next();
+                    token.setStartColumn(token.getStartColumn() + fp.getColumn());
+                    possibleRobotTokens.add(token);
+                    if (!rec.shouldContinueWithOtherRecognizers()) {
+                        break;
+                    }
                 }
             }
+            if (recognizedTokens != null) {
+                recognizedTokens.record(fp, text, possibleRobotTokens);
+            }
         }
         if (possibleRobotTokens.isEmpty()) {
             possibleRobotTokens.add(RobotToken.create(text, fp.getLine(), fp.getColumn()));
         }
         return possibleRobotTokens;
     }
+
+    /**
+     * Recognizers and mappers applicable for given version of Robot Framework. Those are built
+     * once per version and then shared between parsers, so they should never be modified.
+     */
+    private static class VersionDependentElements {
+
+        private final List<ATokenRecognizer> recognizers = new ArrayList<>();
+
+        private final List<IParsingMapper> mappers = new ArrayList<>();
+
+        private final List<IParsingMapper> unknownTableElementsMappers = new ArrayList<>();
+
+        private final TokenRecognizersClassifier recognizersClassifier;
+
+        private VersionDependentElements(final RobotVersion robotVersion) {
+            recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
+            recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
+            recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+            recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
+            recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
+            recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
+            recognizersClassifier = new TokenRecognizersClassifier(recognizers);
+
+            mappers.addAll(new SettingsMapperProvider().getMappers(robotVersion));
+            mappers.addAll(new VariablesDeclarationMapperProvider().getMappers());
+            mappers.addAll(new TestCaseMapperProvider().getMappers());
+            mappers.addAll(new TaskMapperProvider().getMappers(robotVersion));
+            mappers.addAll(new UserKeywordMapperProvider().getMappers());
+            mappers.addAll(new CommentsMapperProvider().getMappers(robotVersion));
+
+            unknownTableElementsMappers.addAll(new UnknownTableElementsMapper().getMappers(robotVersion));
+        }
+    }
 }
@@ -9,6 +9,8 @@ import static java.util.stream.Collectors.joining;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,8 +18,10 @@ public abstract class AExecutableElementSettingsRecognizer extends ATokenRecogni
 
     private static final Pattern BRACKET_EXTRACTION = Pattern.compile("(?!\\[)([^\\]])+(?!\\\\])");
 
+    private static final Map<RobotTokenType, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
     protected AExecutableElementSettingsRecognizer(final RobotTokenType type) {
-        super(build(buildVariants(type)), type);
+        super(PATTERNS.computeIfAbsent(type, t -> build(buildVariants(t))), type);
     }
 
     private static List<String> buildVariants(final RobotTokenType type) {
@@ -10,6 +10,8 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -26,15 +28,12 @@ public class RobotSpecialTokens {
             new EndTerminatedForLoopActionLiteral(),
             new EndTerminatedForLoopEndLiteral());
 
-    private List<ATokenRecognizer> recognizersToUse;
+    private static final Map<RobotVersion, List<ATokenRecognizer>> RECOGNIZERS_BY_VERSION = new ConcurrentHashMap<>();
 
-    public void initializeFor(final RobotVersion version) {
-        recognizersToUse = SPECIAL_RECOGNIZERS.stream()
-                .filter(recognizer -> recognizer.isApplicableFor(version))
-                .collect(toList());
-    }
+    public List<RobotToken> recognize(final RobotVersion version, final FilePosition fp, final String text) {
+        final List<ATokenRecognizer> recognizersToUse = RECOGNIZERS_BY_VERSION.computeIfAbsent(version,
+                v -> SPECIAL_RECOGNIZERS.stream().filter(recognizer -> recognizer.isApplicableFor(v)).collect(toList()));
 
-    public List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
         for (final ATokenRecognizer rec : recognizersToUse) {
             final ATokenRecognizer recognizer = rec.newInstance();
@@ -50,9 +49,11 @@ public class RobotSpecialTokens {
 
     private static class ForActionLiteral extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern
+                .compile("^(\\s)*[:](\\s)*" + "[fF](\\s)*[oO](\\s)*[rR]" + "(\\s)*$");
+
         protected ForActionLiteral() {
-            super(Pattern.compile("^(\\s)*[:](\\s)*" + "[fF](\\s)*[oO](\\s)*[rR]" + "(\\s)*$"),
-                    RobotTokenType.FOR_TOKEN);
+            super(EXPECTED, RobotTokenType.FOR_TOKEN);
         }
 
         @Override
@@ -63,8 +64,10 @@ public class RobotSpecialTokens {
 
     private static class EndTerminatedForLoopActionLiteral extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern.compile("^(\\s)*" + "FOR" + "(\\s)*$");
+
         protected EndTerminatedForLoopActionLiteral() {
-            super(Pattern.compile("^(\\s)*" + "FOR" + "(\\s)*$"), RobotTokenType.FOR_TOKEN);
+            super(EXPECTED, RobotTokenType.FOR_TOKEN);
         }
 
         @Override
@@ -80,8 +83,10 @@ public class RobotSpecialTokens {
 
     private static class EndTerminatedForLoopEndLiteral extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern.compile("^(\\s)*" + "END" + "(\\s)*$");
+
         protected EndTerminatedForLoopEndLiteral() {
-            super(Pattern.compile("^(\\s)*" + "END" + "(\\s)*$"), RobotTokenType.FOR_END_TOKEN);
+            super(EXPECTED, RobotTokenType.FOR_END_TOKEN);
         }
 
         @Override
@@ -97,8 +102,10 @@ public class RobotSpecialTokens {
 
     private static class ForContinueToken extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern.compile("^(\\s)*" + "[\\\\]" + "(\\s)*");
+
         protected ForContinueToken() {
-            super(Pattern.compile("^(\\s)*" + "[\\\\]" + "(\\s)*"), RobotTokenType.FOR_CONTINUE_TOKEN);
+            super(EXPECTED, RobotTokenType.FOR_CONTINUE_TOKEN);
         }
 
         @Override
@@ -109,13 +116,15 @@ public class RobotSpecialTokens {
 
     private static class ForInActionLiteralOld extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern.compile("^(\\s)*" + "("
+                + RobotTokenType.IN_TOKEN.getRepresentation()
+                        .stream()
+                        .map(ATokenRecognizer::createUpperLowerCaseWordWithSpacesInside)
+                        .collect(Collectors.joining("|"))
+                + ")" + "(\\s)*$");
+
         protected ForInActionLiteralOld() {
-            super(Pattern.compile("^(\\s)*" + "("
-                    + RobotTokenType.IN_TOKEN.getRepresentation()
-                            .stream()
-                            .map(ATokenRecognizer::createUpperLowerCaseWordWithSpacesInside)
-                            .collect(Collectors.joining("|"))
-                    + ")" + "(\\s)*$"), RobotTokenType.IN_TOKEN);
+            super(EXPECTED, RobotTokenType.IN_TOKEN);
         }
 
         @Override
@@ -131,10 +140,12 @@ public class RobotSpecialTokens {
 
     private static class ForInActionLiteral extends ATokenRecognizer {
 
+        private static final Pattern EXPECTED = Pattern.compile("^(\\s)*" + "("
+                + RobotTokenType.IN_TOKEN.getRepresentation().stream().collect(Collectors.joining("|")) + ")"
+                + "(\\s)*$");
+
         protected ForInActionLiteral() {
-            super(Pattern.compile("^(\\s)*" + "("
-                    + RobotTokenType.IN_TOKEN.getRepresentation().stream().collect(Collectors.joining("|")) + ")"
-                    + "(\\s)*$"), RobotTokenType.IN_TOKEN);
+            super(EXPECTED, RobotTokenType.IN_TOKEN);
         }
 
         @Override
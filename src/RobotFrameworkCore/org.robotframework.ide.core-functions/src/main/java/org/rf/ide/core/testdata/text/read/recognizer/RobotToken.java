@@ -8,11 +8,14 @@ package org.rf.ide.core.testdata.text.read.recognizer;
 import static com.google.common.collect.Lists.newArrayList;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 import org.rf.ide.core.testdata.model.FilePosition;
 import org.rf.ide.core.testdata.model.FileRegion;
@@ -24,13 +27,28 @@ import com.google.common.collect.Range;
 
 public class RobotToken implements IRobotLineElement, Serializable {
 
-    private static final long serialVersionUID = -7333635148571215189L;
+    private static final long serialVersionUID = 2405917426413187265L;
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    // position is kept in plain fields, so that setters only drop FilePosition object instead of recreating it
+    private int line = NOT_SET;
+
+    private int column = NOT_SET;
+
+    private int offset = NOT_SET;
 
     private String text = "";
 
-    private final List<IRobotTokenType> types = new ArrayList<>(0);
+    // most of the tokens have single type, so it is kept directly and additional ones only when needed;
+    // both are exposed as a list by getTypes()
+    private IRobotTokenType type = RobotTokenType.UNKNOWN;
+
+    private IRobotTokenType[] otherTypes;
+
+    // both are created on first request and kept, since they are requested very often during parsing
+    // and validation; position is dropped whenever one of its coordinates changes
+    private transient TypesView typesView;
+
+    private transient FilePosition filePosition;
 
     private boolean isDirty = false;
 
@@ -62,9 +80,8 @@ public class RobotToken implements IRobotLineElement, Serializable {
         final RobotToken token = new RobotToken();
         token.setText(text);
         if (!types.isEmpty()) {
-            token.getTypes().clear();
+            token.storeTypes(types.toArray(new IRobotTokenType[0]));
         }
-        token.getTypes().addAll(types);
         return token;
     }
 
@@ -73,9 +90,8 @@ public class RobotToken implements IRobotLineElement, Serializable {
         final RobotToken token = new RobotToken();
         token.setText(text);
         if (!types.isEmpty()) {
-            token.getTypes().clear();
+            token.storeTypes(types.toArray(new IRobotTokenType[0]));
         }
-        token.getTypes().addAll(types);
         token.setLineNumber(line);
         token.setStartColumn(column);
         return token;
@@ -86,41 +102,38 @@ public class RobotToken implements IRobotLineElement, Serializable {
         final RobotToken token = new RobotToken();
         token.setText(text);
         if (!types.isEmpty()) {
-            token.getTypes().clear();
+            token.storeTypes(types.toArray(new IRobotTokenType[0]));
         }
-        token.getTypes().addAll(types);
         token.setFilePosition(filePosition);
         return token;
     }
 
-    public RobotToken() {
-        types.add(RobotTokenType.UNKNOWN);
-    }
-
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return line;
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        this.line = lineNumber;
+        this.filePosition = null;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return column;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.column = startColumn;
+        this.filePosition = null;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (column != NOT_SET) {
+            endColumn = column + text.length();
         }
 
         return endColumn;
@@ -132,12 +145,13 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        this.offset = startOffset;
+        this.filePosition = null;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return offset;
     }
 
     public int getLength() {
@@ -179,28 +193,44 @@ public class RobotToken implements IRobotLineElement, Serializable {
         return !isEmpty();
     }
 
+    /**
+     * Returns modifiable view of token types. Changes made through returned list are visible in
+     * this token. The view does not accept null types.
+     *
+     * @return
+     */
     @Override
     public List<IRobotTokenType> getTypes() {
-        return types;
+        if (typesView == null) {
+            typesView = new TypesView();
+        }
+        return typesView;
     }
 
     public void setType(final IRobotTokenType type) {
-        types.clear();
-        types.add(type);
+        this.type = type;
+        this.otherTypes = null;
     }
 
     @Override
     public String toString() {
-        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", fp, text, types, isDirty);
+        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", getFilePosition(), text,
+                getTypes(), isDirty);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        if (filePosition == null) {
+            filePosition = new FilePosition(line, column, offset);
+        }
+        return filePosition;
     }
 
     public void setFilePosition(final FilePosition fp) {
-        this.fp = fp;
+        this.line = fp.getLine();
+        this.column = fp.getColumn();
+        this.offset = fp.getOffset();
+        this.filePosition = fp;
     }
 
     public FilePosition getEndFilePosition() {
@@ -208,7 +238,7 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public FileRegion getFileRegion() {
-        return new FileRegion(fp.copy(), new FilePosition(getLineNumber(), getEndColumn(), getEndOffset()));
+        return new FileRegion(getFilePosition(), new FilePosition(getLineNumber(), getEndColumn(), getEndOffset()));
     }
 
     @Override
@@ -219,8 +249,8 @@ public class RobotToken implements IRobotLineElement, Serializable {
     @Override
     public VersionAvailabilityInfo getVersionInformation() {
         VersionAvailabilityInfo vai = null;
-        if (types != null && !types.isEmpty()) {
-            vai = types.get(0).findVersionAvailabilityInfo(getText());
+        if (type != null) {
+            vai = type.findVersionAvailabilityInfo(getText());
         }
         return vai;
     }
@@ -238,12 +268,13 @@ public class RobotToken implements IRobotLineElement, Serializable {
     private RobotToken copy(final boolean posInclude) {
         final RobotToken t = new RobotToken();
         t.setText(getText());
-        t.types.clear();
-        t.types.addAll(getTypes());
+        t.type = this.type;
+        t.otherTypes = this.otherTypes == null ? null : this.otherTypes.clone();
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.line = this.line;
+            t.column = this.column;
+            t.offset = this.offset;
+            t.filePosition = this.filePosition;
         }
         t.clearDirtyFlag();
 
@@ -259,4 +290,85 @@ public class RobotToken implements IRobotLineElement, Serializable {
     public final boolean equals(final Object obj) {
         return super.equals(obj);
     }
+
+    private IRobotTokenType[] typesArray() {
+        if (type == null) {
+            return new IRobotTokenType[0];
+        }
+        final IRobotTokenType[] all = new IRobotTokenType[1 + (otherTypes == null ? 0 : otherTypes.length)];
+        all[0] = type;
+        if (otherTypes != null) {
+            System.arraycopy(otherTypes, 0, all, 1, otherTypes.length);
+        }
+        return all;
+    }
+
+    private void storeTypes(final IRobotTokenType[] all) {
+        type = all.length > 0 ? all[0] : null;
+        otherTypes = all.length > 1 ? Arrays.copyOfRange(all, 1, all.length) : null;
+    }
+
+    private class TypesView extends AbstractList<IRobotTokenType> implements RandomAccess {
+
+        @Override
+        public int size() {
+            return type == null ? 0 : 1 + (otherTypes == null ? 0 : otherTypes.length);
+        }
+
+        @Override
+        public IRobotTokenType get(final int index) {
+            if (index == 0 && type != null) {
+                return type;
+            } else if (index > 0 && otherTypes != null && index <= otherTypes.length) {
+                return otherTypes[index - 1];
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public IRobotTokenType set(final int index, final IRobotTokenType element) {
+            Objects.requireNonNull(element, "Token type cannot be null");
+            final IRobotTokenType previous = get(index);
+            if (index == 0) {
+                type = element;
+            } else {
+                otherTypes[index - 1] = element;
+            }
+            return previous;
+        }
+
+        @Override
+        public void add(final int index, final IRobotTokenType element) {
+            Objects.requireNonNull(element, "Token type cannot be null");
+            final IRobotTokenType[] all = typesArray();
+            if (index < 0 || index > all.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + all.length);
+            }
+            final IRobotTokenType[] extended = new IRobotTokenType[all.length + 1];
+            System.arraycopy(all, 0, extended, 0, index);
+            extended[index] = element;
+            System.arraycopy(all, index, extended, index + 1, all.length - index);
+            storeTypes(extended);
+            modCount++;
+        }
+
+        @Override
+        public IRobotTokenType remove(final int index) {
+            final IRobotTokenType previous = get(index);
+            final IRobotTokenType[] all = typesArray();
+            final IRobotTokenType[] reduced = new IRobotTokenType[all.length - 1];
+            System.arraycopy(all, 0, reduced, 0, index);
+            System.arraycopy(all, index + 1, reduced, index, all.length - index - 1);
+            storeTypes(reduced);
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            type = null;
+            otherTypes = null;
+            modCount++;
+        }
+    }
 }
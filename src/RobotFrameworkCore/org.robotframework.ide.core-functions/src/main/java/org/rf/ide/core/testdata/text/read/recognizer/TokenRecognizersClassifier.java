@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Selects recognizers which are able to recognize given cell text in a single pass over the text.
+ * For each recognizer the words built with
+ * {@link ATokenRecognizer#createUpperLowerCaseWord(String)} and similar methods are extracted from
+ * its pattern and put into a trie. Text of a cell is normalized (whitespaces are removed and
+ * letters are lower-cased) and every recognizer with a word found in normalized text is reported
+ * as a candidate. Recognizers which patterns does not contain such words are always candidates.
+ * Candidates still have to be verified with their own patterns, however all the others
+ * recognizers would not find anything for given text, so they can be safely skipped.
+ */
+public class TokenRecognizersClassifier {
+
+    private static final Pattern CASE_INSENSITIVE_LETTER = Pattern.compile("\\[([A-Z])([a-z])\\]");
+
+    private static final Pattern WHITESPACES_BETWEEN_LETTERS = Pattern.compile("(\\[\\\\s\\]|\\\\s)[*+?]| ");
+
+    private static final String QUANTIFIERS = "?*+{";
+
+    private final TrieNode root = new TrieNode();
+
+    private final BitSet alwaysCandidates = new BitSet();
+
+    public TokenRecognizersClassifier(final List<ATokenRecognizer> recognizers) {
+        for (int i = 0; i < recognizers.size(); i++) {
+            final Set<String> words = extractWords(recognizers.get(i).getPattern().pattern());
+            if (words.isEmpty()) {
+                alwaysCandidates.set(i);
+            } else {
+                for (final String word : words) {
+                    root.add(word, 0).recognizers.set(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns indexes of recognizers (in order given in constructor) which may find a token in
+     * given text.
+     *
+     * @param text
+     *            Text of a cell
+     * @return Set of indexes of candidate recognizers
+     */
+    public BitSet classify(final String text) {
+        final BitSet candidates = (BitSet) alwaysCandidates.clone();
+
+        final char[] normalized = normalize(text);
+        for (int start = 0; start < normalized.length; start++) {
+            TrieNode node = root;
+            for (int i = start; i < normalized.length && node != null; i++) {
+                node = node.children.get(normalized[i]);
+                if (node != null) {
+                    candidates.or(node.recognizers);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static char[] normalize(final String text) {
+        final char[] normalized = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized[length++] = Character.toLowerCase(c);
+            }
+        }
+        return length == normalized.length ? normalized : Arrays.copyOf(normalized, length);
+    }
+
+    @VisibleForTesting
+    static Set<String> extractWords(final String pattern) {
+        final Set<String> words = new LinkedHashSet<>();
+        if (pattern.contains("(?!") || pattern.contains("(?<!")) {
+            // letters inside of negative lookarounds are not required to match
+            return words;
+        }
+
+        final Matcher letterMatcher = CASE_INSENSITIVE_LETTER.matcher(pattern);
+        final Matcher separatorMatcher = WHITESPACES_BETWEEN_LETTERS.matcher(pattern);
+        final StringBuilder currentWord = new StringBuilder();
+        int lastEnd = -1;
+        while (letterMatcher.find()) {
+            final char upper = letterMatcher.group(1).charAt(0);
+            final char lower = letterMatcher.group(2).charAt(0);
+            if (Character.toLowerCase(upper) != lower) {
+                continue;
+            }
+            if (isQuantified(pattern, letterMatcher.end())) {
+                // optional or repeated letters can't be searched as a part of word
+                words.clear();
+                return words;
+            }
+            if (currentWord.length() > 0 && !isSeparatedOnlyByWhitespaces(separatorMatcher, lastEnd,
+                    letterMatcher.start())) {
+                words.add(currentWord.toString());
+                currentWord.setLength(0);
+            }
+            currentWord.append(lower);
+            lastEnd = letterMatcher.end();
+        }
+        if (currentWord.length() > 0) {
+            words.add(currentWord.toString());
+        }
+        return words;
+    }
+
+    private static boolean isQuantified(final String pattern, final int index) {
+        return index < pattern.length() && QUANTIFIERS.indexOf(pattern.charAt(index)) >= 0;
+    }
+
+    private static boolean isSeparatedOnlyByWhitespaces(final Matcher separatorMatcher, final int from,
+            final int to) {
+        int current = from;
+        while (current < to) {
+            separatorMatcher.region(current, to);
+            if (!separatorMatcher.lookingAt()) {
+                return false;
+            }
+            current = separatorMatcher.end();
+        }
+        return true;
+    }
+
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private final BitSet recognizers = new BitSet();
+
+        private TrieNode add(final String word, final int index) {
+            if (index == word.length()) {
+                return this;
+            }
+            return children.computeIfAbsent(word.charAt(index), c -> new TrieNode()).add(word, index + 1);
+        }
+    }
+}
@@ -5,6 +5,8 @@
  */
 package org.rf.ide.core.testdata.text.read.recognizer.variables;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.rf.ide.core.testdata.model.table.variables.AVariable.VariableType;
@@ -17,8 +19,10 @@ public abstract class AVariablesTokenRecognizer extends ATokenRecognizer {
     private static final String TEMPLATE = "[ ]?[" + "%s" + "]"
             + "(\\s*)[{].*([}]$|$)";
 
+    private static final Map<VariableType, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
     protected AVariablesTokenRecognizer(final VariableType varType) {
-        super(createVariablePattern(varType), varType.getType());
+        super(PATTERNS.computeIfAbsent(varType, AVariablesTokenRecognizer::createVariablePattern), varType.getType());
     }
 
     @VisibleForTesting
@@ -46,6 +46,8 @@ import sys
 import socket
 import inspect
 import copy
+import hashlib
+import itertools
 import json
 import time
 import traceback
@@ -92,6 +94,8 @@ def _fix_unicode(max_length, data):
         return _truncate(max_length, data.encode('unicode_escape'))
     elif sys.version_info >= (3, 0, 0) and isinstance(data, str):
         return _truncate(max_length, data)
+    elif isinstance(data, _ItemsSummary):
+        return (data.type_name, _truncate(max_length, data.preview), {'length': data.length, 'kind': data.kind})
     elif isinstance(data, OrderedDict):
         return OrderedDict((_fix_unicode(max_length, k), _fix_unicode(max_length, data[k])) for k in data)
     elif isinstance(data, Mapping):
@@ -110,18 +114,103 @@ def _truncate(max_length, s):
     return s[:max_length] + ' <truncated>' if 0 < max_length and max_length < len(s) else s
 
 
-def _label_with_types(data):
+# lists, tuples and mappings having more items are sent as summaries, while their items are
+# requested by RED in pages when needed
+MAX_SENT_ITEMS = 100
+
+PREVIEW_ITEMS = 3
+
+
+class _ItemsSummary(object):
+    '''Stands for list, tuple or mapping which has too many items to be sent with the variables'''
+
+    def __init__(self, data):
+        self.type_name = type(data).__name__
+        self.kind = 'dict' if isinstance(data, Mapping) else 'list'
+        self.length = len(data)
+        self.preview = _preview(data)
+
+
+def _preview(data):
+    try:
+        if isinstance(data, Mapping):
+            items = ['%s: %s' % (k, data[k]) for k in itertools.islice(data, PREVIEW_ITEMS)]
+            return '{' + ', '.join(items) + ', ...}'
+        else:
+            items = [str(el) for el in itertools.islice(data, PREVIEW_ITEMS)]
+            return '[' + ', '.join(items) + ', ...]'
+    except:
+        return '...'
+
+
+def _label_with_types(data, max_items=-1):
     value_type = type(data).__name__
-    if isinstance(data, Mapping):
-        return (value_type, dict((k, _label_with_types(data[k])) for k in data))
+    if isinstance(data, (Mapping, list, tuple)) and 0 <= max_items < len(data):
+        return _ItemsSummary(data)
+    elif isinstance(data, Mapping):
+        return (value_type, dict((k, _label_with_types(data[k], max_items)) for k in data))
     elif isinstance(data, list):
-        return (value_type, list(_label_with_types(el) for el in data))
+        return (value_type, list(_label_with_types(el, max_items) for el in data))
     elif isinstance(data, tuple):
-        return (value_type, tuple(list(_label_with_types(el) for el in data)))
+        return (value_type, tuple(list(_label_with_types(el, max_items) for el in data)))
     else:
         return (value_type, data)
 
 
+def _find_item(data, addr):
+    if isinstance(data, Mapping):
+        if addr in data:
+            return data[addr]
+        # keys are sent as strings, so other keys are looked for using their string forms
+        for key in data:
+            if str(key) == addr:
+                return data[key]
+        raise KeyError(addr)
+    elif isinstance(data, (list, tuple)):
+        return data[int(addr)]
+    raise ValueError('Unable to find item ' + str(addr) + ' in ' + type(data).__name__ + ' object')
+
+
+def _collect_items(data, offset, count, max_length):
+    '''Returns labeled items of list, tuple or mapping from given page as [index or key, item] pairs'''
+    if isinstance(data, Mapping):
+        return [[_fix_unicode(max_length, k), _fix_unicode(max_length, _label_with_types(data[k], MAX_SENT_ITEMS))]
+                for k in itertools.islice(data, offset, offset + count)]
+    elif isinstance(data, (list, tuple)):
+        return [[offset + i, _fix_unicode(max_length, _label_with_types(el, MAX_SENT_ITEMS))]
+                for i, el in enumerate(data[offset:offset + count])]
+    raise ValueError('Unable to collect items of ' + type(data).__name__ + ' object')
+
+
+def _fingerprint(value, scope):
+    '''Returns fingerprint of variable value: digest of whole labeled value as it is sent, or
+    identity, size and preview for lists, tuples and mappings sent as summaries'''
+    try:
+        labeled = _label_with_types(value, MAX_SENT_ITEMS)
+        if isinstance(labeled, _ItemsSummary):
+            # the items are requested by RED anew after each pause, so the fingerprint covers what
+            # the summary shows
+            return (scope, type(value), id(value), labeled.length, labeled.preview)
+        # digest is exact, so that change of any item or character is detected, while only the digest
+        # is kept between pauses
+        text = repr(_fix_unicode(-1, labeled))
+        return (scope, hashlib.sha1(text.encode('utf-8')).hexdigest())
+    except:
+        # unique object, so that the variable is always considered as changed
+        return object()
+
+
+def _compute_scope_delta(scope_values, previous_fingerprints):
+    '''Returns names of variables of scope which were added or changed since fingerprints of
+    previously sent variables were taken, names of removed variables and fingerprints of current
+    variables; scope values are given as (identified scope, value) pairs'''
+    fingerprints = OrderedDict((var, _fingerprint(value, scope)) for var, (scope, value) in scope_values.items())
+    changed_vars = [var for var in fingerprints
+                    if var not in previous_fingerprints or previous_fingerprints[var] != fingerprints[var]]
+    removed_vars = [var for var in previous_fingerprints if var not in fingerprints]
+    return changed_vars, removed_vars, fingerprints
+
+
 def _extract_source_path(source):
     if 'file:' in source:
         source = source[source.index('file:') + 5:]
@@ -219,6 +308,7 @@ class RedResponseMessage:
     GET_VARIABLES = 'get_variables'
     CHANGE_VARIABLE = 'change_variable'
     EVALUATE_EXPRESSION = 'evaluate_expression'
+    GET_VARIABLE_ITEMS = 'get_variable_items'
     
 class AgentEventMessage:
     
@@ -237,6 +327,7 @@ class AgentEventMessage:
     CONDITION_RESULT = 'condition_result'
     VARIABLES = 'variables'
     EXPRESSION_EVAL_RESULT = 'expression_result'
+    VARIABLE_ITEMS = 'variable_items'
     PAUSED = 'paused'
     RESUMED = 'resumed'
     RESOURCE_IMPORT = 'resource_import'
@@ -260,6 +351,43 @@ class PausingPoint:
     PRE_END_KEYWORD = 'PRE_END_KEYWORD'
     END_KEYWORD = 'END_KEYWORD'
 
+class KeywordEventsFilter:
+    """Decides which keyword events are sent to RED in run mode
+
+    Negative limit means that all keyword events are sent, zero means that none of them is sent,
+    otherwise at most given number of keyword starts is sent per second. End of keyword is sent
+    only when start of this keyword was sent, so that RED always receives pairs of events.
+    """
+
+    def __init__(self, limit_per_second, clock=time.time):
+        self._limit = limit_per_second
+        self._clock = clock
+        self._window_start = None
+        self._sent_in_window = 0
+        self._started = []
+
+    def should_send_start(self):
+        should_send = self._is_within_limit()
+        self._started.append(should_send)
+        return should_send
+
+    def should_send_end(self):
+        return self._started.pop() if self._started else True
+
+    def _is_within_limit(self):
+        if self._limit < 0:
+            return True
+        elif self._limit == 0:
+            return False
+        current_time = self._clock()
+        if self._window_start is None or current_time - self._window_start >= 1:
+            self._window_start = current_time
+            self._sent_in_window = 0
+        if self._sent_in_window < self._limit:
+            self._sent_in_window += 1
+            return True
+        return False
+
 class TestRunnerAgent:
     """Pass all listener events to a remote listener
 
@@ -271,7 +399,7 @@ class TestRunnerAgent:
     
     CONNECTION_SLEEP_BETWEEN_TRIALS = 2
     
-    RED_AGENT_PROTOCOL_VERSION = 4
+    RED_AGENT_PROTOCOL_VERSION = 6
 
     def __init__(self, *args):
         if len(args) == 1:
@@ -282,6 +410,8 @@ class TestRunnerAgent:
             host, port, connection_timeout = args[0], int(args[1]), int(args[2])
 
         self._last_pause_check = time.time()
+        self._keyword_events_filter = KeywordEventsFilter(-1)
+        self._sent_scopes = []
         self._is_connected, self.sock, self.decoder_encoder = self._connect(host, port, connection_timeout)
         
         if self._is_connected:
@@ -293,7 +423,9 @@ class TestRunnerAgent:
         
     def _handshake(self):
         self._send_to_server(AgentEventMessage.AGENT_INITIALIZING)
-        self._mode, wait_for_signal, self._max_lenght = self._receive_operating_mode()
+        self._mode, wait_for_signal, self._max_lenght, keyword_events_limit = self._receive_operating_mode()
+        if self._mode != AgentMode.DEBUG:
+            self._keyword_events_filter = KeywordEventsFilter(keyword_events_limit)
         
         self._send_version()
         _, response = self._wait_for_reponse(RedResponseMessage.PROTOCOL_VERSION)
@@ -313,7 +445,8 @@ class TestRunnerAgent:
         operating_mode = response[RedResponseMessage.OPERATING_MODE]
         return (operating_mode['mode'].lower(), 
                 operating_mode['wait_for_start_allowance'],
-                operating_mode['max_lenght'] if 'max_lenght' in operating_mode else 2048)
+                operating_mode['max_lenght'] if 'max_lenght' in operating_mode else 2048,
+                operating_mode['keyword_events_per_second'] if 'keyword_events_per_second' in operating_mode else -1)
         
     def _send_version(self):
         robot_version = 'Robot Framework ' + version.get_full_version()
@@ -377,6 +510,13 @@ class TestRunnerAgent:
         if not self._is_connected:
             return
         
+        if not self._keyword_events_filter.should_send_start():
+            # keyword is not reported, but user still may want to suspend or stop the execution
+            if self._should_ask_for_pause_on_start():
+                if self._should_pause(PausingPoint.START_KEYWORD):
+                    self._wait_for_resume()
+            return
+        
         # we're cutting args from original attrs dictionary, because it may contain 
         # objects which are not json-serializable and we don't need them anyway
         attrs_copy = copy.copy(attrs)
@@ -414,6 +554,9 @@ class TestRunnerAgent:
         if not self._is_connected:
             return
         
+        if not self._keyword_events_filter.should_send_end():
+            return
+        
         attrs_copy = copy.copy(attrs)
         del attrs_copy['args']
         del attrs_copy['doc']
@@ -513,6 +656,7 @@ class TestRunnerAgent:
         if self._mode == AgentMode.DEBUG:
             possible_responses.append(RedResponseMessage.CHANGE_VARIABLE)
             possible_responses.append(RedResponseMessage.EVALUATE_EXPRESSION)
+            possible_responses.append(RedResponseMessage.GET_VARIABLE_ITEMS)
         
         self._send_variables()
         while True:
@@ -542,6 +686,8 @@ class TestRunnerAgent:
                 # evaluation could have changed some variables so we need to send them
                 self._evaluate_expression_and_send_result(response)
                 self._send_variables()
+            elif response_name == RedResponseMessage.GET_VARIABLE_ITEMS:
+                self._send_variable_items(response)
                     
     def _change_variable_value(self, response):
         try:
@@ -614,11 +760,12 @@ class TestRunnerAgent:
             raise RuntimeError('Requested to change value in ' + val_kind + ' object type, but ' + type(object).__name__ + ' found')
 
     def _send_variables(self, error=None):
-        vars = self._collect_variables()
+        vars, removed_vars = self._collect_variables()
         if error:
-            self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars, 'error': error})
+            self._send_to_server(AgentEventMessage.VARIABLES,
+                                 {'var_scopes': vars, 'removed_vars': removed_vars, 'error': error})
         else:
-            self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars})
+            self._send_to_server(AgentEventMessage.VARIABLES, {'var_scopes': vars, 'removed_vars': removed_vars})
             
     def _collect_variables(self):
         # WARNING : this method uses protected RF methods/fields so it is sensitive for RF changes;
@@ -627,14 +774,15 @@ class TestRunnerAgent:
         frames = variables._scopes
         
         all_frames = []
+        all_removed_vars = []
+        sent_scopes = []
         
         i = 0
         last_suite_index = frames.index(variables._suite)
         test_index = frames.index(variables._test) if variables._test else -1
         for current_frame in frames:
 
-            current_frame_values = {}
-            frame_vars = OrderedDict()
+            current_frame_values = OrderedDict()
             for variable in current_frame.store:
                 value = current_frame.store[variable]
                 var, _ = current_frame.store._decorate(variable, value)
@@ -648,30 +796,62 @@ class TestRunnerAgent:
                     identified_scope = 'test' if '$' + var[1:] in variables._variables_set._test else 'local'
                 else:
                     identified_scope = 'local'
-                
-                
-                if inspect.ismodule(value) or inspect.isfunction(value) or inspect.isclass(value):
-                    type_name = type(value).__name__
-                    frame_vars[var] = (type_name, type_name + '@' + str(id(value)), identified_scope)
-                else:
-                    try:
-                        labeled = _label_with_types(value)
-                        fixed = _fix_unicode(self._max_lenght, labeled)
-                        if isinstance(value, (list, tuple, Mapping)):
-                            frame_vars[var] = (fixed[0], fixed[1], identified_scope)
-                        else:
-                            frame_vars[var] = (fixed[0], str(fixed[1]), identified_scope)
-                    except:
-                        frame_vars[var] = (type(value).__name__, '<error retrieving value>', identified_scope)
-
-                current_frame_values[var] = (identified_scope, value)    
-            
+                current_frame_values[var] = (identified_scope, value)
+
+            # only changes are sent for scopes which were already sent, while new scopes are sent
+            # entirely; scope objects are kept in order to recognize them on next pause; unchanged
+            # variables are not labeled at all
+            previous_frame, previous_fingerprints = self._sent_scopes[i] if i < len(self._sent_scopes) else (None, {})
+            is_sent_frame = previous_frame is current_frame
+            if not is_sent_frame:
+                previous_fingerprints = {}
+            changed_vars, removed_vars, fingerprints = _compute_scope_delta(current_frame_values, previous_fingerprints)
+            frame_vars = OrderedDict((var, self._label_variable(*current_frame_values[var])) for var in changed_vars)
             all_frames.append(frame_vars)
+            all_removed_vars.append(removed_vars if is_sent_frame else None)
+            sent_scopes.append((current_frame, fingerprints))
+
             previous_frame_values = current_frame_values
             i += 1
+        self._sent_scopes = sent_scopes
         all_frames.reverse()
-        return all_frames
+        all_removed_vars.reverse()
+        return all_frames, all_removed_vars
     
+    def _label_variable(self, identified_scope, value):
+        if inspect.ismodule(value) or inspect.isfunction(value) or inspect.isclass(value):
+            type_name = type(value).__name__
+            return (type_name, type_name + '@' + str(id(value)), identified_scope)
+        try:
+            labeled = _label_with_types(value, MAX_SENT_ITEMS)
+            fixed = _fix_unicode(self._max_lenght, labeled)
+            if isinstance(value, (list, tuple, Mapping)):
+                # summary of value with many items is sent together with number of items
+                return (fixed[0], fixed[1], identified_scope) + tuple(fixed[2:])
+            return (fixed[0], str(fixed[1]), identified_scope)
+        except:
+            return (type(value).__name__, '<error retrieving value>', identified_scope)
+
+    def _send_variable_items(self, response):
+        # WARNING : this method uses protected RF methods/fields so it is sensitive for RF changes;
+        # currently works fine for RF 2.9 - 3.0
+        arguments = response[RedResponseMessage.GET_VARIABLE_ITEMS]
+        result = {'name': arguments['name'], 'level': arguments['level'], 'path': arguments['path'],
+                  'offset': arguments['offset']}
+        try:
+            level = arguments['level'] + 1 # adding one because globals are not taken into account
+            value = self._built_in._variables._scopes[level].as_dict()[arguments['name']]
+            for addr in arguments['path']:
+                value = _find_item(value, addr)
+            result['items'] = _collect_items(value, arguments['offset'], arguments['count'], self._max_lenght)
+            result['length'] = len(value)
+            result['error'] = None
+        except Exception as e:
+            result['items'] = None
+            result['length'] = 0
+            result['error'] = 'Unable to get items of variable ' + arguments['name'] + '. ' + str(e)
+        self._send_to_server(AgentEventMessage.VARIABLE_ITEMS, result)
+
     def _evaluate_expression_and_send_result(self, response):
         try:
             data = response[RedResponseMessage.EVALUATE_EXPRESSION]
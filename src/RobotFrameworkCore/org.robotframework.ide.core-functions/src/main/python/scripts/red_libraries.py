@@ -44,12 +44,17 @@ def get_site_packages_libraries_names():
         return robot_libs, non_robot_libs
 
 
-def create_libdoc(libname, format):
+def create_libdoc(libname, format, output_path=None):
+    # when output path is given the specification is written directly into it and only
+    # its size is returned, otherwise base64 encoded specification content is returned
     from tempfile import mkstemp
     from base64 import b64encode
     import os
     import sys
     
+    if output_path:
+        return _create_libdoc_file(libname, format, output_path)
+
     is_py2 = sys.version_info < (3, 0, 0)
 
     try:
@@ -71,6 +76,24 @@ def create_libdoc(libname, format):
         os.remove(temp_lib_file_path)
 
 
+def _create_libdoc_file(libname, format, output_path):
+    import os
+
+    output_dir = os.path.dirname(output_path)
+    if output_dir and not os.path.isdir(output_dir):
+        os.makedirs(output_dir)
+    console_output = _create_libdoc_with_stdout_redirect(libname, format, output_path)
+
+    # check if anything was written into the file i.e. specification was generated
+    if not os.path.isfile(output_path) or os.stat(output_path).st_size == 0:
+        if os.path.isfile(output_path):
+            os.remove(output_path)
+        raise Exception(console_output)
+    if format == 'xml':
+        _switch_source_to_absolute_in_place(output_path)
+    return os.stat(output_path).st_size
+
+
 def _read_content(temp_lib_file_path, is_py2):
     if is_py2:
         with open(temp_lib_file_path, 'r') as lib_file:
@@ -101,21 +124,38 @@ def _switch_source_to_absolute(filepath, encoding):
     # robot will usually write relative path to source of
     # keyword/library but we want it to be absolute
     from xml.etree import ElementTree
-    from os.path import isabs, dirname, normpath, join
+    from os.path import dirname
     
     tree = ElementTree.parse(filepath)
     root = tree.getroot()
+    _make_sources_absolute(root, dirname(filepath))
+
+    return '<?xml version="1.0" encoding="UTF-8"?>\n' + ElementTree.tostring(root, encoding)
+
+
+def _switch_source_to_absolute_in_place(filepath):
+    # the file is rewritten only when it contains relative paths
+    from xml.etree import ElementTree
+    from os.path import dirname
+
+    tree = ElementTree.parse(filepath)
+    if _make_sources_absolute(tree.getroot(), dirname(filepath)):
+        tree.write(filepath, encoding='UTF-8', xml_declaration=True)
+
+
+def _make_sources_absolute(root, dir_path):
+    from os.path import isabs, normpath, join
 
     all_with_source = [root]
     all_with_source.extend(root.findall('kw'))
 
-    dir_path = dirname(filepath)
+    changed = False
     for tag in all_with_source:
         if tag.get('source') is not None and not isabs(tag.get('source')):
             abs_path = normpath(join(dir_path, tag.get('source')))
             tag.set('source', abs_path)
-            
-    return '<?xml version="1.0" encoding="UTF-8"?>\n' + ElementTree.tostring(root, encoding)
+            changed = True
+    return changed
 
 
 def create_html_doc(doc, format):
@@ -134,8 +174,9 @@ if __name__ == '__main__':
     libname = decoded_args[1]
     format = decoded_args[2]
     python_paths = decoded_args[3].split(";")
-    class_paths = decoded_args[4].split(";") if len(decoded_args) == 5 else []
+    class_paths = decoded_args[4].split(";") if len(decoded_args) >= 5 and decoded_args[4] else []
+    output_path = decoded_args[5] if len(decoded_args) == 6 else None
 
     robot_session_server.__extend_paths(python_paths, class_paths)
 
-    print("Libdoc >" + create_libdoc(libname, format))
+    print("Libdoc >" + str(create_libdoc(libname, format, output_path)))
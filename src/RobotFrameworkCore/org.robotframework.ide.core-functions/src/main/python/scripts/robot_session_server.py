@@ -352,10 +352,10 @@ def convert_robot_data_file(original_filepath):
 @cleanup_modules
 @cleanup_sys_path
 @logargs
-def create_libdoc(libname, format, python_paths, class_paths):
+def create_libdoc(libname, format, python_paths, class_paths, output_path=None):
     import red_libraries
     __extend_paths(python_paths, class_paths)
-    return red_libraries.create_libdoc(libname, format)
+    return red_libraries.create_libdoc(libname, format, output_path)
 
 
 @logresult
@@ -363,7 +363,8 @@ def create_libdoc(libname, format, python_paths, class_paths):
 @cleanup_modules
 @cleanup_sys_path
 @logargs
-def create_libdoc_in_separate_process(libname, format, python_paths, class_paths, timeout_duration=30):
+def create_libdoc_in_separate_process(libname, format, python_paths, class_paths, timeout_duration=30,
+                                      output_path=None):
     import os
     import subprocess
     import threading
@@ -380,8 +381,10 @@ def create_libdoc_in_separate_process(libname, format, python_paths, class_paths
     command.append(libname)
     command.append(format)
     command.append(';'.join(python_paths))
-    if class_paths:
+    if class_paths or output_path:
         command.append(';'.join(class_paths))
+    if output_path:
+        command.append(output_path)
 
     def get_output(process, q_stdout, q_stderr):
         out, err = process.communicate()
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.environment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+
+public class RobotCommandExecutorsPoolTest {
+
+    private final List<RobotCommandRpcExecutor> createdExecutors = new ArrayList<>();
+
+    @Test
+    public void idleExecutorIsReused_whenCommandsAreExecutedOneAfterAnother() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 4, 0);
+        final List<RobotCommandExecutor> usedExecutors = new ArrayList<>();
+
+        pool.execute(usedExecutors::add);
+        pool.execute(usedExecutors::add);
+        pool.execute(usedExecutors::add);
+
+        assertThat(createdExecutors).hasSize(1);
+        assertThat(usedExecutors).containsExactly(createdExecutors.get(0), createdExecutors.get(0),
+                createdExecutors.get(0));
+        verify(createdExecutors.get(0)).establishConnection();
+        verify(createdExecutors.get(0), times(3)).initialize();
+    }
+
+    @Test
+    public void commandsAreExecutedConcurrently_byAtMostPoolSizeExecutors() throws Exception {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 3, 0);
+        final AtomicInteger running = new AtomicInteger(0);
+        final AtomicInteger maxRunning = new AtomicInteger(0);
+        final CountDownLatch allStarted = new CountDownLatch(3);
+
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(service.submit(() -> pool.execute(executor -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    allStarted.countDown();
+                    await(allStarted);
+                    running.decrementAndGet();
+                })));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isEqualTo(3);
+        assertThat(createdExecutors).hasSize(3);
+        assertThat(pool.countExecutors()).isEqualTo(3);
+    }
+
+    @Test
+    public void deadExecutorIsReplacedWithNewOne() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 1, 0);
+
+        pool.execute(executor -> {});
+        when(createdExecutors.get(0).isAlive()).thenReturn(false);
+        pool.execute(executor -> {});
+
+        assertThat(createdExecutors).hasSize(2);
+        assertThat(pool.countExecutors()).isEqualTo(1);
+    }
+
+    @Test
+    public void executorIsNotKept_whenItCannotBeStarted() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(() -> {
+            final RobotCommandRpcExecutor executor = createExecutor();
+            doAnswer(invocation -> {
+                throw new IllegalStateException();
+            }).when(executor).establishConnection();
+            return executor;
+        }, 1, 0);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> pool.execute(executor -> {}));
+        assertThat(pool.countExecutors()).isZero();
+    }
+
+    @Test
+    public void executorIsKilled_whenCommandIsNotFinishedInTime() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 1, 1);
+
+        assertThatExceptionOfType(RuntimeEnvironmentException.class).isThrownBy(() -> pool.execute(executor -> {
+            final CountDownLatch killed = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                when(createdExecutors.get(0).isAlive()).thenReturn(false);
+                killed.countDown();
+                return null;
+            }).when(createdExecutors.get(0)).kill();
+            await(killed);
+            throw new RuntimeEnvironmentException("Unable to communicate with XML-RPC server");
+        })).withMessage("Session server was killed, because command was not finished in 1 seconds");
+
+        verify(createdExecutors.get(0), atLeastOnce()).kill();
+        assertThat(pool.countExecutors()).isZero();
+    }
+
+    @Test
+    public void executorIsNotKilled_whenCommandIsFinishedInTime() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 1, 60);
+
+        pool.execute(executor -> {});
+
+        verify(createdExecutors.get(0), never()).kill();
+        assertThat(pool.countExecutors()).isEqualTo(1);
+    }
+
+    @Test
+    public void idleExecutorsExceedingNewSizeAreKilled_whenPoolIsReconfigured() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 2, 0);
+        pool.execute(executor -> pool.execute(nestedExecutor -> {}));
+        assertThat(pool.countExecutors()).isEqualTo(2);
+
+        pool.configure(1, 0);
+
+        assertThat(pool.countExecutors()).isEqualTo(1);
+        verify(createdExecutors.get(0), never()).kill();
+        verify(createdExecutors.get(1)).kill();
+    }
+
+    @Test
+    public void allExecutorsAreKilled_whenPoolIsShutDown() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 2, 0);
+
+        pool.execute(executor -> {
+            pool.execute(nestedExecutor -> {});
+            pool.shutdown();
+        });
+
+        assertThat(pool.countExecutors()).isZero();
+        verify(createdExecutors.get(0)).kill();
+        verify(createdExecutors.get(1)).kill();
+    }
+
+    @Test
+    public void idleExecutorsAreKilled_whenTheyAreNotUsedForIdleTimeout() throws Exception {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 2, 0, 200);
+        pool.execute(executor -> pool.execute(nestedExecutor -> {}));
+        assertThat(pool.countExecutors()).isEqualTo(2);
+
+        final long start = System.currentTimeMillis();
+        while (pool.countExecutors() > 0 && System.currentTimeMillis() - start < 10_000) {
+            Thread.sleep(50);
+        }
+
+        assertThat(pool.countExecutors()).isZero();
+        verify(createdExecutors.get(0)).kill();
+        verify(createdExecutors.get(1)).kill();
+
+        pool.execute(executor -> {});
+        assertThat(createdExecutors).hasSize(3);
+    }
+
+    @Test
+    public void idleExecutorIsNotKilled_whenItIsUsedAgainBeforeIdleTimeout() {
+        final RobotCommandExecutorsPool pool = new RobotCommandExecutorsPool(this::createExecutor, 1, 0, 60_000);
+
+        pool.execute(executor -> {});
+        pool.execute(executor -> {});
+
+        assertThat(createdExecutors).hasSize(1);
+        verify(createdExecutors.get(0), never()).kill();
+        assertThat(pool.countExecutors()).isEqualTo(1);
+    }
+
+    private synchronized RobotCommandRpcExecutor createExecutor() {
+        final RobotCommandRpcExecutor executor = mock(RobotCommandRpcExecutor.class);
+        when(executor.isAlive()).thenReturn(true);
+        createdExecutors.add(executor);
+        return executor;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
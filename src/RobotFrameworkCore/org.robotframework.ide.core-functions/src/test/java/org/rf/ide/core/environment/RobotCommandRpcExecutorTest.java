@@ -5,9 +5,11 @@
  */
 package org.rf.ide.core.environment;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -18,14 +20,18 @@ import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InOrder;
 import org.rf.ide.core.RedTemporaryDirectory;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.ExternalRobotCommandRpcExecutor;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.InternalRobotCommandRpcExecutor;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.InternalRobotCommandRpcExecutor.XmlRpcServer;
@@ -47,6 +53,32 @@ public class RobotCommandRpcExecutorTest {
             verify(executor).connectToServer("http://a.b.c.d:12345", "");
         }
 
+        @Test
+        void executorIsNotAlive_untilConnectedToServer() throws Exception {
+            final RobotCommandRpcExecutor executor = spy(
+                    new ExternalRobotCommandRpcExecutor(SuiteExecutor.Python, "a.b.c.d:12345"));
+            doNothing().when(executor).connectToServer(anyString(), anyString());
+
+            executor.establishConnection();
+
+            assertThat(executor.isAlive()).isFalse();
+        }
+
+        @Test
+        void executorIsNotAlive_afterBeingKilled() throws Exception {
+            final RobotCommandRpcExecutor executor = spy(
+                    new ExternalRobotCommandRpcExecutor(SuiteExecutor.Python, "a.b.c.d:12345"));
+            doReturn(true).when(executor).isConnected();
+            assertThat(executor.isAlive()).isTrue();
+
+            executor.kill();
+
+            verify(executor).disconnect();
+            doCallRealMethod().when(executor).isConnected();
+            assertThat(executor.isAlive()).isFalse();
+            assertThatExceptionOfType(RuntimeEnvironmentException.class)
+                    .isThrownBy(() -> executor.getStandardLibrariesNames());
+        }
     }
 
     @Nested
@@ -157,4 +189,46 @@ public class RobotCommandRpcExecutorTest {
             return RedTemporaryDirectory.getTemporaryFile(RedTemporaryDirectory.CLASS_PATH_UPDATER).getPath();
         }
     }
+
+    @Nested
+    class WrittenLibdocVerificationTest {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        void writtenLibdocIsAccepted_whenFileHasReportedSize() throws Exception {
+            final File libspec = Files.write(tempDir.resolve("lib.libspec"), new byte[] { 1, 2, 3 }).toFile();
+
+            RobotCommandRpcExecutor.verifyWrittenLibdoc(libspec, 3);
+            RobotCommandRpcExecutor.verifyWrittenLibdoc(libspec, "3");
+        }
+
+        @Test
+        void exceptionIsThrown_whenLibdocFileDoesNotExist() {
+            final File libspec = tempDir.resolve("lib.libspec").toFile();
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> RobotCommandRpcExecutor.verifyWrittenLibdoc(libspec, 3))
+                    .withMessageContaining("was not written");
+        }
+
+        @Test
+        void exceptionIsThrown_whenLibdocFileHasDifferentSize() throws Exception {
+            final File libspec = Files.write(tempDir.resolve("lib.libspec"), new byte[] { 1, 2 }).toFile();
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> RobotCommandRpcExecutor.verifyWrittenLibdoc(libspec, 3))
+                    .withMessageContaining("(2 != 3)");
+        }
+
+        @Test
+        void exceptionIsThrown_whenReportedSizeIsNotNumber() throws Exception {
+            final File libspec = Files.write(tempDir.resolve("lib.libspec"), new byte[] { 1, 2 }).toFile();
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> RobotCommandRpcExecutor.verifyWrittenLibdoc(libspec, "content"))
+                    .withMessageContaining("'content'");
+        }
+    }
 }
@@ -7,7 +7,12 @@ package org.rf.ide.core.environment;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -15,6 +20,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,7 @@ import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
+import org.rf.ide.core.libraries.LibrarySpecification.LibdocFormat;
 
 public class RobotRuntimeEnvironmentTest {
 
@@ -91,12 +98,40 @@ public class RobotRuntimeEnvironmentTest {
         assertThat(stdLibNames).containsExactly("BuiltIn", "Dialogs", "XML");
     }
 
+    @Test
+    public void libdocIsCreatedByPooledExecutor() {
+        final RobotCommandExecutor executor = mock(RobotCommandExecutor.class);
+        final RobotCommandExecutor libdocExecutor = mock(RobotCommandExecutor.class);
+        final File outputFile = new File(tempDir, "Lib.libspec");
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+
+        final RobotRuntimeEnvironment env = createEnvironment(executor, libdocExecutor);
+
+        env.createLibdoc("Lib", outputFile, LibdocFormat.XML, searchPaths);
+        env.createLibdocInSeparateProcess("Lib", outputFile, LibdocFormat.XML, searchPaths, 10);
+
+        verify(libdocExecutor).createLibdoc("Lib", outputFile, LibdocFormat.XML, searchPaths);
+        verify(libdocExecutor).createLibdocInSeparateProcess("Lib", outputFile, LibdocFormat.XML, searchPaths, 10);
+        verify(executor, never()).createLibdoc(any(), any(), any(), any());
+        verify(executor, never()).createLibdocInSeparateProcess(any(), any(), any(), any(), eq(10));
+    }
+
     private RobotRuntimeEnvironment createEnvironment(final RobotCommandExecutor executor) {
+        return createEnvironment(executor, executor);
+    }
+
+    private RobotRuntimeEnvironment createEnvironment(final RobotCommandExecutor executor,
+            final RobotCommandExecutor libdocExecutor) {
         final PythonInstallationDirectory location = new PythonInstallationDirectory(
                 URI.create("file:///path/to/python"), SuiteExecutor.Python);
 
         final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
         when(executors.getRobotCommandExecutor(location)).thenReturn(executor);
+        doAnswer(invocation -> {
+            final Consumer<RobotCommandExecutor> command = invocation.getArgument(1);
+            command.accept(libdocExecutor);
+            return null;
+        }).when(executors).executeLibdocCommand(eq(location), any());
 
         return new RobotRuntimeEnvironment(executors, location, "3.0.0");
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.agent.event;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class VariableItemsEventTest {
+
+    @Test
+    public void exceptionIsThrownForWronglyConstructedJsonDictionary_1() {
+        final Map<String, Object> eventMap = ImmutableMap.of();
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> VariableItemsEvent.from(eventMap));
+    }
+
+    @Test
+    public void exceptionIsThrownForWronglyConstructedJsonDictionary_2() {
+        final Map<String, Object> eventMap = ImmutableMap.of("variable_items", newArrayList());
+        assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> VariableItemsEvent.from(eventMap));
+    }
+
+    @Test
+    public void exceptionIsThrownForWronglyConstructedJsonDictionary_3() {
+        final Map<String, Object> eventMap = ImmutableMap.of("variable_items",
+                newArrayList(ImmutableMap.of("name", "@{list}", "level", 1, "path", newArrayList(), "offset", 0)));
+        assertThatIllegalArgumentException().isThrownBy(() -> VariableItemsEvent.from(eventMap));
+    }
+
+    @Test
+    public void exceptionIsThrownForWronglyConstructedJsonDictionary_4() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("name", "@{list}");
+        arguments.put("level", 1);
+        arguments.put("path", newArrayList());
+        arguments.put("offset", 0);
+        arguments.put("length", 10);
+        arguments.put("items", null);
+        arguments.put("error", null);
+        final Map<String, Object> eventMap = ImmutableMap.of("variable_items", newArrayList(arguments));
+        assertThatIllegalArgumentException().isThrownBy(() -> VariableItemsEvent.from(eventMap));
+    }
+
+    @Test
+    public void eventWithItemsIsProperlyConstructed() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("name", "&{dict}");
+        arguments.put("level", 2);
+        arguments.put("path", newArrayList("key", 3));
+        arguments.put("offset", 100);
+        arguments.put("length", 1000);
+        arguments.put("items", newArrayList(
+                newArrayList("a", newArrayList("int", "1")),
+                newArrayList("b", newArrayList("list", newArrayList((Object) newArrayList("int", "2")))),
+                newArrayList("c", newArrayList("list", "[3, ...]", ImmutableMap.of("length", 500, "kind", "list")))));
+        arguments.put("error", null);
+        final Map<String, Object> eventMap = ImmutableMap.of("variable_items", newArrayList(arguments));
+
+        final VariableItemsEvent event = VariableItemsEvent.from(eventMap);
+
+        assertThat(event.getVariableName()).isEqualTo("&{dict}");
+        assertThat(event.getFrameLevel()).isEqualTo(2);
+        assertThat(event.getPath()).containsExactly("key", 3);
+        assertThat(event.getOffset()).isEqualTo(100);
+        assertThat(event.getLength()).isEqualTo(1000);
+        assertThat(event.getItems().get()).containsExactly(
+                entry("a", new VariableTypedValue("int", "1")),
+                entry("b", new VariableTypedValue("list", newArrayList(new VariableTypedValue("int", "2")))),
+                entry("c", new VariableTypedValue("list", new VariableItemsSummary(false, 500, "[3, ...]"))));
+        assertThat(event.getError()).isEmpty();
+    }
+
+    @Test
+    public void eventWithErrorIsProperlyConstructed() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("name", "@{list}");
+        arguments.put("level", 1);
+        arguments.put("path", newArrayList());
+        arguments.put("offset", 0);
+        arguments.put("length", 0);
+        arguments.put("items", null);
+        arguments.put("error", "error");
+        final Map<String, Object> eventMap = ImmutableMap.of("variable_items", newArrayList(arguments));
+
+        final VariableItemsEvent event = VariableItemsEvent.from(eventMap);
+
+        assertThat(event.getItems()).isEmpty();
+        assertThat(event.getError()).hasValue("error");
+    }
+
+    @Test
+    public void equalsTests() {
+        final Map<Object, VariableTypedValue> items = ImmutableMap.of(0, new VariableTypedValue("int", "1"));
+
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null))
+                .isEqualTo(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null));
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null))
+                .isNotEqualTo(new VariableItemsEvent("@{other}", 1, newArrayList(), 0, 10, items, null));
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null))
+                .isNotEqualTo(new VariableItemsEvent("@{list}", 1, newArrayList(), 5, 10, items, null));
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null))
+                .isNotEqualTo(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, null, "error"));
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null)).isNotEqualTo(null);
+    }
+
+    @Test
+    public void hashCodeTests() {
+        final Map<Object, VariableTypedValue> items = ImmutableMap.of(0, new VariableTypedValue("int", "1"));
+
+        assertThat(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null).hashCode())
+                .isEqualTo(new VariableItemsEvent("@{list}", 1, newArrayList(), 0, 10, items, null).hashCode());
+    }
+}
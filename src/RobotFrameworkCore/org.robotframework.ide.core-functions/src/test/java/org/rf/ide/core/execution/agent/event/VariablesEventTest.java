@@ -9,6 +9,7 @@ import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -149,6 +150,79 @@ public class VariablesEventTest {
         assertThat(event.getVariables()).isEqualTo(expectedVars);
     }
 
+    @Test
+    public void exceptionIsThrown_whenRemovedVariablesAreNotProvidedForEachScope() {
+        final Map<String, Object> eventMap = ImmutableMap.of("variables", newArrayList(
+                ImmutableMap.of("var_scopes", newArrayList(new LinkedHashMap<>(), new LinkedHashMap<>()),
+                        "removed_vars", newArrayList(newArrayList()))));
+        assertThatIllegalArgumentException().isThrownBy(() -> VariablesEvent.from(eventMap, newArrayList()));
+    }
+
+    @Test
+    public void eventIsReconstructedFromPreviousVariables_whenOnlyChangesOfScopesAreSent() {
+        final VariableTypedValue aValue = new VariableTypedValue("int", 1);
+        final VariableTypedValue xValue = new VariableTypedValue("int", 10);
+        final Map<Variable, VariableTypedValue> previousGlobalScope = new LinkedHashMap<>();
+        previousGlobalScope.put(new Variable("${a}", VariableScope.GLOBAL), aValue);
+        previousGlobalScope.put(new Variable("${b}", VariableScope.GLOBAL), new VariableTypedValue("int", 2));
+        previousGlobalScope.put(new Variable("${c}", VariableScope.GLOBAL), new VariableTypedValue("int", 3));
+        final Map<Variable, VariableTypedValue> previousLocalScope = new LinkedHashMap<>();
+        previousLocalScope.put(new Variable("${x}", VariableScope.LOCAL), xValue);
+        final List<Map<Variable, VariableTypedValue>> previousVars = newArrayList(previousLocalScope,
+                previousGlobalScope);
+
+        final Map<String, Object> newScope = new LinkedHashMap<>();
+        newScope.put("${y}", typeValueScope("int", 20, "local"));
+        final Map<String, Object> localScope = new LinkedHashMap<>();
+        localScope.put("${z}", typeValueScope("int", 30, "local"));
+        final Map<String, Object> globalScope = new LinkedHashMap<>();
+        globalScope.put("${b}", typeValueScope("int", 5, "suite"));
+        globalScope.put("${d}", typeValueScope("int", 4, "global"));
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(newScope, localScope, globalScope),
+                        "removed_vars", newArrayList(null, newArrayList(), newArrayList("${c}")))));
+        final VariablesEvent event = VariablesEvent.from(eventMap, previousVars);
+
+        assertThat(event.getVariables()).hasSize(3);
+        assertThat(event.getVariables().get(0)).containsExactly(
+                entry(new Variable("${y}", VariableScope.LOCAL), new VariableTypedValue("int", 20)));
+        assertThat(event.getVariables().get(1)).containsExactly(
+                entry(new Variable("${x}", VariableScope.LOCAL), xValue),
+                entry(new Variable("${z}", VariableScope.LOCAL), new VariableTypedValue("int", 30)));
+        assertThat(event.getVariables().get(2)).containsExactly(
+                entry(new Variable("${a}", VariableScope.GLOBAL), aValue),
+                entry(new Variable("${b}", VariableScope.TEST_SUITE), new VariableTypedValue("int", 5)),
+                entry(new Variable("${d}", VariableScope.GLOBAL), new VariableTypedValue("int", 4)));
+        assertThat(event.getVariables().get(1).get(new Variable("${x}"))).isSameAs(xValue);
+        assertThat(event.getVariables().get(2).get(new Variable("${a}"))).isSameAs(aValue);
+        assertThat(event.getVariables().get(2).keySet()).extracting(Variable::getScope)
+                .containsExactly(VariableScope.GLOBAL, VariableScope.TEST_SUITE, VariableScope.GLOBAL);
+    }
+
+    @Test
+    public void valuesWithManyItemsAreReconstructedAsSummaries() {
+        final Map<String, Object> globalScope = new LinkedHashMap<>();
+        globalScope.put("@{list}", newArrayList("list", "[0, 1, 2, ...]", "global",
+                ImmutableMap.of("length", 1000, "kind", "list")));
+        globalScope.put("&{dict}", typeValueScope("dict",
+                ImmutableMap.of("nested", newArrayList("dict", "{a: 1, ...}", ImmutableMap.of("length", 200, "kind",
+                        "dict"))),
+                "global"));
+
+        final Map<String, Object> eventMap = ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", newArrayList(globalScope))));
+        final VariablesEvent event = VariablesEvent.from(eventMap);
+
+        assertThat(event.getVariables()).hasSize(1);
+        assertThat(event.getVariables().get(0)).containsExactly(
+                entry(new Variable("@{list}", VariableScope.GLOBAL),
+                        new VariableTypedValue("list", new VariableItemsSummary(false, 1000, "[0, 1, 2, ...]"))),
+                entry(new Variable("&{dict}", VariableScope.GLOBAL), new VariableTypedValue("dict",
+                        ImmutableMap.of("nested", new VariableTypedValue("dict",
+                                new VariableItemsSummary(true, 200, "{a: 1, ...}"))))));
+    }
+
     @Test
     public void equalsTests() {
         final List<Map<Variable, VariableTypedValue>> vars1 = newArrayList(
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.FutureTask;
 
@@ -28,6 +29,7 @@ import org.rf.ide.core.execution.agent.event.PausedEvent;
 import org.rf.ide.core.execution.agent.event.PausedEvent.PausedEventResponder;
 import org.rf.ide.core.execution.agent.event.ShouldContinueEvent;
 import org.rf.ide.core.execution.agent.event.ShouldContinueEvent.ShouldContinueEventResponder;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.server.response.ContinueExecution;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
@@ -153,4 +155,28 @@ public class ExecutionPauseContinueListenerTest {
         verify(controller).conditionEvaluated(event);
         verifyNoMoreInteractions(controller);
     }
+
+    @Test
+    public void controllerIsNotified_whenVariableItemsHaveBeenReceived() {
+        final UserProcessController controller = mock(UserProcessController.class);
+
+        final VariableItemsEvent event = new VariableItemsEvent("${var}", 1, new ArrayList<>(), 0, 0, null, "error");
+
+        final ExecutionPauseContinueListener listener = new ExecutionPauseContinueListener(controller);
+        listener.handleVariableItems(event);
+
+        verify(controller).variableItemsReceived(event);
+        verifyNoMoreInteractions(controller);
+    }
+
+    @Test
+    public void controllerIsNotified_whenExecutionHasBeenResumed() {
+        final UserProcessController controller = mock(UserProcessController.class);
+
+        final ExecutionPauseContinueListener listener = new ExecutionPauseContinueListener(controller);
+        listener.handleResumed();
+
+        verify(controller).executionResumed();
+        verifyNoMoreInteractions(controller);
+    }
 }
@@ -14,7 +14,11 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.FutureTask;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.rf.ide.core.execution.agent.PausingPoint;
 import org.rf.ide.core.execution.agent.event.ConditionEvaluatedEvent;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
+import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.debug.StackFrame.FrameCategory;
 import org.rf.ide.core.execution.debug.UserProcessController.ResponseWithCallback;
 import org.rf.ide.core.execution.debug.UserProcessDebugController.DebuggerPreferences;
@@ -34,6 +40,7 @@ import org.rf.ide.core.execution.server.response.ChangeVariable;
 import org.rf.ide.core.execution.server.response.DisconnectExecution;
 import org.rf.ide.core.execution.server.response.EvaluateCondition;
 import org.rf.ide.core.execution.server.response.EvaluateExpression;
+import org.rf.ide.core.execution.server.response.GetVariableItems;
 import org.rf.ide.core.execution.server.response.PauseExecution;
 import org.rf.ide.core.execution.server.response.ResumeExecution;
 import org.rf.ide.core.execution.server.response.ServerResponse;
@@ -1329,6 +1336,177 @@ public class UserProcessDebugControllerTest {
         assertThat(controller.getSuspensionData().data).isEmpty();
     }
 
+    @Test
+    public void whenVariableItemsAreRequested_properResponseIsQueuedAndReceivedItemsAreReturned() throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+        pauseExecution(controller);
+
+        final CompletableFuture<Optional<Map<Object, VariableTypedValue>>> items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList((Object) 1), 100, 2));
+
+        final FutureTask<ServerResponse> response = controller.takeFutureResponse();
+        response.run();
+        assertThat(response.get()).isInstanceOf(GetVariableItems.class);
+        assertThat(controller.getSuspensionData()).isNull();
+
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList((Object) 1), 100, 2));
+
+        assertThat(items.get()).hasValue(itemsEvent("@{list}", newArrayList((Object) 1), 100, 2).getItems().get());
+    }
+
+    @Test
+    public void variableItemsWhichDoNotAnswerTheRequest_areDropped() throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+        pauseExecution(controller);
+
+        final CompletableFuture<Optional<Map<Object, VariableTypedValue>>> items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList(), 100, 2));
+        controller.takeFutureResponse().run();
+
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList(), 0, 2));
+        controller.variableItemsReceived(itemsEvent("@{other}", newArrayList(), 100, 2));
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList((Object) 1), 100, 2));
+        assertThat(items).isNotDone();
+
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList(), 100, 2));
+        assertThat(items.get()).hasValue(itemsEvent("@{list}", newArrayList(), 100, 2).getItems().get());
+    }
+
+    @Test
+    public void variableItemsAreNotRequested_whenExecutionIsNotSuspended() {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+
+        assertThat(controller.getVariableItems(frame, variable, newArrayList(), 0, 2)).isEmpty();
+        assertThat(controller.manualUserResponse).isEmpty();
+
+        pauseExecution(controller);
+        controller.executionResumed();
+
+        assertThat(controller.getVariableItems(frame, variable, newArrayList(), 0, 2)).isEmpty();
+        assertThat(controller.manualUserResponse).isEmpty();
+        assertThat(controller.getSuspensionData()).isNull();
+    }
+
+    @Test
+    public void variableItemsRequestIsDroppedAndSuspensionDataIsKept_whenExecutionWasResumedMeanwhile()
+            throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+        pauseExecution(controller);
+
+        final CompletableFuture<Optional<Map<Object, VariableTypedValue>>> items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList(), 0, 2));
+        while (controller.manualUserResponse.isEmpty()) {
+            Thread.sleep(10);
+        }
+        controller.executionResumed();
+        final Runnable whenSteppingEnds = mock(Runnable.class);
+        controller.setSuspensionData(new SuspensionData(SuspendReason.STEPPING, SteppingMode.INTO, whenSteppingEnds));
+
+        final PauseReasonListener listener = mock(PauseReasonListener.class);
+        controller.whenSuspended(listener);
+
+        assertThat(controller.takeCurrentResponse(PausingPoint.END_KEYWORD, null)).isEmpty();
+        assertThat(items.get()).isEmpty();
+        assertThat(controller.getSuspensionData().reason).isEqualTo(SuspendReason.STEPPING);
+        assertThat(controller.getSuspensionData().data).containsOnly(SteppingMode.INTO, whenSteppingEnds);
+
+        controller.executionPaused();
+        verify(listener).pausedByStepping();
+        assertThat(controller.getSuspensionData()).isNull();
+    }
+
+    @Test
+    public void pauseAfterAnsweringVariableItemsRequest_isNotReportedToListeners() throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+        pauseExecution(controller);
+
+        final PauseReasonListener listener = mock(PauseReasonListener.class);
+        controller.whenSuspended(listener);
+
+        final CompletableFuture<Optional<Map<Object, VariableTypedValue>>> items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList(), 0, 2));
+        controller.takeFutureResponse().run();
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList(), 0, 2));
+        items.get();
+        controller.executionPaused();
+
+        verifyNoInteractions(listener);
+
+        controller.setSuspensionData(new SuspensionData(SuspendReason.USER_REQUEST));
+        controller.executionPaused();
+
+        verify(listener).pausedByUser();
+    }
+
+    @Test
+    public void variableItemsAreNotRequestedAgain_untilExecutionPausesForOtherReason() throws Exception {
+        final Stacktrace stack = new Stacktrace();
+        final StackFrame frame = new StackFrame("Suite", FrameCategory.SUITE, 0, context());
+        stack.push(frame);
+
+        final DebuggerPreferences prefs = new DebuggerPreferences(() -> false, true);
+        final UserProcessDebugController controller = new UserProcessDebugController(stack, prefs);
+        final StackFrameVariable variable = new StackFrameVariable(VariableScope.GLOBAL, false, "@{list}", "list",
+                null);
+        pauseExecution(controller);
+
+        CompletableFuture<Optional<Map<Object, VariableTypedValue>>> items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList(), 0, 2));
+        controller.takeFutureResponse().run();
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList(), 0, 2));
+        items.get();
+        controller.executionPaused();
+
+        assertThat(controller.getVariableItems(frame, variable, newArrayList(), 0, 2)).isPresent();
+        assertThat(controller.manualUserResponse).isEmpty();
+
+        controller.setSuspensionData(new SuspensionData(SuspendReason.USER_REQUEST));
+        controller.executionPaused();
+
+        items = CompletableFuture
+                .supplyAsync(() -> controller.getVariableItems(frame, variable, newArrayList(), 0, 2));
+        final FutureTask<ServerResponse> response = controller.takeFutureResponse();
+        response.run();
+        assertThat(response.get()).isInstanceOf(GetVariableItems.class);
+        controller.variableItemsReceived(itemsEvent("@{list}", newArrayList(), 0, 2));
+        assertThat(items.get()).isPresent();
+    }
+
     @Test
     public void whenFutureResponseWasOrdered_itIsReturnedAsFutureTask() throws Exception {
         final Stacktrace stack = new Stacktrace();
@@ -1348,6 +1526,20 @@ public class UserProcessDebugControllerTest {
         verify(callback).run();
     }
 
+    private static void pauseExecution(final UserProcessDebugController controller) {
+        controller.setSuspensionData(new SuspensionData(SuspendReason.USER_REQUEST));
+        controller.executionPaused();
+    }
+
+    private static VariableItemsEvent itemsEvent(final String name, final List<Object> path, final int offset,
+            final int count) {
+        final Map<Object, VariableTypedValue> items = new LinkedHashMap<>();
+        for (int i = offset; i < offset + count; i++) {
+            items.put(i, new VariableTypedValue("int", String.valueOf(i)));
+        }
+        return new VariableItemsEvent(name, 0, path, offset, 1000, items, null);
+    }
+
     private static StackFrameContext context() {
         return mock(StackFrameContext.class);
     }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.MessageEvent;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
+
+/**
+ * Compares decoding of agent events by binding each line into a map with decoding them by
+ * {@link AgentEventDecoder}. Traffic replays what TestRunnerAgent.py sends in debug mode for a
+ * suite of 100 tests calling 50 keywords each: every keyword is reported with pre-start, start,
+ * pre-end and end events carrying the same attributes as the agent sends, and logs one message.
+ * Run with main method from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AgentEventDecoderBenchmark {
+
+    private static final int TESTS = 100;
+
+    private static final int KEYWORDS_PER_TEST = 50;
+
+    private List<String> traffic;
+
+    @Setup
+    public void setup() {
+        traffic = new ArrayList<>();
+        traffic.add("{\"agent_initializing\": []}");
+        traffic.add("{\"version\": [{\"cmd_line\": \"robot suite.robot\", \"python\": \"3.8.2\", "
+                + "\"robot\": \"3.2.1\", \"protocol\": 4, \"pid\": 1234}]}");
+        traffic.add("{\"start_suite\": [\"Suite\", {\"id\": \"s1\", \"longname\": \"Suite\", \"source\": "
+                + "\"/project/suite.robot\", \"suites\": [], \"tests\": [], \"totaltests\": " + TESTS + ", "
+                + "\"is_rpa\": false, \"starttime\": \"20200101 10:00:00.000\"}]}");
+        for (int i = 0; i < TESTS; i++) {
+            traffic.add("{\"start_test\": [\"Test " + i + "\", {\"id\": \"s1-t" + i + "\", \"longname\": "
+                    + "\"Suite.Test " + i + "\", \"originalname\": \"Test " + i + "\", \"template\": \"\", "
+                    + "\"tags\": [], \"critical\": \"yes\", \"starttime\": \"20200101 10:00:00.000\"}]}");
+            for (int j = 0; j < KEYWORDS_PER_TEST; j++) {
+                final String keyword = "Keyword Number " + j;
+                final String library = j % 2 == 0 ? "BuiltIn" : "resource";
+                final String started = "[\"" + library + "." + keyword + "\", {\"kwname\": \"" + keyword
+                        + "\", \"libname\": \"" + library + "\", \"type\": \"Keyword\", \"tags\": [], "
+                        + "\"starttime\": \"20200101 10:00:00.000\"}]";
+                final String ended = "[\"" + library + "." + keyword + "\", {\"kwname\": \"" + keyword
+                        + "\", \"libname\": \"" + library + "\", \"type\": \"Keyword\", \"tags\": [], "
+                        + "\"starttime\": \"20200101 10:00:00.000\", \"endtime\": \"20200101 10:00:00.010\", "
+                        + "\"elapsedtime\": 10, \"status\": \"PASS\"}]";
+                traffic.add("{\"pre_start_keyword\": " + started + "}");
+                traffic.add("{\"start_keyword\": " + started + "}");
+                traffic.add("{\"log_message\": [{\"message\": \"message " + j + "\", \"timestamp\": "
+                        + "\"20200101 10:00:00.005\", \"level\": \"INFO\", \"html\": \"no\"}]}");
+                traffic.add("{\"pre_end_keyword\": " + ended + "}");
+                traffic.add("{\"end_keyword\": " + ended + "}");
+            }
+            traffic.add("{\"end_test\": [\"Test " + i + "\", {\"id\": \"s1-t" + i + "\", \"longname\": "
+                    + "\"Suite.Test " + i + "\", \"status\": \"PASS\", \"message\": \"\", \"elapsedtime\": 500}]}");
+        }
+        traffic.add("{\"end_suite\": [\"Suite\", {\"id\": \"s1\", \"longname\": \"Suite\", \"status\": \"PASS\", "
+                + "\"message\": \"\", \"elapsedtime\": 50000}]}");
+        traffic.add("{\"close\": []}");
+    }
+
+    @Benchmark
+    public void bindingToMaps(final Blackhole blackhole) throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final TypeReference<Map<String, Object>> stringToObjectMapType = new TypeReference<Map<String, Object>>() {
+        };
+        for (final String line : traffic) {
+            final Map<String, Object> eventMap = mapper.readValue(line, stringToObjectMapType);
+            switch (Iterables.getFirst(eventMap.keySet(), null)) {
+                case "pre_start_keyword":
+                    blackhole.consume(KeywordStartedEvent.fromPre(eventMap));
+                    break;
+                case "start_keyword":
+                    blackhole.consume(KeywordStartedEvent.from(eventMap));
+                    break;
+                case "pre_end_keyword":
+                    blackhole.consume(KeywordEndedEvent.fromPre(eventMap));
+                    break;
+                case "end_keyword":
+                    blackhole.consume(KeywordEndedEvent.from(eventMap));
+                    break;
+                case "log_message":
+                    blackhole.consume(MessageEvent.fromLogMessage(eventMap));
+                    break;
+                default:
+                    blackhole.consume(eventMap);
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamingDecoder(final Blackhole blackhole) throws IOException {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+        for (final String line : traffic) {
+            switch (decoder.startEvent(line)) {
+                case "pre_start_keyword":
+                case "start_keyword":
+                    blackhole.consume(decoder.decodeKeywordStarted());
+                    break;
+                case "pre_end_keyword":
+                case "end_keyword":
+                    blackhole.consume(decoder.decodeKeywordEnded());
+                    break;
+                case "log_message":
+                    blackhole.consume(decoder.decodeMessage());
+                    break;
+                default:
+                    blackhole.consume(decoder.decodeEventMap());
+                    break;
+            }
+        }
+        decoder.close();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AgentEventDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
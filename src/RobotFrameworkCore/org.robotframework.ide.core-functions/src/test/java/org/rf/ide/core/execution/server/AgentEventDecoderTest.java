@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.LogLevel;
+import org.rf.ide.core.execution.agent.Status;
+import org.rf.ide.core.execution.agent.event.KeywordEndedEvent;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.MessageEvent;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.google.common.collect.ImmutableMap;
+
+public class AgentEventDecoderTest {
+
+    @Test
+    public void nullTypeIsReturned_whenLineDoesNotContainEvent() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        assertThat(decoder.startEvent("null")).isNull();
+        assertThat(decoder.startEvent("{}")).isNull();
+        assertThat(decoder.startEvent("[1, 2]")).isNull();
+    }
+
+    @Test
+    public void eventMapIsDecoded_forGenericEvents() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        assertThat(decoder.startEvent("{\"output_file\": [\"/path/output.xml\"]}")).isEqualTo("output_file");
+        assertThat(decoder.decodeEventMap())
+                .isEqualTo(ImmutableMap.of("output_file", newArrayList("/path/output.xml")));
+
+        assertThat(decoder.startEvent("{\"variables\": {\"var_scopes\": [{\"a\": 1}]}}")).isEqualTo("variables");
+        final Map<String, Object> eventMap = decoder.decodeEventMap();
+        assertThat(eventMap).isEqualTo(
+                ImmutableMap.of("variables", ImmutableMap.of("var_scopes", newArrayList(ImmutableMap.of("a", 1)))));
+    }
+
+    @Test
+    public void keywordStartedEventIsDecoded_skippingUnusedAttributes() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        assertThat(decoder.startEvent("{\"start_keyword\": [\"BuiltIn.Log\", {\"kwname\": \"Log\", "
+                + "\"vars_scopes\": [{\"a\": [\"t\", 1, \"global\"]}], \"libname\": \"BuiltIn\", "
+                + "\"tags\": [], \"starttime\": \"20200101 10:00:00.000\", \"type\": \"Keyword\"}]}"))
+                        .isEqualTo("start_keyword");
+        assertThat(decoder.decodeKeywordStarted()).isEqualTo(new KeywordStartedEvent("Log", "Keyword", "BuiltIn"));
+    }
+
+    @Test
+    public void keywordEndedEventIsDecoded() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        assertThat(decoder.startEvent("{\"end_keyword\": [\"BuiltIn.Log\", {\"status\": \"FAIL\", "
+                + "\"kwname\": \"Log\", \"elapsedtime\": 10, \"libname\": \"BuiltIn\", \"type\": \"Teardown\"}]}"))
+                        .isEqualTo("end_keyword");
+        assertThat(decoder.decodeKeywordEnded())
+                .isEqualTo(new KeywordEndedEvent("BuiltIn", "Log", "Teardown", Status.FAIL));
+    }
+
+    @Test
+    public void messageEventIsDecoded() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        assertThat(decoder.startEvent("{\"log_message\": [{\"message\": \"msg\", \"timestamp\": \"time\", "
+                + "\"level\": \"warn\", \"html\": \"no\"}]}")).isEqualTo("log_message");
+        assertThat(decoder.decodeMessage()).isEqualTo(new MessageEvent("msg", LogLevel.WARN, "time"));
+
+        decoder.startEvent("{\"message\": [{\"message\": \"msg\", \"level\": \"INFO\"}]}");
+        assertThatIllegalArgumentException().isThrownBy(decoder::decodeMessage);
+    }
+
+    @Test
+    public void namesOfKeywordsAndLibrariesAreShared_betweenDecodedEvents() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+        final String line = "{\"start_keyword\": [\"kw\", {\"kwname\": \"kw\", \"libname\": \"lib\", "
+                + "\"type\": \"Keyword\"}]}";
+
+        decoder.startEvent(line);
+        final KeywordStartedEvent event1 = decoder.decodeKeywordStarted();
+        decoder.startEvent(line);
+        final KeywordStartedEvent event2 = decoder.decodeKeywordStarted();
+
+        assertThat(event1.getName()).isSameAs(event2.getName());
+        assertThat(event1.getLibraryName()).isSameAs(event2.getLibraryName());
+        assertThat(event1.getKeywordType()).isSameAs(event2.getKeywordType());
+    }
+
+    @Test
+    public void exceptionIsThrown_whenKeywordEventMissesRequiredAttributes() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        decoder.startEvent("{\"start_keyword\": [\"kw\", {\"kwname\": \"kw\", \"type\": \"Keyword\"}]}");
+        assertThatIllegalArgumentException().isThrownBy(decoder::decodeKeywordStarted);
+
+        decoder.startEvent("{\"end_keyword\": [\"kw\", {\"kwname\": \"kw\", \"libname\": \"lib\", "
+                + "\"type\": \"Keyword\"}]}");
+        assertThatIllegalArgumentException().isThrownBy(decoder::decodeKeywordEnded);
+    }
+
+    @Test
+    public void exceptionIsThrown_whenKeywordEventArgumentsHaveUnexpectedStructure() throws Exception {
+        final AgentEventDecoder decoder = new AgentEventDecoder();
+
+        decoder.startEvent("{\"start_keyword\": {\"kwname\": \"kw\"}}");
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(decoder::decodeKeywordStarted);
+
+        decoder.startEvent("{\"end_keyword\": [\"kw\", \"attributes\"]}");
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(decoder::decodeKeywordEnded);
+    }
+}
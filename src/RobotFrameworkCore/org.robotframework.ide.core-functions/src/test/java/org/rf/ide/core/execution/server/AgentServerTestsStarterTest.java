@@ -102,7 +102,7 @@ public class AgentServerTestsStarterTest {
 
         starter.handleAgentInitializing(event);
 
-        verify(responder).initialize(TestsMode.RUN, true, 123);
+        verify(responder).initialize(TestsMode.RUN, true, 123, -1);
     }
 
     @Test
@@ -114,7 +114,19 @@ public class AgentServerTestsStarterTest {
 
         starter.handleAgentInitializing(event);
 
-        verify(responder).initialize(TestsMode.DEBUG, true, 456);
+        verify(responder).initialize(TestsMode.DEBUG, true, 456, -1);
+    }
+
+    @Test
+    public void agentServerStarterSendsKeywordEventsLimit_whenInformedAboutInitializationRequest() {
+        final AgentServerTestsStarter starter = new AgentServerTestsStarter(TestsMode.RUN, 123, 10);
+
+        final AgentInitializingEventResponder responder = mock(AgentInitializingEventResponder.class);
+        final AgentInitializingEvent event = new AgentInitializingEvent(responder);
+
+        starter.handleAgentInitializing(event);
+
+        verify(responder).initialize(TestsMode.RUN, true, 123, 10);
     }
 
     @Test
@@ -122,7 +134,7 @@ public class AgentServerTestsStarterTest {
         final AgentServerTestsStarter starter = new AgentServerTestsStarter(TestsMode.RUN, 100);
 
         final AgentInitializingEventResponder responder = mock(AgentInitializingEventResponder.class);
-        doThrow(ResponseException.class).when(responder).initialize(any(TestsMode.class), anyBoolean(), anyInt());
+        doThrow(ResponseException.class).when(responder).initialize(any(TestsMode.class), anyBoolean(), anyInt(), anyInt());
 
         final AgentInitializingEvent event = new AgentInitializingEvent(responder);
 
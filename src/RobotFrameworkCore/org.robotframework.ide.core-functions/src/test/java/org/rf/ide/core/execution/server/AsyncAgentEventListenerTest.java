@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.agent.RobotAgentEventListener;
+import org.rf.ide.core.execution.agent.RobotDefaultAgentEventListener;
+import org.rf.ide.core.execution.agent.SynchronousAgentEventListener;
+import org.rf.ide.core.execution.agent.event.KeywordStartedEvent;
+import org.rf.ide.core.execution.agent.event.TestStartedEvent;
+import org.rf.ide.core.execution.debug.ExecutionPauseContinueListener;
+import org.rf.ide.core.execution.debug.StacktraceBuilder;
+
+public class AsyncAgentEventListenerTest {
+
+    @Test
+    public void eventsAreHandledInOrderOnWorkerThread_beforeProcessingIsFinished() {
+        final RecordingListener listener = new RecordingListener();
+        final AsyncAgentEventListener asyncListener = new AsyncAgentEventListener(listener, 4);
+
+        asyncListener.eventsProcessingAboutToStart();
+        for (int i = 0; i < 100; i++) {
+            asyncListener.handleTestStarted(new TestStartedEvent("test" + i, "test" + i, "test" + i, null));
+        }
+        asyncListener.eventsProcessingFinished();
+
+        assertThat(listener.events).hasSize(102);
+        assertThat(listener.events.get(0)).isEqualTo("start");
+        for (int i = 0; i < 100; i++) {
+            assertThat(listener.events.get(i + 1)).isEqualTo("test" + i);
+        }
+        assertThat(listener.events.get(101)).isEqualTo("finish");
+        assertThat(listener.threads).doesNotContain(Thread.currentThread()).hasSize(1);
+    }
+
+    @Test
+    public void eventsWhichAreNotHandledByListener_areNotPassedToWorker() {
+        final RecordingListener listener = new RecordingListener();
+        final AsyncAgentEventListener asyncListener = new AsyncAgentEventListener(listener, 1);
+
+        asyncListener.eventsProcessingAboutToStart();
+        for (int i = 0; i < 100; i++) {
+            asyncListener.handleKeywordStarted(new KeywordStartedEvent("kw", "type", "lib"));
+        }
+        asyncListener.eventsProcessingFinished();
+
+        assertThat(listener.events).containsExactly("start", "finish");
+    }
+
+    @Test
+    public void listenersHandlingKeywordEvents_areNotifiedSynchronously() {
+        // keyword events are not coalesced, since listeners which handle them need each of them
+        assertThat(SynchronousAgentEventListener.class).isAssignableFrom(StacktraceBuilder.class)
+                .isAssignableFrom(ExecutionPauseContinueListener.class);
+    }
+
+    @Test
+    public void handlingEventsStateIsTakenFromListener_afterEventsAreHandledOnWorkerThread() {
+        final RobotAgentEventListener listener = new RobotDefaultAgentEventListener() {
+
+            private boolean isHandlingEvents = true;
+
+            @Override
+            public boolean isHandlingEvents() {
+                return isHandlingEvents;
+            }
+
+            @Override
+            public void handleTestStarted(final TestStartedEvent event) {
+                isHandlingEvents = false;
+            }
+        };
+        final AsyncAgentEventListener asyncListener = new AsyncAgentEventListener(listener, 4);
+        assertThat(asyncListener.isHandlingEvents()).isTrue();
+
+        asyncListener.eventsProcessingAboutToStart();
+        asyncListener.handleTestStarted(new TestStartedEvent("test", "test", "test", null));
+        asyncListener.eventsProcessingFinished();
+
+        assertThat(asyncListener.isHandlingEvents()).isFalse();
+    }
+
+    @Test
+    public void readingThreadIsBlocked_whenBufferIsFull() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<String> handled = new ArrayList<>();
+        final RobotAgentEventListener listener = new RobotDefaultAgentEventListener() {
+
+            @Override
+            public void handleTestStarted(final TestStartedEvent event) {
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.add(event.getName());
+            }
+        };
+        final AsyncAgentEventListener asyncListener = new AsyncAgentEventListener(listener, 1);
+        asyncListener.eventsProcessingAboutToStart();
+
+        final Thread reader = new Thread(() -> {
+            for (int i = 0; i < 5; i++) {
+                asyncListener.handleTestStarted(new TestStartedEvent("test" + i, "test" + i, "test" + i, null));
+            }
+        });
+        reader.start();
+        reader.join(200);
+        assertThat(reader.isAlive()).isTrue();
+
+        latch.countDown();
+        reader.join();
+        asyncListener.eventsProcessingFinished();
+
+        assertThat(handled).containsExactly("test0", "test1", "test2", "test3", "test4");
+    }
+
+    @Test
+    public void exceptionThrownByListener_isRethrownOnReadingThread() {
+        final RobotAgentEventListener listener = new RobotDefaultAgentEventListener() {
+
+            @Override
+            public void handleTestStarted(final TestStartedEvent event) {
+                throw new IllegalStateException("failure");
+            }
+        };
+        final AsyncAgentEventListener asyncListener = new AsyncAgentEventListener(listener, 4);
+
+        asyncListener.eventsProcessingAboutToStart();
+        asyncListener.handleTestStarted(new TestStartedEvent("test", "test", "test", null));
+
+        assertThatIllegalStateException().isThrownBy(asyncListener::eventsProcessingFinished).withMessage("failure");
+    }
+
+    @Test
+    public void onlyListenersNotMarkedAsSynchronousAreWrapped_whenDispatchingAsynchronously() {
+        final RobotAgentEventListener listener = new RobotDefaultAgentEventListener() {};
+        final RobotAgentEventListener syncListener = new SynchronousListener();
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, true, listener,
+                syncListener);
+
+        assertThat(dispatcher.getEventsListeners()).hasSize(2);
+        assertThat(dispatcher.getEventsListeners().get(0)).isInstanceOf(AsyncAgentEventListener.class);
+        assertThat(((AsyncAgentEventListener) dispatcher.getEventsListeners().get(0)).getListener())
+                .isSameAs(listener);
+        assertThat(dispatcher.getEventsListeners().get(1)).isSameAs(syncListener);
+    }
+
+    @Test
+    public void listenersAreNotWrapped_whenDispatchingSynchronously() {
+        final RobotAgentEventListener listener = new RobotDefaultAgentEventListener() {};
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        assertThat(dispatcher.getEventsListeners()).containsExactly(listener);
+    }
+
+    private static class SynchronousListener extends RobotDefaultAgentEventListener
+            implements SynchronousAgentEventListener {
+    }
+
+    private static class RecordingListener extends RobotDefaultAgentEventListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        private final List<Thread> threads = new ArrayList<>();
+
+        @Override
+        public void eventsProcessingAboutToStart() {
+            record("start");
+        }
+
+        @Override
+        public void handleTestStarted(final TestStartedEvent event) {
+            record(event.getName());
+        }
+
+        @Override
+        public void eventsProcessingFinished() {
+            record("finish");
+        }
+
+        private void record(final String event) {
+            events.add(event);
+            if (!threads.contains(Thread.currentThread())) {
+                threads.add(Thread.currentThread());
+            }
+        }
+    }
+}
@@ -47,6 +47,7 @@ import org.rf.ide.core.execution.agent.event.SuiteStartedEvent.ExecutionMode;
 import org.rf.ide.core.execution.agent.event.TestEndedEvent;
 import org.rf.ide.core.execution.agent.event.TestStartedEvent;
 import org.rf.ide.core.execution.agent.event.Variable;
+import org.rf.ide.core.execution.agent.event.VariableItemsEvent;
 import org.rf.ide.core.execution.agent.event.VariableTypedValue;
 import org.rf.ide.core.execution.agent.event.VariablesEvent;
 import org.rf.ide.core.execution.agent.event.VersionsEvent;
@@ -444,6 +445,36 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotifiedAboutReconstructedVariables_whenOnlyChangesAreSent() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final List<Map<String, Object>> attributes1 = newArrayList(
+                ImmutableMap.of("a", newArrayList("t", 1, "test"), "b", newArrayList("t", 2, "suite")));
+        final List<Map<String, Object>> attributes2 = newArrayList(
+                ImmutableMap.of("b", newArrayList("t", 3, "suite")));
+        final List<?> removed2 = newArrayList((Object) newArrayList("a"));
+        final String json1 = toJson(ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", attributes1, "removed_vars", newArrayList((Object) null)))));
+        final String json2 = toJson(ImmutableMap.of("variables",
+                newArrayList(ImmutableMap.of("var_scopes", attributes2, "removed_vars", removed2))));
+        dispatcher.runEventsLoop(readerFor(json1 + "\n" + json2));
+
+        verify(listener).eventsProcessingAboutToStart();
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener).handleVariables(new VariablesEvent(
+                newArrayList(ImmutableMap.of(new Variable("a", VariableScope.TEST_CASE), new VariableTypedValue("t", 1),
+                        new Variable("b", VariableScope.TEST_SUITE), new VariableTypedValue("t", 2))),
+                null));
+        verify(listener).handleVariables(new VariablesEvent(newArrayList(
+                ImmutableMap.of(new Variable("b", VariableScope.TEST_SUITE), new VariableTypedValue("t", 3))), null));
+        verify(listener).eventsProcessingFinished();
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void listenerIsNotifiedAboutShouldContinueConditionEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -534,6 +565,31 @@ public class RobotAgentEventDispatcherTest {
         verifyNoMoreInteractions(listener);
     }
 
+    @Test
+    public void listenerIsNotifiedAboutVariableItemsEvent() throws Exception {
+        final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
+        when(listener.isHandlingEvents()).thenReturn(true);
+
+        final RobotAgentEventDispatcher dispatcher = new RobotAgentEventDispatcher(null, listener);
+
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("name", "@{list}");
+        attributes.put("level", 1);
+        attributes.put("path", newArrayList());
+        attributes.put("offset", 100);
+        attributes.put("length", 1000);
+        attributes.put("items", newArrayList((Object) newArrayList(100, newArrayList("int", "1"))));
+        final String json = toJson(ImmutableMap.of("variable_items", newArrayList(attributes)));
+        dispatcher.runEventsLoop(readerFor(json));
+
+        verify(listener).eventsProcessingAboutToStart();
+        verify(listener, atLeast(1)).isHandlingEvents();
+        verify(listener).handleVariableItems(new VariableItemsEvent("@{list}", 1, newArrayList(), 100, 1000,
+                ImmutableMap.of(100, new VariableTypedValue("int", "1")), null));
+        verify(listener).eventsProcessingFinished();
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void listenerIsNotifiedAboutPausedEvent() throws Exception {
         final RobotAgentEventListener listener = mock(RobotAgentEventListener.class);
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.execution.server.response;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.execution.server.response.ServerResponse.ResponseException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class GetVariableItemsTest {
+
+    @Test
+    public void properMessageIsConstructed_forGetVariableItemsMessage() {
+        assertThat(new GetVariableItems("@{list}", 1, newArrayList(), 0, 100).toMessage()).isEqualTo(
+                "{\"get_variable_items\":{\"name\":\"@{list}\",\"level\":1,\"path\":[],\"offset\":0,\"count\":100}}");
+        assertThat(new GetVariableItems("&{dict}", 2, newArrayList("key", 3), 200, 50).toMessage()).isEqualTo(
+                "{\"get_variable_items\":{\"name\":\"&{dict}\",\"level\":2,\"path\":[\"key\",3],\"offset\":200,"
+                        + "\"count\":50}}");
+    }
+
+    @Test
+    public void mapperJsonProcessingExceptionIsWrappedAsResponseException() throws Exception {
+        final ObjectMapper mapper = mock(ObjectMapper.class);
+        when(mapper.writeValueAsString(any(Object.class))).thenThrow(JsonProcessingException.class);
+
+        final GetVariableItems response = new GetVariableItems(mapper, "@{list}", 1, newArrayList(), 0, 100);
+
+        assertThatExceptionOfType(ResponseException.class).isThrownBy(response::toMessage);
+    }
+}
@@ -32,12 +32,24 @@ public class InitializeAgentTest {
                 "{\"operating_mode\":{\"mode\":\"DEBUG\",\"wait_for_start_allowance\":false,\"max_lenght\":400}}");
     }
 
+    @Test
+    public void properMessageIsConstructed_forInitializeAgentResponseWithKeywordEventsLimit() {
+        assertThat(new InitializeAgent(TestsMode.RUN, true, 100, 0).toMessage()).isEqualTo(
+                "{\"operating_mode\":{\"mode\":\"RUN\",\"wait_for_start_allowance\":true,\"max_lenght\":100,"
+                        + "\"keyword_events_per_second\":0}}");
+        assertThat(new InitializeAgent(TestsMode.RUN, false, 200, 10).toMessage()).isEqualTo(
+                "{\"operating_mode\":{\"mode\":\"RUN\",\"wait_for_start_allowance\":false,\"max_lenght\":200,"
+                        + "\"keyword_events_per_second\":10}}");
+        assertThat(new InitializeAgent(TestsMode.RUN, false, 300, -1).toMessage()).isEqualTo(
+                "{\"operating_mode\":{\"mode\":\"RUN\",\"wait_for_start_allowance\":false,\"max_lenght\":300}}");
+    }
+
     @Test
     public void mapperJsonProcessingExceptionIsWrappedAsResponseException() throws Exception {
         final ObjectMapper mapper = mock(ObjectMapper.class);
         when(mapper.writeValueAsString(any(Object.class))).thenThrow(JsonProcessingException.class);
 
-        final InitializeAgent response = new InitializeAgent(mapper, TestsMode.RUN, false, 100);
+        final InitializeAgent response = new InitializeAgent(mapper, TestsMode.RUN, false, 100, -1);
 
         assertThatExceptionOfType(ResponseException.class).isThrownBy(response::toMessage);
     }
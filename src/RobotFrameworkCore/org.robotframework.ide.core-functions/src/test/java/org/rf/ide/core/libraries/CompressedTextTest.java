@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Strings;
+
+public class CompressedTextTest {
+
+    @Test
+    public void shortTextsAreReturnedUnchanged() {
+        assertThat(CompressedText.of("").getText()).isEmpty();
+        assertThat(CompressedText.of("Logs given message").getText()).isEqualTo("Logs given message");
+        assertThat(CompressedText.of("zażółć gęślą jaźń").getText()).isEqualTo("zażółć gęślą jaźń");
+    }
+
+    @Test
+    public void longTextsAreReturnedUnchanged() {
+        final String text = Strings.repeat("Documentation with *bold* and ``code`` ółż 日本語\n", 500);
+
+        assertThat(CompressedText.of(text).getText()).isEqualTo(text);
+    }
+
+    @Test
+    public void equalTextsAreShared() {
+        final String text = Strings.repeat("Fails if objects are unequal after converting them to strings. ", 10);
+
+        assertThat(CompressedText.of(text)).isSameAs(CompressedText.of(new String(text)));
+        assertThat(CompressedText.of("short")).isSameAs(CompressedText.of(new String("short")));
+        assertThat(CompressedText.of(text)).isNotEqualTo(CompressedText.of(text + " "));
+    }
+}
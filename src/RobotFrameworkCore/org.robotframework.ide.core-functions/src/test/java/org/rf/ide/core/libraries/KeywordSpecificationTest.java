@@ -58,6 +58,22 @@ public class KeywordSpecificationTest {
         assertThat(spec2.getDeprecatedState()).isNotNull().isEqualTo(Boolean.TRUE);
     }
 
+    @Test
+    public void longDocumentationIsReturnedUnchanged() {
+        final StringBuilder documentation = new StringBuilder("*DEPRECATED* use other keyword\n\n");
+        for (int i = 0; i < 100; i++) {
+            documentation.append("Line ").append(i).append(" of documentation\n");
+        }
+        final KeywordSpecification spec = KeywordSpecification.create("keyword");
+        spec.setDocumentation(documentation.toString());
+
+        assertThat(spec.getDocumentation()).isEqualTo(documentation.toString());
+        assertThat(spec.isDeprecated()).isTrue();
+
+        spec.setDocumentation(null);
+        assertThat(spec.getDocumentation()).isNull();
+    }
+
     private static String xmlSpec(final String name, final Optional<Boolean> deprecated, final String documentation) {
         final StringBuilder content = new StringBuilder();
         content.append("<kw");
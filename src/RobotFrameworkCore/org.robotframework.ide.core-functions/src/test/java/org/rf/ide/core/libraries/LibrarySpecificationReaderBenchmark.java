@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading libspecs of a project with 40 libraries having 3000 keywords in total using
+ * {@link LibrarySpecificationReader} with unmarshalling them using JAXB context created for each
+ * file. Run with main method from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LibrarySpecificationReaderBenchmark {
+
+    private static final int LIBRARIES = 40;
+
+    private static final int KEYWORDS_PER_LIBRARY = 75;
+
+    private File directory;
+
+    private List<File> libspecs;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("libspecs_benchmark").toFile();
+        libspecs = new ArrayList<>();
+        for (int i = 0; i < LIBRARIES; i++) {
+            final File file = new File(directory, "Library" + i + ".libspec");
+            Files.write(file.toPath(), libspecContent(i).getBytes(StandardCharsets.UTF_8));
+            libspecs.add(file);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (final File file : libspecs) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Benchmark
+    public void unmarshallingWithJaxb(final Blackhole blackhole) throws JAXBException {
+        for (final File file : libspecs) {
+            blackhole.consume(JAXBContext.newInstance(LibrarySpecification.class).createUnmarshaller().unmarshal(file));
+        }
+    }
+
+    @Benchmark
+    public void readingWithSpecificationReader(final Blackhole blackhole) {
+        for (final File file : libspecs) {
+            blackhole.consume(LibrarySpecificationReader.readSpecification(file));
+        }
+    }
+
+    private static String libspecContent(final int index) {
+        final StringBuilder content = new StringBuilder();
+        content.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        content.append("<keywordspec name=\"Library" + index + "\" type=\"LIBRARY\" format=\"ROBOT\""
+                + " scope=\"GLOBAL\" specversion=\"2\" source=\"/libs/library" + index + ".py\" lineno=\"1\">\n");
+        content.append("<version>1.0</version>\n<doc>Documentation of library " + index + "</doc>\n");
+        content.append("<init><arguments><arg>host=localhost</arg><arg>port=8080</arg></arguments>"
+                + "<doc>Library can be imported with host and port.</doc></init>\n");
+        for (int i = 0; i < KEYWORDS_PER_LIBRARY; i++) {
+            content.append("<kw name=\"Keyword Number " + i + "\" lineno=\"" + (10 * i) + "\">\n");
+            content.append("<arguments><arg>first</arg><arg>second=default</arg><arg>*rest</arg></arguments>\n");
+            content.append("<doc>");
+            for (int j = 0; j < 20; j++) {
+                content.append("Line " + j + " of documentation of keyword with ``code`` &amp; *bold* text.\n");
+            }
+            content.append("</doc>\n<tags><tag>tag</tag></tags>\n</kw>\n");
+        }
+        content.append("<datatypes></datatypes>\n</keywordspec>\n");
+        return content.toString();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LibrarySpecificationReaderBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -8,6 +8,9 @@ package org.rf.ide.core.libraries;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.bind.JAXBContext;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -56,4 +59,74 @@ public class LibrarySpecificationReaderTest {
         });
     }
 
+    @Test
+    public void testReadingFileWithConstructorDeprecationsAndUnknownElements() throws Exception {
+        final File file = new File(tempDir, "libspec");
+        final String content = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<keywordspec name=\"Lib\" type=\"LIBRARY\" format=\"HTML\" scope=\"TEST\" specversion=\"2\""
+                + " source=\"/lib.py\" lineno=\"3\">\n"
+                + "<version></version>\n"
+                + "<doc>&lt;p&gt;Library ł &amp; docs&lt;/p&gt;\n  second line  </doc>\n"
+                + "<init source=\"/lib.py\" lineno=\"7\"><arguments><arg>x=1</arg></arguments>"
+                + "<doc><![CDATA[init <doc>]]></doc></init>\n"
+                + "<kw name=\"First\" deprecated=\"true\" lineno=\"10\"><arguments>\n<arg>*args</arg>\n"
+                + "<arg>**kwargs</arg>\n</arguments><doc>first</doc><tags><tag>t</tag></tags></kw>\n"
+                + "<kw name=\"Second\"><doc>*DEPRECATED* second</doc><unknown><doc>ignored</doc></unknown></kw>\n"
+                + "<kw name=\"Third\"/>\n"
+                + "<datatypes><enums/></datatypes>\n"
+                + "</keywordspec>";
+        Files.write(content.getBytes(StandardCharsets.UTF_8), file);
+        final LibrarySpecification unmarshalledSpec = unmarshalUsingJaxb(file);
+
+        assertThat(LibrarySpecificationReader.readSpecification(file)).hasValueSatisfying(spec -> {
+            assertThat(spec.getScope()).isEqualTo("TEST");
+            assertThat(spec.getSpecificationVersion()).isEqualTo(2);
+            assertThat(spec.getLineNumber()).isEqualTo(3);
+            assertThat(spec.getVersion()).isEmpty();
+            assertThat(spec.getDocumentation()).isEqualTo("<p>Library ł & docs</p>\n  second line  ");
+            assertThat(spec.getConstructor().getArguments()).containsExactly("x=1");
+            assertThat(spec.getConstructor().getDocumentation()).isEqualTo("init <doc>");
+            assertThat(spec.getConstructor().getLineNumber()).isEqualTo(7);
+            assertThat(spec.getKeywords()).hasSize(3);
+            assertThat(spec.getKeywords().get(0).getArguments()).containsExactly("*args", "**kwargs");
+            assertThat(spec.getKeywords().get(0).isDeprecated()).isTrue();
+            assertThat(spec.getKeywords().get(1).getDocumentation()).isEqualTo("*DEPRECATED* second");
+            assertThat(spec.getKeywords().get(1).isDeprecated()).isFalse();
+            assertThat(spec.getKeywords().get(2).getLineNumber()).isNull();
+            assertThat(spec.getKeywords().get(2).getArguments()).isEmpty();
+
+            assertThat(spec).usingRecursiveComparison().isEqualTo(unmarshalledSpec);
+        });
+    }
+
+    @Test
+    public void testReadingFileWithIncorrectNumbers() throws Exception {
+        final File file = new File(tempDir, "libspec");
+        Files.write("<keywordspec name=\"Lib\" lineno=\"x\"><kw name=\"kw\" lineno=\"y\"/></keywordspec>".getBytes(),
+                file);
+
+        assertThat(LibrarySpecificationReader.readSpecification(file)).hasValueSatisfying(spec -> {
+            assertThat(spec.getLineNumber()).isNull();
+            assertThat(spec.getKeywords().get(0).getLineNumber()).isNull();
+        });
+    }
+
+    @Test
+    public void testReadingFileWithDifferentRootElement() throws Exception {
+        final File file = new File(tempDir, "libspec");
+        Files.write("<kw name=\"kw\"/>".getBytes(), file);
+
+        assertThat(LibrarySpecificationReader.readSpecification(file)).isNotPresent();
+    }
+
+    private static LibrarySpecification unmarshalUsingJaxb(final File file) throws Exception {
+        final LibrarySpecification spec = (LibrarySpecification) JAXBContext.newInstance(LibrarySpecification.class)
+                .createUnmarshaller()
+                .unmarshal(file);
+        spec.getKeywordsStream()
+                .filter(kwSpec -> kwSpec.getDeprecatedState() == null)
+                .forEach(kwSpec -> kwSpec.setDeprecated(false));
+        return spec;
+    }
+
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.libraries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+
+public class SharedLibspecsStoreTest {
+
+    private static final String LIBSPEC = "<keywordspec name=\"Lib\" format=\"ROBOT\"><version>1.0</version>"
+            + "<kw name=\"Keyword\"><arguments><arg>a</arg></arguments><doc>doc</doc></kw></keywordspec>";
+
+    @TempDir
+    File tempDir;
+
+    private SharedLibspecsStore store;
+
+    @BeforeEach
+    public void beforeTest() {
+        store = new SharedLibspecsStore(new File(tempDir, "store").toPath());
+    }
+
+    @Test
+    public void keysAreDifferent_whenAnyOfLibraryPropertiesIsDifferent() throws Exception {
+        final File source = write("lib/Lib.py", "def keyword(a): pass");
+
+        final String key = SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x"), paths(), sources(source));
+
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x"), paths(), sources(source)))
+                .isEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python3", "3.2", "Lib", args("x"), paths(), sources(source)))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.1", "Lib", args("x"), paths(), sources(source)))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib2", args("x"), paths(), sources(source)))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("y"), paths(), sources(source)))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x", ""), paths(), sources(source)))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x"), paths(), sources()))
+                .isNotEqualTo(key);
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x"),
+                new EnvironmentSearchPaths(args(), args("/path")), sources(source))).isNotEqualTo(key);
+
+        write("lib/Lib.py", "def keyword(b): pass");
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args("x"), paths(), sources(source)))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void keyDependsOnAllFilesInsideOfSourceDirectory() throws Exception {
+        final File dir = new File(tempDir, "package");
+        write("package/__init__.py", "from .keywords import *");
+        write("package/keywords.py", "def keyword(a): pass");
+
+        final String key = SharedLibspecsStore.createKey("python", "3.2", "package", args(), paths(), sources(dir));
+
+        write("package/keywords.py", "def other_keyword(a): pass");
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "package", args(), paths(), sources(dir)))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void keyDoesNotDependOnCompiledPythonFiles() throws Exception {
+        final File dir = new File(tempDir, "package");
+        write("package/__init__.py", "from .keywords import *");
+        write("package/keywords.py", "def keyword(a): pass");
+
+        final String key = SharedLibspecsStore.createKey("python", "3.2", "package", args(), paths(), sources(dir));
+
+        write("package/keywords.pyc", "compiled");
+        write("package/__pycache__/keywords.cpython-38.pyc", "compiled");
+        write("package/__pycache__/other.py", "cached");
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "package", args(), paths(), sources(dir)))
+                .isEqualTo(key);
+    }
+
+    @Test
+    public void keyDependsOnModulesImportedByLibrary() throws Exception {
+        final File source = write("lib/Lib.py", String.join("\n",
+                "import helper, os.path as p",
+                "from utils.strings import format  # comment",
+                "from . import sibling",
+                "def keyword(a): pass"));
+        write("lib/helper.py", "import nested");
+        write("lib/nested.py", "x = 1");
+        write("lib/sibling.py", "x = 1");
+        write("lib/unused.py", "x = 1");
+        write("paths/utils/__init__.py", "");
+        write("paths/utils/strings.py", "def format(): pass");
+        final EnvironmentSearchPaths paths = new EnvironmentSearchPaths(args(),
+                args(new File(tempDir, "paths").getAbsolutePath()));
+
+        final String key = SharedLibspecsStore.createKey("python", "3.2", "Lib", args(), paths, sources(source));
+
+        write("lib/unused.py", "x = 2");
+        assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args(), paths, sources(source)))
+                .isEqualTo(key);
+
+        for (final String module : args("lib/helper.py", "lib/nested.py", "lib/sibling.py", "paths/utils/strings.py")) {
+            final String previousKey = SharedLibspecsStore.createKey("python", "3.2", "Lib", args(), paths,
+                    sources(source));
+            final byte[] content = Files.readAllBytes(new File(tempDir, module).toPath());
+            write(module, new String(content, StandardCharsets.UTF_8) + "\nchanged = 1");
+            assertThat(SharedLibspecsStore.createKey("python", "3.2", "Lib", args(), paths, sources(source)))
+                    .as(module)
+                    .isNotEqualTo(previousKey);
+        }
+    }
+
+    @Test
+    public void keyCannotBeCreated_whenSourceDoesNotExist() {
+        assertThatIOException().isThrownBy(() -> SharedLibspecsStore.createKey("python", "3.2", "Lib", args(),
+                paths(), sources(new File(tempDir, "missing.py"))));
+    }
+
+    @Test
+    public void storedLibspecIsRestoredUnderTheSameKey() throws Exception {
+        final File generated = write("project1/libspecs/Lib.libspec", LIBSPEC);
+        final File target = new File(tempDir, "project2/libspecs/Lib.libspec");
+
+        assertThat(store.restore("key", target)).isFalse();
+        assertThat(target).doesNotExist();
+
+        store.store("key", generated);
+
+        assertThat(store.restore("other", target)).isFalse();
+        assertThat(store.restore("key", target)).isTrue();
+        assertThat(target).hasContent(LIBSPEC);
+    }
+
+    @Test
+    public void emptyOrMissingLibspecsAreNotStored() throws Exception {
+        store.store("key1", write("Lib.libspec", ""));
+        store.store("key2", new File(tempDir, "missing.libspec"));
+
+        assertThat(store.restore("key1", new File(tempDir, "target"))).isFalse();
+        assertThat(store.restore("key2", new File(tempDir, "target"))).isFalse();
+    }
+
+    @Test
+    public void entryIsRemoved_whenItIsNoLongerAcquiredByAnyOwner() throws Exception {
+        final File target = new File(tempDir, "target.libspec");
+        store.store("key", write("Lib.libspec", LIBSPEC));
+        store.acquire("key", "project1", "Lib.libspec");
+        store.acquire("key", "project2", "Lib.libspec");
+        assertThat(store.countReferences("key")).isEqualTo(2);
+
+        store.releaseAll("project1");
+        assertThat(store.countReferences("key")).isEqualTo(1);
+        assertThat(store.restore("key", target)).isTrue();
+
+        store.releaseAll("project2");
+        assertThat(store.countReferences("key")).isEqualTo(0);
+        assertThat(store.restore("key", target)).isFalse();
+    }
+
+    @Test
+    public void referencesArePersisted_betweenStoreInstances() throws Exception {
+        final File target = new File(tempDir, "target.libspec");
+        store.store("key", write("Lib.libspec", LIBSPEC));
+        store.acquire("key", "project1", "Lib.libspec");
+        store.acquire("key", "project2", "Lib.libspec");
+        store.releaseAll("project2");
+
+        final SharedLibspecsStore restartedStore = new SharedLibspecsStore(new File(tempDir, "store").toPath());
+        assertThat(restartedStore.countReferences("key")).isEqualTo(1);
+
+        restartedStore.releaseAll("project1");
+        assertThat(restartedStore.countReferences("key")).isEqualTo(0);
+        assertThat(restartedStore.restore("key", target)).isFalse();
+    }
+
+    @Test
+    public void entriesNotReferencedByRetainedGroups_areRemoved() throws Exception {
+        final File target = new File(tempDir, "target.libspec");
+        store.store("open", write("Lib.libspec", LIBSPEC));
+        store.store("removed", write("Lib.libspec", LIBSPEC));
+        store.store("unreferenced", write("Lib.libspec", LIBSPEC));
+        store.acquire("open", "open_project", "Lib.libspec");
+        store.acquire("removed", "removed_project", "Lib.libspec");
+
+        final SharedLibspecsStore restartedStore = new SharedLibspecsStore(new File(tempDir, "store").toPath());
+        restartedStore.retainGroups(Arrays.asList("open_project", "other_project"));
+
+        assertThat(restartedStore.countReferences("open")).isEqualTo(1);
+        assertThat(restartedStore.countReferences("removed")).isEqualTo(0);
+        assertThat(restartedStore.restore("open", target)).isTrue();
+        assertThat(restartedStore.restore("removed", target)).isFalse();
+        assertThat(restartedStore.restore("unreferenced", target)).isFalse();
+        assertThat(new SharedLibspecsStore(new File(tempDir, "store").toPath()).countReferences("removed"))
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void previousEntryOfOwnerIsReleased_whenOwnerAcquiresOtherEntry() throws Exception {
+        store.store("old", write("Lib.libspec", LIBSPEC));
+        store.store("new", write("Lib.libspec", LIBSPEC));
+        store.acquire("old", "project", "Lib.libspec");
+        store.acquire("old", "project", "Lib.libspec");
+
+        store.acquire("new", "project", "Lib.libspec");
+
+        assertThat(store.countReferences("old")).isEqualTo(0);
+        assertThat(store.countReferences("new")).isEqualTo(1);
+        assertThat(store.restore("old", new File(tempDir, "target"))).isFalse();
+        assertThat(store.restore("new", new File(tempDir, "target"))).isTrue();
+    }
+
+    @Test
+    public void specificationsReadFromTheSameContentAreIndependentCopies() throws Exception {
+        final File libspec1 = write("project1/Lib.libspec", LIBSPEC);
+        final File libspec2 = write("project2/Lib.libspec", LIBSPEC);
+        final File libspec3 = write("project3/Lib.libspec", LIBSPEC.replace("<arg>a</arg>", "<arg>b</arg>"));
+
+        final LibrarySpecification spec1 = store.readSpecification(libspec1).get();
+        final LibrarySpecification spec2 = store.readSpecification(libspec2).get();
+        final LibrarySpecification spec3 = store.readSpecification(libspec3).get();
+
+        assertThat(spec2).isNotSameAs(spec1).isEqualTo(spec1);
+        assertThat(spec2.getKeywords()).isNotSameAs(spec1.getKeywords()).isEqualTo(spec1.getKeywords());
+        assertThat(spec2.getKeywords().get(0)).isNotSameAs(spec1.getKeywords().get(0));
+        assertThat(spec2.getKeywords().get(0).getDocumentation()).isEqualTo("doc");
+        assertThat(spec3.getKeywords().get(0).getArguments()).containsExactly("b");
+
+        spec1.setDescriptor(LibraryDescriptor.ofStandardLibrary("Lib"));
+        spec1.setIsModified(true);
+        spec1.getKeywords().get(0).getArguments().add("c");
+        spec1.getKeywords().get(0).setName("Changed");
+        spec1.getKeywords().add(KeywordSpecification.create("Other"));
+        assertThat(spec2.getDescriptor()).isNull();
+        assertThat(spec2.isModified()).isFalse();
+        assertThat(spec2.getKeywords()).hasSize(1);
+        assertThat(spec2.getKeywords().get(0).getName()).isEqualTo("Keyword");
+        assertThat(spec2.getKeywords().get(0).getArguments()).containsExactly("a");
+        assertThat(store.readSpecification(libspec1).get().getKeywords().get(0).getArguments())
+                .containsExactly("a");
+    }
+
+    @Test
+    public void specificationIsReadAgain_whenLibspecIsModified() throws Exception {
+        final File libspec = write("project/Lib.libspec", LIBSPEC);
+        assertThat(store.readSpecification(libspec).get().getKeywords().get(0).getArguments()).containsExactly("a");
+
+        write("project/Lib.libspec", LIBSPEC.replace("<arg>a</arg>", "<arg>bc</arg>"));
+        assertThat(store.readSpecification(libspec).get().getKeywords().get(0).getArguments())
+                .containsExactly("bc");
+    }
+
+    @Test
+    public void specificationIsNotRead_whenLibspecIsMissingOrInvalid() throws Exception {
+        assertThat(store.readSpecification(new File(tempDir, "missing.libspec"))).isNotPresent();
+        assertThat(store.readSpecification(write("Lib.libspec", "<invalid"))).isNotPresent();
+    }
+
+    private File write(final String path, final String content) throws Exception {
+        final File file = new File(tempDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> args(final String... args) {
+        return Arrays.asList(args);
+    }
+
+    private static EnvironmentSearchPaths paths() {
+        return new EnvironmentSearchPaths();
+    }
+
+    private static List<File> sources(final File... sources) {
+        return new ArrayList<>(Arrays.asList(sources));
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.IRegionCacheable;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.tasks.Task;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class EditedSectionReparserTest {
+
+    private static final RobotVersion VERSION = new RobotVersion(3, 1);
+
+    private static final File FILE = new File("f.robot");
+
+    private static final String CONTENT = "*** Settings ***\n"
+            + "Library    Collections\n"
+            + "Test Template    Log\n"
+            + "*** Variables ***\n"
+            + "${scalar}    1\n"
+            + "@{list}    1    2\n"
+            + "...    3\n"
+            + "*** Test Cases ***\n"
+            + "test 1\n"
+            + "    [Documentation]    doc of test\n"
+            + "    message 1\n"
+            + "    message 2\n"
+            + "\n"
+            + "test 2\n"
+            + "    [Template]    NONE\n"
+            + "    Log    ${scalar}\n"
+            + "    :FOR    ${i}    IN RANGE    10\n"
+            + "    \\    Log    ${i}\n"
+            + "*** Keywords ***\n"
+            + "keyword 1\n"
+            + "    [Documentation]    doc of keyword\n"
+            + "    ...    continued\n"
+            + "    [Arguments]    ${x}\n"
+            + "    Log    ${x}\n"
+            + "keyword 2\n"
+            + "    ${a}=    Set Variable    2\n"
+            + "    # comment\n"
+            + "    Log Many    ${a}\n"
+            + "    ...    ${a}";
+
+    private final RobotParser parser = new RobotParser(new RobotProjectHolder(), VERSION);
+
+    @Test
+    public void sectionIsReparsed_whenKeywordCallIsChanged() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final String edited = CONTENT.replace("Log    ${x}", "Should Be Equal    ${x}    1");
+        final int offset = CONTENT.indexOf("Log    ${x}");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 11, 28);
+
+        assertThat(output).isNotSameAs(previous);
+        assertThat(firstElement(output)).isSameAs(firstElement(previous));
+        assertThat(output.getFileModel().getKeywordTable().getParent()).isSameAs(output.getFileModel());
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void sectionIsReparsed_whenLinesAreAddedToTestCase() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final String inserted = "    message 3\n    message 4\n";
+        final int offset = CONTENT.indexOf("\ntest 2") + 1;
+        final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                inserted.length());
+
+        assertThat(output).isNotSameAs(previous);
+        assertThat(firstElement(output)).isSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void sectionIsReparsed_whenLinesAreRemovedFromVariables() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final String removed = "@{list}    1    2\n...    3\n";
+        final int offset = CONTENT.indexOf(removed);
+        final String edited = CONTENT.replace(removed, "");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, removed.length(),
+                0);
+
+        assertThat(output).isNotSameAs(previous);
+        assertThat(firstElement(output)).isSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void elementsPrecedingEditedSectionAreNotModified_whenSectionIsReparsed() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+        final int sectionStart = CONTENT.indexOf("*** Test Cases ***");
+        final List<String> precedingDescription = describe(previous).subList(0, lineOf(CONTENT, sectionStart));
+
+        final String inserted = "    Log    inserted\n";
+        final int offset = CONTENT.indexOf("    [Template]");
+        final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                inserted.length());
+
+        assertThat(firstElement(output)).isSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+        assertThat(describe(previous).subList(0, precedingDescription.size())).isEqualTo(precedingDescription);
+        assertThat(output.getFileModel().getFileContent()).allMatch(line -> line.getParent() == output.getFileModel());
+        assertThat(output.getFileModel().getSettingTable()).isSameAs(previous.getFileModel().getSettingTable());
+        assertThat(output.getFileModel().getSettingTable().getParent()).isSameAs(previous.getFileModel());
+    }
+
+    @Test
+    public void sectionsFollowingEditedSectionAreReparsed() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+        final UserKeyword keyword = previous.getFileModel().getKeywordTable().getKeywords().get(1);
+
+        final String inserted = "    Log    inserted\n";
+        final int offset = CONTENT.indexOf("    [Template]");
+        final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                inserted.length());
+
+        final UserKeyword reparsedKeyword = output.getFileModel().getKeywordTable().getKeywords().get(1);
+        assertThat(reparsedKeyword).isNotSameAs(keyword);
+        assertThat(output.getFileModel().getKeywordTable().getParent()).isSameAs(output.getFileModel());
+        assertThat(reparsedKeyword.getName().getStartOffset()).isEqualTo(edited.indexOf("keyword 2"));
+        assertThat(reparsedKeyword.getName().getLineNumber())
+                .isEqualTo(lineOf(edited, edited.indexOf("keyword 2")) + 1);
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void previousOutputIsNotModified_whenSectionIsReparsed() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+        final List<String> previousDescription = describe(previous);
+
+        final String inserted = "    Log    inserted\n";
+        final int offset = CONTENT.indexOf("    [Template]");
+        final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+        parser.parseEditorContent(previous, edited, FILE, offset, 0, inserted.length());
+
+        final RobotFile model = previous.getFileModel();
+        assertThat(describe(previous)).isEqualTo(previousDescription);
+        assertThat(model.getFileContent()).allMatch(line -> line.getParent() == model);
+        assertThat(model.getSettingTable().getParent()).isSameAs(model);
+        assertThat(model.getVariableTable().getParent()).isSameAs(model);
+        assertThat(model.getTestCaseTable().getParent()).isSameAs(model);
+        assertThat(model.getKeywordTable().getParent()).isSameAs(model);
+    }
+
+    @Test
+    public void linesAreKeptAndSectionIsReparsed_whenFileIsLarge() {
+        final StringBuilder content = new StringBuilder(CONTENT);
+        for (int i = 0; i < 5000; i++) {
+            content.append("\nkeyword ").append(i + 3).append("\n    Log    ").append(i);
+        }
+        assertThat(parser.parseEditorContent(content.toString(), FILE).getFileModel().getFileContent()).isEmpty();
+
+        final RobotFileOutput large = parser.parseEditorContent(null, content.toString(), FILE, 0, 0,
+                content.length());
+        assertThat(large.getFileModel().getFileContent()).hasSize(10029);
+
+        final int offset = content.indexOf("test 2");
+        final String edited = content.toString().replace("test 2", "test 22");
+        final RobotFileOutput next = parser.parseEditorContent(large, edited, FILE, offset, 6, 7);
+
+        assertThat(firstElement(next)).isSameAs(firstElement(large));
+        assertThat(next.getFileModel().getFileContent()).hasSize(10029);
+        assertThat(next.getFileModel().getKeywordTable().getKeywords()).hasSize(5002);
+        assertThat(next.getFileModel().getTestCaseTable().getTestCases().get(1).getName().getText())
+                .isEqualTo("test 22");
+    }
+
+    @Test
+    public void sectionIsReparsed_forConsecutiveEdits() {
+        RobotFileOutput output = parser.parseEditorContent(CONTENT, FILE);
+        String content = CONTENT;
+
+        for (final String text : new String[] { "keyword 3\n", "    Log    3\n", "    [Teardown]    Log    4\n" }) {
+            final int offset = content.length();
+            content = content + "\n" + text.substring(0, text.length() - 1);
+            output = parser.parseEditorContent(output, content, FILE, offset, 0, text.length());
+
+            assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(content, FILE)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "x", "    ", "\n", "    Log    inserted\n", "...    continued\n", "# comment\n" })
+    public void reparsedOutputIsSameAsFullyParsed_whenTextIsInsertedAtAnyLine(final String inserted) {
+        final List<Integer> lineStarts = new ArrayList<>();
+        lineStarts.add(0);
+        for (int i = 0; i < CONTENT.length(); i++) {
+            if (CONTENT.charAt(i) == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+
+        for (final int offset : lineStarts) {
+            final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+            final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+            final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                    inserted.length());
+
+            assertThat(describe(output)).as("inserted at offset %d", offset)
+                    .isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+        }
+    }
+
+    @Test
+    public void reparsedOutputIsSameAsFullyParsed_whenAnyLineIsRemoved() {
+        int offset = 0;
+        while (offset < CONTENT.length()) {
+            final int lineEnd = CONTENT.indexOf('\n', offset);
+            final int end = lineEnd < 0 ? CONTENT.length() : lineEnd + 1;
+
+            final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+            final String edited = CONTENT.substring(0, offset) + CONTENT.substring(end);
+            final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, end - offset, 0);
+
+            assertThat(describe(output)).as("removed line at offset %d", offset)
+                    .isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+            offset = end;
+        }
+    }
+
+    @Test
+    public void reparsedOutputIsSameAsFullyParsed_whenLinesAreSeparatedWithCrLf() {
+        final String content = CONTENT.replace("\n", "\r\n");
+        final RobotFileOutput previous = parser.parseEditorContent(content, FILE);
+
+        final String inserted = "    Log    inserted\r\n";
+        final int offset = content.indexOf("keyword 2");
+        final String edited = content.substring(0, offset) + inserted + content.substring(offset);
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                inserted.length());
+
+        assertThat(output).isNotSameAs(previous);
+        assertThat(firstElement(output)).isSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void wholeContentIsParsed_whenHeaderIsEdited() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final int offset = CONTENT.indexOf("Keywords");
+        final String edited = CONTENT.replace("*** Keywords ***", "*** Tasks ***");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 8, 5);
+
+        assertThat(firstElement(output)).isNotSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void wholeContentIsParsed_whenHeaderIsInserted() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final String inserted = "*** Comments ***\n";
+        final int offset = CONTENT.indexOf("keyword 2");
+        final String edited = CONTENT.substring(0, offset) + inserted + CONTENT.substring(offset);
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 0,
+                inserted.length());
+
+        assertThat(firstElement(output)).isNotSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void wholeContentIsParsed_whenSettingsAreEdited() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final int offset = CONTENT.indexOf("Test Template");
+        final String edited = CONTENT.replace("Test Template    Log\n", "");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 20, 0);
+
+        assertThat(firstElement(output)).isNotSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void wholeContentIsParsed_whenTableIsDeclaredInMultipleSections() {
+        final String content = CONTENT + "\n*** Keywords ***\nkeyword 3\n    Log    3\n";
+        final RobotFileOutput previous = parser.parseEditorContent(content, FILE);
+
+        final int offset = content.indexOf("keyword 1");
+        final String edited = content.replace("keyword 1", "keyword 0");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 9, 9);
+
+        assertThat(firstElement(output)).isNotSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    @Test
+    public void wholeContentIsParsed_whenEditDoesNotMatchContent() {
+        final RobotFileOutput previous = parser.parseEditorContent(CONTENT, FILE);
+
+        final String edited = CONTENT.replace("keyword 1", "kw 1");
+        final int offset = CONTENT.indexOf("keyword 1");
+        final RobotFileOutput output = parser.parseEditorContent(previous, edited, FILE, offset, 9, 9);
+
+        assertThat(firstElement(output)).isNotSameAs(firstElement(previous));
+        assertThat(describe(output)).isEqualTo(describe(parser.parseEditorContent(edited, FILE)));
+    }
+
+    private static int lineOf(final String content, final int offset) {
+        int line = 0;
+        for (int i = 0; i < offset; i++) {
+            if (content.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    private static IRobotLineElement firstElement(final RobotFileOutput output) {
+        return output.getFileModel().getFileContent().get(0).getLineElements().get(0);
+    }
+
+    private static List<String> describe(final RobotFileOutput output) {
+        final RobotFile model = output.getFileModel();
+        final List<String> description = new ArrayList<>();
+        for (final RobotLine line : model.getFileContent()) {
+            description.add("line " + line.getLineNumber() + " " + line.getSeparatorForLine() + " "
+                    + line.getLineElements().stream().map(EditedSectionReparserTest::describe).collect(joining(", "))
+                    + " eol " + describe(line.getEndOfLine()));
+        }
+        model.getSettingTable().getImports().forEach(element -> description.add(describe(element)));
+        model.getVariableTable().getVariables().forEach(element -> description.add(describe(element)));
+        for (final TestCase test : model.getTestCaseTable().getTestCases()) {
+            description.add("test " + describe(test.getName()));
+            test.getElements().forEach(element -> description.add(describe(element)));
+        }
+        for (final Task task : model.getTasksTable().getTasks()) {
+            description.add("task " + describe(task.getName()));
+            task.getElements().forEach(element -> description.add(describe(element)));
+        }
+        for (final UserKeyword keyword : model.getKeywordTable().getKeywords()) {
+            description.add("keyword " + describe(keyword.getName()));
+            keyword.getElements().forEach(element -> description.add(describe(element)));
+        }
+        output.getDocumentationCacher()
+                .getUnmodificableCacheContent()
+                .stream()
+                .map(IRegionCacheable::getCached)
+                .map(IDocumentationHolder::getDocumentationText)
+                .map(tokens -> "doc " + tokens.stream().map(RobotToken::getText).collect(toList()))
+                .sorted()
+                .forEach(description::add);
+        return description;
+    }
+
+    private static String describe(final AModelElement<?> element) {
+        return element.getModelType() + " "
+                + element.getElementTokens().stream().map(EditedSectionReparserTest::describe).collect(toList());
+    }
+
+    private static String describe(final IRobotLineElement element) {
+        return element.getClass().getSimpleName() + "'" + element.getText() + "'" + element.getTypes() + "@"
+                + element.getLineNumber() + ":" + element.getStartColumn() + ":" + element.getStartOffset();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RecognizedTokens;
+
+public class ParsedFilesCacheTest {
+
+    private static final RobotVersion VERSION = new RobotVersion(3, 2);
+
+    private static final String CONTENT = String.join("\n",
+            "*** Settings ***",
+            "Library  Collections",
+            "Test Template  Log",
+            "*** Variables ***",
+            "${var}  1",
+            "@{list}  a  b",
+            "*** Test Cases ***",
+            "case",
+            "  [Documentation]  doc",
+            "  ${var}",
+            "*** Keywords ***",
+            "kw",
+            "  [Arguments]  ${arg}",
+            "  ${x}=  Call  ${arg}  # comment",
+            "  FOR  ${i}  IN RANGE  10",
+            "  \\  Log  ${i}",
+            "  END",
+            "");
+
+    @TempDir
+    Path tempDir;
+
+    private final List<IOException> problems = new ArrayList<>();
+
+    private ParsedFilesCache cache;
+
+    private File suite;
+
+    @BeforeEach
+    public void beforeTest() throws IOException {
+        cache = new ParsedFilesCache(tempDir.resolve("cache"), "1.0.0", 10, problems::add);
+        suite = tempDir.resolve("suite.robot").toFile();
+        Files.write(suite.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void nothingIsLoaded_whenNothingWasStored() {
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isEmpty();
+    }
+
+    @Test
+    public void recordedTokensAreLoaded_whenFileWasNotChanged() {
+        final RobotFileOutput output = parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+        assertThat(output.getStatus()).isEqualTo(Status.PASSED);
+
+        final Optional<RecognizedTokens> loaded = cache.load(suite, VERSION, contentOf(suite));
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().isReplaying()).isTrue();
+        assertThat(loaded.get().getEntries()).isNotEmpty();
+    }
+
+    @Test
+    public void recordedTokensAreNotLoaded_forDifferentRobotVersion() {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        assertThat(cache.load(suite, new RobotVersion(3, 1), contentOf(suite))).isEmpty();
+    }
+
+    @Test
+    public void recordedTokensAreNotLoaded_forDifferentFormatVersion() {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        final ParsedFilesCache otherCache = new ParsedFilesCache(tempDir.resolve("cache"), "1.0.1", 10,
+                problems::add);
+        assertThat(otherCache.load(suite, VERSION, contentOf(suite))).isEmpty();
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void recordedTokensAreNotLoaded_whenFileModificationTimeChanged() {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        assertThat(suite.setLastModified(suite.lastModified() - 10_000)).isTrue();
+
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isEmpty();
+    }
+
+    @Test
+    public void fileIsParsedFromScratch_whenContentChangedWithoutChangingSizeAndTime() throws IOException {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        final long modificationTime = suite.lastModified();
+        Files.write(suite.toPath(), CONTENT.replace("  ${var}", "${var}  ").getBytes(StandardCharsets.UTF_8));
+        assertThat(suite.setLastModified(modificationTime)).isTrue();
+
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isEmpty();
+
+        final RobotFileOutput replayed = parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+        final RobotFileOutput notCached = parse(new RobotParser(new RobotProjectHolder(), VERSION));
+
+        assertThat(describe(replayed)).isEqualTo(describe(notCached));
+        assertThat(replayed.getFileModel().getTestCaseTable().getTestCases()).hasSize(2);
+        final RobotFileOutput reparsed = parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+        assertThat(describe(reparsed)).isEqualTo(describe(notCached));
+    }
+
+    @Test
+    public void recordedTokensAreNotLoaded_whenEntryWasRemoved() {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        cache.remove(suite);
+
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isEmpty();
+    }
+
+    @Test
+    public void recordedTokensAreNotLoaded_whenEntryIsBroken() throws IOException {
+        parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+
+        try (Stream<Path> entries = Files.list(tempDir.resolve("cache"))) {
+            for (final Path entry : entries.collect(toList())) {
+                Files.write(entry, new byte[] { 1, 2, 3 });
+            }
+        }
+
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isEmpty();
+        assertThat(problems).hasSize(1);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreRemoved_whenLimitIsExceeded() throws IOException {
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            final File file = tempDir.resolve("suite_" + i + ".robot").toFile();
+            Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        for (int i = 0; i < 10; i++) {
+            new RobotParser(new RobotProjectHolder(), VERSION, cache).parse(files.get(i));
+            assertThat(tempDir.resolve("cache").toFile().list()).hasSize(i + 1);
+        }
+        try (Stream<Path> entries = Files.list(tempDir.resolve("cache"))) {
+            for (final Path entry : entries.collect(toList())) {
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis() - 7_200_000));
+            }
+        }
+        assertThat(cache.load(files.get(0), VERSION, contentOf(files.get(0)))).isPresent();
+        for (int i = 3; i < 10; i++) {
+            assertThat(cache.load(files.get(i), VERSION, contentOf(files.get(i)))).isPresent();
+        }
+
+        new RobotParser(new RobotProjectHolder(), VERSION, cache).parse(files.get(10));
+
+        assertThat(tempDir.resolve("cache").toFile().list()).hasSize(9);
+        assertThat(cache.load(files.get(0), VERSION, contentOf(files.get(0)))).isPresent();
+        assertThat(cache.load(files.get(10), VERSION, contentOf(files.get(10)))).isPresent();
+        assertThat(cache.load(files.get(1), VERSION, contentOf(files.get(1)))).isEmpty();
+        assertThat(cache.load(files.get(2), VERSION, contentOf(files.get(2)))).isEmpty();
+        assertThat(cache.load(files.get(3), VERSION, contentOf(files.get(3)))).isPresent();
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void entryIsNotWritten_whenItWasUsedRecently() throws IOException {
+        new RobotParser(new RobotProjectHolder(), VERSION, cache).parse(suite);
+        final Path entry;
+        try (Stream<Path> entries = Files.list(tempDir.resolve("cache"))) {
+            entry = entries.findFirst().get();
+        }
+        final FileTime usageTime = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(entry, usageTime);
+
+        assertThat(cache.load(suite, VERSION, contentOf(suite))).isPresent();
+        assertThat(Files.getLastModifiedTime(entry)).isEqualTo(usageTime);
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void fileParsedWithLoadedTokens_isTheSameAsFileParsedFromScratch() {
+        final RobotFileOutput recorded = parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+        final RobotFileOutput replayed = parse(new RobotParser(new RobotProjectHolder(), VERSION, cache));
+        final RobotFileOutput notCached = parse(new RobotParser(new RobotProjectHolder(), VERSION));
+
+        assertThat(replayed.getStatus()).isEqualTo(Status.PASSED);
+        assertThat(describe(replayed)).isEqualTo(describe(notCached));
+        assertThat(describe(recorded)).isEqualTo(describe(notCached));
+        assertThat(replayed.getFileModel().getTestCaseTable().getTestCases()).hasSize(1);
+        assertThat(replayed.getFileModel().getKeywordTable().getKeywords()).hasSize(1);
+        assertThat(replayed.getFileModel().getVariableTable().getVariables()).hasSize(2);
+    }
+
+    private static byte[] contentOf(final File file) {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private RobotFileOutput parse(final RobotParser parser) {
+        return parser.parse(suite).get(0);
+    }
+
+    private static List<String> describe(final RobotFileOutput output) {
+        return output.getFileModel()
+                .getFileContent()
+                .stream()
+                .flatMap(line -> line.getLineElements().stream())
+                .map(ParsedFilesCacheTest::describe)
+                .collect(toList());
+    }
+
+    private static String describe(final IRobotLineElement element) {
+        return element.getText() + "|" + element.getTypes() + "|" + element.getLineNumber() + ":"
+                + element.getStartColumn() + "|" + element.getStartOffset();
+    }
+}
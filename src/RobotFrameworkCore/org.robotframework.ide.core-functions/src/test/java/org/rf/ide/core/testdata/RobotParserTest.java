@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -380,4 +382,119 @@ public class RobotParserTest {
         assertThat(output.get(2).getFileModel().getFileContent()).isNotEmpty();
     }
 
+    @Test
+    public void directoryShouldBeParsedInParallel_inTheSameOrderAsSequentially() throws Exception {
+        final File startDir = new File(tempDir, "dir_with_nested_suites");
+        for (int i = 0; i < 4; i++) {
+            final File subDir = new File(startDir, "sub" + i);
+            subDir.mkdirs();
+            for (int j = 0; j < 5; j++) {
+                Files.write(("*** Test Cases ***\ntest " + i + j).getBytes(), new File(subDir, "suite" + j + ".robot"));
+            }
+            Files.write("ignored".getBytes(), new File(subDir, "file.unknown"));
+        }
+
+        final List<RobotFileOutput> sequentialOutput = new RobotParser(new RobotProjectHolder(), ROBOT_VERSION)
+                .parse(startDir);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<RobotFileOutput> parallelOutput = new RobotParser(new RobotProjectHolder(), ROBOT_VERSION)
+                    .parse(startDir, pool);
+
+            assertThat(parallelOutput).hasSize(20);
+            assertThat(parallelOutput).extracting(RobotFileOutput::getProcessedFile)
+                    .containsExactlyElementsOf(
+                            sequentialOutput.stream().map(RobotFileOutput::getProcessedFile).collect(toList()));
+            assertThat(parallelOutput).extracting(o -> o.getFileModel()
+                    .getTestCaseTable()
+                    .getTestCases()
+                    .get(0)
+                    .getName()
+                    .getText())
+                    .containsExactlyElementsOf(sequentialOutput.stream()
+                            .map(o -> o.getFileModel().getTestCaseTable().getTestCases().get(0).getName().getText())
+                            .collect(toList()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filesShouldBeParsedInParallel_inTheOrderOfGivenFiles() throws Exception {
+        final File startDir = new File(tempDir, "dir_with_suites_given_in_order");
+        startDir.mkdir();
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final File file = new File(startDir, "suite" + i + ".robot");
+            Files.write(("*** Test Cases ***\ntest " + i).getBytes(), file);
+            files.add(0, file);
+        }
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<RobotFileOutput> output = new RobotParser(projectHolder, ROBOT_VERSION).parse(files, pool);
+
+            assertThat(output).extracting(RobotFileOutput::getProcessedFile).containsExactlyElementsOf(files);
+            assertThat(output).allMatch(o -> projectHolder.findParsedFileByPath(o.getProcessedFile()) == o);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void alreadyParsedFilesAreNotParsedAgain_whenDirectoryIsParsedInParallel() throws Exception {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+
+        final RobotParser parser = new RobotParser(projectHolder, ROBOT_VERSION);
+
+        final File startDir = new File(tempDir, "dir_with_suites_parsed_in_parallel");
+        startDir.mkdir();
+        Files.write("***Settings***".getBytes(), new File(startDir, "file1.robot"));
+        Files.write("***Keywords***".getBytes(), new File(startDir, "file2.robot"));
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final List<RobotFileOutput> output1 = parser.parse(startDir, pool);
+            final List<RobotFileOutput> output2 = parser.parse(startDir, pool);
+
+            assertThat(output1).hasSize(2);
+            assertThat(output2).hasSize(2);
+            assertThat(output2).containsExactlyInAnyOrderElementsOf(output1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void filesParsedInParallel_areReusedWhenParsingSingleFile_untilTheyAreModified() throws Exception {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+
+        final RobotParser parser = new RobotParser(projectHolder, ROBOT_VERSION);
+
+        final File file = new File(tempDir, "file_parsed_in_parallel.robot");
+        Files.write("***Settings***".getBytes(), file);
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final List<RobotFileOutput> parsedInParallel = parser.parse(Arrays.asList(file), pool);
+
+            assertThat(parsedInParallel).hasSize(1);
+            assertThat(parsedInParallel.get(0).getLastModificationEpochTime()).isEqualTo(file.lastModified());
+            assertThat(projectHolder.shouldBeParsed(file)).isFalse();
+            assertThat(parser.parse(file)).containsExactly(parsedInParallel.get(0));
+
+            Files.write("***Keywords***".getBytes(), file);
+            assertThat(file.setLastModified(file.lastModified() + 10_000)).isTrue();
+
+            assertThat(projectHolder.shouldBeParsed(file)).isTrue();
+            final List<RobotFileOutput> reparsed = parser.parse(file);
+            assertThat(reparsed).hasSize(1);
+            assertThat(reparsed.get(0)).isNotSameAs(parsedInParallel.get(0));
+            assertThat(reparsed.get(0).getFileModel().getKeywordTable().isPresent()).isTrue();
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
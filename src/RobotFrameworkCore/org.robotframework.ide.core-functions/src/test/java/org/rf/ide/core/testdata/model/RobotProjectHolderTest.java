@@ -13,14 +13,23 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.NullRobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.VariableMapping;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -166,4 +175,162 @@ public class RobotProjectHolderTest {
         verify(env, times(2)).getModuleSearchPaths();
         verifyNoMoreInteractions(env);
     }
+
+    @Test
+    public void parsedFileIsFoundByPath_evenWhenPathIsNotNormalized() {
+        final RobotFileOutput output = createOutput(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output);
+
+        assertThat(projectHolder.findParsedFileByPath(new File("dir/suite.robot"))).isSameAs(output);
+        assertThat(projectHolder.findParsedFileByPath(new File("dir/../dir/./suite.robot"))).isSameAs(output);
+        assertThat(projectHolder.findParsedFileByPath(new File("dir/other.robot"))).isNull();
+    }
+
+    @Test
+    public void parsedFileIsReplaced_whenFileWithSamePathIsAdded() {
+        final RobotFileOutput output1 = createOutput(new File("dir/suite.robot"));
+        final RobotFileOutput output2 = createOutput(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output1);
+        projectHolder.addParsedFile(output2);
+
+        assertThat(projectHolder.findParsedFileByPath(new File("dir/suite.robot"))).isSameAs(output2);
+    }
+
+    @Test
+    public void parsedFilesAreRemoved_whenCleared() {
+        final RobotFileOutput output = createOutput(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output);
+        projectHolder.clearParsedFiles();
+
+        assertThat(projectHolder.findParsedFileByPath(new File("dir/suite.robot"))).isNull();
+        assertThat(projectHolder.shouldBeParsed(new File("dir/suite.robot"))).isTrue();
+    }
+
+    @Test
+    public void fileShouldNotBeParsed_whenItIsAlreadyParsedAndNotModified() {
+        final RobotFileOutput output = createOutput(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output);
+
+        assertThat(projectHolder.shouldBeParsed(new File("dir/suite.robot"))).isFalse();
+        output.setLastModificationEpochTime(42);
+        assertThat(projectHolder.shouldBeParsed(new File("dir/suite.robot"))).isTrue();
+    }
+
+    @Test
+    public void parsedFileImportingVariableFileIsFound() {
+        final RobotFileOutput output1 = createOutput(new File("dir/suite1.robot"), new File("dir/vars1.py"));
+        final RobotFileOutput output2 = createOutput(new File("dir/suite2.robot"), new File("dir/vars2.py"));
+        final RobotFileOutput output3 = createOutput(new File("dir/suite3.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output1);
+        projectHolder.addParsedFile(output2);
+        projectHolder.addParsedFile(output3);
+
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars2.py")))
+                .isSameAs(output2);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/../dir/vars1.py")))
+                .isSameAs(output1);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars3.py"))).isNull();
+    }
+
+    @Test
+    public void parsedFileImportingVariableFileIsNotFound_whenImportingFileWasReplaced() {
+        final RobotFileOutput output1 = createOutput(new File("dir/suite.robot"), new File("dir/vars.py"));
+        final RobotFileOutput output2 = createOutput(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output1);
+
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py")))
+                .isSameAs(output1);
+
+        projectHolder.addParsedFile(output2);
+
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py"))).isNull();
+    }
+
+    @Test
+    public void otherParsedFileImportingVariableFileIsFound_whenFirstImportingFileWasReplaced() {
+        final RobotFileOutput output1 = createOutput(new File("dir/suite1.robot"), new File("dir/vars.py"));
+        final RobotFileOutput output2 = createOutput(new File("dir/suite2.robot"), new File("dir/vars.py"));
+        final RobotFileOutput output3 = createOutput(new File("dir/suite1.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output1);
+        projectHolder.addParsedFile(output2);
+
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py")))
+                .isIn(output1, output2);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/other.py"))).isNull();
+
+        projectHolder.addParsedFile(output3);
+
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py")))
+                .isSameAs(output2);
+    }
+
+    @Test
+    public void parsedFileImportingVariableFileIsFound_whenItsImportsAreBeingResolvedInOtherThread()
+            throws Exception {
+        final CountDownLatch resolvingStarted = new CountDownLatch(1);
+        final CountDownLatch resolvingAllowed = new CountDownLatch(1);
+        final RobotFileOutput output = new RobotFileOutput(RobotVersion.from("3.1")) {
+
+            @Override
+            public List<VariablesFileImportReference> getVariablesImportReferences(
+                    final RobotProjectHolder robotProject, final PathsProvider pathsProvider) {
+                resolvingStarted.countDown();
+                try {
+                    resolvingAllowed.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final VariablesFileImportReference reference = new VariablesFileImportReference(null);
+                reference.setVariablesFile(new File("dir/vars.py").getAbsoluteFile());
+                return Arrays.asList(reference);
+            }
+        };
+        output.setProcessedFile(new File("dir/suite.robot"));
+
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        projectHolder.addParsedFile(output);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<RobotFileOutput> first = executor
+                    .submit(() -> projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py")));
+            resolvingStarted.await(5, TimeUnit.SECONDS);
+            final Future<RobotFileOutput> second = executor
+                    .submit(() -> projectHolder.findParsedFileWithImportedVariableFile(null, new File("dir/vars.py")));
+            Thread.sleep(100);
+            resolvingAllowed.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(output);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(output);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static RobotFileOutput createOutput(final File file, final File... importedVariableFiles) {
+        final RobotFileOutput output = new RobotFileOutput(RobotVersion.from("3.1"));
+        output.setProcessedFile(file);
+        final List<VariablesFileImportReference> references = new ArrayList<>();
+        for (final File variableFile : importedVariableFiles) {
+            final VariablesFileImportReference reference = new VariablesFileImportReference(null);
+            reference.setVariablesFile(variableFile.getAbsoluteFile());
+            references.add(reference);
+        }
+        output.setVariablesImportReferences(references);
+        return output;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+/**
+ * Compares searching for keyword calls of a suite among thousands of library keywords when all of
+ * them are checked (index is created for each search) with searching using prebuilt
+ * {@link KeywordIndex}. Run with main method from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordSearcherBenchmark {
+
+    @Param({ "1000", "5000" })
+    private int keywordsCount;
+
+    private final KeywordSearcher searcher = new KeywordSearcher();
+
+    private List<SearchableKeyword> keywords;
+
+    private Map<String, Collection<SearchableKeyword>> accessibleKeywords;
+
+    private KeywordIndex<SearchableKeyword> index;
+
+    private List<String> usages;
+
+    @Setup
+    public void setup() {
+        keywords = new ArrayList<>();
+        accessibleKeywords = new HashMap<>();
+        for (int i = 0; i < keywordsCount; i++) {
+            final String source = "Library" + i % 20;
+            final String name = i % 50 == 0 ? "Keyword ${arg} number " + i : "Library Keyword Number " + i;
+            final SearchableKeyword keyword = new SearchableKeyword() {
+
+                @Override
+                public String getSourceNameInUse() {
+                    return source;
+                }
+
+                @Override
+                public String getKeywordName() {
+                    return name;
+                }
+            };
+            keywords.add(keyword);
+            accessibleKeywords.computeIfAbsent(QualifiedKeywordName.unifyDefinition(name), n -> new ArrayList<>())
+                    .add(keyword);
+        }
+        index = new KeywordIndex<>(keywords);
+
+        usages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            usages.add("Library Keyword Number " + i * 3);
+            usages.add("Given Library" + i % 20 + ".library_keyword_number_" + i * 5);
+            usages.add("Keyword xyz number " + i * 50);
+            usages.add("Not Existing Keyword " + i);
+        }
+    }
+
+    @Benchmark
+    public void checkingAllKeywords(final Blackhole blackhole) {
+        for (final String usage : usages) {
+            blackhole.consume(searcher.findKeywords(accessibleKeywords, keywords, usage, true));
+        }
+    }
+
+    @Benchmark
+    public void usingKeywordIndex(final Blackhole blackhole) {
+        for (final String usage : usages) {
+            blackhole.consume(searcher.findKeywords(accessibleKeywords, index, usage, true));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(KeywordSearcherBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+public class KeywordSearcherTest {
+
+    private final KeywordSearcher searcher = new KeywordSearcher();
+
+    @Test
+    public void keywordIsFoundByNameIgnoringCaseSpacesAndUnderscores() {
+        final List<Keyword> keywords = keywords(new Keyword("BuiltIn", "Should Be Equal"),
+                new Keyword("BuiltIn", "Log"), new Keyword("Collections", "Append To List"));
+
+        final ListMultimap<String, Keyword> found = find(keywords, "should_be equal", false);
+
+        assertThat(found.keySet()).containsOnly("shouldbeequal");
+        assertThat(found.get("shouldbeequal")).containsExactly(keywords.get(0));
+    }
+
+    @Test
+    public void keywordIsFoundByQualifiedName() {
+        final List<Keyword> keywords = keywords(new Keyword("BuiltIn", "Log"), new Keyword("Other", "Log"));
+
+        final ListMultimap<String, Keyword> found = find(keywords, "builtin.Log", false);
+
+        assertThat(found.get("builtin.log")).containsExactly(keywords.get(0));
+        assertThat(found.get("log")).containsExactly(keywords.get(0), keywords.get(1));
+    }
+
+    @Test
+    public void keywordIsFoundWithGherkinPrefixes() {
+        final List<Keyword> keywords = keywords(new Keyword("res", "user is logged"),
+                new Keyword("res", "Given user is logged"));
+
+        final ListMultimap<String, Keyword> found = find(keywords, "Given user is logged", false);
+
+        assertThat(found.keySet()).containsOnly("userislogged", "givenuserislogged");
+        assertThat(found.get("userislogged")).containsExactly(keywords.get(0));
+        assertThat(found.get("givenuserislogged")).containsExactly(keywords.get(1));
+
+        assertThat(find(keywords, "When And user is logged", false).values()).containsExactly(keywords.get(0));
+    }
+
+    @Test
+    public void keywordsWithEmbeddedArgumentsAreFound() {
+        final List<Keyword> keywords = keywords(new Keyword("res", "user ${name} is logged"),
+                new Keyword("res", "user is logged"), new Keyword("lib", "${a} plus ${b}"));
+
+        assertThat(find(keywords, "Given user John is logged", false).get("user john is logged"))
+                .containsExactly(keywords.get(0));
+        assertThat(find(keywords, "res.user ${x} is logged", false).get("res.user ${x} is logged"))
+                .containsExactly(keywords.get(0));
+        assertThat(find(keywords, "1 plus 2", false).get("1 plus 2")).containsExactly(keywords.get(2));
+    }
+
+    @Test
+    public void onlyFirstMatchingNameIsUsedForEachKeyword_whenStoppingAfterFirstMatch() {
+        final List<Keyword> keywords = keywords(new Keyword("BuiltIn", "Log"), new Keyword("Other", "Log"));
+
+        final ListMultimap<String, Keyword> found = find(keywords, "builtin.log", true);
+
+        assertThat(found.get("builtin.log")).containsExactly(keywords.get(0));
+        assertThat(found.get("log")).containsExactly(keywords.get(1));
+    }
+
+    @Test
+    public void indexedSearchFindsTheSameKeywordsAsCheckingAllOfThem() {
+        final List<Keyword> keywords = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            keywords.add(new Keyword("Lib" + i % 4, "Keyword " + i));
+            keywords.add(new Keyword("Lib" + i % 4, "keyword_" + i));
+            keywords.add(new Keyword("res.sub" + i % 3, "Given keyword " + i));
+            keywords.add(new Keyword("res" + i % 2, "keyword ${arg} " + i));
+            keywords.add(new Keyword(null, "No source " + i));
+        }
+        keywords.add(new Keyword("lib$", "Dollar"));
+        keywords.add(new Keyword("lib", "Do$llar"));
+        keywords.add(new Keyword("${lib}", "Dollar"));
+        keywords.add(new Keyword("lib", "İstanbul"));
+
+        final List<String> usages = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            usages.add("Keyword " + i);
+            usages.add("KEYWORD" + i);
+            usages.add("Lib" + i % 4 + ".keyword " + i);
+            usages.add("Given When keyword " + i);
+            usages.add("res.sub1.Given keyword " + i);
+            usages.add("keyword x " + i);
+            usages.add("res1.keyword ${var} " + i);
+            usages.add("Then No Source " + i);
+        }
+        usages.add("lib$.dollar");
+        usages.add("do$llar");
+        usages.add("${lib}.dollar");
+        usages.add("istanbul");
+        usages.add("ıstanbul");
+        usages.add("x.y.z");
+
+        final Map<String, Collection<Keyword>> accessible = accessibleKeywords(keywords);
+        final KeywordIndex<Keyword> index = new KeywordIndex<>(keywords);
+        for (final String usage : usages) {
+            for (final boolean stop : new boolean[] { true, false }) {
+                assertThat(searcher.findKeywords(accessible, index, usage, stop))
+                        .describedAs("usage '%s'", usage)
+                        .isEqualTo(findByCheckingAll(accessible, keywords, usage, stop));
+            }
+        }
+    }
+
+    private ListMultimap<String, Keyword> find(final List<Keyword> keywords, final String usage,
+            final boolean stop) {
+        return searcher.findKeywords(accessibleKeywords(keywords), new KeywordIndex<>(keywords), usage, stop);
+    }
+
+    // searches in the same way as KeywordSearcher did before keywords were indexed
+    private ListMultimap<String, Keyword> findByCheckingAll(final Map<String, Collection<Keyword>> accessible,
+            final List<Keyword> keywords, final String usage, final boolean stop) {
+        final ListMultimap<String, Keyword> found = ArrayListMultimap.create();
+        if (stop) {
+            final Collection<Keyword> collection = accessible.get(QualifiedKeywordName.unifyDefinition(usage));
+            if (collection != null && collection.size() == 1) {
+                found.putAll(QualifiedKeywordName.unifyDefinition(usage), collection);
+                return found;
+            }
+        }
+
+        final List<String> possibleNames = searcher.getNamesToCheck(usage);
+        for (final Keyword keyword : keywords) {
+            final String name = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
+            final boolean isEmbedded = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(name);
+            final List<String> names = isEmbedded ? possibleNames
+                    : possibleNames.stream().map(QualifiedKeywordName::unifyDefinition).collect(toList());
+
+            for (final String possibleName : names) {
+                if (matches(name, null, isEmbedded, possibleName)
+                        || matches(name, keyword.getSourceNameInUse(), isEmbedded, possibleName)) {
+                    found.put(isEmbedded ? possibleName.toLowerCase()
+                            : QualifiedKeywordName.unifyDefinition(possibleName), keyword);
+                    if (stop) {
+                        break;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean matches(final String name, final String source, final boolean isEmbedded,
+            final String possibleName) {
+        String qualifiedName = source != null ? source.toLowerCase() + "." + name : name;
+        if (!isEmbedded) {
+            qualifiedName = QualifiedKeywordName.unifyDefinition(qualifiedName);
+        }
+        return EmbeddedKeywordNamesSupport.matchesIgnoreCase(qualifiedName, possibleName);
+    }
+
+    private static List<Keyword> keywords(final Keyword... keywords) {
+        final List<Keyword> result = new ArrayList<>();
+        for (final Keyword keyword : keywords) {
+            result.add(keyword);
+        }
+        return result;
+    }
+
+    private static Map<String, Collection<Keyword>> accessibleKeywords(final List<Keyword> keywords) {
+        final Map<String, Collection<Keyword>> accessible = new HashMap<>();
+        for (final Keyword keyword : keywords) {
+            accessible.computeIfAbsent(QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()),
+                    name -> new ArrayList<>()).add(keyword);
+        }
+        return accessible;
+    }
+
+    private static class Keyword implements SearchableKeyword {
+
+        private final String source;
+
+        private final String name;
+
+        Keyword(final String source, final String name) {
+            this.source = source;
+            this.name = name;
+        }
+
+        @Override
+        public String getSourceNameInUse() {
+            return source;
+        }
+
+        @Override
+        public String getKeywordName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return source + "." + name;
+        }
+    }
+}
@@ -125,6 +125,36 @@ public class EmbeddedKeywordNamesSupportTest {
         assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${b}c", "a${x}c")).isTrue();
         assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "A${B}C")).isTrue();
 
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${b}c", "x${b}c")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${b}c", "a${b}x")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("ab${b}bc", "a${b}c")).isFalse();
+    }
+
+    @Test
+    public void nameMatchesTest_whenLiteralPartsAroundArgumentsDiffer() {
+        final String definition = "Given user ${name} is logged";
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase(definition, "given user")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase(definition, "when user x is logged")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase(definition, "given user x is gone")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase(definition, "given user  is logged")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase(definition, "GIVEN USER x IS LOGGED")).isTrue();
+
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("${a}-${b}", "x-y")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("${a}-${b}", "xy")).isFalse();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:.*}b", "ab")).isTrue();
+        assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a$b", "A$B")).isTrue();
+    }
+
+    @Test
+    public void nameMatchesTest_whenSameDefinitionIsMatchedRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "A1C")).isTrue();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "AxC")).isFalse();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("a${x:\\d+}c", "A${y}C")).isTrue();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("incorrect regex ${date:[}", "word")).isFalse();
+            assertThat(EmbeddedKeywordNamesSupport.matchesIgnoreCase("incorrect regex ${date:[}",
+                    "incorrect regex ${d}")).isTrue();
+        }
     }
 
     @Test
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+
+/**
+ * Measures heap retained by models of a generated project consisting of 5000 suite files. Heap is
+ * measured after forced garbage collections, so it is approximate; run with main method from test
+ * classpath with fixed heap size (e.g. -Xms2g -Xmx2g) and compare results between revisions.
+ */
+public class RobotTokenHeapBenchmark {
+
+    private static final int FILES = 5000;
+
+    private static final int TEST_CASES_PER_FILE = 20;
+
+    public static void main(final String[] args) throws IOException {
+        final Path projectDir = Files.createTempDirectory("heap_benchmark");
+        try {
+            for (int i = 0; i < FILES; i++) {
+                Files.write(projectDir.resolve("suite_" + i + ".robot"),
+                        suiteContent(i).getBytes(StandardCharsets.UTF_8));
+            }
+
+            final long before = usedHeap();
+            final List<RobotFileOutput> outputs = new RobotParser(new RobotProjectHolder(), RobotVersion.from("3.2"))
+                    .parse(projectDir.toFile());
+            final long after = usedHeap();
+
+            long lines = 0;
+            long tokens = 0;
+            for (final RobotFileOutput output : outputs) {
+                for (final RobotLine line : output.getFileModel().getFileContent()) {
+                    lines++;
+                    tokens += line.getLineElements().size();
+                }
+            }
+            final long retained = after - before;
+            System.out.println("Files parsed:      " + outputs.size());
+            System.out.println("Lines:             " + lines);
+            System.out.println("Line elements:     " + tokens);
+            System.out.println("Retained heap:     " + retained / (1024 * 1024) + " MB");
+            System.out.println("Bytes per element: " + retained / Math.max(1, tokens));
+
+        } finally {
+            for (final File file : projectDir.toFile().listFiles()) {
+                file.delete();
+            }
+            projectDir.toFile().delete();
+        }
+    }
+
+    private static String suiteContent(final int index) {
+        final List<String> lines = new ArrayList<>();
+        lines.add("*** Settings ***");
+        lines.add("Library    Collections");
+        lines.add("Suite Setup    Log    setup of suite " + index);
+        lines.add("*** Variables ***");
+        lines.add("${variable}    value " + index);
+        lines.add("@{list}    a    b    c");
+        lines.add("*** Test Cases ***");
+        for (int i = 0; i < TEST_CASES_PER_FILE; i++) {
+            lines.add("Test case number " + i);
+            lines.add("    [Documentation]    Documentation of test " + i);
+            lines.add("    [Tags]    tag_" + i % 10);
+            lines.add("    ${result}=    Call Some Keyword    argument " + i + "    ${variable}");
+            lines.add("    Should Be Equal    ${result}    expected value    # comment");
+        }
+        lines.add("*** Keywords ***");
+        lines.add("Call Some Keyword");
+        lines.add("    [Arguments]    ${first}    ${second}");
+        lines.add("    FOR    ${i}    IN RANGE    10");
+        lines.add("        Log    ${i}");
+        lines.add("    END");
+        lines.add("    [Return]    ${first}");
+        return String.join("\n", lines) + "\n";
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+
+public class RobotTokenTest {
+
+    @Test
+    public void newTokenHasUnknownTypeAndNoPosition() {
+        final RobotToken token = new RobotToken();
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.UNKNOWN);
+        assertThat(token.getFilePosition().isNotSet()).isTrue();
+        assertThat(token.getLineNumber()).isEqualTo(IRobotLineElement.NOT_SET);
+        assertThat(token.getStartColumn()).isEqualTo(IRobotLineElement.NOT_SET);
+        assertThat(token.getStartOffset()).isEqualTo(IRobotLineElement.NOT_SET);
+    }
+
+    @Test
+    public void tokenIsCreatedWithGivenTypesInOrder() {
+        final RobotToken token = RobotToken.create("x", 1, 2, RobotTokenType.KEYWORD_NAME,
+                RobotTokenType.KEYWORD_ACTION_NAME, RobotTokenType.VARIABLE_USAGE);
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME, RobotTokenType.KEYWORD_ACTION_NAME,
+                RobotTokenType.VARIABLE_USAGE);
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(1, 2, IRobotLineElement.NOT_SET));
+    }
+
+    @Test
+    public void positionIsUpdated_whenSettingItsParts() {
+        final RobotToken token = RobotToken.create("abc");
+        token.setLineNumber(3);
+        token.setStartColumn(4);
+        token.setStartOffset(50);
+
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(3, 4, 50));
+        assertThat(token.getEndFilePosition()).isEqualTo(new FilePosition(3, 7, 53));
+
+        token.setFilePosition(new FilePosition(1, 2, 3));
+
+        assertThat(token.getLineNumber()).isEqualTo(1);
+        assertThat(token.getStartColumn()).isEqualTo(2);
+        assertThat(token.getStartOffset()).isEqualTo(3);
+    }
+
+    @Test
+    public void typesChangedThroughListView_areVisibleInToken() {
+        final RobotToken token = RobotToken.create("x", RobotTokenType.KEYWORD_NAME);
+        final List<IRobotTokenType> types = token.getTypes();
+
+        types.add(RobotTokenType.VARIABLE_USAGE);
+        types.add(0, RobotTokenType.KEYWORD_ACTION_NAME);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME, RobotTokenType.KEYWORD_NAME,
+                RobotTokenType.VARIABLE_USAGE);
+
+        types.remove(RobotTokenType.KEYWORD_NAME);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME,
+                RobotTokenType.VARIABLE_USAGE);
+
+        types.set(1, RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME,
+                RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+
+        types.remove(0);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+
+        types.clear();
+        assertThat(token.getTypes()).isEmpty();
+        assertThat(token.getVersionInformation()).isNull();
+
+        types.add(RobotTokenType.KEYWORD_NAME);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME);
+    }
+
+    @Test
+    public void settingTypeReplacesAllTypes() {
+        final RobotToken token = RobotToken.create("x", RobotTokenType.KEYWORD_NAME, RobotTokenType.VARIABLE_USAGE);
+
+        token.setType(RobotTokenType.KEYWORD_ACTION_NAME);
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME);
+    }
+
+    @Test
+    public void exceptionIsThrown_whenAccessingTypeOutsideOfList() {
+        final RobotToken token = RobotToken.create("x", RobotTokenType.KEYWORD_NAME);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> token.getTypes().get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> token.getTypes().add(2, RobotTokenType.KEYWORD_NAME));
+    }
+
+    @Test
+    public void copiedTokenHasIndependentTypes() {
+        final RobotToken token = RobotToken.create("x", 1, 2, RobotTokenType.KEYWORD_NAME,
+                RobotTokenType.VARIABLE_USAGE);
+        token.setStartOffset(10);
+
+        final RobotToken copy = token.copy();
+        copy.getTypes().set(1, RobotTokenType.KEYWORD_ACTION_NAME);
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME, RobotTokenType.VARIABLE_USAGE);
+        assertThat(copy.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME, RobotTokenType.KEYWORD_ACTION_NAME);
+        assertThat(copy.getFilePosition()).isEqualTo(new FilePosition(1, 2, 10));
+        assertThat(token.copyWithoutPosition().getFilePosition().isNotSet()).isTrue();
+    }
+
+    @Test
+    public void nullTypesAreRejected_andTypesAreNotChanged() {
+        final RobotToken token = RobotToken.create("x", RobotTokenType.KEYWORD_NAME, RobotTokenType.VARIABLE_USAGE);
+        final List<IRobotTokenType> types = token.getTypes();
+
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> types.set(0, null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> types.set(1, null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> types.add(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> types.add(0, null));
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.KEYWORD_NAME, RobotTokenType.VARIABLE_USAGE);
+        assertThat(token.getTypes()).hasSize(2);
+    }
+
+    @Test
+    public void sameTypesViewIsReturned_forEachCall() {
+        final RobotToken token = RobotToken.create("x", RobotTokenType.KEYWORD_NAME);
+
+        assertThat(token.getTypes()).isSameAs(token.getTypes());
+    }
+
+    @Test
+    public void filePositionIsReused_untilPositionIsChanged() {
+        final RobotToken token = RobotToken.create("abc", 1, 2);
+        token.setStartOffset(10);
+
+        final FilePosition position = token.getFilePosition();
+        assertThat(token.getFilePosition()).isSameAs(position);
+
+        token.setLineNumber(2);
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(2, 2, 10));
+        token.setStartColumn(3);
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(2, 3, 10));
+        token.setStartOffset(11);
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(2, 3, 11));
+        token.setFilePosition(new FilePosition(5, 6, 7));
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(5, 6, 7));
+        assertThat(position).isEqualTo(new FilePosition(1, 2, 10));
+    }
+}
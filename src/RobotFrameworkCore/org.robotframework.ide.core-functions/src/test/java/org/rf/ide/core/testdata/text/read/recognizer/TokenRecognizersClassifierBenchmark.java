@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rf.ide.core.environment.RobotVersion;
+
+/**
+ * Compares recognition of cells of a large generated suite done by applying every recognizer
+ * pattern with recognition restricted to candidates selected by {@link TokenRecognizersClassifier}.
+ * Run with main method from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRecognizersClassifierBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int testCases;
+
+    private List<ATokenRecognizer> recognizers;
+
+    private TokenRecognizersClassifier classifier;
+
+    private List<String> cells;
+
+    @Setup
+    public void setup() {
+        final RobotVersion version = RobotVersion.from("3.2");
+        recognizers = new ArrayList<>();
+        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(version));
+        classifier = new TokenRecognizersClassifier(recognizers);
+
+        cells = new ArrayList<>();
+        cells.add("*** Settings ***");
+        cells.add("Library");
+        cells.add("Collections");
+        cells.add("Suite Setup");
+        cells.add("Log");
+        cells.add("*** Test Cases ***");
+        for (int i = 0; i < testCases; i++) {
+            cells.add("Test case number " + i);
+            cells.add("[Documentation]");
+            cells.add("Documentation of test " + i);
+            cells.add("[Tags]");
+            cells.add("tag_" + i % 10);
+            cells.add("${result}=");
+            cells.add("Call Some Keyword");
+            cells.add("argument " + i);
+            cells.add("${other_variable}");
+            cells.add("Should Be Equal");
+            cells.add("${result}");
+            cells.add("expected value");
+            cells.add("# comment in test " + i);
+        }
+    }
+
+    @Benchmark
+    public void allRecognizers(final Blackhole blackhole) {
+        for (final String cell : cells) {
+            for (final ATokenRecognizer recognizer : recognizers) {
+                if (recognizer.getPattern().matcher(cell).find()) {
+                    blackhole.consume(recognizer);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void classifiedRecognizers(final Blackhole blackhole) {
+        for (final String cell : cells) {
+            final BitSet candidates = classifier.classify(cell);
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                final ATokenRecognizer recognizer = recognizers.get(i);
+                if (recognizer.getPattern().matcher(cell).find()) {
+                    blackhole.consume(recognizer);
+                    break;
+                }
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenRecognizersClassifierBenchmark.class.getSimpleName()).build())
+                .run();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.text.read.recognizer.header.TestCasesTableHeaderRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.header.UserKeywordsTableHeaderRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.settings.SuiteSetupRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.settings.TestTimeoutRecognizer;
+
+public class TokenRecognizersClassifierTest {
+
+    private static final Pattern CELLS_SEPARATOR = Pattern.compile("\\t|\\s{2,}|\\s\\|\\s");
+
+    @Test
+    public void wordsSeparatedWithWhitespacesAreExtractedAsSingleWord() {
+        assertThat(TokenRecognizersClassifier.extractWords(SuiteSetupRecognizer.EXPECTED.pattern()))
+                .containsExactly("suitesetup");
+        assertThat(TokenRecognizersClassifier.extractWords(TestTimeoutRecognizer.EXPECTED.pattern()))
+                .containsExactly("testtimeout");
+    }
+
+    @Test
+    public void wordsSeparatedWithGroupsAreExtractedSeparately() {
+        assertThat(TokenRecognizersClassifier.extractWords(TestCasesTableHeaderRecognizer.EXPECTED.pattern()))
+                .containsExactly("test", "cases", "case");
+        assertThat(TokenRecognizersClassifier.extractWords(UserKeywordsTableHeaderRecognizer.EXPECTED.pattern()))
+                .containsExactly("user", "keywords", "keyword");
+    }
+
+    @Test
+    public void noWordsAreExtracted_whenPatternHasNoCaseInsensitiveLetters() {
+        assertThat(TokenRecognizersClassifier.extractWords(HashCommentRecognizer.EXPECTED.pattern())).isEmpty();
+        assertThat(TokenRecognizersClassifier.extractWords(PreviousLineContinueRecognizer.EXPECTED.pattern()))
+                .isEmpty();
+        assertThat(TokenRecognizersClassifier.extractWords("[ ]?[$](\\s*)[{].*([}]$|$)")).isEmpty();
+    }
+
+    @Test
+    public void noWordsAreExtracted_whenLettersAreNotRequired() {
+        assertThat(TokenRecognizersClassifier.extractWords("[Aa][Bb]?[Cc]")).isEmpty();
+        assertThat(TokenRecognizersClassifier.extractWords("[Aa][Bb]+[Cc]")).isEmpty();
+        assertThat(TokenRecognizersClassifier.extractWords("(?![Aa][Bb])[Cc][Dd]")).isEmpty();
+    }
+
+    @Test
+    public void recognizersWithoutWordsAreAlwaysCandidates() {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.add(new SuiteSetupRecognizer());
+        recognizers.add(new HashCommentRecognizer());
+        recognizers.add(new TestTimeoutRecognizer());
+
+        final TokenRecognizersClassifier classifier = new TokenRecognizersClassifier(recognizers);
+
+        assertThat(classifier.classify("")).isEqualTo(bits(1));
+        assertThat(classifier.classify("Log")).isEqualTo(bits(1));
+        assertThat(classifier.classify("suite setup")).isEqualTo(bits(0, 1));
+        assertThat(classifier.classify("[Test  Timeout]")).isEqualTo(bits(1, 2));
+        assertThat(classifier.classify("Suite Setup and Test Timeout")).isEqualTo(bits(0, 1, 2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2.9", "3.0", "3.1", "3.2" })
+    public void everyRecognizerFindingTokenIsCandidate_forHandWrittenCells(final String version) {
+        final List<ATokenRecognizer> recognizers = allRecognizers(RobotVersion.from(version));
+        final TokenRecognizersClassifier classifier = new TokenRecognizersClassifier(recognizers);
+
+        final List<String> cells = new ArrayList<>();
+        cells.add("*** Test    Cases ***");
+        cells.add("***Test Case");
+        cells.add("* User Key words *");
+        cells.add("*** M e t a d a t a ***");
+        cells.add("[ Documentation ]");
+        cells.add("[DOCUMENT]");
+        cells.add("Suite\tSetup:");
+        cells.add("some Suite  Setup keyword");
+        cells.add("TEST TEMPLATE :");
+        cells.add("${var}=");
+        cells.add("  # comment");
+        cells.add("...");
+        cells.add("[Tags]    [Timeout]");
+
+        assertThatEveryMatchingRecognizerIsCandidate(recognizers, classifier, cells);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "2.9", "3.0", "3.1", "3.2" })
+    public void everyRecognizerFindingTokenIsCandidate_forCellsOfTestResources(final String version)
+            throws Exception {
+        final List<ATokenRecognizer> recognizers = allRecognizers(RobotVersion.from(version));
+        final TokenRecognizersClassifier classifier = new TokenRecognizersClassifier(recognizers);
+
+        assertThatEveryMatchingRecognizerIsCandidate(recognizers, classifier, cellsOfTestResources());
+    }
+
+    private static void assertThatEveryMatchingRecognizerIsCandidate(final List<ATokenRecognizer> recognizers,
+            final TokenRecognizersClassifier classifier, final Iterable<String> cells) {
+        for (final String cell : cells) {
+            final BitSet candidates = classifier.classify(cell);
+            for (int i = 0; i < recognizers.size(); i++) {
+                if (recognizers.get(i).getPattern().matcher(cell).find()) {
+                    assertThat(candidates.get(i))
+                            .as("recognizer %s should be a candidate for '%s'",
+                                    recognizers.get(i).getClass().getSimpleName(), cell)
+                            .isTrue();
+                }
+            }
+        }
+    }
+
+    private static List<ATokenRecognizer> allRecognizers(final RobotVersion version) {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(version));
+        return recognizers;
+    }
+
+    private static Set<String> cellsOfTestResources() throws IOException, URISyntaxException {
+        final Path root = Paths
+                .get(TokenRecognizersClassifierTest.class.getResource("/org/rf/ide/core/testdata").toURI());
+
+        final Set<String> cells = new LinkedHashSet<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile).filter(TokenRecognizersClassifierTest::isRobotFile).forEach(file -> {
+                for (final String line : readLines(file)) {
+                    cells.add(line);
+                    for (final String cell : CELLS_SEPARATOR.split(line)) {
+                        cells.add(cell);
+                    }
+                }
+            });
+        }
+        assertThat(cells).isNotEmpty();
+        return cells;
+    }
+
+    private static boolean isRobotFile(final Path file) {
+        final String name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".robot") || name.endsWith(".txt") || name.endsWith(".tsv");
+    }
+
+    private static List<String> readLines(final Path file) {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bits = new BitSet();
+        for (final int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -3,6 +3,14 @@ import unittest
 from TestRunnerAgent import _truncate
 from TestRunnerAgent import _extract_source_path
 from TestRunnerAgent import _collect_children_paths
+from TestRunnerAgent import KeywordEventsFilter
+from TestRunnerAgent import _compute_scope_delta
+from TestRunnerAgent import _fingerprint
+from TestRunnerAgent import _label_with_types
+from TestRunnerAgent import _fix_unicode
+from TestRunnerAgent import _find_item
+from TestRunnerAgent import _collect_items
+from TestRunnerAgent import MAX_SENT_ITEMS
 
 
 
@@ -27,6 +35,176 @@ class TruncationTests(unittest.TestCase):
         self.assertEqual(('msg' * 33) + ' <truncated>', _truncate(limit, message))
 
 
+class KeywordEventsFilteringTests(unittest.TestCase):
+
+    def test_all_keyword_events_are_sent_for_negative_limit(self):
+        events_filter = KeywordEventsFilter(-1)
+
+        self.assertEqual([True] * 100, [events_filter.should_send_start() for _ in range(100)])
+        self.assertEqual([True] * 100, [events_filter.should_send_end() for _ in range(100)])
+
+    def test_no_keyword_events_are_sent_for_zero_limit(self):
+        events_filter = KeywordEventsFilter(0)
+
+        self.assertEqual([False] * 100, [events_filter.should_send_start() for _ in range(100)])
+        self.assertEqual([False] * 100, [events_filter.should_send_end() for _ in range(100)])
+
+    def test_keyword_starts_are_throttled_in_each_second(self):
+        current_time = [0.0]
+        events_filter = KeywordEventsFilter(2, lambda: current_time[0])
+
+        self.assertEqual([True, True, False], [events_filter.should_send_start() for _ in range(3)])
+        current_time[0] = 0.9
+        self.assertFalse(events_filter.should_send_start())
+        current_time[0] = 1.0
+        self.assertEqual([True, True, False], [events_filter.should_send_start() for _ in range(3)])
+
+    def test_keyword_end_is_sent_only_when_its_start_was_sent(self):
+        current_time = [0.0]
+        events_filter = KeywordEventsFilter(1, lambda: current_time[0])
+
+        self.assertTrue(events_filter.should_send_start())
+        self.assertFalse(events_filter.should_send_start())
+        self.assertFalse(events_filter.should_send_end())
+        current_time[0] = 1.0
+        self.assertTrue(events_filter.should_send_start())
+        self.assertTrue(events_filter.should_send_end())
+        self.assertTrue(events_filter.should_send_end())
+
+
+class ScopeDeltaComputingTests(unittest.TestCase):
+
+    def test_all_variables_are_changed_when_there_are_no_previous_fingerprints(self):
+        scope = {'${a}': ('global', 1), '${b}': ('suite', [1])}
+
+        changed, removed, fingerprints = _compute_scope_delta(scope, {})
+
+        self.assertEqual(set(scope.keys()), set(changed))
+        self.assertEqual([], removed)
+        self.assertEqual(set(scope.keys()), set(fingerprints.keys()))
+
+    def test_only_added_changed_and_removed_variables_are_reported(self):
+        b_value = [1]
+        previous_scope = {'${a}': ('global', 1), '${b}': ('suite', b_value), '${c}': ('local', 3)}
+        _, _, previous_fingerprints = _compute_scope_delta(previous_scope, {})
+
+        b_value[0] = 2
+        scope = {'${a}': ('global', 1), '${b}': ('suite', b_value), '${d}': ('local', 4)}
+        changed, removed, _ = _compute_scope_delta(scope, previous_fingerprints)
+
+        self.assertEqual(set(['${b}', '${d}']), set(changed))
+        self.assertEqual(['${c}'], removed)
+
+    def test_variable_is_changed_when_only_its_scope_changes(self):
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', 1)}, {})
+
+        changed, removed, _ = _compute_scope_delta({'${a}': ('test', 1)}, previous_fingerprints)
+
+        self.assertEqual(['${a}'], changed)
+        self.assertEqual([], removed)
+
+    def test_variable_is_changed_when_list_is_replaced_or_resized(self):
+        value = [1, 2]
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', value)}, {})
+
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', [1, 3])}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+        value.append(3)
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+    def test_fingerprint_of_large_value_is_bounded(self):
+        value = 'x' * 100000
+
+        fingerprint = _fingerprint(value, 'local')
+
+        self.assertTrue(len(fingerprint[-1]) < 1000)
+        self.assertEqual(fingerprint, _fingerprint(value, 'local'))
+        self.assertNotEqual(fingerprint, _fingerprint(value + 'y', 'local'))
+
+    def test_variable_is_changed_when_item_in_the_middle_of_list_is_changed(self):
+        value = list(range(50))
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', value)}, {})
+
+        value[30] = 'changed'
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+    def test_variable_is_changed_when_middle_of_long_string_is_changed(self):
+        value = 'x' * 500 + 'y' + 'x' * 500
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', value)}, {})
+
+        value = 'x' * 500 + 'z' + 'x' * 500
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+    def test_variable_is_changed_when_value_nested_deeply_in_dictionary_is_changed(self):
+        value = {'a': {'b': {'c': {'d': [1, 2]}}}}
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', value)}, {})
+
+        value['a']['b']['c']['d'].append(3)
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+    def test_unchanged_values_have_equal_fingerprints(self):
+        value = {'a': [1, 2], 'b': 'text'}
+
+        self.assertEqual(_fingerprint(value, 'suite'), _fingerprint(value, 'suite'))
+        self.assertEqual(_fingerprint(10, 'suite'), _fingerprint(10, 'suite'))
+        self.assertEqual(_fingerprint('text', 'suite'), _fingerprint('te' + 'xt', 'suite'))
+
+    def test_value_sent_as_summary_is_changed_only_when_summary_changes(self):
+        value = list(range(MAX_SENT_ITEMS + 1))
+        _, _, previous_fingerprints = _compute_scope_delta({'${a}': ('local', value)}, {})
+
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual([], changed)
+
+        value[0] = 'changed'
+        changed, _, fingerprints = _compute_scope_delta({'${a}': ('local', value)}, previous_fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+        value.append(1)
+        changed, _, _ = _compute_scope_delta({'${a}': ('local', value)}, fingerprints)
+        self.assertEqual(['${a}'], changed)
+
+
+class LargeValuesSendingTests(unittest.TestCase):
+
+    def test_values_with_many_items_are_sent_as_summaries(self):
+        value = {'small': [1, 2], 'large': list(range(10))}
+
+        labeled = _fix_unicode(100, _label_with_types(value, 5))
+
+        self.assertEqual('dict', labeled[0])
+        self.assertEqual(('list', [('int', '1'), ('int', '2')]), labeled[1]['small'])
+        self.assertEqual(('list', '[0, 1, 2, ...]', {'length': 10, 'kind': 'list'}), labeled[1]['large'])
+
+    def test_values_are_sent_entirely_when_there_is_no_items_limit(self):
+        labeled = _fix_unicode(100, _label_with_types(list(range(10))))
+
+        self.assertEqual(('list', [('int', str(i)) for i in range(10)]), labeled)
+
+    def test_items_are_found_by_indexes_and_keys(self):
+        value = {'a': [10, {1: 'x'}]}
+
+        self.assertEqual('x', _find_item(_find_item(_find_item(value, 'a'), 1), '1'))
+        self.assertRaises(KeyError, _find_item, value, 'b')
+
+    def test_page_of_list_items_is_collected_with_indexes(self):
+        value = list(range(10))
+
+        self.assertEqual([[3, ('int', '3')], [4, ('int', '4')]], _collect_items(value, 3, 2, 100))
+        self.assertEqual([[9, ('int', '9')]], _collect_items(value, 9, 5, 100))
+
+    def test_page_of_mapping_items_is_collected_with_keys(self):
+        from collections import OrderedDict
+        value = OrderedDict((k, i) for i, k in enumerate('abcde'))
+
+        self.assertEqual([['b', ('int', '1')], ['c', ('int', '2')]], _collect_items(value, 1, 2, 100))
+
+
 class SourcePathExtractionTests(unittest.TestCase):
 
     def test_extracting_path_to_jar(self):
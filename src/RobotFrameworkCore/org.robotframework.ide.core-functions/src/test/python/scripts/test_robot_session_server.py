@@ -3,6 +3,8 @@ import unittest
 import sys
 import os
 import platform
+import shutil
+import tempfile
 
 from robot_session_server import get_robot_version_num
 from robot_session_server import get_robot_version
@@ -101,6 +103,40 @@ class LibdocGenerationTests(unittest.TestCase):
 
         self.assertNotEqual(response["result"], None)
 
+    def test_if_libdoc_is_written_into_given_output_file(self):
+        parent_path = os.path.dirname(os.path.realpath(__file__))
+        python_paths = [os.path.join(parent_path, 'res_test_robot_session_server', 'a')]
+        output_dir = tempfile.mkdtemp()
+        output_path = os.path.join(output_dir, 'libspecs', 'lib.libspec')
+
+        try:
+            response = create_libdoc("lib", 'XML', python_paths, [], output_path)
+
+            self.assertEqual(response['exception'], None)
+            self.assertEqual(response['result'], os.stat(output_path).st_size)
+            with open(output_path, 'rb') as lib_file:
+                self.assertTrue(b'<keywordspec' in lib_file.read())
+        finally:
+            shutil.rmtree(output_dir)
+
+    def test_if_libdoc_is_written_into_given_output_file_in_separate_process(self):
+        parent_path = os.path.dirname(os.path.realpath(__file__))
+        python_paths = [os.path.join(parent_path, 'res_test_robot_session_server', 'a')]
+        timeout_duration = 5 if 'Jython' not in platform.python_implementation() else 20
+        output_dir = tempfile.mkdtemp()
+        output_path = os.path.join(output_dir, 'lib.libspec')
+
+        try:
+            response = create_libdoc_in_separate_process("lib", 'XML', python_paths, [], timeout_duration,
+                                                         output_path)
+
+            self.assertEqual(response['exception'], None)
+            self.assertEqual(response['result'], str(os.stat(output_path).st_size))
+            with open(output_path, 'rb') as lib_file:
+                self.assertTrue(b'<keywordspec' in lib_file.read())
+        finally:
+            shutil.rmtree(output_dir)
+
 
 @unittest.skipUnless(platform.python_version_tuple()[0] == '2', "requires Python 2")
 class LibdocGenerationForPython2Tests(unittest.TestCase):